@@ -0,0 +1,144 @@
+package com.zamaz.mcp.organization.adapter.infrastructure.transaction;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.zamaz.mcp.organization.controller.McpToolRegistry;
+import com.zamaz.mcp.organization.controller.McpToolsController;
+import com.zamaz.mcp.organization.dto.McpToolResults;
+import com.zamaz.mcp.organization.dto.OrganizationDto;
+import com.zamaz.mcp.organization.infrastructure.error.McpErrorHandler;
+import com.zamaz.mcp.organization.infrastructure.execution.McpToolExecutor;
+import com.zamaz.mcp.organization.infrastructure.resilience.LocalRateLimiter;
+import com.zamaz.mcp.organization.infrastructure.resilience.McpRateLimitEnforcer;
+import com.zamaz.mcp.organization.infrastructure.security.McpSecurityService;
+import com.zamaz.mcp.organization.service.OrganizationService;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Load test of the request execution modes at {@code clients} concurrent MCP clients.
+ *
+ * <p>Each operation serves one {@code get_organization} call per client through
+ * {@link McpToolsController#callTool}, the tool executor and the application's
+ * {@link SpringTransactionManager}, wrapped by {@link PermitTransactionManager} and backed
+ * by a Hikari pool on an in-memory H2 database. Only the organization service is stubbed:
+ * it blocks for {@code remoteMillis} outside any transaction, standing in for
+ * authentication, cache and network round trips, then loads the organization row in a
+ * read-only transaction. {@code platform} runs tools on a bounded pool the size of
+ * Tomcat's default 200 request threads, {@code virtual} on one virtual thread per call.
+ * Throughput is client batches per second; multiply by {@code clients} for calls per
+ * second.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VirtualThreadThroughputBenchmark {
+
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final int CONNECTION_POOL_SIZE = 10;
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    @Param({"1000"})
+    public int clients;
+
+    @Param({"20"})
+    public int remoteMillis;
+
+    private HikariDataSource dataSource;
+    private McpToolExecutor toolExecutor;
+    private McpToolsController controller;
+    private Authentication authentication;
+    private JsonNode params;
+
+    @Setup
+    public void setUp() {
+        HikariConfig hikari = new HikariConfig();
+        hikari.setJdbcUrl("jdbc:h2:mem:throughput-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        hikari.setMaximumPoolSize(CONNECTION_POOL_SIZE);
+        hikari.setConnectionTimeout(Duration.ofSeconds(30).toMillis());
+        dataSource = new HikariDataSource(hikari);
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        UUID organizationId = UUID.randomUUID();
+        jdbcTemplate.execute("CREATE TABLE organizations (id UUID PRIMARY KEY, name VARCHAR(255), is_active BOOLEAN)");
+        jdbcTemplate.update("INSERT INTO organizations (id, name, is_active) VALUES (?, ?, ?)",
+            organizationId, "Benchmark Organization", true);
+
+        TransactionPermits transactionPermits = new TransactionPermits(true, CONNECTION_POOL_SIZE,
+            Duration.ofSeconds(30), new SimpleMeterRegistry());
+        SpringTransactionManager transactionManager = new SpringTransactionManager(
+            new PermitTransactionManager(new DataSourceTransactionManager(dataSource), transactionPermits));
+
+        OrganizationService organizationService = Mockito.mock(OrganizationService.class, Mockito.withSettings().stubOnly());
+        when(organizationService.getOrganization(any())).thenAnswer(invocation -> {
+            Thread.sleep(remoteMillis);
+            return transactionManager.executeInReadOnlyTransaction(() -> jdbcTemplate.queryForObject(
+                "SELECT id, name, is_active FROM organizations WHERE id = ?",
+                (rs, rowNum) -> OrganizationDto.builder()
+                    .id(rs.getObject("id", UUID.class))
+                    .name(rs.getString("name"))
+                    .isActive(rs.getBoolean("is_active"))
+                    .build(),
+                organizationId));
+        });
+
+        boolean virtual = "virtual".equals(threads);
+        toolExecutor = new McpToolExecutor(virtual, virtual ? clients : TOMCAT_MAX_THREADS, clients,
+            Duration.ofSeconds(30));
+        ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        McpToolRegistry toolRegistry = new McpToolRegistry(objectMapper,
+            Validation.buildDefaultValidatorFactory().getValidator());
+        controller = new McpToolsController(organizationService,
+            new McpSecurityService(), new McpErrorHandler(),
+            new McpRateLimitEnforcer(new LocalRateLimiter(1), new SimpleMeterRegistry(), false), toolExecutor,
+            toolRegistry);
+        authentication = new UsernamePasswordAuthenticationToken("benchmark", null,
+            List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        params = objectMapper.createObjectNode();
+    }
+
+    @TearDown
+    public void tearDown() {
+        toolExecutor.destroy();
+        dataSource.close();
+    }
+
+    /**
+     * @return the number of calls that returned an organization
+     */
+    @Benchmark
+    public long serveConcurrentClients() {
+        return Flux.range(0, clients)
+            .flatMap(i -> controller.callTool("get_organization", params, authentication), clients)
+            .filter(McpToolResults.OrganizationResult.class::isInstance)
+            .count()
+            .block();
+    }
+}
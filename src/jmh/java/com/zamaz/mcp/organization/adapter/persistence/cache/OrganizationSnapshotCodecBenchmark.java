@@ -0,0 +1,84 @@
+package com.zamaz.mcp.organization.adapter.persistence.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode cost of an organization snapshot, binary codec against Jackson, as
+ * the member count grows. Encoded sizes are logged once per trial; with the profile's
+ * {@code -prof gc}, {@code gc.alloc.rate.norm} gives the garbage per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrganizationSnapshotCodecBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(OrganizationSnapshotCodecBenchmark.class);
+
+    @Param({"10", "1000", "10000"})
+    private int memberCount;
+
+    private CacheCodec<OrganizationSnapshot> jsonCodec;
+    private CacheCodec<OrganizationSnapshot> binaryCodec;
+    private OrganizationSnapshot snapshot;
+    private byte[] json;
+    private byte[] binary;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        jsonCodec = new JsonCacheCodec<>(objectMapper, OrganizationSnapshot.class);
+        binaryCodec = new BinaryOrganizationSnapshotCodec();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<OrganizationSnapshot.Member> members = new ArrayList<>(memberCount);
+        for (int i = 0; i < memberCount; i++) {
+            members.add(new OrganizationSnapshot.Member(UUID.randomUUID(), i == 0 ? "OWNER" : "MEMBER",
+                now.minusMinutes(i)));
+        }
+        snapshot = new OrganizationSnapshot(UUID.randomUUID(), "Benchmark Organization",
+            "Organization used for codec benchmarks",
+            Map.of("maxMembers", 100_000, "defaultUserRole", "member", "requireEmailVerification", true),
+            true, members, now, now);
+
+        json = jsonCodec.encode(snapshot);
+        binary = binaryCodec.encode(snapshot);
+        log.info("{} members: json {} bytes, binary {} bytes", memberCount, json.length, binary.length);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() {
+        return jsonCodec.encode(snapshot);
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() {
+        return binaryCodec.encode(snapshot);
+    }
+
+    @Benchmark
+    public OrganizationSnapshot decodeJson() {
+        return jsonCodec.decode(json);
+    }
+
+    @Benchmark
+    public OrganizationSnapshot decodeBinary() {
+        return binaryCodec.decode(binary);
+    }
+}
@@ -0,0 +1,79 @@
+package com.zamaz.mcp.organization.adapter.persistence.mapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zamaz.mcp.organization.adapter.persistence.entity.OrganizationEntity;
+import com.zamaz.mcp.organization.adapter.persistence.entity.OrganizationUserEntity;
+import com.zamaz.mcp.organization.adapter.persistence.entity.UserEntity;
+import com.zamaz.mcp.organization.domain.model.Organization;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity/domain mapping cost of an organization as its member count grows.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrganizationPersistenceMapperBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int memberCount;
+
+    private OrganizationPersistenceMapper mapper;
+    private OrganizationEntity entity;
+    private Organization organization;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        mapper = new OrganizationPersistenceMapper(objectMapper, new UserPersistenceMapper());
+
+        LocalDateTime now = LocalDateTime.now();
+        entity = OrganizationEntity.builder()
+            .id(UUID.randomUUID())
+            .name("Benchmark Organization")
+            .description("Organization used for mapping benchmarks")
+            .settings(objectMapper.valueToTree(Map.of("maxMembers", 100_000, "defaultUserRole", "member")))
+            .active(true)
+            .createdAt(now)
+            .updatedAt(now)
+            .build();
+
+        for (int i = 0; i < memberCount; i++) {
+            UserEntity user = UserEntity.builder()
+                .id(UUID.randomUUID())
+                .email("user" + i + "@example.com")
+                .firstName("User")
+                .lastName(String.valueOf(i))
+                .status("ACTIVE")
+                .emailVerified(true)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+            entity.addUser(OrganizationUserEntity.builder()
+                .user(user)
+                .role(i == 0 ? "OWNER" : "MEMBER")
+                .joinedAt(now)
+                .build());
+        }
+
+        organization = mapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public Organization toDomain() {
+        return mapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public OrganizationEntity fromDomain() {
+        return mapper.fromDomain(organization);
+    }
+}
@@ -0,0 +1,74 @@
+package com.zamaz.mcp.organization.adapter.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.zamaz.mcp.organization.application.query.OrganizationView;
+import com.zamaz.mcp.organization.dto.OrganizationDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the legacy and hexagonal organization read models.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    @Param({"0", "100", "1000"})
+    private int memberCount;
+
+    private ObjectMapper objectMapper;
+    private OrganizationDto organizationDto;
+    private OrganizationView organizationView;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Object> settings = Map.of("maxMembers", 100, "defaultUserRole", "member",
+            "requireEmailVerification", true);
+
+        organizationDto = OrganizationDto.builder()
+            .id(UUID.randomUUID())
+            .name("Benchmark Organization")
+            .description("Organization used for serialization benchmarks")
+            .settings(objectMapper.valueToTree(settings))
+            .createdAt(now)
+            .updatedAt(now)
+            .isActive(true)
+            .userCount(memberCount)
+            .build();
+
+        List<OrganizationView.MemberView> members = new ArrayList<>(memberCount);
+        for (int i = 0; i < memberCount; i++) {
+            members.add(new OrganizationView.MemberView(UUID.randomUUID(), "user" + i + "@example.com",
+                "User", String.valueOf(i), "MEMBER", now));
+        }
+        organizationView = new OrganizationView(UUID.randomUUID(), "Benchmark Organization",
+            "Organization used for serialization benchmarks", settings, true, memberCount, members, now, now);
+    }
+
+    @Benchmark
+    public byte[] organizationDto() throws Exception {
+        return objectMapper.writeValueAsBytes(organizationDto);
+    }
+
+    @Benchmark
+    public byte[] organizationView() throws Exception {
+        return objectMapper.writeValueAsBytes(organizationView);
+    }
+}
@@ -0,0 +1,91 @@
+package com.zamaz.mcp.organization.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.zamaz.mcp.organization.dto.OrganizationDto;
+import com.zamaz.mcp.organization.infrastructure.error.McpErrorHandler;
+import com.zamaz.mcp.organization.infrastructure.execution.McpToolExecutor;
+import com.zamaz.mcp.organization.infrastructure.resilience.LocalRateLimiter;
+import com.zamaz.mcp.organization.infrastructure.resilience.McpRateLimitEnforcer;
+import com.zamaz.mcp.organization.infrastructure.security.McpSecurityService;
+import com.zamaz.mcp.organization.service.OrganizationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Overhead of MCP tool dispatch through {@link McpToolsController#callTool}:
+ * argument binding, tool lookup and the hop to the tool executor. The service
+ * is a stub-only mock, so the numbers exclude persistence.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class McpToolsControllerBenchmark {
+
+    private McpToolsController controller;
+    private McpToolExecutor toolExecutor;
+    private Authentication authentication;
+    private JsonNode params;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        OrganizationService organizationService = Mockito.mock(OrganizationService.class, Mockito.withSettings().stubOnly());
+        when(organizationService.getOrganization(any())).thenReturn(OrganizationDto.builder()
+            .id(UUID.randomUUID())
+            .name("Benchmark Organization")
+            .createdAt(LocalDateTime.now())
+            .updatedAt(LocalDateTime.now())
+            .isActive(true)
+            .userCount(10)
+            .build());
+
+        toolExecutor = new McpToolExecutor(false, 64, 256, Duration.ofSeconds(10));
+        McpToolRegistry toolRegistry = new McpToolRegistry(objectMapper,
+            Validation.buildDefaultValidatorFactory().getValidator());
+        controller = new McpToolsController(organizationService,
+            new McpSecurityService(), new McpErrorHandler(),
+            new McpRateLimitEnforcer(new LocalRateLimiter(1), new SimpleMeterRegistry(), false), toolExecutor,
+            toolRegistry);
+        authentication = new UsernamePasswordAuthenticationToken("benchmark", null,
+            List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        params = objectMapper.createObjectNode();
+    }
+
+    @TearDown
+    public void tearDown() {
+        toolExecutor.destroy();
+    }
+
+    @Benchmark
+    public Object getOrganization() {
+        return controller.callTool("get_organization", params, authentication).block();
+    }
+
+    @Benchmark
+    public Object unknownTool() {
+        return controller.callTool("no_such_tool", params, authentication).onErrorReturn("unknown").block();
+    }
+}
@@ -0,0 +1,43 @@
+package com.zamaz.mcp.organization.domain.model;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Small value-object operations that run on every request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DomainValueBenchmark {
+
+    @Param({"MEMBER", "admin", "Owner"})
+    private String roleName;
+
+    private OrganizationSettings settings;
+
+    @Setup
+    public void setUp() {
+        settings = OrganizationSettings.defaultSettings();
+    }
+
+    @Benchmark
+    public Role roleFromString() {
+        return Role.fromString(roleName);
+    }
+
+    @Benchmark
+    public OrganizationSettings settingsWith() {
+        return settings.with(OrganizationSettings.MAX_MEMBERS, 250);
+    }
+
+    @Benchmark
+    public Map<String, Object> settingsToMap() {
+        return settings.toMap();
+    }
+}
@@ -0,0 +1,75 @@
+package com.zamaz.mcp.organization.domain.model;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Membership operations on the Organization aggregate as its member count grows.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OrganizationBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int memberCount;
+
+    private Organization organization;
+    private UserId owner;
+    private UserId member;
+    private UserId stranger;
+    private UserId newcomer;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        Map<UserId, OrganizationMember> members = new HashMap<>();
+        owner = UserId.generate();
+        members.put(owner, new OrganizationMember(owner, Role.OWNER, now));
+        for (int i = 1; i < memberCount; i++) {
+            UserId userId = UserId.generate();
+            members.put(userId, new OrganizationMember(userId, Role.MEMBER, now));
+            member = userId;
+        }
+        stranger = UserId.generate();
+        newcomer = UserId.generate();
+
+        OrganizationSettings settings = OrganizationSettings.defaultSettings()
+            .with(OrganizationSettings.MAX_MEMBERS, memberCount + 10);
+        organization = new Organization(OrganizationId.generate(), OrganizationName.from("Benchmark Organization"),
+            OrganizationDescription.empty(), settings, true, members, now, now);
+    }
+
+    /**
+     * Adds and removes the same user so the aggregate stays the same size across invocations.
+     */
+    @Benchmark
+    public Organization addAndRemoveUser() {
+        organization.addUser(newcomer, Role.MEMBER);
+        organization.removeUser(newcomer);
+        organization.markEventsAsCommitted();
+        return organization;
+    }
+
+    @Benchmark
+    public boolean hasRoleOwner() {
+        return organization.hasRole(owner, Role.ADMIN);
+    }
+
+    @Benchmark
+    public boolean hasRoleMember() {
+        return organization.hasRole(member, Role.ADMIN);
+    }
+
+    @Benchmark
+    public boolean hasRoleStranger() {
+        return organization.hasRole(stranger, Role.GUEST);
+    }
+}
@@ -0,0 +1,78 @@
+package com.zamaz.mcp.organization.domain.model;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Authorization over a member list: which members can participate and invite team
+ * members. {@code branchy} asks the former per-object role questions member by member;
+ * {@code bitmask} checks masks resolved once per member with one AND each.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PermissionMatrixBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int memberCount;
+
+    private Role[] roles;
+    private TeamMember[] teamMembers;
+    private long[] capabilities;
+    private boolean[] granted;
+    private long required;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+        roles = new Role[memberCount];
+        teamMembers = new TeamMember[memberCount];
+        capabilities = new long[memberCount];
+        granted = new boolean[memberCount];
+        for (int i = 0; i < memberCount; i++) {
+            roles[i] = Role.values()[random.nextInt(Role.values().length)];
+            TeamRole teamRole = TeamRole.values()[random.nextInt(TeamRole.values().length)];
+            teamMembers[i] = new TeamMember(UserId.generate(), teamRole, now);
+            capabilities[i] = PermissionMatrix.of(roles[i]) | PermissionMatrix.of(teamRole);
+        }
+        required = Capability.mask(Capability.PARTICIPATE, Capability.INVITE_TEAM_MEMBERS);
+    }
+
+    @Benchmark
+    public int branchy() {
+        int count = 0;
+        for (int i = 0; i < teamMembers.length; i++) {
+            boolean match = branchyHasPermission(roles[i], Role.MEMBER)
+                && teamMembers[i].isActive() && branchyCanInvite(teamMembers[i].getRole());
+            granted[i] = match;
+            count += match ? 1 : 0;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int bitmask() {
+        int count = 0;
+        for (int i = 0; i < capabilities.length; i++) {
+            boolean match = PermissionMatrix.hasAll(capabilities[i], required);
+            granted[i] = match;
+            count += match ? 1 : 0;
+        }
+        return count;
+    }
+
+    private static boolean branchyHasPermission(Role role, Role requiredRole) {
+        return role.getLevel() >= requiredRole.getLevel();
+    }
+
+    private static boolean branchyCanInvite(TeamRole role) {
+        return role == TeamRole.ADMIN || role == TeamRole.LEAD;
+    }
+}
@@ -0,0 +1,52 @@
+package com.zamaz.mcp.organization.infrastructure.resilience;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call cost of the in-memory rate limiter: a hot key shared by all threads,
+ * which contends on one bucket, and keys spread over many principals.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RateLimiterBenchmark {
+
+    private static final int PRINCIPALS = 10_000;
+
+    private final RateLimitPolicy policy = new RateLimitPolicy(1_000_000_000L, Duration.ofSeconds(1));
+    private LocalRateLimiter rateLimiter;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        rateLimiter = new LocalRateLimiter(100_000);
+        keys = new String[PRINCIPALS];
+        for (int i = 0; i < PRINCIPALS; i++) {
+            keys[i] = "McpToolsController.getOrganization:user-" + i;
+        }
+    }
+
+    @Benchmark
+    public boolean hotKey() {
+        return rateLimiter.tryConsume(keys[0], policy);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean hotKeyContended() {
+        return rateLimiter.tryConsume(keys[0], policy);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean spreadKeys() {
+        return rateLimiter.tryConsume(keys[ThreadLocalRandom.current().nextInt(PRINCIPALS)], policy);
+    }
+}
@@ -9,6 +9,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -19,6 +20,9 @@ import java.util.List;
 @RequiredArgsConstructor
 public class OrganizationDomainServiceImpl implements OrganizationDomainService {
     
+    private static final int MAX_ORGANIZATIONS_PER_USER = 10; // This could be configurable
+    private static final int MAX_REPORTED_IDS = 20;
+    
     private final OrganizationRepository organizationRepository;
     private final UserRepository userRepository;
     
@@ -44,13 +48,44 @@ public class OrganizationDomainServiceImpl implements OrganizationDomainService
         }
         
         // Check if user is already in too many organizations (business rule)
-        var userOrganizations = organizationRepository.findByMemberUserId(userId);
-        int maxOrganizationsPerUser = 10; // This could be configurable
+        long membershipCount = organizationRepository.countMembershipsByUserIds(List.of(userId))
+            .getOrDefault(userId, 0L);
+        
+        if (membershipCount >= MAX_ORGANIZATIONS_PER_USER) {
+            throw new DomainRuleViolationException(
+                "user.organizationLimit",
+                "User has reached maximum number of organizations: " + MAX_ORGANIZATIONS_PER_USER
+            );
+        }
+    }
+    
+    @Override
+    public void validateUsersCanJoinOrganization(Collection<User> users, OrganizationId organizationId) {
+        var ineligible = users.stream()
+            .filter(user -> !user.canJoinOrganizations())
+            .map(user -> user.getId().toString())
+            .toList();
         
-        if (userOrganizations.size() >= maxOrganizationsPerUser) {
+        if (!ineligible.isEmpty()) {
+            throw new DomainRuleViolationException(
+                "user.cannotJoin",
+                "Users are not eligible to join organizations: " + summarize(ineligible)
+            );
+        }
+        
+        // One grouped count for all users instead of loading each user's organizations
+        var membershipCounts = organizationRepository.countMembershipsByUserIds(
+            users.stream().map(User::getId).toList());
+        var atLimit = membershipCounts.entrySet().stream()
+            .filter(entry -> entry.getValue() >= MAX_ORGANIZATIONS_PER_USER)
+            .map(entry -> entry.getKey().toString())
+            .toList();
+        
+        if (!atLimit.isEmpty()) {
             throw new DomainRuleViolationException(
                 "user.organizationLimit",
-                "User has reached maximum number of organizations: " + maxOrganizationsPerUser
+                "Users have reached maximum number of organizations (" + MAX_ORGANIZATIONS_PER_USER + "): "
+                    + summarize(atLimit)
             );
         }
     }
@@ -230,4 +265,14 @@ public class OrganizationDomainServiceImpl implements OrganizationDomainService
         
         return errors;
     }
-}
\ No newline at end of file
+    
+    /**
+     * Lists the first few IDs of a possibly large set for an error message.
+     */
+    private static String summarize(List<String> ids) {
+        if (ids.size() <= MAX_REPORTED_IDS) {
+            return String.join(", ", ids);
+        }
+        return String.join(", ", ids.subList(0, MAX_REPORTED_IDS)) + " and " + (ids.size() - MAX_REPORTED_IDS) + " more";
+    }
+}
@@ -2,13 +2,11 @@ package com.zamaz.mcp.organization.adapter.external;
 
 import com.zamaz.mcp.organization.infrastructure.architecture.ExternalServiceAdapter;
 import com.zamaz.mcp.common.architecture.exception.ExternalServiceException;
+import com.zamaz.mcp.organization.adapter.persistence.membership.MembershipIndex;
 import com.zamaz.mcp.organization.application.port.outbound.AuthenticationService;
-import com.zamaz.mcp.organization.application.port.outbound.OrganizationRepository;
 import com.zamaz.mcp.organization.domain.model.Organization;
-import com.zamaz.mcp.organization.domain.model.OrganizationId;
 import com.zamaz.mcp.organization.domain.model.Role;
 import com.zamaz.mcp.organization.domain.model.User;
-import com.zamaz.mcp.organization.domain.model.UserId;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -34,7 +32,7 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class AuthenticationServiceAdapter implements AuthenticationService, ExternalServiceAdapter {
     
-    private final OrganizationRepository organizationRepository;
+    private final MembershipIndex membershipIndex;
     
     @Value("${jwt.secret:default-secret-key-for-development-only-change-in-production}")
     private String jwtSecret;
@@ -48,14 +46,7 @@ public class AuthenticationServiceAdapter implements AuthenticationService, Exte
     @Override
     public boolean hasPermission(String userId, String organizationId, Role requiredRole) {
         try {
-            var organization = organizationRepository.findById(OrganizationId.from(organizationId))
-                .orElse(null);
-            
-            if (organization == null) {
-                return false;
-            }
-            
-            return organization.hasRole(UserId.from(userId), requiredRole);
+            return membershipIndex.hasRole(UUID.fromString(userId), UUID.fromString(organizationId), requiredRole);
             
         } catch (Exception e) {
             throw new ExternalServiceException("AuthenticationService", "Failed to check permissions", e);
@@ -3,36 +3,41 @@ package com.zamaz.mcp.organization.adapter.external;
 import com.zamaz.mcp.organization.infrastructure.architecture.ExternalServiceAdapter;
 import com.zamaz.mcp.organization.infrastructure.logging.DomainLogger;
 import com.zamaz.mcp.organization.infrastructure.logging.DomainLoggerFactory;
+import com.zamaz.mcp.organization.infrastructure.resilience.McpDependency;
 import com.zamaz.mcp.organization.adapter.external.email.EmailTemplate;
-import com.zamaz.mcp.organization.adapter.external.email.SecureEmailService;
+import com.zamaz.mcp.organization.adapter.external.email.EmailOutbox;
+import com.zamaz.mcp.organization.adapter.external.email.OutgoingEmail;
 import com.zamaz.mcp.organization.application.port.outbound.NotificationService;
 import com.zamaz.mcp.organization.domain.model.Organization;
 import com.zamaz.mcp.organization.domain.model.Role;
 import com.zamaz.mcp.organization.domain.model.User;
 import lombok.RequiredArgsConstructor;
-import com.zamaz.mcp.common.resilience.annotation.Retry;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+
 /**
  * Implementation of NotificationService that sends notifications via external services.
+ * Emails are written to the outbox in the caller's transaction and delivered
+ * asynchronously by the outbox dispatcher.
  * This is an external service adapter in hexagonal architecture.
  */
 @Component
 @RequiredArgsConstructor
+@McpDependency("notification")
 public class NotificationServiceAdapter implements NotificationService, ExternalServiceAdapter {
     
-    private final SecureEmailService emailService;
+    private final EmailOutbox emailOutbox;
     private final DomainLogger logger;
     
-    public NotificationServiceAdapter(SecureEmailService emailService, DomainLoggerFactory loggerFactory) {
-        this.emailService = emailService;
+    public NotificationServiceAdapter(EmailOutbox emailOutbox, DomainLoggerFactory loggerFactory) {
+        this.emailOutbox = emailOutbox;
         this.logger = loggerFactory.getLogger(NotificationServiceAdapter.class);
     }
     
     @Override
-    @Retry(name = "notification-send", maxAttempts = 3, waitDurationMs = 1000)
     public void sendOrganizationCreatedNotification(Organization organization, User owner) {
-        logger.info("Sending organization created notification",
+        logger.info("Queueing organization created notification",
             "organizationId", organization.getId().value(),
             "organizationName", organization.getName().value(),
             "ownerId", owner.getId().value(),
@@ -46,14 +51,14 @@ public class NotificationServiceAdapter implements NotificationService, External
                 owner.getEmail().value()
             );
             
-            emailService.sendEmail(owner.getEmail().value(), template);
+            emailOutbox.enqueue(owner.getEmail().value(), template);
             
-            logger.info("Organization created notification sent successfully",
+            logger.info("Organization created notification queued",
                 "organizationId", organization.getId().value(),
                 "ownerEmail", owner.getEmail().value());
                 
         } catch (Exception e) {
-            logger.error("Failed to send organization created notification", e,
+            logger.error("Failed to queue organization created notification", e,
                 "organizationId", organization.getId().value(),
                 "ownerEmail", owner.getEmail().value());
             throw e;
@@ -61,9 +66,8 @@ public class NotificationServiceAdapter implements NotificationService, External
     }
     
     @Override
-    @Retry(name = "notification-send", maxAttempts = 3, waitDurationMs = 1000)
     public void sendUserAddedToOrganizationNotification(Organization organization, User user, Role role) {
-        logger.info("Sending user added to organization notification",
+        logger.info("Queueing user added to organization notification",
             "organizationId", organization.getId().value(),
             "organizationName", organization.getName().value(),
             "userId", user.getId().value(),
@@ -82,15 +86,15 @@ public class NotificationServiceAdapter implements NotificationService, External
                 inviterName
             );
             
-            emailService.sendEmail(user.getEmail().value(), template);
+            emailOutbox.enqueue(user.getEmail().value(), template);
             
-            logger.info("User added notification sent successfully",
+            logger.info("User added notification queued",
                 "organizationId", organization.getId().value(),
                 "userEmail", user.getEmail().value(),
                 "role", role.name());
                 
         } catch (Exception e) {
-            logger.error("Failed to send user added notification", e,
+            logger.error("Failed to queue user added notification", e,
                 "organizationId", organization.getId().value(),
                 "userEmail", user.getEmail().value());
             throw e;
@@ -98,9 +102,42 @@ public class NotificationServiceAdapter implements NotificationService, External
     }
     
     @Override
-    @Retry(name = "notification-send", maxAttempts = 3, waitDurationMs = 1000)
+    public void sendUserAddedToOrganizationNotifications(Organization organization, Collection<User> users, Role role) {
+        logger.info("Queueing user added to organization notifications",
+            "organizationId", organization.getId().value(),
+            "organizationName", organization.getName().value(),
+            "userCount", users.size(),
+            "role", role.name()
+        );
+        
+        try {
+            String inviterName = getCurrentInviterName().orElse("System Administrator");
+            
+            emailOutbox.enqueueAll(users.stream()
+                .map(user -> new OutgoingEmail(user.getEmail().value(), EmailTemplate.userAddedToOrganization(
+                    organization.getName().value(),
+                    user.getFullName(),
+                    role.name(),
+                    inviterName
+                )))
+                .toList());
+            
+            logger.info("User added notifications queued",
+                "organizationId", organization.getId().value(),
+                "userCount", users.size(),
+                "role", role.name());
+                
+        } catch (Exception e) {
+            logger.error("Failed to queue user added notifications", e,
+                "organizationId", organization.getId().value(),
+                "userCount", users.size());
+            throw e;
+        }
+    }
+    
+    @Override
     public void sendUserRemovedFromOrganizationNotification(Organization organization, User user) {
-        logger.info("Sending user removed from organization notification",
+        logger.info("Queueing user removed from organization notification",
             "organizationId", organization.getId().value(),
             "organizationName", organization.getName().value(),
             "userId", user.getId().value(),
@@ -113,14 +150,14 @@ public class NotificationServiceAdapter implements NotificationService, External
                 user.getFullName()
             );
             
-            emailService.sendEmail(user.getEmail().value(), template);
+            emailOutbox.enqueue(user.getEmail().value(), template);
             
-            logger.info("User removed notification sent successfully",
+            logger.info("User removed notification queued",
                 "organizationId", organization.getId().value(),
                 "userEmail", user.getEmail().value());
                 
         } catch (Exception e) {
-            logger.error("Failed to send user removed notification", e,
+            logger.error("Failed to queue user removed notification", e,
                 "organizationId", organization.getId().value(),
                 "userEmail", user.getEmail().value());
             throw e;
@@ -128,9 +165,36 @@ public class NotificationServiceAdapter implements NotificationService, External
     }
     
     @Override
-    @Retry(name = "notification-send", maxAttempts = 3, waitDurationMs = 1000)
+    public void sendUserRemovedFromOrganizationNotifications(Organization organization, Collection<User> users) {
+        logger.info("Queueing user removed from organization notifications",
+            "organizationId", organization.getId().value(),
+            "organizationName", organization.getName().value(),
+            "userCount", users.size()
+        );
+        
+        try {
+            emailOutbox.enqueueAll(users.stream()
+                .map(user -> new OutgoingEmail(user.getEmail().value(), EmailTemplate.userRemovedFromOrganization(
+                    organization.getName().value(),
+                    user.getFullName()
+                )))
+                .toList());
+            
+            logger.info("User removed notifications queued",
+                "organizationId", organization.getId().value(),
+                "userCount", users.size());
+                
+        } catch (Exception e) {
+            logger.error("Failed to queue user removed notifications", e,
+                "organizationId", organization.getId().value(),
+                "userCount", users.size());
+            throw e;
+        }
+    }
+    
+    @Override
     public void sendRoleChangedNotification(Organization organization, User user, Role oldRole, Role newRole) {
-        logger.info("Sending role changed notification",
+        logger.info("Queueing role changed notification",
             "organizationId", organization.getId().value(),
             "organizationName", organization.getName().value(),
             "userId", user.getId().value(),
@@ -147,16 +211,16 @@ public class NotificationServiceAdapter implements NotificationService, External
                 newRole.name()
             );
             
-            emailService.sendEmail(user.getEmail().value(), template);
+            emailOutbox.enqueue(user.getEmail().value(), template);
             
-            logger.info("Role changed notification sent successfully",
+            logger.info("Role changed notification queued",
                 "organizationId", organization.getId().value(),
                 "userEmail", user.getEmail().value(),
                 "oldRole", oldRole.name(),
                 "newRole", newRole.name());
                 
         } catch (Exception e) {
-            logger.error("Failed to send role changed notification", e,
+            logger.error("Failed to queue role changed notification", e,
                 "organizationId", organization.getId().value(),
                 "userEmail", user.getEmail().value(),
                 "oldRole", oldRole.name(),
@@ -166,44 +230,34 @@ public class NotificationServiceAdapter implements NotificationService, External
     }
     
     @Override
-    @Retry(name = "notification-send", maxAttempts = 3, waitDurationMs = 1000)
     public void sendEmailVerificationNotification(User user, String verificationToken) {
-        logger.info("Sending email verification notification",
+        logger.info("Queueing email verification notification",
             "userId", user.getId().value(),
             "userEmail", user.getEmail().value(),
             "tokenLength", verificationToken.length()
         );
         
         try {
-            // Generate verification link with token
-            String verificationLink = buildVerificationLink(verificationToken);
-            
+            // The template builds the verification link from the base URL and token
             EmailTemplate template = EmailTemplate.emailVerification(
                 user.getFullName(),
-                verificationLink
+                verificationToken
             );
             
-            emailService.sendEmail(user.getEmail().value(), template);
+            emailOutbox.enqueue(user.getEmail().value(), template);
             
-            logger.info("Email verification notification sent successfully",
+            logger.info("Email verification notification queued",
                 "userId", user.getId().value(),
                 "userEmail", user.getEmail().value());
                 
         } catch (Exception e) {
-            logger.error("Failed to send email verification notification", e,
+            logger.error("Failed to queue email verification notification", e,
                 "userId", user.getId().value(),
                 "userEmail", user.getEmail().value());
             throw e;
         }
     }
     
-    @Value("${app.base-url:http://localhost:3000}")
-    private String baseUrl;
-    
-    private String buildVerificationLink(String verificationToken) {
-        return baseUrl + "/verify-email?token=" + verificationToken;
-    }
-    
     /**
      * Gets the current inviter name from security context.
      * In a production system, this would extract the authenticated user's name.
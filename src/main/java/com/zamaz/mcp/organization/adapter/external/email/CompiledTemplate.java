@@ -0,0 +1,113 @@
+package com.zamaz.mcp.organization.adapter.external.email;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A template string parsed once into alternating literal and placeholder segments.
+ *
+ * <p>{@code literals} always holds one more element than {@code names}: rendering appends
+ * {@code literals[0]}, then each resolved {@code names[i]} followed by {@code literals[i + 1]}.
+ * Placeholders without a value are rendered verbatim, matching the old replace-based behaviour.
+ */
+final class CompiledTemplate {
+
+    private static final String OPEN = "${";
+    private static final char CLOSE = '}';
+
+    private final String source;
+    private final String[] literals;
+    private final String[] names;
+    private final int literalLength;
+
+    private CompiledTemplate(String source, String[] literals, String[] names) {
+        this.source = source;
+        this.literals = literals;
+        this.names = names;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Parses {@code ${name}} placeholders out of the source.
+     */
+    static CompiledTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        int position = 0;
+        while (true) {
+            int open = source.indexOf(OPEN, position);
+            int close = open < 0 ? -1 : source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                literals.add(source.substring(position));
+                break;
+            }
+            literals.add(source.substring(position, open));
+            names.add(source.substring(open + OPEN.length(), close));
+            position = close + 1;
+        }
+        return new CompiledTemplate(source, literals.toArray(String[]::new), names.toArray(String[]::new));
+    }
+
+    String source() {
+        return source;
+    }
+
+    /**
+     * Lower bound of the rendered length, used to presize buffers.
+     */
+    int literalLength() {
+        return literalLength;
+    }
+
+    /**
+     * Appends the rendered template to {@code out} in a single pass.
+     * Values are looked up in {@code variables} first and then in {@code defaults}.
+     *
+     * @param escaper applied to every resolved value, e.g. HTML escaping
+     */
+    void renderTo(StringBuilder out, Map<String, Object> variables, Map<String, Object> defaults, Escaper escaper) {
+        out.append(literals[0]);
+        for (int i = 0; i < names.length; i++) {
+            Object value = variables != null ? variables.get(names[i]) : null;
+            if (value == null) {
+                value = defaults.get(names[i]);
+            }
+            if (value == null) {
+                out.append(OPEN).append(names[i]).append(CLOSE);
+            } else {
+                escaper.append(out, value.toString());
+            }
+            out.append(literals[i + 1]);
+        }
+    }
+
+    /**
+     * Appends a value to the output, optionally transforming it.
+     */
+    @FunctionalInterface
+    interface Escaper {
+
+        Escaper NONE = StringBuilder::append;
+
+        Escaper HTML = (out, value) -> {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '&' -> out.append("&amp;");
+                    case '<' -> out.append("&lt;");
+                    case '>' -> out.append("&gt;");
+                    case '"' -> out.append("&quot;");
+                    case '\'' -> out.append("&#39;");
+                    default -> out.append(c);
+                }
+            }
+        };
+
+        void append(StringBuilder out, String value);
+    }
+}
@@ -0,0 +1,64 @@
+package com.zamaz.mcp.organization.adapter.external.email;
+
+import com.zamaz.mcp.common.architecture.exception.PersistenceException;
+import com.zamaz.mcp.organization.adapter.persistence.entity.EmailOutboxEntity;
+import com.zamaz.mcp.organization.adapter.persistence.repository.SpringDataEmailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+/**
+ * Transactional outbox for notification emails.
+ * Emails are stored in the caller's transaction, so they are delivered only if the
+ * business change commits, and delivery itself happens off the request path in
+ * {@link EmailOutboxDispatcher}.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmailOutbox {
+
+    private final SpringDataEmailOutboxRepository outboxRepository;
+
+    /**
+     * Queues an email for delivery, joining the current transaction if there is one.
+     */
+    @Transactional
+    public void enqueue(String toEmail, EmailTemplate template) {
+        try {
+            outboxRepository.save(toEntity(toEmail, template));
+        } catch (Exception e) {
+            throw new PersistenceException("Failed to enqueue email", e);
+        }
+    }
+
+    /**
+     * Queues several emails with one batched insert, joining the current transaction
+     * if there is one.
+     */
+    @Transactional
+    public void enqueueAll(Collection<OutgoingEmail> emails) {
+        if (emails.isEmpty()) {
+            return;
+        }
+        try {
+            outboxRepository.saveAll(emails.stream()
+                .map(email -> toEntity(email.toEmail(), email.template()))
+                .toList());
+        } catch (Exception e) {
+            throw new PersistenceException("Failed to enqueue emails", e);
+        }
+    }
+
+    private static EmailOutboxEntity toEntity(String toEmail, EmailTemplate template) {
+        return EmailOutboxEntity.builder()
+            .recipient(toEmail)
+            .templateName(template.getTemplateName())
+            .subject(template.getSubject())
+            .textContent(template.getTextContent())
+            .htmlContent(template.getHtmlContent())
+            .variables(template.getVariables())
+            .build();
+    }
+}
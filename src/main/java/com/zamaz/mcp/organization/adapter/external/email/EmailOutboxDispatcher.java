@@ -0,0 +1,193 @@
+package com.zamaz.mcp.organization.adapter.external.email;
+
+import com.zamaz.mcp.organization.adapter.persistence.entity.EmailOutboxEntity;
+import com.zamaz.mcp.organization.adapter.persistence.repository.SpringDataEmailOutboxRepository;
+import com.zamaz.mcp.organization.application.service.TransactionManager;
+import com.zamaz.mcp.organization.infrastructure.logging.DomainLogger;
+import com.zamaz.mcp.organization.infrastructure.logging.DomainLoggerFactory;
+import com.zamaz.mcp.organization.infrastructure.resilience.McpCircuitBreaker;
+import com.zamaz.mcp.organization.infrastructure.resilience.McpCircuitBreakerRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Drains the email outbox in batches.
+ *
+ * <p>Each batch runs in three steps so no database connection is held while SMTP is slow:
+ * a short transaction claims due rows by pushing their next attempt out by the lease,
+ * the batch is sent over one SMTP connection outside any transaction, and a second short
+ * transaction records the outcome. A node that dies mid-batch leaves its rows to be
+ * picked up again once the lease expires, so delivery is at-least-once.
+ *
+ * <p>Failed emails are retried with exponential backoff and marked failed after the
+ * configured number of attempts. Sends go through the {@code smtp} circuit breaker;
+ * while it is open no rows are claimed, so an unreachable server burns no attempts.
+ */
+@Component
+@ConditionalOnProperty(name = "app.email.outbox.dispatcher-enabled", havingValue = "true", matchIfMissing = true)
+public class EmailOutboxDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final SpringDataEmailOutboxRepository outboxRepository;
+    private final SecureEmailService emailService;
+    private final McpCircuitBreaker smtpCircuitBreaker;
+    private final TransactionManager transactionManager;
+    private final DomainLogger logger;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    public EmailOutboxDispatcher(SpringDataEmailOutboxRepository outboxRepository,
+                                 SecureEmailService emailService,
+                                 McpCircuitBreakerRegistry circuitBreakerRegistry,
+                                 TransactionManager transactionManager,
+                                 DomainLoggerFactory loggerFactory,
+                                 @Value("${app.email.outbox.batch-size:50}") int batchSize,
+                                 @Value("${app.email.outbox.max-attempts:8}") int maxAttempts,
+                                 @Value("${app.email.outbox.lease:5m}") Duration lease,
+                                 @Value("${app.email.outbox.initial-backoff:30s}") Duration initialBackoff,
+                                 @Value("${app.email.outbox.max-backoff:1h}") Duration maxBackoff) {
+        this.outboxRepository = outboxRepository;
+        this.emailService = emailService;
+        this.smtpCircuitBreaker = circuitBreakerRegistry.circuitBreaker("smtp");
+        this.transactionManager = transactionManager;
+        this.logger = loggerFactory.getLogger(EmailOutboxDispatcher.class);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.lease = lease;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    /**
+     * Sends due emails until the outbox has no full batch left.
+     */
+    @Scheduled(fixedDelayString = "${app.email.outbox.poll-interval:5000}")
+    public void dispatch() {
+        int claimed;
+        do {
+            claimed = dispatchBatch();
+        } while (claimed == batchSize);
+    }
+
+    /**
+     * Claims, sends and records one batch.
+     *
+     * @return the number of emails claimed
+     */
+    int dispatchBatch() {
+        if (!smtpCircuitBreaker.isCallPermitted()) {
+            return 0;
+        }
+
+        Map<UUID, OutgoingEmail> batch;
+        try {
+            batch = transactionManager.executeInTransaction(this::claimBatch);
+        } catch (Exception e) {
+            logger.error("Failed to claim email outbox batch", e);
+            return 0;
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        Map<UUID, Exception> failures = send(batch);
+
+        try {
+            transactionManager.executeInTransaction(() -> recordOutcome(batch.keySet(), failures));
+        } catch (Exception e) {
+            // Rows stay leased and are retried after the lease expires
+            logger.error("Failed to record email outbox outcome", e, "batchSize", batch.size());
+        }
+        return batch.size();
+    }
+
+    /**
+     * Sends the batch, failing every email when the server could not be used at all.
+     */
+    private Map<UUID, Exception> send(Map<UUID, OutgoingEmail> batch) {
+        try {
+            return smtpCircuitBreaker.execute(() -> emailService.sendEmails(batch));
+        } catch (Exception e) {
+            logger.warn("Email batch not sent", "batchSize", batch.size(), "reason", e.getMessage());
+            Map<UUID, Exception> failures = new HashMap<>();
+            for (UUID id : batch.keySet()) {
+                failures.put(id, e);
+            }
+            return failures;
+        }
+    }
+
+    private Map<UUID, OutgoingEmail> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<EmailOutboxEntity> due = outboxRepository.lockDueBatch(now, batchSize);
+
+        Map<UUID, OutgoingEmail> batch = new LinkedHashMap<>();
+        for (EmailOutboxEntity entity : due) {
+            entity.setAttempts(entity.getAttempts() + 1);
+            entity.setNextAttemptAt(now.plus(lease));
+            batch.put(entity.getId(), new OutgoingEmail(entity.getRecipient(), toTemplate(entity)));
+        }
+        return batch;
+    }
+
+    private void recordOutcome(Iterable<UUID> ids, Map<UUID, Exception> failures) {
+        LocalDateTime now = LocalDateTime.now();
+        for (EmailOutboxEntity entity : outboxRepository.findAllById(ids)) {
+            Exception failure = failures.get(entity.getId());
+            if (failure == null) {
+                entity.setStatus(EmailOutboxEntity.Status.SENT);
+                entity.setSentAt(now);
+                entity.setLastError(null);
+                continue;
+            }
+
+            entity.setLastError(truncate(String.valueOf(failure.getMessage())));
+            if (entity.getAttempts() >= maxAttempts) {
+                entity.setStatus(EmailOutboxEntity.Status.FAILED);
+                logger.warn("Email delivery abandoned",
+                    "outboxId", entity.getId(),
+                    "template", entity.getTemplateName(),
+                    "attempts", entity.getAttempts());
+            } else {
+                entity.setNextAttemptAt(now.plus(backoff(entity.getAttempts())));
+            }
+        }
+    }
+
+    /**
+     * Delay before the next attempt after the given number of failed attempts.
+     */
+    Duration backoff(int attempts) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 30);
+        Duration delay = initialBackoff.multipliedBy(1L << exponent);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private static EmailTemplate toTemplate(EmailOutboxEntity entity) {
+        return EmailTemplate.builder()
+            .templateName(entity.getTemplateName())
+            .subject(entity.getSubject())
+            .textContent(entity.getTextContent())
+            .htmlContent(entity.getHtmlContent())
+            .variables(entity.getVariables())
+            .build();
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
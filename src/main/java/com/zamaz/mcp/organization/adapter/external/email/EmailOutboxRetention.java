@@ -0,0 +1,64 @@
+package com.zamaz.mcp.organization.adapter.external.email;
+
+import com.zamaz.mcp.organization.adapter.persistence.repository.SpringDataEmailOutboxRepository;
+import com.zamaz.mcp.organization.application.service.TransactionManager;
+import com.zamaz.mcp.organization.infrastructure.logging.DomainLogger;
+import com.zamaz.mcp.organization.infrastructure.logging.DomainLoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Purges sent and failed emails from the outbox once they are older than the retention
+ * period. Rows are deleted in short batches, one transaction each, so the purge never
+ * holds locks or a connection for long; pending rows are never touched.
+ */
+@Component
+@ConditionalOnProperty(name = "app.email.outbox.dispatcher-enabled", havingValue = "true", matchIfMissing = true)
+public class EmailOutboxRetention {
+
+    private final SpringDataEmailOutboxRepository outboxRepository;
+    private final TransactionManager transactionManager;
+    private final DomainLogger logger;
+    private final Duration retention;
+    private final int batchSize;
+
+    public EmailOutboxRetention(SpringDataEmailOutboxRepository outboxRepository,
+                                TransactionManager transactionManager,
+                                DomainLoggerFactory loggerFactory,
+                                @Value("${app.email.outbox.retention:7d}") Duration retention,
+                                @Value("${app.email.outbox.purge-batch-size:1000}") int batchSize) {
+        this.outboxRepository = outboxRepository;
+        this.transactionManager = transactionManager;
+        this.logger = loggerFactory.getLogger(EmailOutboxRetention.class);
+        this.retention = retention;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Deletes completed emails older than the retention period.
+     *
+     * @return the number of rows deleted
+     */
+    @Scheduled(fixedDelayString = "${app.email.outbox.purge-interval:3600000}",
+               initialDelayString = "${app.email.outbox.purge-interval:3600000}")
+    public long purge() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        long total = 0;
+        int deleted;
+        do {
+            deleted = transactionManager.executeInTransaction(
+                () -> outboxRepository.deleteCompletedBefore(cutoff, batchSize));
+            total += deleted;
+        } while (deleted == batchSize);
+
+        if (total > 0) {
+            logger.info("Purged email outbox", "deleted", total, "cutoff", cutoff);
+        }
+        return total;
+    }
+}
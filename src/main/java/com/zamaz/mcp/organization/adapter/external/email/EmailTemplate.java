@@ -7,6 +7,9 @@ import java.util.Map;
 
 /**
  * Email template definition for notification system.
+ * Subject and content are constant per template name and only reference their
+ * values through {@code ${...}} placeholders, so each template is compiled once
+ * by {@link EmailTemplateEngine} and only the variables change between sends.
  */
 @Value
 @Builder
@@ -17,39 +20,151 @@ public class EmailTemplate {
     String htmlContent;
     Map<String, Object> variables;
     
+    private static final String ORGANIZATION_CREATED_SUBJECT =
+        "Welcome to ${organizationName} - Organization Created Successfully";
+    
+    private static final String ORGANIZATION_CREATED_TEXT = """
+        Dear ${ownerName},
+        
+        Congratulations! Your organization "${organizationName}" has been created successfully.
+        
+        You can now start inviting team members and managing your organization settings.
+        
+        Login to your dashboard to get started: ${app.base-url}/dashboard
+        
+        Best regards,
+        The MCP Team
+        """;
+    
+    private static final String ORGANIZATION_CREATED_HTML = """
+        <html>
+        <body>
+            <h2>Welcome to ${organizationName}!</h2>
+            <p>Dear ${ownerName},</p>
+            <p>Congratulations! Your organization "<strong>${organizationName}</strong>" has been created successfully.</p>
+            <p>You can now start inviting team members and managing your organization settings.</p>
+            <p><a href="${app.base-url}/dashboard" style="background-color: #007bff; color: white; padding: 10px 20px; text-decoration: none; border-radius: 5px;">Access Dashboard</a></p>
+            <p>Best regards,<br/>The MCP Team</p>
+        </body>
+        </html>
+        """;
+    
+    private static final String USER_ADDED_SUBJECT = "You've been added to ${organizationName}";
+    
+    private static final String USER_ADDED_TEXT = """
+        Dear ${userName},
+        
+        You have been added to the organization "${organizationName}" with the role of ${role} by ${inviterName}.
+        
+        Login to your dashboard to start collaborating: ${app.base-url}/dashboard
+        
+        Best regards,
+        The MCP Team
+        """;
+    
+    private static final String USER_ADDED_HTML = """
+        <html>
+        <body>
+            <h2>Welcome to ${organizationName}!</h2>
+            <p>Dear ${userName},</p>
+            <p>You have been added to the organization "<strong>${organizationName}</strong>" with the role of <strong>${role}</strong> by ${inviterName}.</p>
+            <p><a href="${app.base-url}/dashboard" style="background-color: #28a745; color: white; padding: 10px 20px; text-decoration: none; border-radius: 5px;">Start Collaborating</a></p>
+            <p>Best regards,<br/>The MCP Team</p>
+        </body>
+        </html>
+        """;
+    
+    private static final String USER_REMOVED_SUBJECT = "You have been removed from ${organizationName}";
+    
+    private static final String USER_REMOVED_TEXT = """
+        Dear ${userName},
+        
+        You have been removed from the organization "${organizationName}".
+        
+        If you believe this was done in error, please contact your organization administrator.
+        
+        Best regards,
+        The MCP Team
+        """;
+    
+    private static final String USER_REMOVED_HTML = """
+        <html>
+        <body>
+            <h2>Organization Access Removed</h2>
+            <p>Dear ${userName},</p>
+            <p>You have been removed from the organization "<strong>${organizationName}</strong>".</p>
+            <p>If you believe this was done in error, please contact your organization administrator.</p>
+            <p>Best regards,<br/>The MCP Team</p>
+        </body>
+        </html>
+        """;
+    
+    private static final String ROLE_CHANGED_SUBJECT = "Your role has been updated in ${organizationName}";
+    
+    private static final String ROLE_CHANGED_TEXT = """
+        Dear ${userName},
+        
+        Your role in the organization "${organizationName}" has been updated from ${oldRole} to ${newRole}.
+        
+        Login to your dashboard to see your updated permissions: ${app.base-url}/dashboard
+        
+        Best regards,
+        The MCP Team
+        """;
+    
+    private static final String ROLE_CHANGED_HTML = """
+        <html>
+        <body>
+            <h2>Role Updated</h2>
+            <p>Dear ${userName},</p>
+            <p>Your role in the organization "<strong>${organizationName}</strong>" has been updated from <strong>${oldRole}</strong> to <strong>${newRole}</strong>.</p>
+            <p><a href="${app.base-url}/dashboard" style="background-color: #007bff; color: white; padding: 10px 20px; text-decoration: none; border-radius: 5px;">View Dashboard</a></p>
+            <p>Best regards,<br/>The MCP Team</p>
+        </body>
+        </html>
+        """;
+    
+    private static final String EMAIL_VERIFICATION_SUBJECT = "Verify Your Email Address";
+    
+    private static final String EMAIL_VERIFICATION_TEXT = """
+        Dear ${userName},
+        
+        Please verify your email address by clicking the link below:
+        
+        ${app.base-url}/verify-email?token=${verificationToken}
+        
+        This link will expire in 1 hour for security reasons.
+        
+        If you didn't request this verification, please ignore this email.
+        
+        Best regards,
+        The MCP Team
+        """;
+    
+    private static final String EMAIL_VERIFICATION_HTML = """
+        <html>
+        <body>
+            <h2>Verify Your Email Address</h2>
+            <p>Dear ${userName},</p>
+            <p>Please verify your email address by clicking the button below:</p>
+            <p><a href="${app.base-url}/verify-email?token=${verificationToken}" style="background-color: #007bff; color: white; padding: 10px 20px; text-decoration: none; border-radius: 5px;">Verify Email</a></p>
+            <p><small>This link will expire in 1 hour for security reasons.</small></p>
+            <p>If you didn't request this verification, please ignore this email.</p>
+            <p>Best regards,<br/>The MCP Team</p>
+        </body>
+        </html>
+        """;
+    
     public static EmailTemplate organizationCreated(String organizationName, String ownerName, String ownerEmail) {
         return EmailTemplate.builder()
             .templateName("organization-created")
-            .subject("Welcome to " + organizationName + " - Organization Created Successfully")
-            .textContent("""
-                Dear %s,
-                
-                Congratulations! Your organization "%s" has been created successfully.
-                
-                You can now start inviting team members and managing your organization settings.
-                
-                Login to your dashboard to get started: ${dashboardUrl}
-                
-                Best regards,
-                The MCP Team
-                """.formatted(ownerName, organizationName))
-            .htmlContent("""
-                <html>
-                <body>
-                    <h2>Welcome to %s!</h2>
-                    <p>Dear %s,</p>
-                    <p>Congratulations! Your organization "<strong>%s</strong>" has been created successfully.</p>
-                    <p>You can now start inviting team members and managing your organization settings.</p>
-                    <p><a href="${dashboardUrl}" style="background-color: #007bff; color: white; padding: 10px 20px; text-decoration: none; border-radius: 5px;">Access Dashboard</a></p>
-                    <p>Best regards,<br/>The MCP Team</p>
-                </body>
-                </html>
-                """.formatted(organizationName, ownerName, organizationName))
+            .subject(ORGANIZATION_CREATED_SUBJECT)
+            .textContent(ORGANIZATION_CREATED_TEXT)
+            .htmlContent(ORGANIZATION_CREATED_HTML)
             .variables(Map.of(
                 "organizationName", organizationName,
                 "ownerName", ownerName,
-                "ownerEmail", ownerEmail,
-                "dashboardUrl", "${app.base-url}/dashboard"
+                "ownerEmail", ownerEmail
             ))
             .build();
     }
@@ -57,34 +172,14 @@ public class EmailTemplate {
     public static EmailTemplate userAddedToOrganization(String organizationName, String userName, String role, String inviterName) {
         return EmailTemplate.builder()
             .templateName("user-added")
-            .subject("You've been added to " + organizationName)
-            .textContent("""
-                Dear %s,
-                
-                You have been added to the organization "%s" with the role of %s by %s.
-                
-                Login to your dashboard to start collaborating: ${dashboardUrl}
-                
-                Best regards,
-                The MCP Team
-                """.formatted(userName, organizationName, role, inviterName))
-            .htmlContent("""
-                <html>
-                <body>
-                    <h2>Welcome to %s!</h2>
-                    <p>Dear %s,</p>
-                    <p>You have been added to the organization "<strong>%s</strong>" with the role of <strong>%s</strong> by %s.</p>
-                    <p><a href="${dashboardUrl}" style="background-color: #28a745; color: white; padding: 10px 20px; text-decoration: none; border-radius: 5px;">Start Collaborating</a></p>
-                    <p>Best regards,<br/>The MCP Team</p>
-                </body>
-                </html>
-                """.formatted(organizationName, userName, organizationName, role, inviterName))
+            .subject(USER_ADDED_SUBJECT)
+            .textContent(USER_ADDED_TEXT)
+            .htmlContent(USER_ADDED_HTML)
             .variables(Map.of(
                 "organizationName", organizationName,
                 "userName", userName,
                 "role", role,
-                "inviterName", inviterName,
-                "dashboardUrl", "${app.base-url}/dashboard"
+                "inviterName", inviterName
             ))
             .build();
     }
@@ -92,28 +187,9 @@ public class EmailTemplate {
     public static EmailTemplate userRemovedFromOrganization(String organizationName, String userName) {
         return EmailTemplate.builder()
             .templateName("user-removed")
-            .subject("You have been removed from " + organizationName)
-            .textContent("""
-                Dear %s,
-                
-                You have been removed from the organization "%s".
-                
-                If you believe this was done in error, please contact your organization administrator.
-                
-                Best regards,
-                The MCP Team
-                """.formatted(userName, organizationName))
-            .htmlContent("""
-                <html>
-                <body>
-                    <h2>Organization Access Removed</h2>
-                    <p>Dear %s,</p>
-                    <p>You have been removed from the organization "<strong>%s</strong>".</p>
-                    <p>If you believe this was done in error, please contact your organization administrator.</p>
-                    <p>Best regards,<br/>The MCP Team</p>
-                </body>
-                </html>
-                """.formatted(userName, organizationName))
+            .subject(USER_REMOVED_SUBJECT)
+            .textContent(USER_REMOVED_TEXT)
+            .htmlContent(USER_REMOVED_HTML)
             .variables(Map.of(
                 "organizationName", organizationName,
                 "userName", userName
@@ -124,34 +200,14 @@ public class EmailTemplate {
     public static EmailTemplate roleChanged(String organizationName, String userName, String oldRole, String newRole) {
         return EmailTemplate.builder()
             .templateName("role-changed")
-            .subject("Your role has been updated in " + organizationName)
-            .textContent("""
-                Dear %s,
-                
-                Your role in the organization "%s" has been updated from %s to %s.
-                
-                Login to your dashboard to see your updated permissions: ${dashboardUrl}
-                
-                Best regards,
-                The MCP Team
-                """.formatted(userName, organizationName, oldRole, newRole))
-            .htmlContent("""
-                <html>
-                <body>
-                    <h2>Role Updated</h2>
-                    <p>Dear %s,</p>
-                    <p>Your role in the organization "<strong>%s</strong>" has been updated from <strong>%s</strong> to <strong>%s</strong>.</p>
-                    <p><a href="${dashboardUrl}" style="background-color: #007bff; color: white; padding: 10px 20px; text-decoration: none; border-radius: 5px;">View Dashboard</a></p>
-                    <p>Best regards,<br/>The MCP Team</p>
-                </body>
-                </html>
-                """.formatted(userName, organizationName, oldRole, newRole))
+            .subject(ROLE_CHANGED_SUBJECT)
+            .textContent(ROLE_CHANGED_TEXT)
+            .htmlContent(ROLE_CHANGED_HTML)
             .variables(Map.of(
                 "userName", userName,
                 "organizationName", organizationName,
                 "oldRole", oldRole,
-                "newRole", newRole,
-                "dashboardUrl", "${app.base-url}/dashboard"
+                "newRole", newRole
             ))
             .build();
     }
@@ -159,39 +215,13 @@ public class EmailTemplate {
     public static EmailTemplate emailVerification(String userName, String verificationToken) {
         return EmailTemplate.builder()
             .templateName("email-verification")
-            .subject("Verify Your Email Address")
-            .textContent("""
-                Dear %s,
-                
-                Please verify your email address by clicking the link below:
-                
-                ${verificationUrl}
-                
-                This link will expire in 1 hour for security reasons.
-                
-                If you didn't request this verification, please ignore this email.
-                
-                Best regards,
-                The MCP Team
-                """.formatted(userName))
-            .htmlContent("""
-                <html>
-                <body>
-                    <h2>Verify Your Email Address</h2>
-                    <p>Dear %s,</p>
-                    <p>Please verify your email address by clicking the button below:</p>
-                    <p><a href="${verificationUrl}" style="background-color: #007bff; color: white; padding: 10px 20px; text-decoration: none; border-radius: 5px;">Verify Email</a></p>
-                    <p><small>This link will expire in 1 hour for security reasons.</small></p>
-                    <p>If you didn't request this verification, please ignore this email.</p>
-                    <p>Best regards,<br/>The MCP Team</p>
-                </body>
-                </html>
-                """.formatted(userName))
+            .subject(EMAIL_VERIFICATION_SUBJECT)
+            .textContent(EMAIL_VERIFICATION_TEXT)
+            .htmlContent(EMAIL_VERIFICATION_HTML)
             .variables(Map.of(
                 "userName", userName,
-                "verificationToken", verificationToken,
-                "verificationUrl", "${app.base-url}/verify-email?token=" + verificationToken
+                "verificationToken", verificationToken
             ))
             .build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,99 @@
+package com.zamaz.mcp.organization.adapter.external.email;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Renders {@link EmailTemplate}s from compiled segment lists.
+ *
+ * <p>Subject, text and HTML are parsed once per template name and cached; each render is
+ * a single pass over the segments into a per-thread buffer, so the only allocations per
+ * email are the three result strings. HTML content gets its values HTML-escaped.
+ *
+ * <p>A cached entry is reused only while the template's sources are unchanged; a template
+ * carrying different content under the same name (for example one read back from the
+ * outbox after a deploy) is recompiled and replaces the entry.
+ */
+@Component
+public class EmailTemplateEngine {
+
+    static final String BASE_URL_VARIABLE = "app.base-url";
+
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+
+    private final Map<String, Object> defaults;
+    private final Map<String, CompiledEmail> compiledTemplates = new ConcurrentHashMap<>();
+    private final ThreadLocal<StringBuilder> buffers = ThreadLocal.withInitial(() -> new StringBuilder(4096));
+
+    public EmailTemplateEngine(@Value("${APP_EMAIL_BASE_URL}") String baseUrl) {
+        this.defaults = Map.of(BASE_URL_VARIABLE, baseUrl);
+    }
+
+    /**
+     * Renders the template with its variables.
+     */
+    public RenderedEmail render(EmailTemplate template) {
+        CompiledEmail compiled = compile(template);
+        Map<String, Object> variables = template.getVariables();
+        return new RenderedEmail(
+            render(compiled.subject(), variables, CompiledTemplate.Escaper.NONE),
+            render(compiled.text(), variables, CompiledTemplate.Escaper.NONE),
+            compiled.html() != null ? render(compiled.html(), variables, CompiledTemplate.Escaper.HTML) : null);
+    }
+
+    private CompiledEmail compile(EmailTemplate template) {
+        CompiledEmail compiled = compiledTemplates.get(template.getTemplateName());
+        if (compiled != null && compiled.matches(template)) {
+            return compiled;
+        }
+        compiled = CompiledEmail.of(template);
+        compiledTemplates.put(template.getTemplateName(), compiled);
+        return compiled;
+    }
+
+    private String render(CompiledTemplate template, Map<String, Object> variables, CompiledTemplate.Escaper escaper) {
+        StringBuilder buffer = buffers.get();
+        buffer.setLength(0);
+        buffer.ensureCapacity(template.literalLength() + 256);
+        template.renderTo(buffer, variables, defaults, escaper);
+        String rendered = buffer.toString();
+        if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+            buffers.remove();
+        }
+        return rendered;
+    }
+
+    /**
+     * Rendered subject and bodies of one email.
+     */
+    public record RenderedEmail(String subject, String textContent, String htmlContent) {
+    }
+
+    private record CompiledEmail(CompiledTemplate subject, CompiledTemplate text, CompiledTemplate html) {
+
+        static CompiledEmail of(EmailTemplate template) {
+            return new CompiledEmail(
+                CompiledTemplate.compile(template.getSubject()),
+                CompiledTemplate.compile(template.getTextContent()),
+                template.getHtmlContent() != null ? CompiledTemplate.compile(template.getHtmlContent()) : null);
+        }
+
+        boolean matches(EmailTemplate template) {
+            return sameSource(subject, template.getSubject())
+                && sameSource(text, template.getTextContent())
+                && sameSource(html, template.getHtmlContent());
+        }
+
+        private static boolean sameSource(CompiledTemplate compiled, String source) {
+            if (compiled == null) {
+                return source == null;
+            }
+            // Factory templates share constants, so the identity check almost always decides
+            return compiled.source() == source || Objects.equals(compiled.source(), source);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.zamaz.mcp.organization.adapter.external.email;
+
+/**
+ * A rendered-on-send email addressed to a single recipient.
+ */
+public record OutgoingEmail(String toEmail, EmailTemplate template) {
+}
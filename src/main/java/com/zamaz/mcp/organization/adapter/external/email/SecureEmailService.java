@@ -6,14 +6,18 @@ import com.zamaz.mcp.organization.infrastructure.logging.DomainLoggerFactory;
 import io.github.bucket4j.Bucket;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Refill;
+import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
@@ -26,6 +30,7 @@ import java.util.regex.Pattern;
 public class SecureEmailService {
     
     private final JavaMailSender mailSender;
+    private final EmailTemplateEngine templateEngine;
     private final DomainLogger logger;
     private final Map<String, Bucket> userRateLimitBuckets = new ConcurrentHashMap<>();
     
@@ -35,9 +40,6 @@ public class SecureEmailService {
     @Value("${app.email.rate-limit.per-hour:10}")
     private int emailsPerHour;
     
-    @Value("${APP_EMAIL_BASE_URL}")
-    private String baseUrl;
-    
     @Value("${app.email.enabled:true}")
     private boolean emailEnabled;
     
@@ -45,8 +47,10 @@ public class SecureEmailService {
         "^[A-Za-z0-9+_.-]+@([A-Za-z0-9.-]+\\.[A-Za-z]{2,})$"
     );
     
-    public SecureEmailService(JavaMailSender mailSender, DomainLoggerFactory loggerFactory) {
+    public SecureEmailService(JavaMailSender mailSender, EmailTemplateEngine templateEngine,
+                              DomainLoggerFactory loggerFactory) {
         this.mailSender = mailSender;
+        this.templateEngine = templateEngine;
         this.logger = loggerFactory.getLogger(SecureEmailService.class);
     }
     
@@ -72,30 +76,13 @@ public class SecureEmailService {
                 return;
             }
             
-            // Process template variables
-            String processedSubject = processTemplate(template.getSubject(), template.getVariables());
-            String processedTextContent = processTemplate(template.getTextContent(), template.getVariables());
-            String processedHtmlContent = processTemplate(template.getHtmlContent(), template.getVariables());
-            
-            // Create and send email
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-            
-            helper.setFrom(fromEmail);
-            helper.setTo(toEmail);
-            helper.setSubject(processedSubject);
-            helper.setText(processedTextContent, processedHtmlContent);
-            
-            // Add security headers
-            message.setHeader("X-MCP-Email-Type", template.getTemplateName());
-            message.setHeader("X-MCP-Timestamp", String.valueOf(System.currentTimeMillis()));
+            MimeMessage message = buildMessage(toEmail, template);
             
             mailSender.send(message);
             
             logger.info("Email sent successfully",
                 "to", toEmail,
-                "template", template.getTemplateName(),
-                "subject", processedSubject);
+                "template", template.getTemplateName());
                 
         } catch (Exception e) {
             logger.error("Failed to send email", e,
@@ -105,6 +92,101 @@ public class SecureEmailService {
         }
     }
     
+    /**
+     * Sends a batch of emails over a single SMTP connection.
+     * Each email is validated and rate limited individually; the returned map holds the
+     * failure of every email that was not delivered, keyed like the input.
+     *
+     * @throws ExternalServiceException if the SMTP server could not be used at all,
+     *         in which case nothing in the batch went out
+     */
+    public <K> Map<K, Exception> sendEmails(Map<K, OutgoingEmail> emails) {
+        Map<K, Exception> failures = new HashMap<>();
+        Map<MimeMessage, K> keysByMessage = new IdentityHashMap<>();
+        
+        for (Map.Entry<K, OutgoingEmail> entry : emails.entrySet()) {
+            OutgoingEmail email = entry.getValue();
+            try {
+                validateEmailAddress(email.toEmail());
+                validateTemplate(email.template());
+                
+                if (!checkRateLimit(email.toEmail())) {
+                    logger.warn("Rate limit exceeded for email", "email", email.toEmail());
+                    failures.put(entry.getKey(),
+                        new ExternalServiceException("EmailService", "Rate limit exceeded for email address"));
+                    continue;
+                }
+                
+                if (!emailEnabled) {
+                    logger.info("Email sending disabled, logging email",
+                        "to", email.toEmail(),
+                        "template", email.template().getTemplateName());
+                    continue;
+                }
+                
+                keysByMessage.put(buildMessage(email.toEmail(), email.template()), entry.getKey());
+            } catch (Exception e) {
+                failures.put(entry.getKey(), e);
+            }
+        }
+        
+        if (keysByMessage.isEmpty()) {
+            return failures;
+        }
+        
+        try {
+            mailSender.send(keysByMessage.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                throw new ExternalServiceException("EmailService", "Failed to send email batch", e);
+            }
+            // Partial failure: the sender reports exactly which messages were rejected
+            e.getFailedMessages().forEach((message, cause) -> {
+                K key = keysByMessage.get(message);
+                if (key != null) {
+                    failures.put(key, cause);
+                }
+            });
+        } catch (Exception e) {
+            // Connection or authentication failure: nothing in the batch went out
+            throw new ExternalServiceException("EmailService", "Failed to send email batch", e);
+        }
+        
+        logger.info("Email batch sent",
+            "requested", emails.size(),
+            "failed", failures.size());
+        return failures;
+    }
+    
+    /**
+     * Renders the template and builds a MIME message for the recipient.
+     */
+    private MimeMessage buildMessage(String toEmail, EmailTemplate template) throws MessagingException {
+        EmailTemplateEngine.RenderedEmail rendered = templateEngine.render(template);
+        
+        // Security: variables are substituted into the subject, so re-check for header injection
+        if (rendered.subject().contains("\n") || rendered.subject().contains("\r")) {
+            throw new IllegalArgumentException("Email subject contains invalid characters");
+        }
+        
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        
+        helper.setFrom(fromEmail);
+        helper.setTo(toEmail);
+        helper.setSubject(rendered.subject());
+        if (rendered.htmlContent() != null) {
+            helper.setText(rendered.textContent(), rendered.htmlContent());
+        } else {
+            helper.setText(rendered.textContent());
+        }
+        
+        // Add security headers
+        message.setHeader("X-MCP-Email-Type", template.getTemplateName());
+        message.setHeader("X-MCP-Timestamp", String.valueOf(System.currentTimeMillis()));
+        return message;
+    }
+    
     /**
      * Validates email address format and security.
      */
@@ -168,29 +250,6 @@ public class SecureEmailService {
             .build();
     }
     
-    /**
-     * Processes template variables in content.
-     */
-    private String processTemplate(String content, Map<String, Object> variables) {
-        if (content == null || variables == null) {
-            return content;
-        }
-        
-        String processed = content;
-        
-        // Replace base URL
-        processed = processed.replace("${app.base-url}", baseUrl);
-        
-        // Replace other variables
-        for (Map.Entry<String, Object> entry : variables.entrySet()) {
-            String placeholder = "${" + entry.getKey() + "}";
-            String value = entry.getValue() != null ? entry.getValue().toString() : "";
-            processed = processed.replace(placeholder, value);
-        }
-        
-        return processed;
-    }
-    
     /**
      * Cleans up old rate limit buckets to prevent memory leaks.
      */
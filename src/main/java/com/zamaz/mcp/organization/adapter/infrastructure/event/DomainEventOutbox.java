@@ -0,0 +1,63 @@
+package com.zamaz.mcp.organization.adapter.infrastructure.event;
+
+import com.zamaz.mcp.common.architecture.exception.PersistenceException;
+import com.zamaz.mcp.organization.adapter.persistence.entity.DomainEventOutboxEntity;
+import com.zamaz.mcp.organization.adapter.persistence.repository.SpringDataDomainEventOutboxRepository;
+import com.zamaz.mcp.organization.domain.event.common.AbstractDomainEvent;
+import com.zamaz.mcp.organization.domain.event.common.DomainEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Transactional outbox for domain events.
+ * Events are stored in the caller's transaction, so they are relayed only if the
+ * change that raised them commits, and survive a crash right after the commit.
+ * Delivery happens off the request path in {@link DomainEventRelay}.
+ */
+@Component
+@RequiredArgsConstructor
+public class DomainEventOutbox {
+
+    private final SpringDataDomainEventOutboxRepository outboxRepository;
+    private final DomainEventCodec eventCodec;
+
+    /**
+     * Appends events in the given order, joining the current transaction if there is one.
+     */
+    @Transactional
+    public void append(List<? extends DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        try {
+            // Flush the aggregate first so its row locks are held before event ids are assigned;
+            // concurrent writers of one aggregate then append in the order they commit
+            outboxRepository.flush();
+            outboxRepository.saveAll(events.stream().map(this::toEntity).toList());
+        } catch (Exception e) {
+            throw new PersistenceException("Failed to append domain events", e);
+        }
+    }
+
+    private DomainEventOutboxEntity toEntity(DomainEvent event) {
+        try {
+            return DomainEventOutboxEntity.builder()
+                .eventId(event instanceof AbstractDomainEvent domainEvent
+                    ? UUID.fromString(domainEvent.getEventId())
+                    : UUID.randomUUID())
+                .eventType(event.getEventType())
+                .aggregateId(event.getAggregateId())
+                .payload(eventCodec.encode(event))
+                .occurredAt(LocalDateTime.ofInstant(event.getOccurredOn(), ZoneId.systemDefault()))
+                .build();
+        } catch (Exception e) {
+            throw new PersistenceException("Failed to serialize domain event " + event.getEventType(), e);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.zamaz.mcp.organization.adapter.infrastructure.event;
+
+import com.zamaz.mcp.organization.adapter.persistence.repository.SpringDataDomainEventOutboxRepository;
+import com.zamaz.mcp.organization.application.service.TransactionManager;
+import com.zamaz.mcp.organization.infrastructure.logging.DomainLogger;
+import com.zamaz.mcp.organization.infrastructure.logging.DomainLoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Purges published domain events from the outbox once they are older than the retention
+ * period. Rows are deleted in short batches, one transaction each, so the purge never
+ * holds the relay's row locks for long; pending and failed events are never touched.
+ */
+@Component
+@ConditionalOnProperty(name = "app.events.outbox.relay-enabled", havingValue = "true", matchIfMissing = true)
+public class DomainEventOutboxRetention {
+
+    private final SpringDataDomainEventOutboxRepository outboxRepository;
+    private final TransactionManager transactionManager;
+    private final DomainLogger logger;
+    private final Duration retention;
+    private final int batchSize;
+
+    public DomainEventOutboxRetention(SpringDataDomainEventOutboxRepository outboxRepository,
+                                      TransactionManager transactionManager,
+                                      DomainLoggerFactory loggerFactory,
+                                      @Value("${app.events.outbox.retention:7d}") Duration retention,
+                                      @Value("${app.events.outbox.purge-batch-size:1000}") int batchSize) {
+        this.outboxRepository = outboxRepository;
+        this.transactionManager = transactionManager;
+        this.logger = loggerFactory.getLogger(DomainEventOutboxRetention.class);
+        this.retention = retention;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Deletes published events older than the retention period.
+     *
+     * @return the number of rows deleted
+     */
+    @Scheduled(fixedDelayString = "${app.events.outbox.purge-interval:3600000}",
+               initialDelayString = "${app.events.outbox.purge-interval:3600000}")
+    public long purge() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        long total = 0;
+        int deleted;
+        do {
+            deleted = transactionManager.executeInTransaction(
+                () -> outboxRepository.deletePublishedBefore(cutoff, batchSize));
+            total += deleted;
+        } while (deleted == batchSize);
+
+        if (total > 0) {
+            logger.info("Purged domain event outbox", "deleted", total, "cutoff", cutoff);
+        }
+        return total;
+    }
+}
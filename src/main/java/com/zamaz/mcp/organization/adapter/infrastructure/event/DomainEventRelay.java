@@ -0,0 +1,230 @@
+package com.zamaz.mcp.organization.adapter.infrastructure.event;
+
+import com.zamaz.mcp.organization.adapter.persistence.entity.DomainEventOutboxEntity;
+import com.zamaz.mcp.organization.adapter.persistence.repository.SpringDataDomainEventOutboxRepository;
+import com.zamaz.mcp.organization.application.port.outbound.DomainEventBroker;
+import com.zamaz.mcp.organization.application.port.outbound.DomainEventMessage;
+import com.zamaz.mcp.organization.application.service.TransactionManager;
+import com.zamaz.mcp.organization.exception.DependencyUnavailableException;
+import com.zamaz.mcp.organization.infrastructure.logging.DomainLogger;
+import com.zamaz.mcp.organization.infrastructure.logging.DomainLoggerFactory;
+import com.zamaz.mcp.organization.infrastructure.resilience.McpCircuitBreaker;
+import com.zamaz.mcp.organization.infrastructure.resilience.McpCircuitBreakerRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Relays committed domain events from the outbox, in batches and in id order, to the
+ * {@link DomainEventBroker} and then to in-process listeners (as {@link DomainEventMessage}
+ * application events). Listeners only see an event once the broker has accepted it, so
+ * a broker failure never lets local consumers run ahead of remote ones.
+ *
+ * <p>A batch is delivered and marked published in one transaction that holds the rows'
+ * locks, so relays on several nodes take turns rather than overtaking each other.
+ * Delivery is at-least-once: a batch that fails is retried event by event, and a failing
+ * event holds back the later events of its aggregate, while other aggregates proceed.
+ * After the configured number of attempts the event is marked failed and skipped.
+ * Broker calls go through the {@code event-broker} circuit breaker; while it is open
+ * nothing is relayed, so an unreachable broker burns no attempts.
+ *
+ * <p>Publishes {@code mcp.domain_events.relayed} by outcome for throughput and
+ * {@code mcp.domain_events.delivery_lag}, the time from an event occurring to its delivery.
+ */
+@Component
+@ConditionalOnProperty(name = "app.events.outbox.relay-enabled", havingValue = "true", matchIfMissing = true)
+public class DomainEventRelay {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final SpringDataDomainEventOutboxRepository outboxRepository;
+    private final DomainEventBroker broker;
+    private final DomainEventCodec eventCodec;
+    private final McpCircuitBreaker brokerCircuitBreaker;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TransactionManager transactionManager;
+    private final DomainLogger logger;
+    private final int batchSize;
+    private final int maxAttempts;
+
+    private final Counter publishedEvents;
+    private final Counter retriedEvents;
+    private final Counter abandonedEvents;
+    private final Timer deliveryLag;
+
+    public DomainEventRelay(SpringDataDomainEventOutboxRepository outboxRepository,
+                            DomainEventBroker broker,
+                            DomainEventCodec eventCodec,
+                            McpCircuitBreakerRegistry circuitBreakerRegistry,
+                            ApplicationEventPublisher applicationEventPublisher,
+                            TransactionManager transactionManager,
+                            DomainLoggerFactory loggerFactory,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.events.outbox.batch-size:100}") int batchSize,
+                            @Value("${app.events.outbox.max-attempts:10}") int maxAttempts) {
+        this.outboxRepository = outboxRepository;
+        this.broker = broker;
+        this.eventCodec = eventCodec;
+        this.brokerCircuitBreaker = circuitBreakerRegistry.circuitBreaker("event-broker");
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.transactionManager = transactionManager;
+        this.logger = loggerFactory.getLogger(DomainEventRelay.class);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+
+        this.publishedEvents = relayCounter("published", meterRegistry);
+        this.retriedEvents = relayCounter("retried", meterRegistry);
+        this.abandonedEvents = relayCounter("abandoned", meterRegistry);
+        this.deliveryLag = Timer.builder("mcp.domain_events.delivery_lag")
+            .description("Time from a domain event occurring to its delivery by the relay")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Relays pending events until the outbox has no full batch left.
+     */
+    @Scheduled(fixedDelayString = "${app.events.outbox.poll-interval:1000}")
+    public void relay() {
+        int published;
+        do {
+            published = relayBatch();
+        } while (published == batchSize);
+    }
+
+    /**
+     * Locks, delivers and records one batch.
+     *
+     * @return the number of events published
+     */
+    int relayBatch() {
+        if (!brokerCircuitBreaker.isCallPermitted()) {
+            return 0;
+        }
+        try {
+            return transactionManager.executeInTransaction(this::deliverBatch);
+        } catch (PessimisticLockingFailureException e) {
+            logger.debug("Domain event batch held by another relay");
+            return 0;
+        } catch (Exception e) {
+            logger.error("Failed to relay domain event batch", e);
+            return 0;
+        }
+    }
+
+    private int deliverBatch() {
+        List<DomainEventOutboxEntity> batch =
+            outboxRepository.lockBatch(DomainEventOutboxEntity.Status.PENDING, PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            deliver(batch.stream().map(this::toMessage).toList());
+        } catch (RuntimeException e) {
+            logger.warn("Domain event batch not delivered, retrying event by event",
+                "batchSize", batch.size(), "reason", e.getMessage());
+            return deliverIndividually(batch);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        batch.forEach(entity -> markPublished(entity, now));
+        return batch.size();
+    }
+
+    /**
+     * Delivers events one at a time so a single failing event only holds back its own aggregate.
+     */
+    private int deliverIndividually(List<DomainEventOutboxEntity> batch) {
+        Set<String> blockedAggregates = new HashSet<>();
+        int published = 0;
+        for (DomainEventOutboxEntity entity : batch) {
+            if (blockedAggregates.contains(entity.getAggregateId())) {
+                continue;
+            }
+            try {
+                deliver(List.of(toMessage(entity)));
+                markPublished(entity, LocalDateTime.now());
+                published++;
+            } catch (RuntimeException e) {
+                recordFailure(entity, e, blockedAggregates);
+            }
+        }
+        return published;
+    }
+
+    private void deliver(List<DomainEventMessage> messages) {
+        brokerCircuitBreaker.execute(() -> broker.publish(messages));
+        messages.forEach(applicationEventPublisher::publishEvent);
+    }
+
+    private void markPublished(DomainEventOutboxEntity entity, LocalDateTime now) {
+        entity.setStatus(DomainEventOutboxEntity.Status.PUBLISHED);
+        entity.setPublishedAt(now);
+        entity.setAttempts(entity.getAttempts() + 1);
+        entity.setLastError(null);
+        publishedEvents.increment();
+        deliveryLag.record(Duration.between(entity.getOccurredAt(), now));
+    }
+
+    private void recordFailure(DomainEventOutboxEntity entity, RuntimeException failure, Set<String> blockedAggregates) {
+        blockedAggregates.add(entity.getAggregateId());
+        if (failure instanceof DependencyUnavailableException) {
+            // The breaker rejected the call before it reached the broker
+            return;
+        }
+        entity.setAttempts(entity.getAttempts() + 1);
+        entity.setLastError(truncate(String.valueOf(failure.getMessage())));
+        if (entity.getAttempts() >= maxAttempts) {
+            entity.setStatus(DomainEventOutboxEntity.Status.FAILED);
+            abandonedEvents.increment();
+            logger.warn("Domain event relay abandoned",
+                "eventId", entity.getEventId(),
+                "eventType", entity.getEventType(),
+                "aggregateId", entity.getAggregateId(),
+                "attempts", entity.getAttempts());
+            blockedAggregates.remove(entity.getAggregateId());
+            return;
+        }
+        retriedEvents.increment();
+    }
+
+    private DomainEventMessage toMessage(DomainEventOutboxEntity entity) {
+        // Rows written as JSON before the binary format are re-encoded on the way out
+        byte[] payload = entity.getPayload() != null
+            ? entity.getPayload()
+            : eventCodec.encode(entity.getLegacyPayload());
+        return new DomainEventMessage(
+            entity.getEventId(),
+            entity.getId(),
+            entity.getEventType(),
+            entity.getAggregateId(),
+            entity.getOccurredAt().atZone(ZoneId.systemDefault()).toInstant(),
+            payload);
+    }
+
+    private static Counter relayCounter(String outcome, MeterRegistry meterRegistry) {
+        return Counter.builder("mcp.domain_events.relayed")
+            .description("Domain events handled by the outbox relay by outcome")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
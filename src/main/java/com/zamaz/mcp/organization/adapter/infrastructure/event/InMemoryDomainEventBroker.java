@@ -0,0 +1,49 @@
+package com.zamaz.mcp.organization.adapter.infrastructure.event;
+
+import com.zamaz.mcp.organization.application.port.outbound.DomainEventBroker;
+import com.zamaz.mcp.organization.application.port.outbound.DomainEventMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Local stand-in for the message broker.
+ * Keeps the most recently published messages in memory so tests and single-node
+ * deployments can observe what the relay emits; older messages are dropped.
+ */
+@Component
+@ConditionalOnProperty(name = "app.events.broker", havingValue = "local", matchIfMissing = true)
+public class InMemoryDomainEventBroker implements DomainEventBroker {
+
+    private final int capacity;
+    private final Deque<DomainEventMessage> messages = new ArrayDeque<>();
+
+    public InMemoryDomainEventBroker(@Value("${app.events.local-broker.capacity:1000}") int capacity) {
+        this.capacity = Math.max(capacity, 1);
+    }
+
+    @Override
+    public synchronized void publish(List<DomainEventMessage> batch) {
+        for (DomainEventMessage message : batch) {
+            if (messages.size() >= capacity) {
+                messages.pollFirst();
+            }
+            messages.addLast(message);
+        }
+    }
+
+    /**
+     * Retained messages, oldest first.
+     */
+    public synchronized List<DomainEventMessage> getMessages() {
+        return List.copyOf(messages);
+    }
+
+    public synchronized void clear() {
+        messages.clear();
+    }
+}
@@ -10,21 +10,29 @@ import java.util.List;
 
 /**
  * Spring implementation of DomainEventPublisher.
- * Uses Spring's ApplicationEventPublisher to publish domain events.
+ * Appends events to the {@link DomainEventOutbox} in the use-case transaction; the
+ * {@link DomainEventRelay} delivers them after commit as
+ * {@link com.zamaz.mcp.organization.application.port.outbound.DomainEventMessage}s.
+ *
+ * <p>Events are also published through Spring's ApplicationEventPublisher for
+ * transaction-bound listeners on this node, such as cache eviction, that must run
+ * before the response is returned. Anything slower belongs on the relayed messages.
  */
 @Component
 @RequiredArgsConstructor
 public class SpringDomainEventPublisher implements DomainEventPublisher {
     
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final DomainEventOutbox eventOutbox;
     
     @Override
     public void publish(DomainEvent event) {
-        applicationEventPublisher.publishEvent(event);
+        publishAll(List.of(event));
     }
     
     @Override
     public void publishAll(List<DomainEvent> events) {
-        events.forEach(this::publish);
+        eventOutbox.append(events);
+        events.forEach(applicationEventPublisher::publishEvent);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,98 @@
+package com.zamaz.mcp.organization.adapter.infrastructure.transaction;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Transaction manager that takes a {@link TransactionPermits} permit before a new physical
+ * transaction borrows a connection, and returns it when that transaction completes.
+ *
+ * <p>Wraps the application's transaction manager, so {@code @Transactional} methods, Spring
+ * Data repositories and {@link SpringTransactionManager} are all capped. Calls that join an
+ * active transaction, create a savepoint or run without a transaction take no permit; a
+ * {@code REQUIRES_NEW} transaction takes its own.
+ */
+public class PermitTransactionManager implements PlatformTransactionManager {
+
+    private final PlatformTransactionManager delegate;
+    private final TransactionPermits transactionPermits;
+    private final Set<TransactionStatus> holdingPermits = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    public PermitTransactionManager(PlatformTransactionManager delegate, TransactionPermits transactionPermits) {
+        this.delegate = delegate;
+        this.transactionPermits = transactionPermits;
+    }
+
+    @Override
+    public TransactionStatus getTransaction(TransactionDefinition definition) throws TransactionException {
+        if (!startsNewTransaction(definition)) {
+            return delegate.getTransaction(definition);
+        }
+
+        transactionPermits.acquire();
+        try {
+            TransactionStatus status = delegate.getTransaction(definition);
+            holdingPermits.add(status);
+            return status;
+        } catch (RuntimeException | Error e) {
+            transactionPermits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public void commit(TransactionStatus status) throws TransactionException {
+        try {
+            delegate.commit(status);
+        } finally {
+            releasePermit(status);
+        }
+    }
+
+    @Override
+    public void rollback(TransactionStatus status) throws TransactionException {
+        try {
+            delegate.rollback(status);
+        } finally {
+            releasePermit(status);
+        }
+    }
+
+    /**
+     * The wrapped transaction manager.
+     */
+    public PlatformTransactionManager getDelegate() {
+        return delegate;
+    }
+
+    private void releasePermit(TransactionStatus status) {
+        if (holdingPermits.remove(status)) {
+            transactionPermits.release();
+        }
+    }
+
+    /**
+     * Whether the definition begins a transaction with its own connection, judged before
+     * the delegate is asked so the permit is held before the connection is borrowed.
+     */
+    static boolean startsNewTransaction(TransactionDefinition definition) {
+        int propagation = definition != null
+            ? definition.getPropagationBehavior()
+            : TransactionDefinition.PROPAGATION_REQUIRED;
+        if (propagation == TransactionDefinition.PROPAGATION_REQUIRES_NEW) {
+            return true;
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return false;
+        }
+        return propagation == TransactionDefinition.PROPAGATION_REQUIRED
+            || propagation == TransactionDefinition.PROPAGATION_NESTED;
+    }
+}
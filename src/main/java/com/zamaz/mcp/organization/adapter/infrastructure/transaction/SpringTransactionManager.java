@@ -1,42 +1,57 @@
 package com.zamaz.mcp.organization.adapter.infrastructure.transaction;
 
 import com.zamaz.mcp.organization.application.service.TransactionManager;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.function.Supplier;
 
 /**
  * Spring implementation of TransactionManager.
- * Uses Spring's @Transactional annotation for transaction management.
+ * Uses programmatic transaction templates on the application's transaction manager, which
+ * {@link PermitTransactionManager} wraps when transaction permits are enabled.
  */
 @Component
-@RequiredArgsConstructor
 public class SpringTransactionManager implements TransactionManager {
     
+    private final TransactionTemplate required;
+    private final TransactionTemplate requiresNew;
+    private final TransactionTemplate readOnly;
+    
+    public SpringTransactionManager(PlatformTransactionManager transactionManager) {
+        this.required = new TransactionTemplate(transactionManager);
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+    }
+    
     @Override
-    @Transactional
     public <T> T executeInTransaction(Supplier<T> function) {
-        return function.get();
+        return execute(required, function);
     }
     
     @Override
-    @Transactional
     public void executeInTransaction(Runnable runnable) {
-        runnable.run();
+        execute(required, () -> {
+            runnable.run();
+            return null;
+        });
     }
     
     @Override
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public <T> T executeInNewTransaction(Supplier<T> function) {
-        return function.get();
+        return execute(requiresNew, function);
     }
     
     @Override
-    @Transactional(readOnly = true)
     public <T> T executeInReadOnlyTransaction(Supplier<T> function) {
-        return function.get();
+        return execute(readOnly, function);
+    }
+    
+    private <T> T execute(TransactionTemplate template, Supplier<T> function) {
+        return template.execute(status -> function.get());
     }
-}
\ No newline at end of file
+}
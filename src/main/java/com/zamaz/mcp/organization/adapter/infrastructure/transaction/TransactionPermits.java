@@ -0,0 +1,99 @@
+package com.zamaz.mcp.organization.adapter.infrastructure.transaction;
+
+import com.zamaz.mcp.organization.exception.DependencyUnavailableException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Caps the number of transactions that may hold a database connection at once.
+ *
+ * <p>With virtual threads every request gets its own thread, so nothing bounds how many
+ * use cases try to open a transaction at the same time. Without this cap they would all
+ * queue inside the connection pool and fail with pool timeouts under load; with it,
+ * callers wait on a fair semaphore sized to the pool and are rejected with a 503 after
+ * the configured wait. Disabled by default, since the platform request thread pool
+ * already bounds concurrency.
+ *
+ * <p>Permits are taken by {@link PermitTransactionManager}, which wraps the application's
+ * transaction manager, so programmatic and {@code @Transactional} transactions share the
+ * same cap.
+ */
+@Component
+public class TransactionPermits {
+    
+    private final Semaphore permits;
+    private final Duration acquireTimeout;
+    
+    public TransactionPermits(@Value("${app.transaction-permits.enabled:${spring.threads.virtual.enabled:false}}") boolean enabled,
+                              @Value("${app.transaction-permits.max-concurrent:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConcurrent,
+                              @Value("${app.transaction-permits.acquire-timeout:5s}") Duration acquireTimeout,
+                              MeterRegistry meterRegistry) {
+        this.permits = enabled ? new Semaphore(maxConcurrent, true) : null;
+        this.acquireTimeout = acquireTimeout;
+        if (permits != null) {
+            Gauge.builder("mcp.transaction_permits.available", permits, Semaphore::availablePermits)
+                .description("Transactions that may still start without waiting")
+                .register(meterRegistry);
+        }
+    }
+    
+    /**
+     * Whether transactions are capped at all.
+     */
+    public boolean isEnabled() {
+        return permits != null;
+    }
+    
+    /**
+     * Runs the work while holding a permit, or directly when permits are disabled.
+     *
+     * @throws DependencyUnavailableException if no permit became free within the timeout
+     */
+    public <T> T withPermit(Supplier<T> work) {
+        if (permits == null) {
+            return work.get();
+        }
+        
+        acquire();
+        try {
+            return work.get();
+        } finally {
+            release();
+        }
+    }
+    
+    /**
+     * Takes a permit, waiting up to the configured timeout; a no-op when permits are disabled.
+     *
+     * @throws DependencyUnavailableException if no permit became free within the timeout
+     */
+    public void acquire() {
+        if (permits == null) {
+            return;
+        }
+        try {
+            if (!permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new DependencyUnavailableException("No database connection available within " + acquireTimeout);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DependencyUnavailableException("Interrupted while waiting for a database connection");
+        }
+    }
+    
+    /**
+     * Returns a permit taken with {@link #acquire()}.
+     */
+    public void release() {
+        if (permits != null) {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.zamaz.mcp.organization.adapter.persistence.cache;
+
+import com.zamaz.mcp.organization.infrastructure.codec.BinaryReader;
+import com.zamaz.mcp.organization.infrastructure.codec.BinaryWriter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary codec for organization snapshots.
+ *
+ * <p>Layout (version 1): format version byte, id as two longs, name and description,
+ * settings as a tagged map, active flag, created and updated timestamps, member count,
+ * then per member the user id, a role code byte and the joined timestamp. A member costs
+ * under 30 bytes against about 105 as JSON, and decoding parses no text except names.
+ *
+ * <p>Values written in another version fail to decode, which the cache treats as a miss,
+ * so a format change only costs a round of reloads.
+ */
+public class BinaryOrganizationSnapshotCodec implements CacheCodec<OrganizationSnapshot> {
+
+    static final int VERSION = 1;
+
+    /**
+     * Role codes are part of the format: never reorder, only append.
+     */
+    private static final List<String> ROLES = List.of("OWNER", "ADMIN", "MEMBER", "GUEST");
+
+    @Override
+    public byte[] encode(OrganizationSnapshot snapshot) {
+        BinaryWriter writer = new BinaryWriter(64 + snapshot.members().size() * 28);
+        writer.writeByte(VERSION)
+            .writeUuid(snapshot.id())
+            .writeString(snapshot.name())
+            .writeString(snapshot.description())
+            .writeValue(snapshot.settings())
+            .writeBoolean(snapshot.active())
+            .writeTimestamp(snapshot.createdAt())
+            .writeTimestamp(snapshot.updatedAt())
+            .writeVarInt(snapshot.members().size());
+        for (OrganizationSnapshot.Member member : snapshot.members()) {
+            writer.writeUuid(member.userId())
+                .writeByte(roleCode(member.role()))
+                .writeTimestamp(member.joinedAt());
+        }
+        return writer.toByteArray();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public OrganizationSnapshot decode(byte[] bytes) {
+        BinaryReader reader = new BinaryReader(bytes);
+        int version = reader.readByte();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported organization snapshot format version " + version);
+        }
+
+        var id = reader.readUuid();
+        var name = reader.readString();
+        var description = reader.readString();
+        var settings = (Map<String, Object>) reader.readValue();
+        var active = reader.readBoolean();
+        var createdAt = reader.readTimestamp();
+        var updatedAt = reader.readTimestamp();
+
+        int memberCount = reader.readCount();
+        List<OrganizationSnapshot.Member> members = new ArrayList<>(memberCount);
+        for (int i = 0; i < memberCount; i++) {
+            members.add(new OrganizationSnapshot.Member(
+                reader.readUuid(),
+                roleName(reader.readByte()),
+                reader.readTimestamp()));
+        }
+        return new OrganizationSnapshot(id, name, description, settings, active, List.copyOf(members),
+            createdAt, updatedAt);
+    }
+
+    private static int roleCode(String role) {
+        int code = ROLES.indexOf(role);
+        if (code < 0) {
+            throw new IllegalArgumentException("Unknown role: " + role);
+        }
+        return code;
+    }
+
+    private static String roleName(int code) {
+        if (code >= ROLES.size()) {
+            throw new IllegalArgumentException("Unknown role code: " + code);
+        }
+        return ROLES.get(code);
+    }
+}
@@ -0,0 +1,13 @@
+package com.zamaz.mcp.organization.adapter.persistence.cache;
+
+/**
+ * Converts cached values to and from the bytes stored in the shared Redis tier.
+ *
+ * @param <V> the cached value type
+ */
+public interface CacheCodec<V> {
+
+    byte[] encode(V value);
+
+    V decode(byte[] bytes);
+}
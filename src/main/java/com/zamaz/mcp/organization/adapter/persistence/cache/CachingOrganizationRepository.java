@@ -0,0 +1,110 @@
+package com.zamaz.mcp.organization.adapter.persistence.cache;
+
+import com.zamaz.mcp.organization.adapter.persistence.repository.JpaOrganizationRepository;
+import com.zamaz.mcp.organization.application.port.outbound.OrganizationRepository;
+import com.zamaz.mcp.organization.domain.model.Organization;
+import com.zamaz.mcp.organization.domain.model.OrganizationId;
+import com.zamaz.mcp.organization.domain.model.OrganizationMember;
+import com.zamaz.mcp.organization.domain.model.OrganizationName;
+import com.zamaz.mcp.organization.domain.model.UserId;
+import com.zamaz.mcp.organization.infrastructure.architecture.PersistenceAdapter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Caching decorator for the OrganizationRepository port.
+ * Lookups by ID are served from the two-tier cache; writes go straight to the
+ * JPA adapter and evict the cached aggregate once the transaction commits.
+ *
+ * <p>Lookups inside a read-write transaction bypass the cache: they load an aggregate
+ * that will be changed and saved, and saving syncs the member collection, so a stale
+ * snapshot would silently undo members added elsewhere since it was cached.
+ */
+@Primary
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.cache.organization.enabled", havingValue = "true", matchIfMissing = true)
+public class CachingOrganizationRepository implements OrganizationRepository, PersistenceAdapter {
+
+    private final JpaOrganizationRepository delegate;
+    private final TwoTierCache<OrganizationSnapshot> organizationCache;
+
+    @Override
+    public Organization save(Organization organization) {
+        var saved = delegate.save(organization);
+        organizationCache.evictAfterCommit(organization.getId().value().toString());
+        return saved;
+    }
+
+    @Override
+    public Optional<Organization> findById(OrganizationId id) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return delegate.findById(id);
+        }
+        var snapshot = organizationCache.get(id.value().toString(),
+            () -> delegate.findById(id).map(OrganizationSnapshot::from).orElse(null));
+        return Optional.ofNullable(snapshot).map(OrganizationSnapshot::toDomain);
+    }
+
+    @Override
+    public void delete(Organization organization) {
+        delegate.delete(organization);
+        organizationCache.evictAfterCommit(organization.getId().value().toString());
+    }
+
+    @Override
+    public List<Organization> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Optional<Organization> findByName(OrganizationName name) {
+        return delegate.findByName(name);
+    }
+
+    @Override
+    public boolean existsByName(OrganizationName name) {
+        return delegate.existsByName(name);
+    }
+
+    @Override
+    public List<Organization> findByMemberUserId(UserId userId) {
+        return delegate.findByMemberUserId(userId);
+    }
+
+    @Override
+    public List<Organization> findAllActive() {
+        return delegate.findAllActive();
+    }
+
+    @Override
+    public long count() {
+        return delegate.count();
+    }
+
+    @Override
+    public Map<UserId, Long> countMembershipsByUserIds(Collection<UserId> userIds) {
+        return delegate.countMembershipsByUserIds(userIds);
+    }
+
+    @Override
+    public void addMembers(OrganizationId organizationId, Collection<OrganizationMember> members) {
+        delegate.addMembers(organizationId, members);
+        organizationCache.evictAfterCommit(organizationId.value().toString());
+    }
+
+    @Override
+    public void removeMembers(OrganizationId organizationId, Collection<UserId> userIds) {
+        delegate.removeMembers(organizationId, userIds);
+        organizationCache.evictAfterCommit(organizationId.value().toString());
+    }
+}
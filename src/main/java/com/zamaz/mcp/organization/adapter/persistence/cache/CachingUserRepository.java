@@ -0,0 +1,94 @@
+package com.zamaz.mcp.organization.adapter.persistence.cache;
+
+import com.zamaz.mcp.organization.adapter.persistence.repository.JpaUserRepository;
+import com.zamaz.mcp.organization.application.port.outbound.UserRepository;
+import com.zamaz.mcp.organization.domain.common.Email;
+import com.zamaz.mcp.organization.domain.model.User;
+import com.zamaz.mcp.organization.domain.model.UserId;
+import com.zamaz.mcp.organization.infrastructure.architecture.PersistenceAdapter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Caching decorator for the UserRepository port.
+ * Single and batch lookups by ID are served from the two-tier cache; batch misses
+ * are fetched from the database in one query.
+ */
+@Primary
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.cache.organization.enabled", havingValue = "true", matchIfMissing = true)
+public class CachingUserRepository implements UserRepository, PersistenceAdapter {
+
+    private final JpaUserRepository delegate;
+    private final TwoTierCache<UserSnapshot> userCache;
+
+    @Override
+    public User save(User user) {
+        var saved = delegate.save(user);
+        userCache.evictAfterCommit(user.getId().value().toString());
+        return saved;
+    }
+
+    @Override
+    public Optional<User> findById(UserId id) {
+        var snapshot = userCache.get(id.value().toString(),
+            () -> delegate.findById(id).map(UserSnapshot::from).orElse(null));
+        return Optional.ofNullable(snapshot).map(UserSnapshot::toDomain);
+    }
+
+    @Override
+    public void delete(User user) {
+        delegate.delete(user);
+        userCache.evictAfterCommit(user.getId().value().toString());
+    }
+
+    @Override
+    public List<User> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Optional<User> findByEmail(Email email) {
+        return delegate.findByEmail(email);
+    }
+
+    @Override
+    public boolean existsByEmail(Email email) {
+        return delegate.existsByEmail(email);
+    }
+
+    @Override
+    public List<User> findByIds(List<UserId> userIds) {
+        var keys = userIds.stream().map(id -> id.value().toString()).toList();
+        Map<String, UserSnapshot> snapshots = userCache.getAll(keys, missing ->
+            delegate.findByIds(missing.stream().map(UserId::from).toList()).stream()
+                .map(UserSnapshot::from)
+                .collect(Collectors.toMap(snapshot -> snapshot.id().toString(), Function.identity())));
+
+        return keys.stream()
+            .map(snapshots::get)
+            .filter(Objects::nonNull)
+            .map(UserSnapshot::toDomain)
+            .toList();
+    }
+
+    @Override
+    public List<User> findAllActive() {
+        return delegate.findAllActive();
+    }
+
+    @Override
+    public List<User> searchByName(String text, int offset, int limit) {
+        return delegate.searchByName(text, offset, limit);
+    }
+}
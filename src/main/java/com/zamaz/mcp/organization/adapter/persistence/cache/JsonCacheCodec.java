@@ -0,0 +1,38 @@
+package com.zamaz.mcp.organization.adapter.persistence.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Jackson based codec for cache snapshots.
+ */
+public class JsonCacheCodec<V> implements CacheCodec<V> {
+
+    private final ObjectMapper objectMapper;
+    private final Class<V> type;
+
+    public JsonCacheCodec(ObjectMapper objectMapper, Class<V> type) {
+        this.objectMapper = objectMapper;
+        this.type = type;
+    }
+
+    @Override
+    public byte[] encode(V value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode " + type.getSimpleName(), e);
+        }
+    }
+
+    @Override
+    public V decode(byte[] bytes) {
+        try {
+            return objectMapper.readValue(bytes, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode " + type.getSimpleName(), e);
+        }
+    }
+}
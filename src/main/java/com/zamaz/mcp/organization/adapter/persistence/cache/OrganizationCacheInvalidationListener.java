@@ -0,0 +1,42 @@
+package com.zamaz.mcp.organization.adapter.persistence.cache;
+
+import com.zamaz.mcp.organization.domain.event.OrganizationUpdatedEvent;
+import com.zamaz.mcp.organization.domain.event.UserAddedToOrganizationEvent;
+import com.zamaz.mcp.organization.domain.event.UserRemovedFromOrganizationEvent;
+import com.zamaz.mcp.organization.domain.event.common.AbstractDomainEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Evicts cached organizations when their membership or details change.
+ * Runs after commit so readers never repopulate the cache with uncommitted state;
+ * the eviction is broadcast over Redis pub/sub to every node's near cache.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.cache.organization.enabled", havingValue = "true", matchIfMissing = true)
+public class OrganizationCacheInvalidationListener {
+
+    private final TwoTierCache<OrganizationSnapshot> organizationCache;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrganizationUpdated(OrganizationUpdatedEvent event) {
+        evict(event);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAdded(UserAddedToOrganizationEvent event) {
+        evict(event);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserRemoved(UserRemovedFromOrganizationEvent event) {
+        evict(event);
+    }
+
+    private void evict(AbstractDomainEvent event) {
+        organizationCache.evict(event.getAggregateId());
+    }
+}
@@ -0,0 +1,82 @@
+package com.zamaz.mcp.organization.adapter.persistence.cache;
+
+import com.zamaz.mcp.organization.domain.model.Organization;
+import com.zamaz.mcp.organization.domain.model.OrganizationDescription;
+import com.zamaz.mcp.organization.domain.model.OrganizationId;
+import com.zamaz.mcp.organization.domain.model.OrganizationMember;
+import com.zamaz.mcp.organization.domain.model.OrganizationName;
+import com.zamaz.mcp.organization.domain.model.OrganizationSettings;
+import com.zamaz.mcp.organization.domain.model.Role;
+import com.zamaz.mcp.organization.domain.model.UserId;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable cache representation of an organization aggregate.
+ * Every cache hit rebuilds a fresh aggregate, so callers that mutate what they
+ * read never change the cached copy.
+ */
+public record OrganizationSnapshot(
+    UUID id,
+    String name,
+    String description,
+    Map<String, Object> settings,
+    boolean active,
+    List<Member> members,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {
+
+    /**
+     * Settings are copied into an unmodifiable map that, unlike {@code Map.copyOf}, keeps
+     * null values, which JSONB settings such as {@code {"k": null}} produce.
+     */
+    public OrganizationSnapshot {
+        settings = settings == null ? Map.of() : Collections.unmodifiableMap(new HashMap<>(settings));
+    }
+
+    public record Member(UUID userId, String role, LocalDateTime joinedAt) {
+    }
+
+    public static OrganizationSnapshot from(Organization organization) {
+        return new OrganizationSnapshot(
+            organization.getId().value(),
+            organization.getName().value(),
+            organization.getDescription().value(),
+            organization.getSettings().toMap(),
+            organization.isActive(),
+            organization.getMembers().stream()
+                .map(member -> new Member(
+                    member.getUserId().value(),
+                    member.getRole().name(),
+                    member.getJoinedAt()))
+                .toList(),
+            organization.getCreatedAt(),
+            organization.getUpdatedAt()
+        );
+    }
+
+    public Organization toDomain() {
+        Map<UserId, OrganizationMember> domainMembers = new HashMap<>(members.size() * 2);
+        for (Member member : members) {
+            var userId = new UserId(member.userId());
+            domainMembers.put(userId, new OrganizationMember(userId, Role.fromString(member.role()), member.joinedAt()));
+        }
+
+        return new Organization(
+            new OrganizationId(id),
+            OrganizationName.from(name),
+            OrganizationDescription.from(description),
+            OrganizationSettings.from(new HashMap<>(settings)),
+            active,
+            domainMembers,
+            createdAt,
+            updatedAt
+        );
+    }
+}
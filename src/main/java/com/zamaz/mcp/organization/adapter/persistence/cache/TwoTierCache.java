@@ -0,0 +1,228 @@
+package com.zamaz.mcp.organization.adapter.persistence.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache with a bounded in-process near tier backed by a shared Redis tier.
+ *
+ * <p>Lookups hit the Caffeine near cache first, then Redis, then the loader. Concurrent
+ * misses for the same key on one node are collapsed into a single load. Evictions are
+ * broadcast on a pub/sub channel so every node drops its near copy.
+ * Redis failures degrade to a near-cache-only read-through instead of failing the request.
+ *
+ * <p>An eviction replaces the Redis entry with a tombstone that lives for the eviction
+ * guard, and loaded values are only written to Redis if the key is absent. A reader that
+ * loaded the pre-commit state before the eviction therefore cannot repopulate Redis with
+ * it; during the guard, misses are loaded from the database without being shared. The
+ * guard must exceed the longest load, which the statement timeout bounds.
+ *
+ * @param <V> the immutable snapshot type held in the cache
+ */
+@Slf4j
+public class TwoTierCache<V> {
+
+    private static final String KEY_PREFIX = "mcp:org:cache:";
+    private static final String CHANNEL_PREFIX = "mcp:org:cache:invalidate:";
+    private static final byte[] TOMBSTONE = new byte[0];
+
+    private final String name;
+    private final Cache<String, V> nearCache;
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final CacheCodec<V> codec;
+    private final Duration remoteTtl;
+    private final Duration evictionGuard;
+
+    public TwoTierCache(String name,
+                        long nearMaximumSize,
+                        Duration nearTtl,
+                        RedisTemplate<String, byte[]> redisTemplate,
+                        CacheCodec<V> codec,
+                        Duration remoteTtl,
+                        Duration evictionGuard) {
+        this.name = name;
+        this.nearCache = Caffeine.newBuilder()
+            .maximumSize(nearMaximumSize)
+            .expireAfterWrite(nearTtl)
+            .recordStats()
+            .build();
+        this.redisTemplate = redisTemplate;
+        this.codec = codec;
+        this.remoteTtl = remoteTtl;
+        this.evictionGuard = evictionGuard;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Channel on which evictions for this cache are broadcast.
+     */
+    public String getInvalidationChannel() {
+        return CHANNEL_PREFIX + name;
+    }
+
+    /**
+     * Exposes the near tier for metrics binding.
+     */
+    public Cache<String, V> getNearCache() {
+        return nearCache;
+    }
+
+    /**
+     * Returns the cached value, loading it on a miss in both tiers.
+     * A {@code null} result from the loader is returned but not cached.
+     */
+    public V get(String key, Supplier<V> loader) {
+        return nearCache.get(key, k -> {
+            V remote = readRemote(k);
+            if (remote != null) {
+                return remote;
+            }
+            V loaded = loader.get();
+            if (loaded != null) {
+                writeRemote(Map.of(k, loaded));
+            }
+            return loaded;
+        });
+    }
+
+    /**
+     * Returns the cached values for the given keys, fetching Redis misses with one
+     * MGET and database misses with a single call to the loader.
+     * Keys the loader does not return are absent from the result.
+     */
+    public Map<String, V> getAll(Collection<String> keys, Function<Set<String>, Map<String, V>> loader) {
+        return nearCache.getAll(keys, missing -> {
+            Map<String, V> found = new HashMap<>(readRemote(missing));
+            Set<String> stillMissing = new HashSet<>(missing);
+            stillMissing.removeAll(found.keySet());
+
+            if (!stillMissing.isEmpty()) {
+                Map<String, V> loaded = loader.apply(stillMissing);
+                writeRemote(loaded);
+                found.putAll(loaded);
+            }
+            return found;
+        });
+    }
+
+    /**
+     * Evicts the key from both tiers and tells the other nodes to drop their near copy.
+     * The Redis entry is replaced by a tombstone for the eviction guard.
+     */
+    public void evict(String key) {
+        nearCache.invalidate(key);
+        try {
+            redisTemplate.opsForValue().set(redisKey(key), TOMBSTONE, evictionGuard);
+            redisTemplate.convertAndSend(getInvalidationChannel(), key.getBytes(StandardCharsets.UTF_8));
+        } catch (RuntimeException e) {
+            log.warn("Failed to propagate eviction of {} from cache {}: {}", key, name, e.getMessage());
+        }
+    }
+
+    /**
+     * Evicts the key once the surrounding transaction commits, so a concurrent reader
+     * cannot repopulate the cache with the pre-commit state. Evicts immediately when
+     * no transaction is active.
+     */
+    public void evictAfterCommit(String key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(key);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                evict(key);
+            }
+        });
+    }
+
+    /**
+     * Drops the near copy only; called when another node broadcasts an eviction.
+     */
+    public void evictLocal(String key) {
+        nearCache.invalidate(key);
+    }
+
+    private V readRemote(String key) {
+        try {
+            byte[] bytes = redisTemplate.opsForValue().get(redisKey(key));
+            return isValue(bytes) ? codec.decode(bytes) : null;
+        } catch (RuntimeException e) {
+            log.warn("Failed to read {} from cache {}: {}", key, name, e.getMessage());
+            return null;
+        }
+    }
+
+    private Map<String, V> readRemote(Set<? extends String> keys) {
+        List<String> orderedKeys = new ArrayList<>(keys);
+        try {
+            List<byte[]> values = redisTemplate.opsForValue()
+                .multiGet(orderedKeys.stream().map(this::redisKey).toList());
+            if (values == null) {
+                return Map.of();
+            }
+
+            Map<String, V> found = new HashMap<>();
+            for (int i = 0; i < orderedKeys.size(); i++) {
+                byte[] bytes = values.get(i);
+                if (isValue(bytes)) {
+                    found.put(orderedKeys.get(i), codec.decode(bytes));
+                }
+            }
+            return found;
+        } catch (RuntimeException e) {
+            log.warn("Failed to read {} keys from cache {}: {}", orderedKeys.size(), name, e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private void writeRemote(Map<String, V> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        try {
+            Expiration expiration = Expiration.from(remoteTtl);
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                entries.forEach((key, value) -> connection.stringCommands().set(
+                    redisKey(key).getBytes(StandardCharsets.UTF_8),
+                    codec.encode(value),
+                    expiration,
+                    SetOption.ifAbsent()));
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("Failed to write {} keys to cache {}: {}", entries.size(), name, e.getMessage());
+        }
+    }
+
+    private static boolean isValue(byte[] bytes) {
+        return bytes != null && bytes.length > 0;
+    }
+
+    private String redisKey(String key) {
+        return KEY_PREFIX + name + ":" + key;
+    }
+}
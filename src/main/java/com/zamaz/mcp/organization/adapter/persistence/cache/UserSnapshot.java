@@ -0,0 +1,51 @@
+package com.zamaz.mcp.organization.adapter.persistence.cache;
+
+import com.zamaz.mcp.organization.domain.common.Email;
+import com.zamaz.mcp.organization.domain.common.Name;
+import com.zamaz.mcp.organization.domain.model.User;
+import com.zamaz.mcp.organization.domain.model.UserId;
+import com.zamaz.mcp.organization.domain.model.UserStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Immutable cache representation of a user.
+ */
+public record UserSnapshot(
+    UUID id,
+    String email,
+    String firstName,
+    String lastName,
+    String status,
+    boolean emailVerified,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {
+
+    public static UserSnapshot from(User user) {
+        return new UserSnapshot(
+            user.getId().value(),
+            user.getEmail().value(),
+            user.getFirstName().value(),
+            user.getLastName().value(),
+            user.getStatus().name(),
+            user.isEmailVerified(),
+            user.getCreatedAt(),
+            user.getUpdatedAt()
+        );
+    }
+
+    public User toDomain() {
+        return new User(
+            new UserId(id),
+            Email.from(email),
+            Name.from(firstName),
+            Name.from(lastName),
+            UserStatus.valueOf(status),
+            emailVerified,
+            createdAt,
+            updatedAt
+        );
+    }
+}
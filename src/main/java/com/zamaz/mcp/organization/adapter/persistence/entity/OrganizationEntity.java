@@ -1,6 +1,7 @@
 package com.zamaz.mcp.organization.adapter.persistence.entity;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.zamaz.mcp.organization.domain.model.OrganizationName;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.JdbcTypeCode;
@@ -31,6 +32,10 @@ public class OrganizationEntity {
     @Column(nullable = false, unique = true)
     private String name;
     
+    @Column(name = "normalized_name", nullable = false, unique = true)
+    @Setter(AccessLevel.NONE)
+    private String normalizedName;
+    
     @Column(columnDefinition = "TEXT")
     private String description;
     
@@ -60,11 +65,13 @@ public class OrganizationEntity {
         if (updatedAt == null) {
             updatedAt = LocalDateTime.now();
         }
+        normalizedName = OrganizationName.normalize(name);
     }
     
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        normalizedName = OrganizationName.normalize(name);
     }
     
     /**
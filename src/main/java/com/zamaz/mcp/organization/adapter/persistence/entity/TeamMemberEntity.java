@@ -0,0 +1,94 @@
+package com.zamaz.mcp.organization.adapter.persistence.entity;
+
+import com.zamaz.mcp.organization.domain.model.TeamRole;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * JPA entity for team membership.
+ * The user is kept as a plain ID: team reads never need the user row, and the
+ * foreign key is enforced by the database.
+ * The role is bound as the Postgres {@code team_role} enum type.
+ */
+@Entity
+@Table(name = "team_members")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(TeamMemberEntity.TeamMemberId.class)
+public class TeamMemberEntity {
+    
+    @Id
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "team_id", nullable = false)
+    private TeamEntity team;
+    
+    @Id
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+    
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.NAMED_ENUM)
+    @Column(nullable = false)
+    @Builder.Default
+    private TeamRole role = TeamRole.MEMBER;
+    
+    @Column(name = "is_active", nullable = false)
+    @Builder.Default
+    private Boolean active = true;
+    
+    @Column(name = "joined_at", nullable = false, updatable = false)
+    private LocalDateTime joinedAt;
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        if (joinedAt == null) {
+            joinedAt = LocalDateTime.now();
+        }
+        if (updatedAt == null) {
+            updatedAt = LocalDateTime.now();
+        }
+    }
+    
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TeamMemberEntity that = (TeamMemberEntity) o;
+        return Objects.equals(team.getId(), that.team.getId()) &&
+               Objects.equals(userId, that.userId);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(team != null ? team.getId() : null, userId);
+    }
+    
+    /**
+     * Composite primary key for TeamMember entity.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TeamMemberId implements Serializable {
+        private UUID team;
+        private UUID userId;
+    }
+}
@@ -0,0 +1,132 @@
+package com.zamaz.mcp.organization.adapter.persistence.invalidation;
+
+import com.zamaz.mcp.organization.adapter.persistence.membership.MembershipIndex;
+import com.zamaz.mcp.organization.adapter.persistence.search.MemberNameIndex;
+import com.zamaz.mcp.organization.adapter.persistence.visibility.UserAccessIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Drops entries from the per-node in-memory indexes, on this node and on every other
+ * node: organizations from the membership index and the member name index, and users
+ * from the user access index.
+ *
+ * <p>Invalidations are broadcast on their own Redis channel, independent of the
+ * organization cache, unless {@code app.index-invalidation.broadcast} is false for
+ * single-node deployments. A message is an organization id, {@code user:} and a user
+ * id, or {@link #ALL_USERS}. Invalidations requested inside a transaction are collected
+ * and applied once, after it completes, so a bulk change of thousands of members
+ * publishes one message per organization or user. If Redis is unavailable, other nodes
+ * pick the change up when their entries expire.
+ */
+@Slf4j
+@Component
+public class OrganizationIndexInvalidator {
+
+    public static final String CHANNEL = "mcp:org:index:invalidate";
+
+    static final String USER_PREFIX = "user:";
+    static final String ALL_USERS = "users:all";
+
+    private final MembershipIndex membershipIndex;
+    private final MemberNameIndex memberNameIndex;
+    private final UserAccessIndex userAccessIndex;
+    private final ObjectProvider<StringRedisTemplate> redisTemplate;
+    private final boolean broadcast;
+
+    public OrganizationIndexInvalidator(MembershipIndex membershipIndex,
+                                        MemberNameIndex memberNameIndex,
+                                        UserAccessIndex userAccessIndex,
+                                        ObjectProvider<StringRedisTemplate> redisTemplate,
+                                        @Value("${app.index-invalidation.broadcast:true}") boolean broadcast) {
+        this.membershipIndex = membershipIndex;
+        this.memberNameIndex = memberNameIndex;
+        this.userAccessIndex = userAccessIndex;
+        this.redisTemplate = redisTemplate;
+        this.broadcast = broadcast;
+    }
+
+    /**
+     * Invalidates the organization on every node once the surrounding transaction
+     * completes, or immediately when no transaction is active.
+     */
+    public void invalidateAfterCommit(UUID organizationId) {
+        invalidateAfterCommit(organizationId.toString());
+    }
+
+    /**
+     * Invalidates the user's access set on every node once the surrounding transaction
+     * completes, or immediately when no transaction is active.
+     */
+    public void invalidateUserAfterCommit(UUID userId) {
+        invalidateAfterCommit(USER_PREFIX + userId);
+    }
+
+    /**
+     * Invalidates every access set on every node, for changes that affect an unknown set
+     * of users, once the surrounding transaction completes.
+     */
+    public void invalidateAllUsersAfterCommit() {
+        invalidateAfterCommit(ALL_USERS);
+    }
+
+    /**
+     * Applies an invalidation message to this node's indexes only; called when another
+     * node broadcasts one.
+     */
+    public void evictLocal(String message) {
+        if (ALL_USERS.equals(message)) {
+            userAccessIndex.evictAll();
+        } else if (message.startsWith(USER_PREFIX)) {
+            userAccessIndex.evictUser(UUID.fromString(message.substring(USER_PREFIX.length())));
+        } else {
+            UUID organizationId = UUID.fromString(message);
+            membershipIndex.evictOrganization(organizationId);
+            memberNameIndex.evictOrganization(organizationId);
+        }
+    }
+
+    private void invalidateAfterCommit(String message) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(Set.of(message));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        var pending = (Set<String>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<String> transactionPending = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, transactionPending);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(OrganizationIndexInvalidator.this);
+                    invalidate(transactionPending);
+                }
+            });
+            pending = transactionPending;
+        }
+        pending.add(message);
+    }
+
+    private void invalidate(Set<String> messages) {
+        messages.forEach(this::evictLocal);
+        if (!broadcast) {
+            return;
+        }
+        try {
+            StringRedisTemplate template = redisTemplate.getObject();
+            messages.forEach(message -> template.convertAndSend(CHANNEL, message));
+        } catch (RuntimeException e) {
+            log.warn("Failed to broadcast {} index invalidations: {}", messages.size(), e.getMessage());
+        }
+    }
+}
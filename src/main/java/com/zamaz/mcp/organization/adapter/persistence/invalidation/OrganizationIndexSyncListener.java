@@ -0,0 +1,50 @@
+package com.zamaz.mcp.organization.adapter.persistence.invalidation;
+
+import com.zamaz.mcp.organization.domain.event.OrganizationStatusChangedEvent;
+import com.zamaz.mcp.organization.domain.event.UserAddedToOrganizationEvent;
+import com.zamaz.mcp.organization.domain.event.UserRemovedFromOrganizationEvent;
+import com.zamaz.mcp.organization.domain.event.UserRoleChangedInOrganizationEvent;
+import com.zamaz.mcp.organization.domain.event.common.AbstractDomainEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+
+/**
+ * Keeps the membership and member name indexes in sync with member-change and
+ * organization status events. Listeners run before commit only to collect the
+ * organizations; {@link OrganizationIndexInvalidator} evicts them once per transaction
+ * after it completes.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrganizationIndexSyncListener {
+
+    private final OrganizationIndexInvalidator invalidator;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onUserAdded(UserAddedToOrganizationEvent event) {
+        invalidate(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onUserRemoved(UserRemovedFromOrganizationEvent event) {
+        invalidate(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onUserRoleChanged(UserRoleChangedInOrganizationEvent event) {
+        invalidate(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onOrganizationStatusChanged(OrganizationStatusChangedEvent event) {
+        invalidate(event);
+    }
+
+    private void invalidate(AbstractDomainEvent event) {
+        invalidator.invalidateAfterCommit(UUID.fromString(event.getAggregateId()));
+    }
+}
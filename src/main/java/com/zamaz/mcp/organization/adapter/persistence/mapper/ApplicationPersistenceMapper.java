@@ -0,0 +1,105 @@
+package com.zamaz.mcp.organization.adapter.persistence.mapper;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.zamaz.mcp.organization.infrastructure.architecture.DomainMapper;
+import com.zamaz.mcp.organization.infrastructure.architecture.PersistenceAdapter;
+import com.zamaz.mcp.organization.adapter.persistence.entity.ApplicationEntity;
+import com.zamaz.mcp.organization.domain.common.ApplicationId;
+import com.zamaz.mcp.organization.domain.common.TeamId;
+import com.zamaz.mcp.organization.domain.model.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Mapper for converting between Application aggregates and persistence entities.
+ * Team limits have their own columns; the remaining settings are kept in the
+ * settings JSON, where absent keys fall back to the defaults.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApplicationPersistenceMapper implements DomainMapper<Application, ApplicationEntity>, PersistenceAdapter {
+    
+    private static final String ALLOW_PUBLIC_DEBATES = "allowPublicDebates";
+    private static final String REQUIRE_TEAM_APPROVAL = "requireTeamApproval";
+    private static final String ENABLE_NOTIFICATIONS = "enableNotifications";
+    
+    private final ObjectMapper objectMapper;
+    
+    @Override
+    public Application toDomain(ApplicationEntity entity) {
+        return toDomain(entity, Set.of());
+    }
+    
+    /**
+     * Maps an application with the IDs of the teams that belong to it.
+     */
+    public Application toDomain(ApplicationEntity entity, Set<TeamId> teams) {
+        if (entity == null) {
+            return null;
+        }
+        
+        var defaults = ApplicationSettings.defaultSettings();
+        JsonNode settings = entity.getSettings();
+        var applicationSettings = new ApplicationSettings(
+            entity.getMaxTeams(),
+            entity.getMaxMembersPerTeam(),
+            flag(settings, ALLOW_PUBLIC_DEBATES, defaults.isAllowPublicDebates()),
+            flag(settings, REQUIRE_TEAM_APPROVAL, defaults.isRequireTeamApproval()),
+            flag(settings, ENABLE_NOTIFICATIONS, defaults.isEnableNotifications())
+        );
+        
+        return new Application(
+            new ApplicationId(entity.getId().toString()),
+            ApplicationName.of(entity.getName()),
+            ApplicationDescription.of(entity.getDescription()),
+            new OrganizationId(entity.getOrganizationId()),
+            applicationSettings,
+            entity.getActive(),
+            teams,
+            entity.getCreatedAt(),
+            entity.getUpdatedAt()
+        );
+    }
+    
+    @Override
+    public ApplicationEntity toEntity(Application domain) {
+        if (domain == null) {
+            return null;
+        }
+        
+        ApplicationSettings settings = domain.getSettings();
+        ObjectNode settingsJson = objectMapper.createObjectNode()
+            .put(ALLOW_PUBLIC_DEBATES, settings.isAllowPublicDebates())
+            .put(REQUIRE_TEAM_APPROVAL, settings.isRequireTeamApproval())
+            .put(ENABLE_NOTIFICATIONS, settings.isEnableNotifications());
+        
+        return ApplicationEntity.builder()
+            .id(uuid(domain.getId()))
+            .name(domain.getName().value())
+            .description(domain.getDescription().value())
+            .organizationId(domain.getOrganizationId().value())
+            .settings(settingsJson)
+            .maxTeams(settings.getMaxTeams())
+            .maxMembersPerTeam(settings.getMaxMembersPerTeam())
+            .active(domain.isActive())
+            .createdAt(domain.getCreatedAt())
+            .updatedAt(domain.getUpdatedAt())
+            .build();
+    }
+    
+    public static UUID uuid(ApplicationId applicationId) {
+        return UUID.fromString(applicationId.getValue());
+    }
+    
+    private static boolean flag(JsonNode settings, String name, boolean defaultValue) {
+        if (settings == null || !settings.hasNonNull(name)) {
+            return defaultValue;
+        }
+        return settings.get(name).asBoolean(defaultValue);
+    }
+}
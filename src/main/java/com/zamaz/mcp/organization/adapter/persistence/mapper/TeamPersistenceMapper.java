@@ -0,0 +1,92 @@
+package com.zamaz.mcp.organization.adapter.persistence.mapper;
+
+import com.zamaz.mcp.organization.infrastructure.architecture.DomainMapper;
+import com.zamaz.mcp.organization.infrastructure.architecture.PersistenceAdapter;
+import com.zamaz.mcp.organization.adapter.persistence.entity.TeamEntity;
+import com.zamaz.mcp.organization.adapter.persistence.entity.TeamMemberEntity;
+import com.zamaz.mcp.organization.domain.common.ApplicationId;
+import com.zamaz.mcp.organization.domain.common.TeamId;
+import com.zamaz.mcp.organization.domain.model.*;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Mapper for converting between Team aggregates and persistence entities.
+ * This is part of the persistence adapter layer.
+ */
+@Component
+public class TeamPersistenceMapper implements DomainMapper<Team, TeamEntity>, PersistenceAdapter {
+    
+    @Override
+    public Team toDomain(TeamEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+        
+        Map<UserId, TeamMember> members = new HashMap<>(entity.getMembers().size() * 2);
+        for (TeamMemberEntity member : entity.getMembers()) {
+            var userId = new UserId(member.getUserId());
+            members.put(userId, new TeamMember(
+                userId,
+                member.getRole(),
+                member.getJoinedAt(),
+                member.getActive(),
+                member.getJoinedAt(),
+                member.getUpdatedAt()
+            ));
+        }
+        
+        return new Team(
+            new TeamId(entity.getId().toString()),
+            TeamName.of(entity.getName()),
+            TeamDescription.of(entity.getDescription()),
+            new OrganizationId(entity.getOrganizationId()),
+            entity.getApplicationId() != null ? new ApplicationId(entity.getApplicationId().toString()) : null,
+            entity.getActive(),
+            entity.getMaxMembers(),
+            members,
+            entity.getCreatedAt(),
+            entity.getUpdatedAt()
+        );
+    }
+    
+    @Override
+    public TeamEntity toEntity(Team domain) {
+        if (domain == null) {
+            return null;
+        }
+        
+        // Members are synced separately by the repository, against the loaded rows
+        return TeamEntity.builder()
+            .id(uuid(domain.getId()))
+            .name(domain.getName().value())
+            .description(domain.getDescription().value())
+            .organizationId(domain.getOrganizationId().value())
+            .applicationId(domain.getApplicationId().map(ApplicationPersistenceMapper::uuid).orElse(null))
+            .maxMembers(domain.getMaxMembers().orElse(null))
+            .active(domain.isActive())
+            .createdAt(domain.getCreatedAt())
+            .updatedAt(domain.getUpdatedAt())
+            .build();
+    }
+    
+    /**
+     * Maps a team member from domain to entity.
+     */
+    public TeamMemberEntity toEntityMember(TeamEntity team, TeamMember member) {
+        return TeamMemberEntity.builder()
+            .team(team)
+            .userId(member.getUserId().value())
+            .role(member.getRole())
+            .active(member.isActive())
+            .joinedAt(member.getJoinedAt())
+            .build();
+    }
+    
+    public static UUID uuid(TeamId teamId) {
+        return UUID.fromString(teamId.getValue());
+    }
+}
@@ -0,0 +1,138 @@
+package com.zamaz.mcp.organization.adapter.persistence.membership;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zamaz.mcp.common.architecture.exception.PersistenceException;
+import com.zamaz.mcp.organization.adapter.persistence.repository.SpringDataOrganizationRepository;
+import com.zamaz.mcp.organization.domain.model.PermissionMatrix;
+import com.zamaz.mcp.organization.domain.model.Role;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-memory (organization, user) to role index for authorization checks.
+ *
+ * <p>Entries are grouped per organization so a membership change drops a single map.
+ * A miss is resolved with one single-row query on the organization_users composite index
+ * and the result, including non-membership, is remembered. Lookups on a warm index
+ * perform two hash probes and allocate nothing.
+ *
+ * <p>Sync is by invalidation through the {@code OrganizationIndexInvalidator}: member-change
+ * and status events, and legacy writes, drop the organization's entries on every node
+ * after commit. A lookup racing an invalidation writes
+ * into the detached map it started with, so it can never resurrect a stale role.
+ */
+@Component
+public class MembershipIndex {
+
+    private final SpringDataOrganizationRepository organizationRepository;
+    private final Cache<UUID, ConcurrentMap<UUID, Membership>> byOrganization;
+    private final int maxEntriesPerOrganization;
+
+    public MembershipIndex(SpringDataOrganizationRepository organizationRepository,
+                           @Value("${app.membership-index.maximum-organizations:10000}") long maximumOrganizations,
+                           @Value("${app.membership-index.maximum-entries-per-organization:10000}") int maxEntriesPerOrganization,
+                           @Value("${app.membership-index.ttl:10m}") Duration ttl) {
+        this.organizationRepository = organizationRepository;
+        this.maxEntriesPerOrganization = maxEntriesPerOrganization;
+        this.byOrganization = Caffeine.newBuilder()
+            .maximumSize(maximumOrganizations)
+            .expireAfterWrite(ttl)
+            .build();
+    }
+
+    /**
+     * Returns the user's role in the organization, regardless of the organization's status.
+     */
+    public Optional<Role> findRole(UUID userId, UUID organizationId) {
+        return lookup(userId, organizationId).role();
+    }
+
+    /**
+     * Checks whether the user holds at least the given role in the organization.
+     * Answered from the cached capability mask: each role's capabilities include those
+     * of every lower role, and non-members have none.
+     */
+    public boolean hasRole(UUID userId, UUID organizationId, Role minimumRole) {
+        return PermissionMatrix.hasAll(findCapabilities(userId, organizationId), PermissionMatrix.of(minimumRole));
+    }
+
+    /**
+     * Returns the {@link PermissionMatrix} capabilities of the user's organization role,
+     * or 0 for non-members. The mask is computed once per cached membership.
+     */
+    public long findCapabilities(UUID userId, UUID organizationId) {
+        return lookup(userId, organizationId).capabilities();
+    }
+
+    /**
+     * Checks whether the user is a member of an active organization.
+     */
+    public boolean isActiveMember(UUID userId, UUID organizationId) {
+        Membership membership = lookup(userId, organizationId);
+        return membership.isMember() && membership.organizationActive();
+    }
+
+    /**
+     * Drops every indexed membership of the organization.
+     */
+    public void evictOrganization(UUID organizationId) {
+        byOrganization.invalidate(organizationId);
+    }
+
+    private Membership lookup(UUID userId, UUID organizationId) {
+        ConcurrentMap<UUID, Membership> memberships = byOrganization.get(organizationId, id -> new ConcurrentHashMap<>());
+        Membership membership = memberships.get(userId);
+        if (membership != null) {
+            return membership;
+        }
+
+        membership = load(userId, organizationId);
+        if (membership.isMember() || memberships.size() < maxEntriesPerOrganization) {
+            memberships.putIfAbsent(userId, membership);
+        }
+        return membership;
+    }
+
+    private Membership load(UUID userId, UUID organizationId) {
+        try {
+            return organizationRepository.findMembership(userId, organizationId)
+                .map(row -> Membership.of(Role.fromString(row.getRole()), Boolean.TRUE.equals(row.getOrganizationActive())))
+                .orElse(Membership.NONE);
+        } catch (Exception e) {
+            throw new PersistenceException("Failed to load organization membership", e);
+        }
+    }
+
+    /**
+     * Interned membership value; one instance exists per role and status combination.
+     */
+    private record Membership(Optional<Role> role, boolean organizationActive, long capabilities) {
+
+        static final Membership NONE = new Membership(Optional.empty(), false, 0);
+
+        private static final Membership[] VALUES = new Membership[Role.values().length * 2];
+
+        static {
+            for (Role role : Role.values()) {
+                long capabilities = PermissionMatrix.of(role);
+                VALUES[role.ordinal() * 2] = new Membership(Optional.of(role), false, capabilities);
+                VALUES[role.ordinal() * 2 + 1] = new Membership(Optional.of(role), true, capabilities);
+            }
+        }
+
+        static Membership of(Role role, boolean organizationActive) {
+            return VALUES[role.ordinal() * 2 + (organizationActive ? 1 : 0)];
+        }
+
+        boolean isMember() {
+            return role.isPresent();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.zamaz.mcp.organization.adapter.persistence.name;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import com.zamaz.mcp.common.architecture.exception.PersistenceException;
+import com.zamaz.mcp.organization.adapter.persistence.repository.SpringDataOrganizationRepository;
+import com.zamaz.mcp.organization.domain.model.OrganizationName;
+import com.zamaz.mcp.organization.infrastructure.logging.DomainLogger;
+import com.zamaz.mcp.organization.infrastructure.logging.DomainLoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * In-memory Bloom filter of the normalized organization names in use, for availability
+ * checks that run on every keystroke of the signup form.
+ *
+ * <p>A name the filter has never seen is available without a database trip; a possible
+ * hit is confirmed on idx_organizations_normalized_name. The filter is rebuilt from the
+ * table at startup and every {@code app.organization-names.rebuild-interval}, and names
+ * created or renamed on this node are added as they are written. Names taken on other
+ * nodes, or committed while a rebuild scans the table, can be reported available until
+ * the next rebuild, and released names keep costing a query until then. Writes are
+ * unaffected: the unique index decides them.
+ */
+@Component
+public class OrganizationNameIndex {
+
+    private static final String SELECT_NAMES = "SELECT normalized_name FROM organizations";
+    private static final String COUNT_NAMES = "SELECT COUNT(*) FROM organizations";
+
+    private final SpringDataOrganizationRepository organizationRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final DomainLogger logger;
+    private final long expectedNames;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter<CharSequence> names;
+    private volatile BloomFilter<CharSequence> rebuilding;
+
+    public OrganizationNameIndex(SpringDataOrganizationRepository organizationRepository,
+                                 JdbcTemplate jdbcTemplate,
+                                 DomainLoggerFactory loggerFactory,
+                                 @Value("${app.organization-names.expected-names:1000000}") long expectedNames,
+                                 @Value("${app.organization-names.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.organizationRepository = organizationRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.logger = loggerFactory.getLogger(OrganizationNameIndex.class);
+        this.expectedNames = expectedNames;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * Checks if an organization already uses the name, ignoring case and whitespace.
+     */
+    public boolean isTaken(String name) {
+        return !findTaken(List.of(name)).isEmpty();
+    }
+
+    /**
+     * Finds which of the names are taken, with at most one query for all the names the
+     * filter cannot rule out.
+     *
+     * @return the normalized forms of the taken names
+     */
+    public Set<String> findTaken(Collection<String> candidates) {
+        BloomFilter<CharSequence> filter = names;
+        List<String> possiblyTaken = new ArrayList<>(candidates.size());
+        for (String candidate : candidates) {
+            String normalized = OrganizationName.normalize(candidate);
+            if (filter == null || filter.mightContain(normalized)) {
+                possiblyTaken.add(normalized);
+            }
+        }
+        if (possiblyTaken.isEmpty()) {
+            return Set.of();
+        }
+
+        try {
+            return new HashSet<>(organizationRepository.findTakenNormalizedNames(possiblyTaken));
+        } catch (Exception e) {
+            throw new PersistenceException("Failed to check organization names", e);
+        }
+    }
+
+    /**
+     * Records a name as taken. Safe to call before the write commits: a name that ends up
+     * unused only costs a query per check until the next rebuild.
+     */
+    public void add(String name) {
+        String normalized = OrganizationName.normalize(name);
+        BloomFilter<CharSequence> filter = names;
+        if (filter != null) {
+            filter.put(normalized);
+        }
+        BloomFilter<CharSequence> next = rebuilding;
+        if (next != null) {
+            next.put(normalized);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        rebuild();
+    }
+
+    /**
+     * Rebuilds the filter from the table, streaming the names, and swaps it in. Until the
+     * first build completes every check goes to the database.
+     */
+    @Scheduled(initialDelayString = "${app.organization-names.rebuild-interval:600000}",
+               fixedDelayString = "${app.organization-names.rebuild-interval:600000}")
+    public synchronized void rebuild() {
+        try {
+            Long count = jdbcTemplate.queryForObject(COUNT_NAMES, Long.class);
+            long capacity = Math.max(expectedNames, count == null ? 0 : count * 2);
+            BloomFilter<CharSequence> filter = BloomFilter.create(
+                Funnels.stringFunnel(StandardCharsets.UTF_8), capacity, falsePositiveRate);
+
+            rebuilding = filter;
+            jdbcTemplate.query(SELECT_NAMES, (RowCallbackHandler) row -> filter.put(row.getString(1)));
+            names = filter;
+            logger.debug("Organization name index rebuilt", "names", count, "capacity", capacity);
+        } catch (RuntimeException e) {
+            logger.error("Failed to rebuild organization name index", e);
+        } finally {
+            rebuilding = null;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.zamaz.mcp.organization.adapter.persistence.name;
+
+import com.zamaz.mcp.organization.domain.event.OrganizationCreatedEvent;
+import com.zamaz.mcp.organization.domain.event.OrganizationUpdatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Adds names written through the domain model to the organization name index.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrganizationNameIndexSyncListener {
+
+    private final OrganizationNameIndex organizationNameIndex;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrganizationCreated(OrganizationCreatedEvent event) {
+        organizationNameIndex.add(event.getName());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrganizationUpdated(OrganizationUpdatedEvent event) {
+        if (event.getName() != null) {
+            organizationNameIndex.add(event.getName());
+        }
+    }
+}
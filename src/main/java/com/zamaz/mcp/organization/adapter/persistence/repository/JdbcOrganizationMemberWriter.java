@@ -0,0 +1,242 @@
+package com.zamaz.mcp.organization.adapter.persistence.repository;
+
+import com.zamaz.mcp.organization.domain.model.OrganizationMember;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes organization_users rows with JDBC batch statements.
+ * Used for bulk membership changes, where loading and diffing the whole member
+ * collection through JPA would cost far more than the change itself.
+ * Callers must evict any cached view of the organization.
+ *
+ * <p>Inserts of at least {@code app.persistence.membership.copy-threshold} rows, such as
+ * initial loads, are streamed with Postgres {@code COPY} in a single round trip; other
+ * databases, and smaller inserts, use batches. Callers only pass rows that do not exist
+ * yet, so COPY's lack of conflict handling is not a concern. Round trips are counted per transaction and recorded in
+ * {@code mcp.organization_users.statements_per_transaction} when it completes.
+ */
+@Component
+public class JdbcOrganizationMemberWriter {
+
+    static final int BATCH_SIZE = 1000;
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private static final String INSERT_MEMBER =
+        "INSERT INTO organization_users (organization_id, user_id, role, joined_at) VALUES (?, ?, ?, ?)";
+
+    private static final String DELETE_MEMBER =
+        "DELETE FROM organization_users WHERE organization_id = ? AND user_id = ?";
+
+    private static final String COPY_MEMBERS =
+        "COPY organization_users (organization_id, user_id, role, joined_at) FROM STDIN (FORMAT csv)";
+
+    private static final DateTimeFormatter COPY_TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSS");
+
+    private static final String TOUCH_ORGANIZATION =
+        "UPDATE organizations SET updated_at = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int copyThreshold;
+    private final DistributionSummary statementsPerTransaction;
+    private final Counter batchedRows;
+    private final Counter copiedRows;
+
+    public JdbcOrganizationMemberWriter(JdbcTemplate jdbcTemplate,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${app.persistence.membership.copy-threshold:5000}") int copyThreshold) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.copyThreshold = copyThreshold;
+        this.statementsPerTransaction = DistributionSummary.builder("mcp.organization_users.statements_per_transaction")
+            .description("Round trips to the database for membership writes, per transaction")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        this.batchedRows = rowCounter(meterRegistry, "batch");
+        this.copiedRows = rowCounter(meterRegistry, "copy");
+    }
+
+    /**
+     * Inserts the members in batches of {@value #BATCH_SIZE}, or with {@code COPY} above
+     * the copy threshold.
+     */
+    public void insertMembers(UUID organizationId, Collection<OrganizationMember> members) {
+        writeInserts(organizationId, members);
+        touchOrganization(organizationId);
+    }
+
+    /**
+     * Deletes the memberships in batches of {@value #BATCH_SIZE}.
+     */
+    public void deleteMembers(UUID organizationId, Collection<UUID> userIds) {
+        writeDeletes(organizationId, userIds);
+        touchOrganization(organizationId);
+    }
+
+    private void writeInserts(UUID organizationId, Collection<OrganizationMember> members) {
+        if (members.isEmpty()) {
+            return;
+        }
+        if (copyThreshold > 0 && members.size() >= copyThreshold && copy(organizationId, members)) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_MEMBER, members, BATCH_SIZE, (ps, member) -> {
+            ps.setObject(1, organizationId);
+            ps.setObject(2, member.getUserId().value());
+            ps.setString(3, member.getRole().name());
+            ps.setTimestamp(4, Timestamp.valueOf(member.getJoinedAt()));
+        });
+        recordBatches(members.size());
+    }
+
+    private void writeDeletes(UUID organizationId, Collection<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(DELETE_MEMBER, userIds, BATCH_SIZE, (ps, userId) -> {
+            ps.setObject(1, organizationId);
+            ps.setObject(2, userId);
+        });
+        recordBatches(userIds.size());
+    }
+
+    /**
+     * Streams the rows as CSV into {@code COPY} on the transaction's connection.
+     *
+     * @return false, without writing, if the connection is not a Postgres connection
+     */
+    private boolean copy(UUID organizationId, Collection<OrganizationMember> members) {
+        Boolean copied = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            if (!connection.isWrapperFor(PGConnection.class)) {
+                return false;
+            }
+            CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_MEMBERS);
+            try {
+                String organization = organizationId.toString();
+                StringBuilder buffer = new StringBuilder(COPY_BUFFER_SIZE + 128);
+                for (OrganizationMember member : members) {
+                    appendCopyRow(buffer, organization, member);
+                    if (buffer.length() >= COPY_BUFFER_SIZE) {
+                        writeToCopy(copyIn, buffer);
+                    }
+                }
+                writeToCopy(copyIn, buffer);
+                copyIn.endCopy();
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+            return true;
+        });
+        if (Boolean.TRUE.equals(copied)) {
+            copiedRows.increment(members.size());
+            recordStatements(1);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Appends the member as one CSV line in the column order of the {@code COPY} statement.
+     * The join time is written with microsecond precision, the precision of the column.
+     */
+    static void appendCopyRow(StringBuilder buffer, String organizationId, OrganizationMember member) {
+        appendCsvField(buffer, organizationId).append(',');
+        appendCsvField(buffer, member.getUserId().value().toString()).append(',');
+        appendCsvField(buffer, member.getRole().name()).append(',');
+        appendCsvField(buffer, COPY_TIMESTAMP.format(member.getJoinedAt())).append('\n');
+    }
+
+    /**
+     * Appends a CSV field as {@code COPY} reads it: null as an empty field, which is NULL;
+     * empty strings and values with a comma, quote or line break quoted, quotes doubled.
+     */
+    static StringBuilder appendCsvField(StringBuilder buffer, String value) {
+        if (value == null) {
+            return buffer;
+        }
+        if (!value.isEmpty() && value.chars().noneMatch(JdbcOrganizationMemberWriter::needsQuoting)) {
+            return buffer.append(value);
+        }
+        buffer.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                buffer.append('"');
+            }
+            buffer.append(c);
+        }
+        return buffer.append('"');
+    }
+
+    private static boolean needsQuoting(int c) {
+        return c == ',' || c == '"' || c == '\n' || c == '\r';
+    }
+
+    private static void writeToCopy(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    private void touchOrganization(UUID organizationId) {
+        jdbcTemplate.update(TOUCH_ORGANIZATION, Timestamp.valueOf(LocalDateTime.now()), organizationId);
+        recordStatements(1);
+    }
+
+    private void recordBatches(int rows) {
+        batchedRows.increment(rows);
+        recordStatements((rows + BATCH_SIZE - 1) / BATCH_SIZE);
+    }
+
+    /**
+     * Adds to the current transaction's round-trip count, recorded once it completes;
+     * outside a transaction the count is recorded right away.
+     */
+    private void recordStatements(int statements) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            statementsPerTransaction.record(statements);
+            return;
+        }
+        var count = (AtomicInteger) TransactionSynchronizationManager.getResource(this);
+        if (count == null) {
+            AtomicInteger transactionCount = new AtomicInteger();
+            TransactionSynchronizationManager.bindResource(this, transactionCount);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(JdbcOrganizationMemberWriter.this);
+                    statementsPerTransaction.record(transactionCount.get());
+                }
+            });
+            count = transactionCount;
+        }
+        count.addAndGet(statements);
+    }
+
+    private static Counter rowCounter(MeterRegistry meterRegistry, String mode) {
+        return Counter.builder("mcp.organization_users.rows_written")
+            .description("Membership rows written by the JDBC writer")
+            .tag("mode", mode)
+            .register(meterRegistry);
+    }
+}
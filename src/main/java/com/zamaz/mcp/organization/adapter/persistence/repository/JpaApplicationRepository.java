@@ -0,0 +1,120 @@
+package com.zamaz.mcp.organization.adapter.persistence.repository;
+
+import com.zamaz.mcp.organization.infrastructure.architecture.PersistenceAdapter;
+import com.zamaz.mcp.organization.infrastructure.resilience.McpDependency;
+import com.zamaz.mcp.common.architecture.exception.PersistenceException;
+import com.zamaz.mcp.organization.adapter.persistence.entity.ApplicationEntity;
+import com.zamaz.mcp.organization.adapter.persistence.mapper.ApplicationPersistenceMapper;
+import com.zamaz.mcp.organization.application.port.outbound.ApplicationRepository;
+import com.zamaz.mcp.organization.domain.common.ApplicationId;
+import com.zamaz.mcp.organization.domain.common.TeamId;
+import com.zamaz.mcp.organization.domain.model.Application;
+import com.zamaz.mcp.organization.domain.model.ApplicationName;
+import com.zamaz.mcp.organization.domain.model.OrganizationId;
+import com.google.common.collect.Lists;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * JPA implementation of the ApplicationRepository port.
+ * Team IDs of every application in a result are resolved with one grouped query, so
+ * listings cost two queries regardless of how many applications they return.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@McpDependency("postgres")
+public class JpaApplicationRepository implements ApplicationRepository, PersistenceAdapter {
+    
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+    
+    private final SpringDataApplicationRepository jpaRepository;
+    private final SpringDataTeamRepository teamRepository;
+    private final ApplicationPersistenceMapper mapper;
+    
+    @Override
+    @Transactional
+    public Application save(Application application) {
+        try {
+            var saved = jpaRepository.save(mapper.toEntity(application));
+            return mapper.toDomain(saved, application.getTeams());
+        } catch (Exception e) {
+            throw new PersistenceException("Failed to save application", e);
+        }
+    }
+    
+    @Override
+    public Optional<Application> findById(ApplicationId id) {
+        try {
+            return jpaRepository.findById(ApplicationPersistenceMapper.uuid(id))
+                .map(entity -> toDomain(List.of(entity)).get(0));
+        } catch (Exception e) {
+            throw new PersistenceException("Failed to find application by ID", e);
+        }
+    }
+    
+    @Override
+    @Transactional
+    public void delete(Application application) {
+        try {
+            jpaRepository.deleteById(ApplicationPersistenceMapper.uuid(application.getId()));
+        } catch (Exception e) {
+            throw new PersistenceException("Failed to delete application", e);
+        }
+    }
+    
+    @Override
+    public List<Application> findAll() {
+        try {
+            return toDomain(jpaRepository.findAll());
+        } catch (Exception e) {
+            throw new PersistenceException("Failed to find all applications", e);
+        }
+    }
+    
+    @Override
+    public List<Application> findActiveByOrganizationId(OrganizationId organizationId) {
+        try {
+            return toDomain(jpaRepository.findByOrganizationIdAndActiveTrueOrderByName(organizationId.value()));
+        } catch (Exception e) {
+            throw new PersistenceException("Failed to find applications by organization", e);
+        }
+    }
+    
+    @Override
+    public boolean existsByName(OrganizationId organizationId, ApplicationName name) {
+        try {
+            return jpaRepository.existsByOrganizationIdAndName(organizationId.value(), name.value());
+        } catch (Exception e) {
+            throw new PersistenceException("Failed to check application existence by name", e);
+        }
+    }
+    
+    private List<Application> toDomain(List<ApplicationEntity> entities) {
+        if (entities.isEmpty()) {
+            return List.of();
+        }
+        
+        Map<UUID, Set<TeamId>> teamsByApplication = new HashMap<>();
+        List<UUID> applicationIds = entities.stream().map(ApplicationEntity::getId).toList();
+        // Chunked to keep the IN list within a sensible number of bind parameters
+        for (List<UUID> chunk : Lists.partition(applicationIds, IN_CLAUSE_CHUNK_SIZE)) {
+            teamRepository.findTeamIdsByApplicationIds(chunk).forEach(row -> teamsByApplication
+                .computeIfAbsent(row.getApplicationId(), id -> new HashSet<>())
+                .add(new TeamId(row.getTeamId().toString())));
+        }
+        
+        return entities.stream()
+            .map(entity -> mapper.toDomain(entity, teamsByApplication.getOrDefault(entity.getId(), Set.of())))
+            .toList();
+    }
+}
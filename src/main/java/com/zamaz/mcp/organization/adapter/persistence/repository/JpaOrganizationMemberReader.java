@@ -0,0 +1,51 @@
+package com.zamaz.mcp.organization.adapter.persistence.repository;
+
+import com.zamaz.mcp.common.architecture.exception.PersistenceException;
+import com.zamaz.mcp.organization.application.port.outbound.OrganizationMemberReader;
+import com.zamaz.mcp.organization.application.query.OrganizationView;
+import com.zamaz.mcp.organization.domain.model.OrganizationId;
+import com.zamaz.mcp.organization.infrastructure.architecture.PersistenceAdapter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * JPA implementation of the OrganizationMemberReader port.
+ * Streams scalar member rows from a database cursor; memory use is independent of organization size.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class JpaOrganizationMemberReader implements OrganizationMemberReader, PersistenceAdapter {
+    
+    private final SpringDataOrganizationRepository jpaRepository;
+    
+    @Override
+    public long forEachMember(OrganizationId organizationId, Consumer<OrganizationView.MemberView> consumer) {
+        try (var rows = jpaRepository.streamMembers(organizationId.value())) {
+            long count = 0;
+            var iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                var row = iterator.next();
+                consumer.accept(new OrganizationView.MemberView(
+                    row.getUserId(),
+                    row.getEmail(),
+                    row.getFirstName(),
+                    row.getLastName(),
+                    row.getRole(),
+                    row.getJoinedAt()
+                ));
+                count++;
+            }
+            return count;
+        } catch (UncheckedIOException e) {
+            // Failure writing to the consumer (e.g. client disconnected), not a persistence error
+            throw e;
+        } catch (Exception e) {
+            throw new PersistenceException("Failed to stream organization members", e);
+        }
+    }
+}
@@ -1,18 +1,28 @@
 package com.zamaz.mcp.organization.adapter.persistence.repository;
 
 import com.zamaz.mcp.organization.infrastructure.architecture.PersistenceAdapter;
+import com.zamaz.mcp.organization.infrastructure.resilience.McpDependency;
 import com.zamaz.mcp.common.architecture.exception.PersistenceException;
+import com.zamaz.mcp.organization.adapter.persistence.entity.OrganizationEntity;
+import com.zamaz.mcp.organization.adapter.persistence.entity.OrganizationUserEntity;
 import com.zamaz.mcp.organization.adapter.persistence.mapper.OrganizationPersistenceMapper;
 import com.zamaz.mcp.organization.application.port.outbound.OrganizationRepository;
 import com.zamaz.mcp.organization.domain.model.Organization;
 import com.zamaz.mcp.organization.domain.model.OrganizationId;
+import com.zamaz.mcp.organization.domain.model.OrganizationMember;
 import com.zamaz.mcp.organization.domain.model.OrganizationName;
+import com.zamaz.mcp.organization.domain.model.Role;
 import com.zamaz.mcp.organization.domain.model.UserId;
+import com.google.common.collect.Lists;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -24,11 +34,15 @@ import java.util.stream.Collectors;
 @Component
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@McpDependency("postgres")
 public class JpaOrganizationRepository implements OrganizationRepository, PersistenceAdapter {
     
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+    
     private final SpringDataOrganizationRepository jpaRepository;
     private final SpringDataUserRepository userRepository;
     private final OrganizationPersistenceMapper mapper;
+    private final JdbcOrganizationMemberWriter memberWriter;
     
     @Override
     @Transactional
@@ -40,7 +54,7 @@ public class JpaOrganizationRepository implements OrganizationRepository, Persis
             // Handle members separately
             if (entity.getId() != null) {
                 // For updates, we need to sync members
-                var existingEntity = jpaRepository.findByIdWithMembers(entity.getId())
+                var existingEntity = jpaRepository.findByIdWithMemberships(entity.getId())
                     .orElse(entity);
                 
                 // Update entity fields
@@ -110,7 +124,7 @@ public class JpaOrganizationRepository implements OrganizationRepository, Persis
     @Override
     public boolean existsByName(OrganizationName name) {
         try {
-            return jpaRepository.existsByName(name.value());
+            return jpaRepository.existsByNormalizedName(name.normalized());
         } catch (Exception e) {
             throw new PersistenceException("Failed to check organization existence by name", e);
         }
@@ -147,24 +161,69 @@ public class JpaOrganizationRepository implements OrganizationRepository, Persis
         }
     }
     
+    @Override
+    public Map<UserId, Long> countMembershipsByUserIds(Collection<UserId> userIds) {
+        try {
+            Map<UserId, Long> counts = new HashMap<>();
+            // Chunked to keep the IN list within a sensible number of bind parameters
+            for (List<UUID> chunk : Lists.partition(userIds.stream().map(UserId::value).toList(), IN_CLAUSE_CHUNK_SIZE)) {
+                jpaRepository.countMembershipsByUserIds(chunk)
+                    .forEach(row -> counts.put(new UserId(row.getUserId()), row.getOrganizationCount()));
+            }
+            return counts;
+        } catch (Exception e) {
+            throw new PersistenceException("Failed to count memberships by users", e);
+        }
+    }
+    
+    @Override
+    @Transactional
+    public void addMembers(OrganizationId organizationId, Collection<OrganizationMember> members) {
+        try {
+            memberWriter.insertMembers(organizationId.value(), members);
+        } catch (Exception e) {
+            throw new PersistenceException("Failed to add organization members", e);
+        }
+    }
+    
+    @Override
+    @Transactional
+    public void removeMembers(OrganizationId organizationId, Collection<UserId> userIds) {
+        try {
+            memberWriter.deleteMembers(organizationId.value(), userIds.stream().map(UserId::value).toList());
+        } catch (Exception e) {
+            throw new PersistenceException("Failed to remove organization members", e);
+        }
+    }
+    
     /**
      * Syncs organization members between domain and entity.
+     * Only the differences are applied: removed members are orphaned, changed roles are
+     * updated in place and new members are attached through user references, so the cost
+     * of a save is proportional to the change rather than to the size of the organization.
      */
-    private void syncOrganizationMembers(
-            com.zamaz.mcp.organization.adapter.persistence.entity.OrganizationEntity entity,
-            Organization domain) {
+    private void syncOrganizationMembers(OrganizationEntity entity, Organization domain) {
         
-        // Clear existing members
-        entity.getOrganizationUsers().clear();
+        Map<UUID, OrganizationMember> desiredMembers = new HashMap<>();
+        domain.getMembers().forEach(member -> desiredMembers.put(member.getUserId().value(), member));
         
-        // Add members from domain
-        domain.getMembers().forEach(member -> {
-            var userEntity = userRepository.findById(member.getUserId().value())
-                .orElseThrow(() -> new PersistenceException(
-                    "User not found: " + member.getUserId()
-                ));
+        // Remove departed members and update changed roles
+        Iterator<OrganizationUserEntity> iterator = entity.getOrganizationUsers().iterator();
+        while (iterator.hasNext()) {
+            var organizationUser = iterator.next();
+            var member = desiredMembers.remove(organizationUser.getUser().getId());
             
-            var organizationUser = mapper.fromDomainMember(entity, userEntity, member);
+            if (member == null) {
+                iterator.remove();
+            } else if (Role.fromString(organizationUser.getRole()) != member.getRole()) {
+                organizationUser.setRole(member.getRole().name());
+            }
+        }
+        
+        // Add new members without loading their user rows
+        desiredMembers.values().forEach(member -> {
+            var userReference = userRepository.getReferenceById(member.getUserId().value());
+            var organizationUser = mapper.fromDomainMember(entity, userReference, member);
             entity.addUser(organizationUser);
         });
     }
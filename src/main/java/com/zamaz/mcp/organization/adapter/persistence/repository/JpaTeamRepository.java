@@ -0,0 +1,162 @@
+package com.zamaz.mcp.organization.adapter.persistence.repository;
+
+import com.zamaz.mcp.organization.infrastructure.architecture.PersistenceAdapter;
+import com.zamaz.mcp.organization.infrastructure.resilience.McpDependency;
+import com.zamaz.mcp.common.architecture.exception.PersistenceException;
+import com.zamaz.mcp.organization.adapter.persistence.entity.TeamEntity;
+import com.zamaz.mcp.organization.adapter.persistence.entity.TeamMemberEntity;
+import com.zamaz.mcp.organization.adapter.persistence.mapper.ApplicationPersistenceMapper;
+import com.zamaz.mcp.organization.adapter.persistence.mapper.TeamPersistenceMapper;
+import com.zamaz.mcp.organization.application.port.outbound.TeamRepository;
+import com.zamaz.mcp.organization.domain.common.ApplicationId;
+import com.zamaz.mcp.organization.domain.common.TeamId;
+import com.zamaz.mcp.organization.domain.model.OrganizationId;
+import com.zamaz.mcp.organization.domain.model.Team;
+import com.zamaz.mcp.organization.domain.model.TeamMember;
+import com.zamaz.mcp.organization.domain.model.UserId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * JPA implementation of the TeamRepository port.
+ * Every read loads teams together with their members in a single query, and saves write
+ * only the membership rows that changed.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@McpDependency("postgres")
+public class JpaTeamRepository implements TeamRepository, PersistenceAdapter {
+    
+    private final SpringDataTeamRepository jpaRepository;
+    private final TeamPersistenceMapper mapper;
+    
+    @Override
+    @Transactional
+    public Team save(Team team) {
+        try {
+            var entity = mapper.toEntity(team);
+            var existingEntity = jpaRepository.findByIdWithMembers(entity.getId()).orElse(null);
+            
+            if (existingEntity == null) {
+                team.getMembers().forEach(member -> entity.addMember(mapper.toEntityMember(entity, member)));
+                return mapper.toDomain(jpaRepository.save(entity));
+            }
+            
+            existingEntity.setName(entity.getName());
+            existingEntity.setDescription(entity.getDescription());
+            existingEntity.setApplicationId(entity.getApplicationId());
+            existingEntity.setMaxMembers(entity.getMaxMembers());
+            existingEntity.setActive(entity.getActive());
+            existingEntity.setUpdatedAt(entity.getUpdatedAt());
+            syncTeamMembers(existingEntity, team);
+            
+            return mapper.toDomain(jpaRepository.save(existingEntity));
+        } catch (Exception e) {
+            throw new PersistenceException("Failed to save team", e);
+        }
+    }
+    
+    @Override
+    public Optional<Team> findById(TeamId id) {
+        try {
+            return jpaRepository.findByIdWithMembers(TeamPersistenceMapper.uuid(id))
+                .map(mapper::toDomain);
+        } catch (Exception e) {
+            throw new PersistenceException("Failed to find team by ID", e);
+        }
+    }
+    
+    @Override
+    @Transactional
+    public void delete(Team team) {
+        try {
+            jpaRepository.deleteById(TeamPersistenceMapper.uuid(team.getId()));
+        } catch (Exception e) {
+            throw new PersistenceException("Failed to delete team", e);
+        }
+    }
+    
+    @Override
+    public List<Team> findAll() {
+        try {
+            return toDomain(jpaRepository.findAllWithMembers());
+        } catch (Exception e) {
+            throw new PersistenceException("Failed to find all teams", e);
+        }
+    }
+    
+    @Override
+    public List<Team> findActiveByApplicationId(ApplicationId applicationId) {
+        try {
+            return toDomain(jpaRepository.findActiveByApplicationIdWithMembers(
+                ApplicationPersistenceMapper.uuid(applicationId)));
+        } catch (Exception e) {
+            throw new PersistenceException("Failed to find teams by application", e);
+        }
+    }
+    
+    @Override
+    public List<Team> findActiveByOrganizationId(OrganizationId organizationId) {
+        try {
+            return toDomain(jpaRepository.findActiveByOrganizationIdWithMembers(organizationId.value()));
+        } catch (Exception e) {
+            throw new PersistenceException("Failed to find teams by organization", e);
+        }
+    }
+    
+    @Override
+    public List<Team> findByMemberUserId(UserId userId) {
+        try {
+            return toDomain(jpaRepository.findByActiveMemberUserIdWithMembers(userId.value()));
+        } catch (Exception e) {
+            throw new PersistenceException("Failed to find teams by member", e);
+        }
+    }
+    
+    private List<Team> toDomain(List<TeamEntity> entities) {
+        return entities.stream()
+            .map(mapper::toDomain)
+            .toList();
+    }
+    
+    /**
+     * Syncs team members between domain and entity.
+     * Departed members are orphaned, changed roles and activity flags are updated in place
+     * and new members are inserted, so unchanged rows are never rewritten.
+     */
+    private void syncTeamMembers(TeamEntity entity, Team domain) {
+        
+        Map<UUID, TeamMember> desiredMembers = new HashMap<>();
+        domain.getMembers().forEach(member -> desiredMembers.put(member.getUserId().value(), member));
+        
+        // Remove departed members and update changed rows
+        Iterator<TeamMemberEntity> iterator = entity.getMembers().iterator();
+        while (iterator.hasNext()) {
+            var teamMember = iterator.next();
+            var member = desiredMembers.remove(teamMember.getUserId());
+            
+            if (member == null) {
+                iterator.remove();
+                continue;
+            }
+            if (teamMember.getRole() != member.getRole()) {
+                teamMember.setRole(member.getRole());
+            }
+            if (teamMember.getActive() != member.isActive()) {
+                teamMember.setActive(member.isActive());
+            }
+        }
+        
+        // Add new members
+        desiredMembers.values().forEach(member -> entity.addMember(mapper.toEntityMember(entity, member)));
+    }
+}
@@ -4,9 +4,11 @@ import com.zamaz.mcp.organization.infrastructure.architecture.PersistenceAdapter
 import com.zamaz.mcp.common.architecture.exception.PersistenceException;
 import com.zamaz.mcp.organization.domain.common.Email;
 import com.zamaz.mcp.organization.adapter.persistence.mapper.UserPersistenceMapper;
+import com.zamaz.mcp.organization.adapter.persistence.search.SearchText;
 import com.zamaz.mcp.organization.application.port.outbound.UserRepository;
 import com.zamaz.mcp.organization.domain.model.User;
 import com.zamaz.mcp.organization.domain.model.UserId;
+import com.zamaz.mcp.organization.infrastructure.resilience.McpDependency;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,8 +24,15 @@ import java.util.stream.Collectors;
 @Component
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@McpDependency("postgres")
 public class JpaUserRepository implements UserRepository, PersistenceAdapter {
     
+    /**
+     * Deepest rank a name search reaches; later pages are empty. Bounds the rows read per
+     * search independently of the size of the users table.
+     */
+    static final int MAX_SEARCH_WINDOW = 500;
+    
     private final SpringDataUserRepository jpaRepository;
     private final UserPersistenceMapper mapper;
     
@@ -115,9 +124,17 @@ public class JpaUserRepository implements UserRepository, PersistenceAdapter {
     }
     
     @Override
-    public List<User> searchByName(String namePattern) {
+    public List<User> searchByName(String text, int offset, int limit) {
+        String query = SearchText.normalize(text);
+        if (query.isEmpty() || limit <= 0 || offset >= MAX_SEARCH_WINDOW) {
+            return List.of();
+        }
         try {
-            return jpaRepository.searchByName(namePattern).stream()
+            String contains = query.length() >= SearchText.MIN_SUBSTRING_LENGTH
+                ? SearchText.containsPattern(query)
+                : null;
+            return jpaRepository.searchByName(query, SearchText.prefixPattern(query), contains,
+                    MAX_SEARCH_WINDOW, offset, Math.min(limit, MAX_SEARCH_WINDOW - offset)).stream()
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
         } catch (Exception e) {
@@ -0,0 +1,26 @@
+package com.zamaz.mcp.organization.adapter.persistence.repository;
+
+import com.zamaz.mcp.organization.adapter.persistence.entity.ApplicationEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for ApplicationEntity.
+ * This is the low-level persistence interface used by the adapter.
+ */
+@Repository
+public interface SpringDataApplicationRepository extends JpaRepository<ApplicationEntity, UUID> {
+    
+    /**
+     * Finds the active applications of an organization, resolved from idx_applications_org_active.
+     */
+    List<ApplicationEntity> findByOrganizationIdAndActiveTrueOrderByName(UUID organizationId);
+    
+    /**
+     * Checks if the organization already has an application with the given name.
+     */
+    boolean existsByOrganizationIdAndName(UUID organizationId, String name);
+}
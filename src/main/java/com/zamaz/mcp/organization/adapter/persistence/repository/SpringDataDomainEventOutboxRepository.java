@@ -0,0 +1,53 @@
+package com.zamaz.mcp.organization.adapter.persistence.repository;
+
+import com.zamaz.mcp.organization.adapter.persistence.entity.DomainEventOutboxEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Spring Data JPA repository for DomainEventOutboxEntity.
+ * This is the low-level persistence interface used by the domain event outbox.
+ */
+@Repository
+public interface SpringDataDomainEventOutboxRepository extends JpaRepository<DomainEventOutboxEntity, Long> {
+
+    /**
+     * Locks the oldest events in the given status, in id order.
+     * Unlike the email outbox, locked rows are not skipped: a relay on another node must
+     * not overtake earlier events of the same aggregate. The lock is taken without waiting,
+     * so a concurrent relay fails fast and leaves the batch to the node holding it.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "0"))
+    @Query("SELECT e FROM DomainEventOutboxEntity e WHERE e.status = :status ORDER BY e.id")
+    List<DomainEventOutboxEntity> lockBatch(@Param("status") DomainEventOutboxEntity.Status status, Pageable pageable);
+
+    /**
+     * Deletes up to {@code limit} published events, oldest first, published before the cutoff.
+     * Failed events are kept for inspection and replay.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM domain_event_outbox WHERE id IN (" +
+                   "SELECT id FROM domain_event_outbox " +
+                   "WHERE status = 'PUBLISHED' AND published_at < :cutoff " +
+                   "ORDER BY published_at " +
+                   "LIMIT :limit)",
+           nativeQuery = true)
+    int deletePublishedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    /**
+     * Counts events in the given status.
+     */
+    long countByStatus(DomainEventOutboxEntity.Status status);
+}
@@ -0,0 +1,52 @@
+package com.zamaz.mcp.organization.adapter.persistence.repository;
+
+import com.zamaz.mcp.organization.adapter.persistence.entity.EmailOutboxEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for EmailOutboxEntity.
+ * This is the low-level persistence interface used by the email outbox.
+ */
+@Repository
+public interface SpringDataEmailOutboxRepository extends JpaRepository<EmailOutboxEntity, UUID> {
+
+    /**
+     * Locks up to {@code limit} due pending emails, oldest first.
+     * Rows already locked by another dispatcher are skipped rather than waited on,
+     * so several nodes can drain the outbox concurrently.
+     */
+    @Query(value = "SELECT * FROM email_outbox " +
+                   "WHERE status = 'PENDING' AND next_attempt_at <= :now " +
+                   "ORDER BY next_attempt_at " +
+                   "LIMIT :limit " +
+                   "FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<EmailOutboxEntity> lockDueBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * Deletes up to {@code limit} sent or failed emails created before the cutoff, oldest first.
+     *
+     * @return the number of rows deleted
+     */
+    @Modifying
+    @Query(value = "DELETE FROM email_outbox WHERE id IN (" +
+                   "SELECT id FROM email_outbox " +
+                   "WHERE status <> 'PENDING' AND created_at < :cutoff " +
+                   "ORDER BY created_at " +
+                   "LIMIT :limit)",
+           nativeQuery = true)
+    int deleteCompletedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    /**
+     * Counts emails in the given status.
+     */
+    long countByStatus(EmailOutboxEntity.Status status);
+}
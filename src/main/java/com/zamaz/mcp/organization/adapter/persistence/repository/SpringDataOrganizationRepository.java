@@ -1,14 +1,21 @@
 package com.zamaz.mcp.organization.adapter.persistence.repository;
 
 import com.zamaz.mcp.organization.adapter.persistence.entity.OrganizationEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Spring Data JPA repository for OrganizationEntity.
@@ -27,6 +34,17 @@ public interface SpringDataOrganizationRepository extends JpaRepository<Organiza
      */
     boolean existsByName(String name);
     
+    /**
+     * Checks if an organization's normalized name is taken, on idx_organizations_normalized_name.
+     */
+    boolean existsByNormalizedName(String normalizedName);
+    
+    /**
+     * Finds which of the given normalized names are taken, in one index probe per name.
+     */
+    @Query("SELECT o.normalizedName FROM OrganizationEntity o WHERE o.normalizedName IN :normalizedNames")
+    List<String> findTakenNormalizedNames(@Param("normalizedNames") Collection<String> normalizedNames);
+    
     /**
      * Finds all organizations that a user is a member of.
      */
@@ -48,4 +66,118 @@ public interface SpringDataOrganizationRepository extends JpaRepository<Organiza
            "LEFT JOIN FETCH ou.user " +
            "WHERE o.id = :id")
     Optional<OrganizationEntity> findByIdWithMembers(@Param("id") UUID id);
-}
\ No newline at end of file
+    
+    /**
+     * Finds an organization with its membership rows loaded but users left as lazy proxies.
+     * Used by the write path, which only needs user IDs to diff members.
+     */
+    @Query("SELECT o FROM OrganizationEntity o " +
+           "LEFT JOIN FETCH o.organizationUsers " +
+           "WHERE o.id = :id")
+    Optional<OrganizationEntity> findByIdWithMemberships(@Param("id") UUID id);
+    
+    /**
+     * Finds a single user's membership in an organization.
+     * Resolved from the (user_id, organization_id, role) composite index plus a primary key probe
+     * for the organization's active flag, independent of organization size.
+     */
+    @Query("SELECT ou.role AS role, o.active AS organizationActive " +
+           "FROM OrganizationUserEntity ou JOIN ou.organization o " +
+           "WHERE ou.user.id = :userId AND o.id = :organizationId")
+    Optional<MembershipRow> findMembership(@Param("userId") UUID userId,
+                                           @Param("organizationId") UUID organizationId);
+    
+    /**
+     * Finds the active organizations a user is a member of, from the user's memberships.
+     */
+    @Query("SELECT o.id FROM OrganizationUserEntity ou JOIN ou.organization o " +
+           "WHERE ou.user.id = :userId AND o.active = true")
+    List<UUID> findActiveOrganizationIdsByUserId(@Param("userId") UUID userId);
+    
+    /**
+     * Counts memberships per user for a set of users in one grouped query.
+     * Users without memberships produce no row.
+     */
+    @Query("SELECT ou.user.id AS userId, COUNT(ou) AS organizationCount " +
+           "FROM OrganizationUserEntity ou " +
+           "WHERE ou.user.id IN :userIds " +
+           "GROUP BY ou.user.id")
+    List<MembershipCountRow> countMembershipsByUserIds(@Param("userIds") Collection<UUID> userIds);
+    
+    /**
+     * Streams the members of an organization with their user details, oldest membership first.
+     * Rows are scalar projections, so nothing accumulates in the persistence context, and the
+     * fetch size keeps the PostgreSQL driver reading through a server-side cursor.
+     * The returned stream must be consumed inside a transaction and closed.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT u.id AS userId, u.email AS email, u.firstName AS firstName, u.lastName AS lastName, " +
+           "ou.role AS role, ou.joinedAt AS joinedAt " +
+           "FROM OrganizationUserEntity ou JOIN ou.user u " +
+           "WHERE ou.organization.id = :organizationId " +
+           "ORDER BY ou.joinedAt, u.id")
+    Stream<MemberExportRow> streamMembers(@Param("organizationId") UUID organizationId);
+    
+    /**
+     * Finds the names of an organization's members, for the in-memory member search.
+     * Callers bound the page to detect organizations too large to index.
+     */
+    @Query("SELECT u.id AS userId, u.firstName AS firstName, u.lastName AS lastName " +
+           "FROM OrganizationUserEntity ou JOIN ou.user u " +
+           "WHERE ou.organization.id = :organizationId")
+    List<MemberNameRow> findMemberNames(@Param("organizationId") UUID organizationId, Pageable pageable);
+    
+    /**
+     * Projection of a member row for bulk export.
+     */
+    interface MemberExportRow {
+        
+        UUID getUserId();
+        
+        String getEmail();
+        
+        String getFirstName();
+        
+        String getLastName();
+        
+        String getRole();
+        
+        LocalDateTime getJoinedAt();
+    }
+    
+    /**
+     * Projection of a member's name.
+     */
+    interface MemberNameRow {
+        
+        UUID getUserId();
+        
+        String getFirstName();
+        
+        String getLastName();
+    }
+    
+    /**
+     * Projection of a single membership row.
+     */
+    interface MembershipRow {
+        
+        String getRole();
+        
+        Boolean getOrganizationActive();
+    }
+    
+    /**
+     * Projection of a user's membership count.
+     */
+    interface MembershipCountRow {
+        
+        UUID getUserId();
+        
+        Long getOrganizationCount();
+    }
+}
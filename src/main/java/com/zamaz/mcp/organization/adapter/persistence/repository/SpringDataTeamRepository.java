@@ -0,0 +1,96 @@
+package com.zamaz.mcp.organization.adapter.persistence.repository;
+
+import com.zamaz.mcp.organization.adapter.persistence.entity.TeamEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for TeamEntity.
+ * Listings fetch teams and their membership rows in one joined query, so the number of
+ * round trips does not depend on how many teams are returned; Hibernate collapses the
+ * joined rows to one entity per team.
+ */
+@Repository
+public interface SpringDataTeamRepository extends JpaRepository<TeamEntity, UUID> {
+    
+    /**
+     * Finds a team with its members loaded.
+     */
+    @Query("SELECT t FROM TeamEntity t " +
+           "LEFT JOIN FETCH t.members " +
+           "WHERE t.id = :id")
+    Optional<TeamEntity> findByIdWithMembers(@Param("id") UUID id);
+    
+    /**
+     * Finds all teams with their members.
+     */
+    @Query("SELECT t FROM TeamEntity t " +
+           "LEFT JOIN FETCH t.members")
+    List<TeamEntity> findAllWithMembers();
+    
+    /**
+     * Finds the active teams of an application with their members.
+     * Resolved from idx_teams_app_active; members are joined through the team_id prefix
+     * of idx_team_members_team_active.
+     */
+    @Query("SELECT t FROM TeamEntity t " +
+           "LEFT JOIN FETCH t.members " +
+           "WHERE t.applicationId = :applicationId AND t.active = true " +
+           "ORDER BY t.name")
+    List<TeamEntity> findActiveByApplicationIdWithMembers(@Param("applicationId") UUID applicationId);
+    
+    /**
+     * Finds the active teams of an organization, application teams included, with their members.
+     * Resolved from idx_teams_org_active.
+     */
+    @Query("SELECT t FROM TeamEntity t " +
+           "LEFT JOIN FETCH t.members " +
+           "WHERE t.organizationId = :organizationId AND t.active = true " +
+           "ORDER BY t.name")
+    List<TeamEntity> findActiveByOrganizationIdWithMembers(@Param("organizationId") UUID organizationId);
+    
+    /**
+     * Finds the teams a user is an active member of, with all their members.
+     */
+    @Query("SELECT t FROM TeamEntity t " +
+           "LEFT JOIN FETCH t.members " +
+           "WHERE t.id IN (SELECT m.team.id FROM TeamMemberEntity m " +
+           "               WHERE m.userId = :userId AND m.active = true)")
+    List<TeamEntity> findByActiveMemberUserIdWithMembers(@Param("userId") UUID userId);
+    
+    /**
+     * Finds the active teams a user is an active member of, with their application.
+     * Teams of an inactive application are left out; organization-level teams are kept.
+     * Resolved from idx_team_members_user plus a primary key probe per team and application.
+     */
+    @Query("SELECT t.id AS teamId, t.applicationId AS applicationId " +
+           "FROM TeamMemberEntity m JOIN m.team t " +
+           "LEFT JOIN ApplicationEntity a ON a.id = t.applicationId " +
+           "WHERE m.userId = :userId AND m.active = true AND t.active = true " +
+           "AND (t.applicationId IS NULL OR a.active = true)")
+    List<ApplicationTeamRow> findActiveTeamsByUserId(@Param("userId") UUID userId);
+    
+    /**
+     * Finds the IDs of the teams of each given application in one query.
+     */
+    @Query("SELECT t.applicationId AS applicationId, t.id AS teamId " +
+           "FROM TeamEntity t WHERE t.applicationId IN :applicationIds")
+    List<ApplicationTeamRow> findTeamIdsByApplicationIds(@Param("applicationIds") Collection<UUID> applicationIds);
+    
+    /**
+     * Projection of a team's application; null for organization-level teams.
+     */
+    interface ApplicationTeamRow {
+        
+        UUID getApplicationId();
+        
+        UUID getTeamId();
+    }
+}
@@ -33,12 +33,51 @@ public interface SpringDataUserRepository extends JpaRepository<UserEntity, UUID
     List<UserEntity> findByStatus(String status);
     
     /**
-     * Searches users by name pattern.
+     * Searches users by name, ranked: full-name prefix matches first, then substring
+     * matches nearest by trigram distance. Each branch reads at most {@code window} rows
+     * in index order (idx_users_search_name_prefix, whose C collation the prefix branch
+     * must name, and idx_users_search_name_trgm), so pages past the window are empty.
+     * Patterns must be lower-cased and LIKE-escaped with '\'.
+     * Substring matching needs at least three characters; pass a null {@code contains}
+     * to search prefixes only.
      */
-    @Query("SELECT u FROM UserEntity u " +
-           "WHERE LOWER(u.firstName) LIKE LOWER(CONCAT('%', :pattern, '%')) " +
-           "OR LOWER(u.lastName) LIKE LOWER(CONCAT('%', :pattern, '%'))")
-    List<UserEntity> searchByName(@Param("pattern") String pattern);
+    @Query(value = "SELECT u.* FROM users u JOIN (" +
+                   "  (SELECT id, 0 AS rank, search_name <-> :query AS distance FROM users" +
+                   "   WHERE search_name COLLATE \"C\" LIKE :prefix ESCAPE '\\'" +
+                   "   ORDER BY search_name COLLATE \"C\" LIMIT :window)" +
+                   "  UNION ALL" +
+                   "  (SELECT id, 1 AS rank, search_name <-> :query AS distance FROM users" +
+                   "   WHERE CAST(:contains AS TEXT) IS NOT NULL" +
+                   "   AND search_name LIKE :contains ESCAPE '\\' AND search_name NOT LIKE :prefix ESCAPE '\\'" +
+                   "   ORDER BY search_name <-> :query LIMIT :window)" +
+                   ") ranked ON ranked.id = u.id " +
+                   "ORDER BY ranked.rank, ranked.distance, u.search_name COLLATE \"C\", u.id " +
+                   "LIMIT :limit OFFSET :offset",
+           nativeQuery = true)
+    List<UserEntity> searchByName(@Param("query") String query,
+                                  @Param("prefix") String prefix,
+                                  @Param("contains") String contains,
+                                  @Param("window") int window,
+                                  @Param("offset") int offset,
+                                  @Param("limit") int limit);
+    
+    /**
+     * Same ranking as {@link #searchByName}, limited to the members of an organization.
+     * The organization_users primary key bounds the candidates, so no window is needed.
+     * Names sort under the C collation, the order of the in-memory member name index.
+     */
+    @Query(value = "SELECT u.* FROM users u JOIN organization_users ou ON ou.user_id = u.id " +
+                   "WHERE ou.organization_id = :organizationId AND u.search_name LIKE :contains ESCAPE '\\' " +
+                   "ORDER BY CASE WHEN u.search_name LIKE :prefix ESCAPE '\\' THEN 0 " +
+                   "              WHEN u.search_name LIKE :wordPrefix ESCAPE '\\' THEN 1 ELSE 2 END, " +
+                   "u.search_name COLLATE \"C\", u.id " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    List<UserEntity> searchMembersByName(@Param("organizationId") UUID organizationId,
+                                         @Param("prefix") String prefix,
+                                         @Param("wordPrefix") String wordPrefix,
+                                         @Param("contains") String contains,
+                                         @Param("limit") int limit);
     
     /**
      * Finds users by IDs.
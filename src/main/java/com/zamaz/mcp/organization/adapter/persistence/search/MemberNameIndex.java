@@ -0,0 +1,264 @@
+package com.zamaz.mcp.organization.adapter.persistence.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zamaz.mcp.common.architecture.exception.PersistenceException;
+import com.zamaz.mcp.organization.adapter.persistence.repository.SpringDataOrganizationRepository;
+import com.zamaz.mcp.organization.adapter.persistence.repository.SpringDataUserRepository;
+import com.zamaz.mcp.organization.application.port.outbound.MemberNameSearch;
+import com.zamaz.mcp.organization.application.query.MemberMatch;
+import com.zamaz.mcp.organization.domain.model.OrganizationId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Member name search for the member picker, backed by per-organization in-memory n-gram
+ * postings.
+ *
+ * <p>On first search an organization's member names are loaded once and every substring
+ * of one to three characters is mapped to the sorted positions of the members containing
+ * it. Text of up to three characters is answered by one postings lookup; longer text
+ * scans the postings of its rarest trigram and checks each candidate. Members are kept
+ * in name order, so every rank bucket fills in order and the scan stops once the first
+ * bucket is full. Names are ordered by code point and ties by the id's text, which is
+ * the order of the database search under the C collation.
+ *
+ * <p>The cache is bounded by {@code app.member-search.maximum-postings}, the total number
+ * of members and posting entries held, so a few large organizations cannot crowd out
+ * memory the way a count of organizations would allow.
+ *
+ * <p>Organizations with more than {@code app.member-search.maximum-members} members, and
+ * every organization when {@code app.member-search.in-memory} is false, are searched in
+ * the database instead. Sync is by invalidation through the
+ * {@code OrganizationIndexInvalidator}: membership events and legacy writes drop the
+ * organization on every node after commit; renamed users are picked up when the entry
+ * expires.
+ */
+@Component
+public class MemberNameIndex implements MemberNameSearch {
+
+    static final int MAX_GRAM_LENGTH = 3;
+
+    private final SpringDataOrganizationRepository organizationRepository;
+    private final SpringDataUserRepository userRepository;
+    private final boolean inMemory;
+    private final int maximumMembers;
+    private final Cache<UUID, MemberNames> byOrganization;
+
+    public MemberNameIndex(SpringDataOrganizationRepository organizationRepository,
+                           SpringDataUserRepository userRepository,
+                           @Value("${app.member-search.in-memory:true}") boolean inMemory,
+                           @Value("${app.member-search.maximum-postings:20000000}") long maximumPostings,
+                           @Value("${app.member-search.maximum-members:10000}") int maximumMembers,
+                           @Value("${app.member-search.ttl:10m}") Duration ttl) {
+        this.organizationRepository = organizationRepository;
+        this.userRepository = userRepository;
+        this.inMemory = inMemory;
+        this.maximumMembers = maximumMembers;
+        this.byOrganization = Caffeine.newBuilder()
+            .maximumWeight(maximumPostings)
+            .weigher((UUID organization, MemberNames names) -> names.weight())
+            .expireAfterWrite(ttl)
+            .build();
+    }
+
+    @Override
+    public List<MemberMatch> search(OrganizationId organizationId, String text, int limit) {
+        String query = SearchText.normalize(text);
+        if (query.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        UUID organization = organizationId.value();
+        MemberNames names = inMemory ? byOrganization.get(organization, this::load) : MemberNames.TOO_LARGE;
+        if (names == MemberNames.TOO_LARGE) {
+            return searchDatabase(organization, query, limit);
+        }
+        return names.search(query, limit);
+    }
+
+    /**
+     * Drops the organization's names.
+     */
+    public void evictOrganization(UUID organizationId) {
+        byOrganization.invalidate(organizationId);
+    }
+
+    private MemberNames load(UUID organizationId) {
+        try {
+            var rows = organizationRepository.findMemberNames(organizationId, PageRequest.of(0, maximumMembers + 1));
+            if (rows.size() > maximumMembers) {
+                return MemberNames.TOO_LARGE;
+            }
+            List<MemberMatch> members = new ArrayList<>(rows.size());
+            for (var row : rows) {
+                members.add(new MemberMatch(row.getUserId(), row.getFirstName(), row.getLastName()));
+            }
+            return MemberNames.of(members);
+        } catch (Exception e) {
+            throw new PersistenceException("Failed to load member names", e);
+        }
+    }
+
+    private List<MemberMatch> searchDatabase(UUID organizationId, String query, int limit) {
+        try {
+            return userRepository.searchMembersByName(organizationId, SearchText.prefixPattern(query),
+                    SearchText.wordPrefixPattern(query), SearchText.containsPattern(query), limit).stream()
+                .map(user -> new MemberMatch(user.getId(), user.getFirstName(), user.getLastName()))
+                .toList();
+        } catch (Exception e) {
+            throw new PersistenceException("Failed to search members by name", e);
+        }
+    }
+
+    /**
+     * Member names of one organization, in name order, with their n-gram postings.
+     */
+    static final class MemberNames {
+
+        static final MemberNames TOO_LARGE = new MemberNames(new MemberMatch[0], new String[0], Map.of());
+
+        private final MemberMatch[] members;
+        private final String[] names;
+        private final Map<String, int[]> postings;
+        private final int weight;
+
+        private MemberNames(MemberMatch[] members, String[] names, Map<String, int[]> postings) {
+            this.members = members;
+            this.names = names;
+            this.postings = postings;
+            long entries = members.length;
+            for (int[] positions : postings.values()) {
+                entries += positions.length;
+            }
+            this.weight = (int) Math.min(Math.max(entries, 1), Integer.MAX_VALUE);
+        }
+
+        static MemberNames of(List<MemberMatch> members) {
+            MemberMatch[] sorted = members.toArray(MemberMatch[]::new);
+            String[] names = new String[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                names[i] = SearchText.of(sorted[i].firstName(), sorted[i].lastName());
+            }
+            Integer[] order = new Integer[sorted.length];
+            Arrays.setAll(order, i -> i);
+            Arrays.sort(order, Comparator.<Integer, String>comparing(i -> names[i], SearchText::compare)
+                .thenComparing(i -> sorted[i].userId().toString()));
+
+            MemberMatch[] orderedMembers = new MemberMatch[sorted.length];
+            String[] orderedNames = new String[sorted.length];
+            for (int position = 0; position < order.length; position++) {
+                orderedMembers[position] = sorted[order[position]];
+                orderedNames[position] = names[order[position]];
+            }
+            return new MemberNames(orderedMembers, orderedNames, index(orderedNames));
+        }
+
+        /**
+         * Maps each substring of up to {@value #MAX_GRAM_LENGTH} characters to the ascending
+         * positions of the names containing it.
+         */
+        private static Map<String, int[]> index(String[] names) {
+            Map<String, int[]> postings = new HashMap<>();
+            Map<String, Integer> sizes = new HashMap<>();
+            for (int position = 0; position < names.length; position++) {
+                String name = names[position];
+                for (int start = 0; start < name.length(); start++) {
+                    for (int end = start + 1; end <= Math.min(name.length(), start + MAX_GRAM_LENGTH); end++) {
+                        String gram = name.substring(start, end);
+                        int size = sizes.getOrDefault(gram, 0);
+                        int[] positions = postings.get(gram);
+                        if (size > 0 && positions[size - 1] == position) {
+                            continue;
+                        }
+                        if (positions == null) {
+                            positions = new int[4];
+                        } else if (size == positions.length) {
+                            positions = Arrays.copyOf(positions, size * 2);
+                        }
+                        positions[size] = position;
+                        postings.put(gram, positions);
+                        sizes.put(gram, size + 1);
+                    }
+                }
+            }
+            postings.replaceAll((gram, positions) -> Arrays.copyOf(positions, sizes.get(gram)));
+            return postings;
+        }
+
+        /**
+         * Cache weight: the number of members plus the number of posting entries.
+         */
+        int weight() {
+            return weight;
+        }
+
+        List<MemberMatch> search(String query, int limit) {
+            int[] candidates = candidates(query);
+            boolean verify = query.length() > MAX_GRAM_LENGTH;
+            String wordPrefix = " " + query;
+
+            List<MemberMatch> prefixMatches = new ArrayList<>(Math.min(limit, candidates.length));
+            List<MemberMatch> wordMatches = new ArrayList<>();
+            List<MemberMatch> otherMatches = new ArrayList<>();
+            for (int position : candidates) {
+                String name = names[position];
+                if (name.startsWith(query)) {
+                    prefixMatches.add(members[position]);
+                    if (prefixMatches.size() == limit) {
+                        break;
+                    }
+                } else if (verify && !name.contains(query)) {
+                    continue;
+                } else if (name.contains(wordPrefix)) {
+                    if (wordMatches.size() < limit) {
+                        wordMatches.add(members[position]);
+                    }
+                } else if (otherMatches.size() < limit) {
+                    otherMatches.add(members[position]);
+                }
+            }
+
+            List<MemberMatch> matches = new ArrayList<>(limit);
+            for (List<MemberMatch> bucket : List.of(prefixMatches, wordMatches, otherMatches)) {
+                for (MemberMatch match : bucket) {
+                    if (matches.size() == limit) {
+                        return matches;
+                    }
+                    matches.add(match);
+                }
+            }
+            return matches;
+        }
+
+        /**
+         * Positions of the names that may contain the query: exact for grams, otherwise
+         * the postings of the query's rarest trigram.
+         */
+        private int[] candidates(String query) {
+            if (query.length() <= MAX_GRAM_LENGTH) {
+                return postings.getOrDefault(query, new int[0]);
+            }
+            int[] rarest = null;
+            for (int start = 0; start + MAX_GRAM_LENGTH <= query.length(); start++) {
+                int[] positions = postings.get(query.substring(start, start + MAX_GRAM_LENGTH));
+                if (positions == null) {
+                    return new int[0];
+                }
+                if (rarest == null || positions.length < rarest.length) {
+                    rarest = positions;
+                }
+            }
+            return rarest;
+        }
+    }
+}
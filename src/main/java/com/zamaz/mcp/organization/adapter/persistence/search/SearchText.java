@@ -0,0 +1,72 @@
+package com.zamaz.mcp.organization.adapter.persistence.search;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normalization and LIKE patterns for name searches against users.search_name, the
+ * lower-cased "first last" name.
+ */
+public final class SearchText {
+
+    /**
+     * Shortest text matched anywhere in a name; a trigram index cannot narrow shorter text,
+     * so it only matches prefixes.
+     */
+    public static final int MIN_SUBSTRING_LENGTH = 3;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern LIKE_SPECIAL = Pattern.compile("[\\\\%_]");
+
+    private SearchText() {
+    }
+
+    /**
+     * Lower-cases the text and collapses whitespace, as names are stored for search.
+     */
+    public static String normalize(String text) {
+        return WHITESPACE.matcher(text).replaceAll(" ").strip().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Builds the search name of a user from their first and last name.
+     */
+    public static String of(String firstName, String lastName) {
+        return normalize((firstName == null ? "" : firstName) + " " + (lastName == null ? "" : lastName));
+    }
+
+    public static String prefixPattern(String normalized) {
+        return escape(normalized) + "%";
+    }
+
+    public static String wordPrefixPattern(String normalized) {
+        return "% " + escape(normalized) + "%";
+    }
+
+    public static String containsPattern(String normalized) {
+        return "%" + escape(normalized) + "%";
+    }
+
+    /**
+     * Compares search names by code point, which is the order of their UTF-8 bytes and so
+     * the order of the database's C collation; {@link String#compareTo} differs for
+     * characters outside the Basic Multilingual Plane.
+     */
+    public static int compare(String left, String right) {
+        int length = Math.min(left.length(), right.length());
+        int i = 0;
+        while (i < length) {
+            int leftCodePoint = left.codePointAt(i);
+            int rightCodePoint = right.codePointAt(i);
+            if (leftCodePoint != rightCodePoint) {
+                return Integer.compare(leftCodePoint, rightCodePoint);
+            }
+            i += Character.charCount(leftCodePoint);
+        }
+        return Integer.compare(left.length(), right.length());
+    }
+
+    private static String escape(String normalized) {
+        return LIKE_SPECIAL.matcher(normalized).replaceAll("\\\\$0");
+    }
+}
@@ -0,0 +1,91 @@
+package com.zamaz.mcp.organization.adapter.persistence.visibility;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zamaz.mcp.common.architecture.exception.PersistenceException;
+import com.zamaz.mcp.organization.adapter.persistence.repository.SpringDataOrganizationRepository;
+import com.zamaz.mcp.organization.adapter.persistence.repository.SpringDataTeamRepository;
+import com.zamaz.mcp.organization.application.port.outbound.UserAccessReader;
+import com.zamaz.mcp.organization.application.query.UserAccess;
+import com.zamaz.mcp.organization.domain.model.UserId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * In-memory per-user access sets for visibility checks.
+ *
+ * <p>A miss is resolved with two queries, the user's active organization memberships
+ * and their active team memberships with each team's application, and the result is
+ * kept as a compact {@link UserAccess}. Warm lookups are one hash probe.
+ *
+ * <p>Sync is by invalidation through
+ * {@link com.zamaz.mcp.organization.adapter.persistence.invalidation.OrganizationIndexInvalidator},
+ * on every node: membership events and legacy writes drop the affected user after
+ * commit, organization status changes and team and application deactivations drop every
+ * entry. If a broadcast is lost, other nodes pick the change up when the entry expires.
+ */
+@Component
+public class UserAccessIndex implements UserAccessReader {
+
+    private final SpringDataOrganizationRepository organizationRepository;
+    private final SpringDataTeamRepository teamRepository;
+    private final Cache<UUID, UserAccess> byUser;
+
+    public UserAccessIndex(SpringDataOrganizationRepository organizationRepository,
+                           SpringDataTeamRepository teamRepository,
+                           @Value("${app.visibility.maximum-users:100000}") long maximumUsers,
+                           @Value("${app.visibility.ttl:5m}") Duration ttl) {
+        this.organizationRepository = organizationRepository;
+        this.teamRepository = teamRepository;
+        this.byUser = Caffeine.newBuilder()
+            .maximumSize(maximumUsers)
+            .expireAfterWrite(ttl)
+            .build();
+    }
+
+    @Override
+    public UserAccess findAccess(UserId userId) {
+        return byUser.get(userId.value(), this::load);
+    }
+
+    /**
+     * Drops the user's access set.
+     */
+    public void evictUser(UUID userId) {
+        byUser.invalidate(userId);
+    }
+
+    /**
+     * Drops every access set, for changes that affect an unknown set of users.
+     */
+    public void evictAll() {
+        byUser.invalidateAll();
+    }
+
+    private UserAccess load(UUID userId) {
+        try {
+            List<UUID> organizations = organizationRepository.findActiveOrganizationIdsByUserId(userId);
+            var teamRows = teamRepository.findActiveTeamsByUserId(userId);
+            if (organizations.isEmpty() && teamRows.isEmpty()) {
+                return UserAccess.none(userId);
+            }
+
+            List<UUID> applications = new ArrayList<>(teamRows.size());
+            List<UUID> teams = new ArrayList<>(teamRows.size());
+            for (var row : teamRows) {
+                teams.add(row.getTeamId());
+                if (row.getApplicationId() != null) {
+                    applications.add(row.getApplicationId());
+                }
+            }
+            return UserAccess.of(userId, organizations, applications, teams);
+        } catch (Exception e) {
+            throw new PersistenceException("Failed to load user access", e);
+        }
+    }
+}
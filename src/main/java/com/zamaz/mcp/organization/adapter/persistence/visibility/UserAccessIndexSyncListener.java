@@ -0,0 +1,74 @@
+package com.zamaz.mcp.organization.adapter.persistence.visibility;
+
+import com.zamaz.mcp.organization.adapter.persistence.invalidation.OrganizationIndexInvalidator;
+import com.zamaz.mcp.organization.domain.event.ApplicationDeactivatedEvent;
+import com.zamaz.mcp.organization.domain.event.OrganizationCreatedEvent;
+import com.zamaz.mcp.organization.domain.event.OrganizationStatusChangedEvent;
+import com.zamaz.mcp.organization.domain.event.TeamCreatedEvent;
+import com.zamaz.mcp.organization.domain.event.TeamDeactivatedEvent;
+import com.zamaz.mcp.organization.domain.event.TeamMemberAddedEvent;
+import com.zamaz.mcp.organization.domain.event.TeamMemberRemovedEvent;
+import com.zamaz.mcp.organization.domain.event.UserAddedToOrganizationEvent;
+import com.zamaz.mcp.organization.domain.event.UserRemovedFromOrganizationEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps the user access index in sync with organization and team membership events and
+ * organization status changes. Role changes are not tracked: visibility depends on
+ * membership only. Listeners run before commit only to collect the users;
+ * {@link OrganizationIndexInvalidator} evicts them on every node after it completes.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserAccessIndexSyncListener {
+
+    private final OrganizationIndexInvalidator invalidator;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onOrganizationCreated(OrganizationCreatedEvent event) {
+        invalidator.invalidateUserAfterCommit(event.getCreatorUserId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onUserAdded(UserAddedToOrganizationEvent event) {
+        invalidator.invalidateUserAfterCommit(event.getUserId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onUserRemoved(UserRemovedFromOrganizationEvent event) {
+        invalidator.invalidateUserAfterCommit(event.getUserId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onOrganizationStatusChanged(OrganizationStatusChangedEvent event) {
+        invalidator.invalidateAllUsersAfterCommit();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onTeamCreated(TeamCreatedEvent event) {
+        invalidator.invalidateUserAfterCommit(event.getCreatorUserId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onTeamMemberAdded(TeamMemberAddedEvent event) {
+        invalidator.invalidateUserAfterCommit(event.getUserId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onTeamMemberRemoved(TeamMemberRemovedEvent event) {
+        invalidator.invalidateUserAfterCommit(event.getUserId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onTeamDeactivated(TeamDeactivatedEvent event) {
+        invalidator.invalidateAllUsersAfterCommit();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onApplicationDeactivated(ApplicationDeactivatedEvent event) {
+        invalidator.invalidateAllUsersAfterCommit();
+    }
+}
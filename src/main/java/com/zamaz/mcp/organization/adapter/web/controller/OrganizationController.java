@@ -1,26 +1,38 @@
 package com.zamaz.mcp.organization.adapter.web.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.zamaz.mcp.common.architecture.adapter.web.WebAdapter;
 import com.zamaz.mcp.organization.adapter.web.dto.*;
+import com.zamaz.mcp.organization.adapter.web.export.MemberExportFormat;
 import com.zamaz.mcp.organization.adapter.web.mapper.OrganizationWebMapper;
 import com.zamaz.mcp.organization.application.command.*;
 import com.zamaz.mcp.organization.application.port.inbound.*;
+import com.zamaz.mcp.organization.application.query.ExportOrganizationMembersQuery;
 import com.zamaz.mcp.organization.application.query.GetOrganizationQuery;
 import com.zamaz.mcp.organization.application.query.OrganizationView;
+import com.zamaz.mcp.organization.application.query.SearchOrganizationMembersQuery;
 import com.zamaz.mcp.organization.domain.model.OrganizationId;
 import com.zamaz.mcp.organization.domain.model.UserId;
+import com.zamaz.mcp.organization.exception.InvalidSearchLimitException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
 
+import java.io.IOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 
 /**
@@ -38,7 +50,12 @@ public class OrganizationController implements WebAdapter {
     private final UpdateOrganizationUseCase updateOrganizationUseCase;
     private final AddUserToOrganizationUseCase addUserToOrganizationUseCase;
     private final RemoveUserFromOrganizationUseCase removeUserFromOrganizationUseCase;
+    private final BulkAddUsersToOrganizationUseCase bulkAddUsersToOrganizationUseCase;
+    private final BulkRemoveUsersFromOrganizationUseCase bulkRemoveUsersFromOrganizationUseCase;
+    private final ExportOrganizationMembersUseCase exportOrganizationMembersUseCase;
+    private final SearchOrganizationMembersUseCase searchOrganizationMembersUseCase;
     private final OrganizationWebMapper mapper;
+    private final ObjectMapper objectMapper;
     
     @PostMapping
     @Operation(summary = "Create a new organization")
@@ -90,6 +107,66 @@ public class OrganizationController implements WebAdapter {
         return ResponseEntity.ok(response);
     }
     
+    @GetMapping("/{id}/members/export")
+    @Operation(summary = "Export organization members as NDJSON or CSV",
+               description = "Streams every member, oldest membership first, without buffering the list.")
+    @PreAuthorize("hasRole('USER')")
+    public void exportMembers(
+            @PathVariable UUID id,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @AuthenticationPrincipal UserDetails currentUser,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        
+        var exportFormat = MemberExportFormat.fromString(format);
+        
+        // Access is checked before any bytes are written, so denials still map to an error status
+        var export = exportOrganizationMembersUseCase.execute(
+            ExportOrganizationMembersQuery.of(id.toString(), currentUser.getUsername())
+        );
+        
+        // The ETag filter would otherwise buffer the whole export to hash it
+        ShallowEtagHeaderFilter.disableContentCaching(request);
+        
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+            .filename("organization-" + id + "-members." + exportFormat.getFileExtension())
+            .build()
+            .toString());
+        
+        var writer = exportFormat.newWriter(response.getOutputStream(), objectMapper);
+        export.writeTo(writer);
+        writer.finish();
+    }
+    
+    @GetMapping("/{id}/members/search")
+    @Operation(summary = "Search organization members by name",
+               description = "Matches the text anywhere in the member's full name; names starting with it come first.")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<MemberSearchResponse> searchMembers(
+            @PathVariable UUID id,
+            @RequestParam("q") String text,
+            @RequestParam(defaultValue = "10") int limit,
+            @AuthenticationPrincipal UserDetails currentUser) {
+        
+        if (limit < 1 || limit > SearchOrganizationMembersQuery.MAX_LIMIT) {
+            throw new InvalidSearchLimitException(
+                "Limit must be between 1 and " + SearchOrganizationMembersQuery.MAX_LIMIT);
+        }
+        
+        var query = SearchOrganizationMembersQuery.of(
+            id.toString(),
+            currentUser.getUsername(),
+            text,
+            limit
+        );
+        
+        var matches = searchOrganizationMembersUseCase.execute(query);
+        
+        return ResponseEntity.ok(MemberSearchResponse.from(matches));
+    }
+    
     @PutMapping("/{id}")
     @Operation(summary = "Update organization")
     @PreAuthorize("hasRole('USER')")
@@ -142,6 +219,49 @@ public class OrganizationController implements WebAdapter {
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
     
+    @PostMapping("/{id}/users/bulk")
+    @Operation(summary = "Add many users to organization")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<BulkMembershipResponse> bulkAddUsersToOrganization(
+            @PathVariable UUID id,
+            @Valid @RequestBody BulkAddUsersRequest request,
+            @AuthenticationPrincipal UserDetails currentUser) {
+        
+        // Create command
+        var command = BulkAddUsersToOrganizationCommand.of(
+            id.toString(),
+            request.getUserIds(),
+            request.getRole(),
+            currentUser.getUsername()
+        );
+        
+        // Execute use case
+        var result = bulkAddUsersToOrganizationUseCase.execute(command);
+        
+        return ResponseEntity.ok(BulkMembershipResponse.from(result));
+    }
+    
+    @PostMapping("/{id}/users/bulk-remove")
+    @Operation(summary = "Remove many users from organization")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<BulkMembershipResponse> bulkRemoveUsersFromOrganization(
+            @PathVariable UUID id,
+            @Valid @RequestBody BulkRemoveUsersRequest request,
+            @AuthenticationPrincipal UserDetails currentUser) {
+        
+        // Create command
+        var command = BulkRemoveUsersFromOrganizationCommand.of(
+            id.toString(),
+            request.getUserIds(),
+            currentUser.getUsername()
+        );
+        
+        // Execute use case
+        var result = bulkRemoveUsersFromOrganizationUseCase.execute(command);
+        
+        return ResponseEntity.ok(BulkMembershipResponse.from(result));
+    }
+    
     @DeleteMapping("/{id}/users/{userId}")
     @Operation(summary = "Remove user from organization")
     @PreAuthorize("hasRole('USER')")
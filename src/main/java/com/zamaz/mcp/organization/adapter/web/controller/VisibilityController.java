@@ -0,0 +1,55 @@
+package com.zamaz.mcp.organization.adapter.web.controller;
+
+import com.zamaz.mcp.common.architecture.adapter.web.WebAdapter;
+import com.zamaz.mcp.organization.adapter.web.dto.CheckVisibilityRequest;
+import com.zamaz.mcp.organization.adapter.web.dto.CheckVisibilityResponse;
+import com.zamaz.mcp.organization.application.port.inbound.CheckVisibilityUseCase;
+import com.zamaz.mcp.organization.application.query.CheckVisibilityQuery;
+import com.zamaz.mcp.organization.application.query.VisibilityCheck;
+import com.zamaz.mcp.organization.domain.model.UserId;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Web adapter for resource visibility checks.
+ * Other services send the placement and sharing level of the resources they hold and
+ * get back which of them the current user can see.
+ */
+@RestController
+@RequestMapping("/api/v1/visibility")
+@RequiredArgsConstructor
+@Tag(name = "Visibility", description = "Resource visibility endpoints")
+public class VisibilityController implements WebAdapter {
+    
+    private final CheckVisibilityUseCase checkVisibilityUseCase;
+    
+    @PostMapping("/check")
+    @Operation(summary = "Check which resources the current user can see")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<CheckVisibilityResponse> checkVisibility(
+            @Valid @RequestBody CheckVisibilityRequest request,
+            @AuthenticationPrincipal UserDetails currentUser) {
+        
+        var resources = request.getResources().stream()
+            .map(resource -> new VisibilityCheck(
+                resource.getOrganizationId(),
+                resource.getApplicationId(),
+                resource.getTeamId(),
+                resource.getOwnerId(),
+                resource.getScope(),
+                resource.getSharingLevel()
+            ))
+            .toList();
+        
+        var query = new CheckVisibilityQuery(UserId.from(currentUser.getUsername()), resources);
+        
+        return ResponseEntity.ok(new CheckVisibilityResponse(checkVisibilityUseCase.execute(query)));
+    }
+}
@@ -0,0 +1,25 @@
+package com.zamaz.mcp.organization.adapter.web.dto;
+
+import com.zamaz.mcp.organization.application.command.BulkAddUsersToOrganizationCommand;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Request DTO for adding many users to an organization.
+ */
+@Data
+public class BulkAddUsersRequest {
+    
+    @NotEmpty(message = "At least one user ID is required")
+    @Size(max = BulkAddUsersToOrganizationCommand.MAX_USERS, message = "Too many user IDs")
+    private List<String> userIds;
+    
+    @NotNull(message = "Role is required")
+    @Pattern(regexp = "OWNER|ADMIN|MEMBER|GUEST", message = "Invalid role. Must be OWNER, ADMIN, MEMBER, or GUEST")
+    private String role = "MEMBER";
+}
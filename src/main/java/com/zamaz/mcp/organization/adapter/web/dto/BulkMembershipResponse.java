@@ -0,0 +1,26 @@
+package com.zamaz.mcp.organization.adapter.web.dto;
+
+import com.zamaz.mcp.organization.application.command.BulkMembershipResult;
+import com.zamaz.mcp.organization.domain.model.UserId;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Response DTO for bulk membership changes.
+ */
+@Data
+@AllArgsConstructor
+public class BulkMembershipResponse {
+    private List<UUID> applied;
+    private List<UUID> skipped;
+    
+    public static BulkMembershipResponse from(BulkMembershipResult result) {
+        return new BulkMembershipResponse(
+            result.applied().stream().map(UserId::value).toList(),
+            result.skipped().stream().map(UserId::value).toList()
+        );
+    }
+}
@@ -0,0 +1,19 @@
+package com.zamaz.mcp.organization.adapter.web.dto;
+
+import com.zamaz.mcp.organization.application.command.BulkAddUsersToOrganizationCommand;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Request DTO for removing many users from an organization.
+ */
+@Data
+public class BulkRemoveUsersRequest {
+    
+    @NotEmpty(message = "At least one user ID is required")
+    @Size(max = BulkAddUsersToOrganizationCommand.MAX_USERS, message = "Too many user IDs")
+    private List<String> userIds;
+}
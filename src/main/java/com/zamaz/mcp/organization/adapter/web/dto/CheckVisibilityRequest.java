@@ -0,0 +1,46 @@
+package com.zamaz.mcp.organization.adapter.web.dto;
+
+import com.zamaz.mcp.organization.application.query.CheckVisibilityQuery;
+import com.zamaz.mcp.organization.domain.common.ScopeType;
+import com.zamaz.mcp.organization.domain.common.SharingLevel;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Request DTO for checking which of a batch of resources the current user can see.
+ */
+@Data
+public class CheckVisibilityRequest {
+    
+    @NotEmpty(message = "At least one resource is required")
+    @Size(max = CheckVisibilityQuery.MAX_RESOURCES, message = "Too many resources")
+    private List<@Valid @NotNull Resource> resources;
+    
+    /**
+     * Placement and sharing of one resource.
+     */
+    @Data
+    public static class Resource {
+        
+        @NotNull(message = "Organization ID is required")
+        private UUID organizationId;
+        
+        private UUID applicationId;
+        
+        private UUID teamId;
+        
+        private UUID ownerId;
+        
+        @NotNull(message = "Scope is required")
+        private ScopeType scope;
+        
+        @NotNull(message = "Sharing level is required")
+        private SharingLevel sharingLevel;
+    }
+}
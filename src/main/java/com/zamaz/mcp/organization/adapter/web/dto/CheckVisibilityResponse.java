@@ -0,0 +1,13 @@
+package com.zamaz.mcp.organization.adapter.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Response DTO for visibility checks; one flag per requested resource, in request order.
+ */
+@Data
+@AllArgsConstructor
+public class CheckVisibilityResponse {
+    private boolean[] visible;
+}
@@ -0,0 +1,31 @@
+package com.zamaz.mcp.organization.adapter.web.dto;
+
+import com.zamaz.mcp.organization.application.query.MemberMatch;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Response DTO for member name searches; members are ordered best match first.
+ */
+@Data
+@AllArgsConstructor
+public class MemberSearchResponse {
+    private List<Member> members;
+    
+    public static MemberSearchResponse from(List<MemberMatch> matches) {
+        return new MemberSearchResponse(matches.stream()
+            .map(match -> new Member(match.userId(), match.firstName(), match.lastName()))
+            .toList());
+    }
+    
+    @Data
+    @AllArgsConstructor
+    public static class Member {
+        private UUID userId;
+        private String firstName;
+        private String lastName;
+    }
+}
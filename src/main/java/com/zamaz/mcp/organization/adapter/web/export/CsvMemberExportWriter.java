@@ -0,0 +1,87 @@
+package com.zamaz.mcp.organization.adapter.web.export;
+
+import com.zamaz.mcp.organization.application.query.OrganizationView;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes RFC 4180 CSV with a header row.
+ * Values that a spreadsheet would evaluate as formulas are prefixed with a quote.
+ */
+class CsvMemberExportWriter implements MemberExportWriter {
+    
+    private static final String HEADER = "user_id,email,first_name,last_name,role,joined_at\r\n";
+    
+    private final Writer writer;
+    private long rows;
+    
+    CsvMemberExportWriter(OutputStream outputStream) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        try {
+            writer.write(HEADER);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    @Override
+    public void accept(OrganizationView.MemberView member) {
+        try {
+            writer.write(member.userId().toString());
+            writer.write(',');
+            writeField(member.email());
+            writer.write(',');
+            writeField(member.firstName());
+            writer.write(',');
+            writeField(member.lastName());
+            writer.write(',');
+            writeField(member.role());
+            writer.write(',');
+            writeField(member.joinedAt() != null ? member.joinedAt().toString() : null);
+            writer.write("\r\n");
+            
+            if (++rows % MemberExportFormat.FLUSH_INTERVAL == 0) {
+                writer.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    @Override
+    public void finish() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private void writeField(String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        
+        boolean formula = "=+-@\t\r".indexOf(value.charAt(0)) >= 0;
+        boolean quote = formula || value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+            || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        
+        writer.write('"');
+        if (formula) {
+            writer.write('\'');
+        }
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,60 @@
+package com.zamaz.mcp.organization.adapter.web.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zamaz.mcp.organization.exception.UnsupportedExportFormatException;
+
+import java.io.OutputStream;
+import java.util.Locale;
+
+/**
+ * Supported member export formats.
+ */
+public enum MemberExportFormat {
+    
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+    
+    /**
+     * Rows between explicit flushes to the response.
+     */
+    static final int FLUSH_INTERVAL = 500;
+    
+    private final String contentType;
+    private final String fileExtension;
+    
+    MemberExportFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+    
+    public String getContentType() {
+        return contentType;
+    }
+    
+    public String getFileExtension() {
+        return fileExtension;
+    }
+    
+    /**
+     * Opens a writer for this format on the given stream.
+     */
+    public MemberExportWriter newWriter(OutputStream outputStream, ObjectMapper objectMapper) {
+        return switch (this) {
+            case NDJSON -> new NdjsonMemberExportWriter(outputStream, objectMapper);
+            case CSV -> new CsvMemberExportWriter(outputStream);
+        };
+    }
+    
+    /**
+     * Parses a format name, case-insensitive.
+     *
+     * @throws UnsupportedExportFormatException if the name is not a known format
+     */
+    public static MemberExportFormat fromString(String value) {
+        try {
+            return valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new UnsupportedExportFormatException("Unsupported export format: " + value);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.zamaz.mcp.organization.adapter.web.export;
+
+import com.zamaz.mcp.organization.application.query.OrganizationView;
+
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Writes exported member rows to an output stream as they arrive.
+ * Output is flushed periodically so buffered data never grows with the export.
+ */
+public interface MemberExportWriter extends Consumer<OrganizationView.MemberView> {
+    
+    /**
+     * Writes one member row.
+     * 
+     * @throws UncheckedIOException if the output stream fails
+     */
+    @Override
+    void accept(OrganizationView.MemberView member);
+    
+    /**
+     * Flushes remaining output. Does not close the underlying stream.
+     */
+    void finish();
+}
@@ -0,0 +1,57 @@
+package com.zamaz.mcp.organization.adapter.web.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zamaz.mcp.organization.application.query.OrganizationView;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Writes one JSON object per line, streaming through a single reused generator.
+ */
+class NdjsonMemberExportWriter implements MemberExportWriter {
+    
+    private final JsonGenerator generator;
+    private long rows;
+    
+    NdjsonMemberExportWriter(OutputStream outputStream, ObjectMapper objectMapper) {
+        try {
+            this.generator = objectMapper.getFactory().createGenerator(outputStream);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    @Override
+    public void accept(OrganizationView.MemberView member) {
+        try {
+            generator.writeStartObject();
+            generator.writeStringField("userId", member.userId().toString());
+            generator.writeStringField("email", member.email());
+            generator.writeStringField("firstName", member.firstName());
+            generator.writeStringField("lastName", member.lastName());
+            generator.writeStringField("role", member.role());
+            generator.writeStringField("joinedAt", member.joinedAt() != null ? member.joinedAt().toString() : null);
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            
+            if (++rows % MemberExportFormat.FLUSH_INTERVAL == 0) {
+                generator.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    @Override
+    public void finish() {
+        try {
+            generator.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
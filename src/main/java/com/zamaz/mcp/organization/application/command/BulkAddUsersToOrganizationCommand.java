@@ -0,0 +1,53 @@
+package com.zamaz.mcp.organization.application.command;
+
+
+import com.zamaz.mcp.organization.domain.model.OrganizationId;
+import com.zamaz.mcp.organization.domain.model.Role;
+import com.zamaz.mcp.organization.domain.model.UserId;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Command for adding many users to an organization with the same role.
+ */
+public record BulkAddUsersToOrganizationCommand(
+    OrganizationId organizationId,
+    List<UserId> usersToAdd,
+    Role role,
+    UserId addedBy
+) implements Command {
+    
+    /**
+     * Maximum number of users accepted in one command.
+     */
+    public static final int MAX_USERS = 10_000;
+    
+    public BulkAddUsersToOrganizationCommand {
+        Objects.requireNonNull(organizationId, "Organization ID is required");
+        Objects.requireNonNull(usersToAdd, "User IDs to add are required");
+        Objects.requireNonNull(role, "Role is required");
+        Objects.requireNonNull(addedBy, "Adding user ID is required");
+        if (usersToAdd.isEmpty() || usersToAdd.size() > MAX_USERS) {
+            throw new IllegalArgumentException("Between 1 and " + MAX_USERS + " user IDs are required");
+        }
+        usersToAdd = List.copyOf(usersToAdd);
+    }
+    
+    /**
+     * Creates a command from string values.
+     */
+    public static BulkAddUsersToOrganizationCommand of(
+            String organizationId,
+            Collection<String> usersToAdd,
+            String role,
+            String addedBy) {
+        return new BulkAddUsersToOrganizationCommand(
+            OrganizationId.from(organizationId),
+            usersToAdd.stream().map(UserId::from).toList(),
+            Role.fromString(role),
+            UserId.from(addedBy)
+        );
+    }
+}
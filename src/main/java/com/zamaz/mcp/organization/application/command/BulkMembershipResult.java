@@ -0,0 +1,19 @@
+package com.zamaz.mcp.organization.application.command;
+
+import com.zamaz.mcp.organization.domain.model.UserId;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk membership change.
+ *
+ * @param applied users whose membership was changed
+ * @param skipped users that needed no change, e.g. already members on add or not members on remove
+ */
+public record BulkMembershipResult(List<UserId> applied, List<UserId> skipped) {
+    
+    public BulkMembershipResult {
+        applied = List.copyOf(applied);
+        skipped = List.copyOf(skipped);
+    }
+}
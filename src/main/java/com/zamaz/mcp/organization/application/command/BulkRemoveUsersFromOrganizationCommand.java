@@ -0,0 +1,44 @@
+package com.zamaz.mcp.organization.application.command;
+
+
+import com.zamaz.mcp.organization.domain.model.OrganizationId;
+import com.zamaz.mcp.organization.domain.model.UserId;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Command for removing many users from an organization.
+ */
+public record BulkRemoveUsersFromOrganizationCommand(
+    OrganizationId organizationId,
+    List<UserId> usersToRemove,
+    UserId removedBy
+) implements Command {
+    
+    public BulkRemoveUsersFromOrganizationCommand {
+        Objects.requireNonNull(organizationId, "Organization ID is required");
+        Objects.requireNonNull(usersToRemove, "User IDs to remove are required");
+        Objects.requireNonNull(removedBy, "Removing user ID is required");
+        if (usersToRemove.isEmpty() || usersToRemove.size() > BulkAddUsersToOrganizationCommand.MAX_USERS) {
+            throw new IllegalArgumentException(
+                "Between 1 and " + BulkAddUsersToOrganizationCommand.MAX_USERS + " user IDs are required");
+        }
+        usersToRemove = List.copyOf(usersToRemove);
+    }
+    
+    /**
+     * Creates a command from string values.
+     */
+    public static BulkRemoveUsersFromOrganizationCommand of(
+            String organizationId,
+            Collection<String> usersToRemove,
+            String removedBy) {
+        return new BulkRemoveUsersFromOrganizationCommand(
+            OrganizationId.from(organizationId),
+            usersToRemove.stream().map(UserId::from).toList(),
+            UserId.from(removedBy)
+        );
+    }
+}
@@ -0,0 +1,21 @@
+package com.zamaz.mcp.organization.application.port.inbound;
+
+import com.zamaz.mcp.common.application.port.inbound.UseCase;
+import com.zamaz.mcp.organization.application.command.BulkAddUsersToOrganizationCommand;
+import com.zamaz.mcp.organization.application.command.BulkMembershipResult;
+
+/**
+ * Use case for adding many users to an organization at once.
+ * This is an inbound port that defines the contract for bulk user addition.
+ */
+public interface BulkAddUsersToOrganizationUseCase extends UseCase<BulkAddUsersToOrganizationCommand, BulkMembershipResult> {
+    /**
+     * Adds all users with the given role in one transaction.
+     * Users that are already members are skipped; any other invalid user rejects the whole command.
+     * 
+     * @param command the command containing the users and role
+     * @return the added and skipped users
+     */
+    @Override
+    BulkMembershipResult execute(BulkAddUsersToOrganizationCommand command);
+}
@@ -0,0 +1,21 @@
+package com.zamaz.mcp.organization.application.port.inbound;
+
+import com.zamaz.mcp.common.application.port.inbound.UseCase;
+import com.zamaz.mcp.organization.application.command.BulkMembershipResult;
+import com.zamaz.mcp.organization.application.command.BulkRemoveUsersFromOrganizationCommand;
+
+/**
+ * Use case for removing many users from an organization at once.
+ * This is an inbound port that defines the contract for bulk user removal.
+ */
+public interface BulkRemoveUsersFromOrganizationUseCase extends UseCase<BulkRemoveUsersFromOrganizationCommand, BulkMembershipResult> {
+    /**
+     * Removes all users in one transaction.
+     * Users that are not members are skipped; any user the caller cannot manage rejects the whole command.
+     * 
+     * @param command the command containing the users to remove
+     * @return the removed and skipped users
+     */
+    @Override
+    BulkMembershipResult execute(BulkRemoveUsersFromOrganizationCommand command);
+}
@@ -0,0 +1,19 @@
+package com.zamaz.mcp.organization.application.port.inbound;
+
+import com.zamaz.mcp.common.application.port.inbound.UseCase;
+import com.zamaz.mcp.organization.application.query.CheckVisibilityQuery;
+
+/**
+ * Use case for checking which resources a user can see.
+ * This is an inbound port used to filter listings of resources owned by other services.
+ */
+public interface CheckVisibilityUseCase extends UseCase<CheckVisibilityQuery, boolean[]> {
+    /**
+     * Checks every resource of the query against the user's access.
+     * 
+     * @param query the user and the resources to check
+     * @return one flag per resource, in query order
+     */
+    @Override
+    boolean[] execute(CheckVisibilityQuery query);
+}
@@ -0,0 +1,20 @@
+package com.zamaz.mcp.organization.application.port.inbound;
+
+import com.zamaz.mcp.common.application.port.inbound.UseCase;
+import com.zamaz.mcp.organization.application.query.ExportOrganizationMembersQuery;
+import com.zamaz.mcp.organization.application.query.MemberExport;
+
+/**
+ * Use case for exporting all members of an organization.
+ * This is an inbound port that defines the contract for streaming member exports.
+ */
+public interface ExportOrganizationMembersUseCase extends UseCase<ExportOrganizationMembersQuery, MemberExport> {
+    /**
+     * Checks access and prepares the export. No rows are read until the export is written.
+     * 
+     * @param query the query containing the organization ID
+     * @return the export to stream
+     */
+    @Override
+    MemberExport execute(ExportOrganizationMembersQuery query);
+}
@@ -0,0 +1,22 @@
+package com.zamaz.mcp.organization.application.port.inbound;
+
+import com.zamaz.mcp.common.application.port.inbound.UseCase;
+import com.zamaz.mcp.organization.application.query.MemberMatch;
+import com.zamaz.mcp.organization.application.query.SearchOrganizationMembersQuery;
+
+import java.util.List;
+
+/**
+ * Use case for finding members of an organization by name.
+ * This is an inbound port that backs the member picker's typeahead.
+ */
+public interface SearchOrganizationMembersUseCase extends UseCase<SearchOrganizationMembersQuery, List<MemberMatch>> {
+    /**
+     * Finds the members best matching the query's text.
+     * 
+     * @param query the query containing the organization ID and text
+     * @return the matches, best first
+     */
+    @Override
+    List<MemberMatch> execute(SearchOrganizationMembersQuery query);
+}
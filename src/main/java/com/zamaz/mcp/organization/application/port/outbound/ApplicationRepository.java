@@ -0,0 +1,35 @@
+package com.zamaz.mcp.organization.application.port.outbound;
+
+import com.zamaz.mcp.common.application.port.outbound.Repository;
+import com.zamaz.mcp.organization.domain.common.ApplicationId;
+import com.zamaz.mcp.organization.domain.model.Application;
+import com.zamaz.mcp.organization.domain.model.ApplicationName;
+import com.zamaz.mcp.organization.domain.model.OrganizationId;
+
+import java.util.List;
+
+/**
+ * Repository interface for Application aggregate.
+ * This is an outbound port that defines persistence operations.
+ * An application's team set is derived from the teams that reference it, so it is
+ * changed by saving teams through {@link TeamRepository}, not by saving the application.
+ */
+public interface ApplicationRepository extends Repository<Application, ApplicationId> {
+    
+    /**
+     * Finds the active applications of an organization.
+     * 
+     * @param organizationId the organization ID
+     * @return applications ordered by name
+     */
+    List<Application> findActiveByOrganizationId(OrganizationId organizationId);
+    
+    /**
+     * Checks if the organization already has an application with the given name.
+     * 
+     * @param organizationId the organization ID
+     * @param name the application name
+     * @return true if exists
+     */
+    boolean existsByName(OrganizationId organizationId, ApplicationName name);
+}
@@ -0,0 +1,18 @@
+package com.zamaz.mcp.organization.application.port.outbound;
+
+import java.util.List;
+
+/**
+ * Message broker that committed domain events are relayed to.
+ * This is an outbound port for publishing events to other services.
+ */
+public interface DomainEventBroker {
+    
+    /**
+     * Publishes a batch of events in the given order.
+     * 
+     * @param messages events to publish, ordered by sequence
+     * @throws RuntimeException if the batch could not be published; the relay retries it
+     */
+    void publish(List<DomainEventMessage> messages);
+}
@@ -0,0 +1,20 @@
+package com.zamaz.mcp.organization.application.port.outbound;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A committed domain event as relayed from the outbox.
+ * Delivery is at-least-once, so consumers should deduplicate on {@code eventId}.
+ *
+ * @param sequence outbox position; increases with commit order for events of one aggregate
+ * @param payload the event's properties in the versioned binary event format; shared with
+ *                every recipient, so it must not be modified
+ */
+public record DomainEventMessage(UUID eventId,
+                                 long sequence,
+                                 String eventType,
+                                 String aggregateId,
+                                 Instant occurredOn,
+                                 byte[] payload) {
+}
@@ -0,0 +1,24 @@
+package com.zamaz.mcp.organization.application.port.outbound;
+
+import com.zamaz.mcp.organization.application.query.MemberMatch;
+import com.zamaz.mcp.organization.domain.model.OrganizationId;
+
+import java.util.List;
+
+/**
+ * Outbound port for finding organization members by name.
+ */
+public interface MemberNameSearch {
+    
+    /**
+     * Finds members whose "first last" name contains the text, ignoring case.
+     * Names starting with the text come first, then names with a word starting with it,
+     * then other matches; ties are ordered by name.
+     * 
+     * @param organizationId the organization ID
+     * @param text the text to search for
+     * @param limit the maximum number of matches to return
+     * @return the best matches, best first
+     */
+    List<MemberMatch> search(OrganizationId organizationId, String text, int limit);
+}
@@ -4,6 +4,8 @@ import com.zamaz.mcp.organization.domain.model.Organization;
 import com.zamaz.mcp.organization.domain.model.User;
 import com.zamaz.mcp.organization.domain.model.Role;
 
+import java.util.Collection;
+
 /**
  * Service interface for sending notifications.
  * This is an outbound port for notification operations.
@@ -27,6 +29,15 @@ public interface NotificationService {
      */
     void sendUserAddedToOrganizationNotification(Organization organization, User user, Role role);
     
+    /**
+     * Sends the added-to-organization notification to several users at once.
+     * 
+     * @param organization the organization
+     * @param users the added users
+     * @param role the role assigned to all of them
+     */
+    void sendUserAddedToOrganizationNotifications(Organization organization, Collection<User> users, Role role);
+    
     /**
      * Sends a notification when a user is removed from an organization.
      * 
@@ -35,6 +46,14 @@ public interface NotificationService {
      */
     void sendUserRemovedFromOrganizationNotification(Organization organization, User user);
     
+    /**
+     * Sends the removed-from-organization notification to several users at once.
+     * 
+     * @param organization the organization
+     * @param users the removed users
+     */
+    void sendUserRemovedFromOrganizationNotifications(Organization organization, Collection<User> users);
+    
     /**
      * Sends a notification when a user's role is changed.
      * 
@@ -0,0 +1,23 @@
+package com.zamaz.mcp.organization.application.port.outbound;
+
+import com.zamaz.mcp.organization.application.query.OrganizationView;
+import com.zamaz.mcp.organization.domain.model.OrganizationId;
+
+import java.util.function.Consumer;
+
+/**
+ * Read-only access to organization members for bulk reads.
+ * This is an outbound port that streams rows instead of loading the aggregate.
+ */
+public interface OrganizationMemberReader {
+    
+    /**
+     * Streams every member of the organization with user details, oldest membership first.
+     * Must be called inside a transaction; rows are fetched in chunks from a database cursor.
+     * 
+     * @param organizationId the organization ID
+     * @param consumer receives each member row
+     * @return the number of rows streamed
+     */
+    long forEachMember(OrganizationId organizationId, Consumer<OrganizationView.MemberView> consumer);
+}
@@ -3,9 +3,13 @@ package com.zamaz.mcp.organization.application.port.outbound;
 import com.zamaz.mcp.common.application.port.outbound.Repository;
 import com.zamaz.mcp.organization.domain.model.Organization;
 import com.zamaz.mcp.organization.domain.model.OrganizationId;
+import com.zamaz.mcp.organization.domain.model.OrganizationMember;
 import com.zamaz.mcp.organization.domain.model.OrganizationName;
+import com.zamaz.mcp.organization.domain.model.UserId;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -23,7 +27,8 @@ public interface OrganizationRepository extends Repository<Organization, Organiz
     Optional<Organization> findByName(OrganizationName name);
     
     /**
-     * Checks if an organization with the given name exists.
+     * Checks if an organization with the given name exists, ignoring case and whitespace
+     * differences as {@link OrganizationName#normalized()} does.
      * 
      * @param name the organization name
      * @return true if exists
@@ -51,4 +56,29 @@ public interface OrganizationRepository extends Repository<Organization, Organiz
      * @return the total count
      */
     long count();
-}
\ No newline at end of file
+    
+    /**
+     * Counts the organizations each of the given users is a member of.
+     * Users without any membership are absent from the result.
+     * 
+     * @param userIds the user IDs
+     * @return membership count per user
+     */
+    Map<UserId, Long> countMembershipsByUserIds(Collection<UserId> userIds);
+    
+    /**
+     * Inserts new members of an organization without rewriting the existing ones.
+     * 
+     * @param organizationId the organization ID
+     * @param members the members to insert
+     */
+    void addMembers(OrganizationId organizationId, Collection<OrganizationMember> members);
+    
+    /**
+     * Deletes members of an organization without rewriting the remaining ones.
+     * 
+     * @param organizationId the organization ID
+     * @param userIds the users to remove
+     */
+    void removeMembers(OrganizationId organizationId, Collection<UserId> userIds);
+}
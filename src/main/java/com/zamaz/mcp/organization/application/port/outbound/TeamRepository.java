@@ -0,0 +1,42 @@
+package com.zamaz.mcp.organization.application.port.outbound;
+
+import com.zamaz.mcp.common.application.port.outbound.Repository;
+import com.zamaz.mcp.organization.domain.common.ApplicationId;
+import com.zamaz.mcp.organization.domain.common.TeamId;
+import com.zamaz.mcp.organization.domain.model.OrganizationId;
+import com.zamaz.mcp.organization.domain.model.Team;
+import com.zamaz.mcp.organization.domain.model.UserId;
+
+import java.util.List;
+
+/**
+ * Repository interface for Team aggregate.
+ * This is an outbound port that defines persistence operations.
+ * Listings return complete aggregates, members included, in a fixed number of queries.
+ */
+public interface TeamRepository extends Repository<Team, TeamId> {
+    
+    /**
+     * Finds the active teams of an application.
+     * 
+     * @param applicationId the application ID
+     * @return teams ordered by name
+     */
+    List<Team> findActiveByApplicationId(ApplicationId applicationId);
+    
+    /**
+     * Finds the active teams of an organization, including those of its applications.
+     * 
+     * @param organizationId the organization ID
+     * @return teams ordered by name
+     */
+    List<Team> findActiveByOrganizationId(OrganizationId organizationId);
+    
+    /**
+     * Finds the teams a user is an active member of.
+     * 
+     * @param userId the user ID
+     * @return list of teams
+     */
+    List<Team> findByMemberUserId(UserId userId);
+}
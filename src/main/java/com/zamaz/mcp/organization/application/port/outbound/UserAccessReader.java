@@ -0,0 +1,19 @@
+package com.zamaz.mcp.organization.application.port.outbound;
+
+import com.zamaz.mcp.organization.application.query.UserAccess;
+import com.zamaz.mcp.organization.domain.model.UserId;
+
+/**
+ * Outbound port for reading what a user has access to across the organization,
+ * application and team hierarchy.
+ */
+public interface UserAccessReader {
+    
+    /**
+     * Finds the user's access set; users without any membership get an empty set.
+     * 
+     * @param userId the user ID
+     * @return the access set
+     */
+    UserAccess findAccess(UserId userId);
+}
@@ -46,10 +46,14 @@ public interface UserRepository extends Repository<User, UserId> {
     List<User> findAllActive();
     
     /**
-     * Searches users by name pattern.
+     * Searches users whose "first last" name contains the text, ignoring case.
+     * Full-name prefix matches come first, then the closest substring matches; text
+     * shorter than three characters only matches prefixes.
      * 
-     * @param namePattern the pattern to search
-     * @return list of matching users
+     * @param text the text to search for
+     * @param offset the number of matches to skip
+     * @param limit the maximum number of matches to return
+     * @return one page of matching users, best match first
      */
-    List<User> searchByName(String namePattern);
+    List<User> searchByName(String text, int offset, int limit);
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.zamaz.mcp.organization.application.query;
+
+import com.zamaz.mcp.organization.domain.model.UserId;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Query for checking which of a batch of resources a user can see.
+ */
+public record CheckVisibilityQuery(
+    UserId userId,
+    List<VisibilityCheck> resources
+) implements Query {
+    
+    public static final int MAX_RESOURCES = 10_000;
+    
+    public CheckVisibilityQuery {
+        Objects.requireNonNull(userId, "User ID is required");
+        Objects.requireNonNull(resources, "Resources are required");
+        if (resources.size() > MAX_RESOURCES) {
+            throw new IllegalArgumentException("At most " + MAX_RESOURCES + " resources can be checked at once");
+        }
+        resources = List.copyOf(resources);
+    }
+}
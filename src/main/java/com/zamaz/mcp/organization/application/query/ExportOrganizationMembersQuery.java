@@ -0,0 +1,32 @@
+package com.zamaz.mcp.organization.application.query;
+
+
+import com.zamaz.mcp.organization.domain.model.OrganizationId;
+import com.zamaz.mcp.organization.domain.model.UserId;
+
+import java.util.Objects;
+
+/**
+ * Query for exporting the full member list of an organization.
+ * Includes the requesting user for permission checks.
+ */
+public record ExportOrganizationMembersQuery(
+    OrganizationId organizationId,
+    UserId requestingUserId
+) implements Query {
+    
+    public ExportOrganizationMembersQuery {
+        Objects.requireNonNull(organizationId, "Organization ID is required");
+        Objects.requireNonNull(requestingUserId, "Requesting user ID is required");
+    }
+    
+    /**
+     * Creates a query from string IDs.
+     */
+    public static ExportOrganizationMembersQuery of(String organizationId, String requestingUserId) {
+        return new ExportOrganizationMembersQuery(
+            OrganizationId.from(organizationId),
+            UserId.from(requestingUserId)
+        );
+    }
+}
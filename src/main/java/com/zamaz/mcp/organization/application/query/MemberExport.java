@@ -0,0 +1,20 @@
+package com.zamaz.mcp.organization.application.query;
+
+import java.util.function.Consumer;
+
+/**
+ * Deferred, authorized export of an organization's members.
+ * Rows are produced one at a time while {@link #writeTo(Consumer)} runs, so the
+ * full member list is never held in memory.
+ */
+@FunctionalInterface
+public interface MemberExport {
+    
+    /**
+     * Streams every member to the sink, oldest membership first.
+     * 
+     * @param sink receives each member row
+     * @return the number of rows written
+     */
+    long writeTo(Consumer<OrganizationView.MemberView> sink);
+}
@@ -0,0 +1,16 @@
+package com.zamaz.mcp.organization.application.query;
+
+import java.util.UUID;
+
+/**
+ * Read model for a member found by name, as shown in the member picker.
+ */
+public record MemberMatch(
+    UUID userId,
+    String firstName,
+    String lastName
+) {
+    public String getFullName() {
+        return firstName + " " + lastName;
+    }
+}
@@ -0,0 +1,42 @@
+package com.zamaz.mcp.organization.application.query;
+
+import com.zamaz.mcp.organization.domain.model.OrganizationId;
+import com.zamaz.mcp.organization.domain.model.UserId;
+
+import java.util.Objects;
+
+/**
+ * Query for finding members of an organization by name, as typed in the member picker.
+ * Includes the requesting user for permission checks.
+ */
+public record SearchOrganizationMembersQuery(
+    OrganizationId organizationId,
+    UserId requestingUserId,
+    String text,
+    int limit
+) implements Query {
+    
+    public static final int MAX_LIMIT = 50;
+    
+    public SearchOrganizationMembersQuery {
+        Objects.requireNonNull(organizationId, "Organization ID is required");
+        Objects.requireNonNull(requestingUserId, "Requesting user ID is required");
+        Objects.requireNonNull(text, "Search text is required");
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+    }
+    
+    /**
+     * Creates a query from string IDs.
+     */
+    public static SearchOrganizationMembersQuery of(String organizationId, String requestingUserId,
+                                                    String text, int limit) {
+        return new SearchOrganizationMembersQuery(
+            OrganizationId.from(organizationId),
+            UserId.from(requestingUserId),
+            text,
+            limit
+        );
+    }
+}
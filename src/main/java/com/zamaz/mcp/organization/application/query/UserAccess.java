@@ -0,0 +1,128 @@
+package com.zamaz.mcp.organization.application.query;
+
+import com.zamaz.mcp.organization.domain.common.SharingLevel;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Precomputed set of the organizations, applications and teams a user has access to.
+ *
+ * <p>IDs are kept as sorted (most, least significant bits) pairs in flat long arrays, so a
+ * user in a handful of teams costs a few hundred bytes and a lookup is a binary search
+ * that allocates nothing. Only active organizations, and active memberships of active
+ * teams, are included; a user has access to an application through its teams.
+ */
+public final class UserAccess {
+    
+    private static final long[] EMPTY = new long[0];
+    
+    private final UUID userId;
+    private final long[] organizations;
+    private final long[] applications;
+    private final long[] teams;
+    
+    private UserAccess(UUID userId, long[] organizations, long[] applications, long[] teams) {
+        this.userId = userId;
+        this.organizations = organizations;
+        this.applications = applications;
+        this.teams = teams;
+    }
+    
+    public static UserAccess of(UUID userId, Collection<UUID> organizations,
+                                Collection<UUID> applications, Collection<UUID> teams) {
+        return new UserAccess(userId, pack(organizations), pack(applications), pack(teams));
+    }
+    
+    public static UserAccess none(UUID userId) {
+        return new UserAccess(userId, EMPTY, EMPTY, EMPTY);
+    }
+    
+    public UUID getUserId() {
+        return userId;
+    }
+    
+    public boolean isOrganizationMember(UUID organizationId) {
+        return contains(organizations, organizationId);
+    }
+    
+    public boolean hasApplicationAccess(UUID applicationId) {
+        return contains(applications, applicationId);
+    }
+    
+    public boolean isTeamMember(UUID teamId) {
+        return contains(teams, teamId);
+    }
+    
+    /**
+     * Checks if the user can see a resource. Resources are confined to their organization;
+     * within it, the sharing level decides, and owners always see their own resources.
+     * A sharing level incompatible with the resource's scope hides it from everyone, the
+     * owner included, so inconsistent input fails closed.
+     */
+    public boolean canSee(VisibilityCheck resource) {
+        SharingLevel sharingLevel = resource.sharingLevel();
+        if (!sharingLevel.isCompatibleWith(resource.scope()) || !isOrganizationMember(resource.organizationId())) {
+            return false;
+        }
+        if (userId.equals(resource.ownerId())) {
+            return true;
+        }
+        return switch (sharingLevel) {
+            case ME_ONLY, APPLICATION_ME -> false;
+            case ORGANIZATION -> true;
+            case APPLICATION_ALL -> hasApplicationAccess(resource.applicationId());
+            case APPLICATION_TEAM -> isTeamMember(resource.teamId());
+        };
+    }
+    
+    private static long[] pack(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return EMPTY;
+        }
+        UUID[] sorted = ids.stream().distinct().sorted().toArray(UUID[]::new);
+        long[] packed = new long[sorted.length * 2];
+        for (int i = 0; i < sorted.length; i++) {
+            packed[i * 2] = sorted[i].getMostSignificantBits();
+            packed[i * 2 + 1] = sorted[i].getLeastSignificantBits();
+        }
+        return packed;
+    }
+    
+    /**
+     * Binary search over the pairs, in {@link UUID#compareTo} order.
+     */
+    private static boolean contains(long[] ids, UUID id) {
+        if (id == null) {
+            return false;
+        }
+        long most = id.getMostSignificantBits();
+        long least = id.getLeastSignificantBits();
+        int low = 0;
+        int high = ids.length / 2 - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = Long.compare(ids[middle * 2], most);
+            if (comparison == 0) {
+                comparison = Long.compare(ids[middle * 2 + 1], least);
+            }
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    @Override
+    public String toString() {
+        return "UserAccess{userId=" + userId +
+               ", organizations=" + organizations.length / 2 +
+               ", applications=" + applications.length / 2 +
+               ", teams=" + teams.length / 2 + '}';
+    }
+}
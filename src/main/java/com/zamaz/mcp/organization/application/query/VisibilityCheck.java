@@ -0,0 +1,27 @@
+package com.zamaz.mcp.organization.application.query;
+
+import com.zamaz.mcp.organization.domain.common.ScopeType;
+import com.zamaz.mcp.organization.domain.common.SharingLevel;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Where a resource lives and how it is shared, as needed to decide who can see it.
+ * The application and team are only set for resources that belong to them.
+ */
+public record VisibilityCheck(
+    UUID organizationId,
+    UUID applicationId,
+    UUID teamId,
+    UUID ownerId,
+    ScopeType scope,
+    SharingLevel sharingLevel
+) {
+    
+    public VisibilityCheck {
+        Objects.requireNonNull(organizationId, "Organization ID is required");
+        Objects.requireNonNull(scope, "Scope is required");
+        Objects.requireNonNull(sharingLevel, "Sharing level is required");
+    }
+}
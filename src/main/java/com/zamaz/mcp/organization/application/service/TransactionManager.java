@@ -5,4 +5,6 @@ import java.util.function.Supplier;
 public interface TransactionManager {
     <T> T executeInTransaction(Supplier<T> action);
     void executeInTransaction(Runnable action);
+    <T> T executeInNewTransaction(Supplier<T> action);
+    <T> T executeInReadOnlyTransaction(Supplier<T> action);
 }
\ No newline at end of file
@@ -0,0 +1,135 @@
+package com.zamaz.mcp.organization.application.usecase;
+
+import com.zamaz.mcp.organization.application.command.BulkAddUsersToOrganizationCommand;
+import com.zamaz.mcp.organization.application.command.BulkMembershipResult;
+import com.zamaz.mcp.organization.application.exception.common.ResourceNotFoundException;
+import com.zamaz.mcp.organization.application.exception.common.UseCaseException;
+import com.zamaz.mcp.organization.application.port.inbound.BulkAddUsersToOrganizationUseCase;
+import com.zamaz.mcp.organization.application.port.outbound.NotificationService;
+import com.zamaz.mcp.organization.application.port.outbound.OrganizationRepository;
+import com.zamaz.mcp.organization.application.port.outbound.UserRepository;
+import com.zamaz.mcp.organization.application.service.TransactionManager;
+import com.zamaz.mcp.organization.application.service.ValidationService;
+import com.zamaz.mcp.organization.domain.event.common.DomainEventPublisher;
+import com.zamaz.mcp.organization.domain.model.OrganizationMember;
+import com.zamaz.mcp.organization.domain.model.Role;
+import com.zamaz.mcp.organization.domain.model.User;
+import com.zamaz.mcp.organization.domain.model.UserId;
+import com.zamaz.mcp.organization.domain.service.OrganizationDomainService;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the bulk add users to organization use case.
+ * All users are validated with set-based lookups, applied to the aggregate in one step
+ * and written with batched inserts, so the cost grows with the number of new members
+ * rather than with one aggregate load and rewrite per user.
+ */
+public class BulkAddUsersToOrganizationUseCaseImpl implements BulkAddUsersToOrganizationUseCase {
+    
+    private final OrganizationRepository organizationRepository;
+    private final UserRepository userRepository;
+    private final OrganizationDomainService domainService;
+    private final NotificationService notificationService;
+    private final DomainEventPublisher eventPublisher;
+    private final TransactionManager transactionManager;
+    private final ValidationService validationService;
+    
+    public BulkAddUsersToOrganizationUseCaseImpl(
+            OrganizationRepository organizationRepository,
+            UserRepository userRepository,
+            OrganizationDomainService domainService,
+            NotificationService notificationService,
+            DomainEventPublisher eventPublisher,
+            TransactionManager transactionManager,
+            ValidationService validationService) {
+        this.organizationRepository = Objects.requireNonNull(organizationRepository);
+        this.userRepository = Objects.requireNonNull(userRepository);
+        this.domainService = Objects.requireNonNull(domainService);
+        this.notificationService = Objects.requireNonNull(notificationService);
+        this.eventPublisher = Objects.requireNonNull(eventPublisher);
+        this.transactionManager = Objects.requireNonNull(transactionManager);
+        this.validationService = Objects.requireNonNull(validationService);
+    }
+    
+    @Override
+    public BulkMembershipResult execute(BulkAddUsersToOrganizationCommand command) {
+        // Validate command
+        validationService.validateOrThrow(command);
+        
+        return transactionManager.executeInTransaction(() -> {
+            // Find organization
+            var organization = organizationRepository.findById(command.organizationId())
+                .orElseThrow(() -> new ResourceNotFoundException(
+                    "Organization not found: " + command.organizationId()
+                ));
+            
+            // Check if adding user has permission (must be ADMIN or OWNER)
+            if (!organization.hasRole(command.addedBy(), Role.ADMIN)) {
+                throw new UseCaseException(
+                    "organization.addUser.unauthorized",
+                    "User does not have permission to add users to this organization"
+                );
+            }
+            
+            // Check if adding user can assign the requested role
+            var addingRole = organization.getUserRole(command.addedBy())
+                .orElseThrow(() -> new IllegalStateException("Adding user not found in organization"));
+            
+            if (!addingRole.canManage(command.role())) {
+                throw new UseCaseException(
+                    "organization.role.cannotAssign",
+                    "User cannot assign role " + command.role() + " to other users"
+                );
+            }
+            
+            // Existing members need no change
+            List<UserId> toAdd = new ArrayList<>();
+            List<UserId> skipped = new ArrayList<>();
+            for (UserId userId : new LinkedHashSet<>(command.usersToAdd())) {
+                (organization.isMember(userId) ? skipped : toAdd).add(userId);
+            }
+            
+            if (toAdd.isEmpty()) {
+                return new BulkMembershipResult(List.of(), skipped);
+            }
+            
+            // Load all users in one query and reject unknown IDs
+            Map<UserId, User> users = userRepository.findByIds(toAdd).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+            
+            var missing = toAdd.stream().filter(userId -> !users.containsKey(userId)).toList();
+            if (!missing.isEmpty()) {
+                throw new ResourceNotFoundException(
+                    "Users not found: " + missing.size() + " (first: " + missing.get(0) + ")"
+                );
+            }
+            
+            // Eligibility and per-user organization limits, checked for all users at once
+            domainService.validateUsersCanJoinOrganization(users.values(), command.organizationId());
+            
+            // Apply to the aggregate and persist only the new rows
+            List<OrganizationMember> added = organization.addUsers(toAdd, command.role());
+            organizationRepository.addMembers(organization.getId(), added);
+            
+            // Publish domain events
+            eventPublisher.publishAll(organization.getUncommittedEvents());
+            organization.markEventsAsCommitted();
+            
+            // Queue notifications with one batched outbox insert
+            notificationService.sendUserAddedToOrganizationNotifications(
+                organization,
+                toAdd.stream().map(users::get).toList(),
+                command.role()
+            );
+            
+            return new BulkMembershipResult(toAdd, skipped);
+        });
+    }
+}
@@ -0,0 +1,110 @@
+package com.zamaz.mcp.organization.application.usecase;
+
+import com.zamaz.mcp.organization.application.command.BulkMembershipResult;
+import com.zamaz.mcp.organization.application.command.BulkRemoveUsersFromOrganizationCommand;
+import com.zamaz.mcp.organization.application.exception.common.ResourceNotFoundException;
+import com.zamaz.mcp.organization.application.exception.common.UseCaseException;
+import com.zamaz.mcp.organization.application.port.inbound.BulkRemoveUsersFromOrganizationUseCase;
+import com.zamaz.mcp.organization.application.port.outbound.NotificationService;
+import com.zamaz.mcp.organization.application.port.outbound.OrganizationRepository;
+import com.zamaz.mcp.organization.application.port.outbound.UserRepository;
+import com.zamaz.mcp.organization.application.service.TransactionManager;
+import com.zamaz.mcp.organization.application.service.ValidationService;
+import com.zamaz.mcp.organization.domain.event.common.DomainEventPublisher;
+import com.zamaz.mcp.organization.domain.model.UserId;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Implementation of the bulk remove users from organization use case.
+ * Authorization is checked for every user before anything is removed, and the
+ * memberships are deleted with batched statements.
+ */
+public class BulkRemoveUsersFromOrganizationUseCaseImpl implements BulkRemoveUsersFromOrganizationUseCase {
+    
+    private final OrganizationRepository organizationRepository;
+    private final UserRepository userRepository;
+    private final NotificationService notificationService;
+    private final DomainEventPublisher eventPublisher;
+    private final TransactionManager transactionManager;
+    private final ValidationService validationService;
+    
+    public BulkRemoveUsersFromOrganizationUseCaseImpl(
+            OrganizationRepository organizationRepository,
+            UserRepository userRepository,
+            NotificationService notificationService,
+            DomainEventPublisher eventPublisher,
+            TransactionManager transactionManager,
+            ValidationService validationService) {
+        this.organizationRepository = Objects.requireNonNull(organizationRepository);
+        this.userRepository = Objects.requireNonNull(userRepository);
+        this.notificationService = Objects.requireNonNull(notificationService);
+        this.eventPublisher = Objects.requireNonNull(eventPublisher);
+        this.transactionManager = Objects.requireNonNull(transactionManager);
+        this.validationService = Objects.requireNonNull(validationService);
+    }
+    
+    @Override
+    public BulkMembershipResult execute(BulkRemoveUsersFromOrganizationCommand command) {
+        // Validate command
+        validationService.validateOrThrow(command);
+        
+        return transactionManager.executeInTransaction(() -> {
+            // Find organization
+            var organization = organizationRepository.findById(command.organizationId())
+                .orElseThrow(() -> new ResourceNotFoundException(
+                    "Organization not found: " + command.organizationId()
+                ));
+            
+            var removingMember = organization.getMembers().stream()
+                .filter(m -> m.getUserId().equals(command.removedBy()))
+                .findFirst()
+                .orElseThrow(() -> new UseCaseException(
+                    "organization.removeUser.notMember",
+                    "Removing user is not a member of this organization"
+                ));
+            
+            // Non-members need no change; every actual member must be manageable by the caller
+            List<UserId> toRemove = new ArrayList<>();
+            List<UserId> skipped = new ArrayList<>();
+            for (UserId userId : new LinkedHashSet<>(command.usersToRemove())) {
+                var role = organization.getUserRole(userId);
+                if (role.isEmpty()) {
+                    skipped.add(userId);
+                    continue;
+                }
+                boolean isSelfRemoval = userId.equals(command.removedBy());
+                if (!isSelfRemoval && !removingMember.getRole().canManage(role.get())) {
+                    throw new UseCaseException(
+                        "organization.removeUser.unauthorized",
+                        "User does not have permission to remove user " + userId
+                    );
+                }
+                toRemove.add(userId);
+            }
+            
+            if (toRemove.isEmpty()) {
+                return new BulkMembershipResult(List.of(), skipped);
+            }
+            
+            // Find users for notification in one query
+            var users = userRepository.findByIds(toRemove);
+            
+            // Apply to the aggregate and delete only the removed rows
+            organization.removeUsers(toRemove);
+            organizationRepository.removeMembers(organization.getId(), toRemove);
+            
+            // Publish domain events
+            eventPublisher.publishAll(organization.getUncommittedEvents());
+            organization.markEventsAsCommitted();
+            
+            // Queue notifications with one batched outbox insert
+            notificationService.sendUserRemovedFromOrganizationNotifications(organization, users);
+            
+            return new BulkMembershipResult(toRemove, skipped);
+        });
+    }
+}
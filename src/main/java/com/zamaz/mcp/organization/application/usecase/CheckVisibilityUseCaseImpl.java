@@ -0,0 +1,34 @@
+package com.zamaz.mcp.organization.application.usecase;
+
+import com.zamaz.mcp.organization.application.port.inbound.CheckVisibilityUseCase;
+import com.zamaz.mcp.organization.application.port.outbound.UserAccessReader;
+import com.zamaz.mcp.organization.application.query.CheckVisibilityQuery;
+import com.zamaz.mcp.organization.application.query.UserAccess;
+
+import java.util.Objects;
+
+/**
+ * Implementation of the check visibility use case.
+ * The user's access set is read once per batch, so each resource costs a few binary
+ * searches and no aggregate is loaded.
+ */
+public class CheckVisibilityUseCaseImpl implements CheckVisibilityUseCase {
+    
+    private final UserAccessReader userAccessReader;
+    
+    public CheckVisibilityUseCaseImpl(UserAccessReader userAccessReader) {
+        this.userAccessReader = Objects.requireNonNull(userAccessReader);
+    }
+    
+    @Override
+    public boolean[] execute(CheckVisibilityQuery query) {
+        UserAccess access = userAccessReader.findAccess(query.userId());
+        var resources = query.resources();
+        
+        boolean[] visible = new boolean[resources.size()];
+        for (int i = 0; i < visible.length; i++) {
+            visible[i] = access.canSee(resources.get(i));
+        }
+        return visible;
+    }
+}
@@ -0,0 +1,54 @@
+package com.zamaz.mcp.organization.application.usecase;
+
+import com.zamaz.mcp.organization.application.exception.common.UseCaseException;
+import com.zamaz.mcp.organization.application.port.inbound.ExportOrganizationMembersUseCase;
+import com.zamaz.mcp.organization.application.port.outbound.AuthenticationService;
+import com.zamaz.mcp.organization.application.port.outbound.OrganizationMemberReader;
+import com.zamaz.mcp.organization.application.query.ExportOrganizationMembersQuery;
+import com.zamaz.mcp.organization.application.query.MemberExport;
+import com.zamaz.mcp.organization.application.service.TransactionManager;
+import com.zamaz.mcp.organization.domain.model.Role;
+
+import java.util.Objects;
+
+/**
+ * Implementation of the export organization members use case.
+ * Access is checked up front without loading the aggregate; members are then
+ * streamed from the database in a read-only transaction.
+ */
+public class ExportOrganizationMembersUseCaseImpl implements ExportOrganizationMembersUseCase {
+    
+    private final OrganizationMemberReader memberReader;
+    private final AuthenticationService authenticationService;
+    private final TransactionManager transactionManager;
+    
+    public ExportOrganizationMembersUseCaseImpl(
+            OrganizationMemberReader memberReader,
+            AuthenticationService authenticationService,
+            TransactionManager transactionManager) {
+        this.memberReader = Objects.requireNonNull(memberReader);
+        this.authenticationService = Objects.requireNonNull(authenticationService);
+        this.transactionManager = Objects.requireNonNull(transactionManager);
+    }
+    
+    @Override
+    public MemberExport execute(ExportOrganizationMembersQuery query) {
+        // Any membership grants read access, as for organization details
+        boolean isMember = authenticationService.hasPermission(
+            query.requestingUserId().value().toString(),
+            query.organizationId().value().toString(),
+            Role.GUEST
+        );
+        
+        if (!isMember) {
+            throw new UseCaseException(
+                "organization.access.denied",
+                "User does not have access to this organization"
+            );
+        }
+        
+        return sink -> transactionManager.executeInReadOnlyTransaction(
+            () -> memberReader.forEachMember(query.organizationId(), sink)
+        );
+    }
+}
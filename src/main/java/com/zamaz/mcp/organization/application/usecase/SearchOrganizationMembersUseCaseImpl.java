@@ -0,0 +1,55 @@
+package com.zamaz.mcp.organization.application.usecase;
+
+import com.zamaz.mcp.organization.application.exception.common.UseCaseException;
+import com.zamaz.mcp.organization.application.port.inbound.SearchOrganizationMembersUseCase;
+import com.zamaz.mcp.organization.application.port.outbound.AuthenticationService;
+import com.zamaz.mcp.organization.application.port.outbound.MemberNameSearch;
+import com.zamaz.mcp.organization.application.query.MemberMatch;
+import com.zamaz.mcp.organization.application.query.SearchOrganizationMembersQuery;
+import com.zamaz.mcp.organization.application.service.TransactionManager;
+import com.zamaz.mcp.organization.domain.model.Role;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Implementation of the search organization members use case.
+ * Access is checked up front without loading the aggregate; matches come from the
+ * member name search in a read-only transaction.
+ */
+public class SearchOrganizationMembersUseCaseImpl implements SearchOrganizationMembersUseCase {
+    
+    private final MemberNameSearch memberNameSearch;
+    private final AuthenticationService authenticationService;
+    private final TransactionManager transactionManager;
+    
+    public SearchOrganizationMembersUseCaseImpl(
+            MemberNameSearch memberNameSearch,
+            AuthenticationService authenticationService,
+            TransactionManager transactionManager) {
+        this.memberNameSearch = Objects.requireNonNull(memberNameSearch);
+        this.authenticationService = Objects.requireNonNull(authenticationService);
+        this.transactionManager = Objects.requireNonNull(transactionManager);
+    }
+    
+    @Override
+    public List<MemberMatch> execute(SearchOrganizationMembersQuery query) {
+        // Any membership grants read access, as for organization details
+        boolean isMember = authenticationService.hasPermission(
+            query.requestingUserId().value().toString(),
+            query.organizationId().value().toString(),
+            Role.GUEST
+        );
+        
+        if (!isMember) {
+            throw new UseCaseException(
+                "organization.access.denied",
+                "User does not have access to this organization"
+            );
+        }
+        
+        return transactionManager.executeInReadOnlyTransaction(
+            () -> memberNameSearch.search(query.organizationId(), query.text(), query.limit())
+        );
+    }
+}
@@ -61,8 +61,9 @@ public class UpdateOrganizationUseCaseImpl implements UpdateOrganizationUseCase
             
             // Update name and description if provided
             command.getName().ifPresent(newName -> {
-                // Check if new name is available (if changed)
-                if (!organization.getName().equals(newName) && 
+                // Check if new name is available (if changed); a new case or spacing of
+                // the current name matches the organization's own row, so it is not a rename
+                if (!organization.getName().normalized().equals(newName.normalized()) && 
                     !domainService.isOrganizationNameAvailable(newName)) {
                     throw new UseCaseException(
                         "organization.name.taken",
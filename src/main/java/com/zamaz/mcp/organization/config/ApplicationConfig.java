@@ -4,8 +4,12 @@ import com.zamaz.mcp.organization.application.service.TransactionManager;
 import com.zamaz.mcp.organization.application.service.ValidationService;
 import com.zamaz.mcp.organization.domain.event.common.DomainEventPublisher;
 import com.zamaz.mcp.organization.application.port.inbound.*;
+import com.zamaz.mcp.organization.application.port.outbound.AuthenticationService;
+import com.zamaz.mcp.organization.application.port.outbound.MemberNameSearch;
 import com.zamaz.mcp.organization.application.port.outbound.NotificationService;
+import com.zamaz.mcp.organization.application.port.outbound.OrganizationMemberReader;
 import com.zamaz.mcp.organization.application.port.outbound.OrganizationRepository;
+import com.zamaz.mcp.organization.application.port.outbound.UserAccessReader;
 import com.zamaz.mcp.organization.application.port.outbound.UserRepository;
 import com.zamaz.mcp.organization.application.usecase.*;
 import com.zamaz.mcp.organization.domain.service.OrganizationDomainService;
@@ -109,4 +113,75 @@ public class ApplicationConfig {
             validationService
         );
     }
+    
+    @Bean
+    public BulkAddUsersToOrganizationUseCase bulkAddUsersToOrganizationUseCase(
+            OrganizationRepository organizationRepository,
+            UserRepository userRepository,
+            OrganizationDomainService domainService,
+            NotificationService notificationService,
+            DomainEventPublisher eventPublisher,
+            TransactionManager transactionManager,
+            ValidationService validationService) {
+        
+        return new BulkAddUsersToOrganizationUseCaseImpl(
+            organizationRepository,
+            userRepository,
+            domainService,
+            notificationService,
+            eventPublisher,
+            transactionManager,
+            validationService
+        );
+    }
+    
+    @Bean
+    public BulkRemoveUsersFromOrganizationUseCase bulkRemoveUsersFromOrganizationUseCase(
+            OrganizationRepository organizationRepository,
+            UserRepository userRepository,
+            NotificationService notificationService,
+            DomainEventPublisher eventPublisher,
+            TransactionManager transactionManager,
+            ValidationService validationService) {
+        
+        return new BulkRemoveUsersFromOrganizationUseCaseImpl(
+            organizationRepository,
+            userRepository,
+            notificationService,
+            eventPublisher,
+            transactionManager,
+            validationService
+        );
+    }
+    
+    @Bean
+    public ExportOrganizationMembersUseCase exportOrganizationMembersUseCase(
+            OrganizationMemberReader memberReader,
+            AuthenticationService authenticationService,
+            TransactionManager transactionManager) {
+        
+        return new ExportOrganizationMembersUseCaseImpl(
+            memberReader,
+            authenticationService,
+            transactionManager
+        );
+    }
+    
+    @Bean
+    public SearchOrganizationMembersUseCase searchOrganizationMembersUseCase(
+            MemberNameSearch memberNameSearch,
+            AuthenticationService authenticationService,
+            TransactionManager transactionManager) {
+        
+        return new SearchOrganizationMembersUseCaseImpl(
+            memberNameSearch,
+            authenticationService,
+            transactionManager
+        );
+    }
+    
+    @Bean
+    public CheckVisibilityUseCase checkVisibilityUseCase(UserAccessReader userAccessReader) {
+        return new CheckVisibilityUseCaseImpl(userAccessReader);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.zamaz.mcp.organization.config;
+
+import com.zamaz.mcp.organization.adapter.persistence.invalidation.OrganizationIndexInvalidator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Subscribes this node to in-memory index invalidations broadcast by the others.
+ * Independent of the organization cache, since the indexes are always on; disabled
+ * with {@code app.index-invalidation.broadcast=false} for single-node deployments.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.index-invalidation.broadcast", havingValue = "true", matchIfMissing = true)
+public class IndexInvalidationConfig {
+
+    @Bean
+    public RedisMessageListenerContainer indexInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                           OrganizationIndexInvalidator invalidator) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+            (message, pattern) -> invalidator.evictLocal(new String(message.getBody(), StandardCharsets.UTF_8)),
+            new ChannelTopic(OrganizationIndexInvalidator.CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,102 @@
+package com.zamaz.mcp.organization.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zamaz.mcp.organization.adapter.persistence.cache.BinaryOrganizationSnapshotCodec;
+import com.zamaz.mcp.organization.adapter.persistence.cache.CacheCodec;
+import com.zamaz.mcp.organization.adapter.persistence.cache.JsonCacheCodec;
+import com.zamaz.mcp.organization.adapter.persistence.cache.OrganizationSnapshot;
+import com.zamaz.mcp.organization.adapter.persistence.cache.TwoTierCache;
+import com.zamaz.mcp.organization.adapter.persistence.cache.UserSnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Configuration for the two-tier organization and user caches.
+ * A bounded Caffeine near cache on each node sits in front of a shared Redis tier;
+ * evictions are fanned out to all nodes over Redis pub/sub. Organizations are stored
+ * in the compact binary format unless {@code app.cache.organization.codec} is {@code json}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.cache.organization.enabled", havingValue = "true", matchIfMissing = true)
+public class OrganizationCacheConfig {
+
+    @Value("${app.cache.organization.near-maximum-size:10000}")
+    private long nearMaximumSize;
+
+    @Value("${app.cache.organization.near-ttl:30s}")
+    private Duration nearTtl;
+
+    @Value("${app.cache.organization.remote-ttl:10m}")
+    private Duration remoteTtl;
+
+    @Value("${app.cache.organization.eviction-guard:15s}")
+    private Duration evictionGuard;
+
+    @Value("${app.cache.organization.codec:binary}")
+    private String codec;
+
+    @Bean
+    public RedisTemplate<String, byte[]> cacheRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(RedisSerializer.string());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        return template;
+    }
+
+    @Bean
+    public TwoTierCache<OrganizationSnapshot> organizationCache(RedisTemplate<String, byte[]> cacheRedisTemplate,
+                                                                ObjectMapper objectMapper,
+                                                                MeterRegistry meterRegistry) {
+        var cache = new TwoTierCache<>("organizations", nearMaximumSize, nearTtl, cacheRedisTemplate,
+            organizationCodec(objectMapper), remoteTtl, evictionGuard);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.getNearCache(), "organizations.near");
+        return cache;
+    }
+
+    @Bean
+    public TwoTierCache<UserSnapshot> userCache(RedisTemplate<String, byte[]> cacheRedisTemplate,
+                                                ObjectMapper objectMapper,
+                                                MeterRegistry meterRegistry) {
+        var cache = new TwoTierCache<>("users", nearMaximumSize, nearTtl, cacheRedisTemplate,
+            new JsonCacheCodec<>(objectMapper, UserSnapshot.class), remoteTtl, evictionGuard);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.getNearCache(), "users.near");
+        return cache;
+    }
+
+    private CacheCodec<OrganizationSnapshot> organizationCodec(ObjectMapper objectMapper) {
+        return "json".equalsIgnoreCase(codec)
+            ? new JsonCacheCodec<>(objectMapper, OrganizationSnapshot.class)
+            : new BinaryOrganizationSnapshotCodec();
+    }
+
+    /**
+     * Subscribes every cache to its invalidation channel so evictions made on any
+     * node drop the near copy everywhere.
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                           List<TwoTierCache<?>> caches) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        for (TwoTierCache<?> cache : caches) {
+            container.addMessageListener(
+                (message, pattern) -> cache.evictLocal(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(cache.getInvalidationChannel()));
+        }
+        return container;
+    }
+}
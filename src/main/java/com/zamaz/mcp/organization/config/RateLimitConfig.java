@@ -0,0 +1,37 @@
+package com.zamaz.mcp.organization.config;
+
+import com.zamaz.mcp.organization.infrastructure.resilience.LocalRateLimiter;
+import com.zamaz.mcp.organization.infrastructure.resilience.RateLimiter;
+import com.zamaz.mcp.organization.infrastructure.resilience.RedisRateLimiter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Configuration for {@code @McpRateLimit} enforcement.
+ * {@code mcp.rate-limit.mode=local} keeps buckets per node; {@code redis} shares them
+ * across replicas and falls back to the local buckets while Redis is unavailable.
+ */
+@Configuration
+public class RateLimitConfig {
+    
+    @Bean
+    public RateLimiter mcpRateLimiter(@Value("${mcp.rate-limit.mode:local}") String mode,
+                                      @Value("${mcp.rate-limit.maximum-buckets:100000}") long maximumBuckets,
+                                      ObjectProvider<StringRedisTemplate> redisTemplate,
+                                      MeterRegistry meterRegistry) {
+        LocalRateLimiter local = new LocalRateLimiter(maximumBuckets);
+        Gauge.builder("mcp.rate_limit.buckets", local, LocalRateLimiter::bucketCount)
+            .description("Live in-memory rate limit buckets")
+            .register(meterRegistry);
+        
+        if ("redis".equalsIgnoreCase(mode)) {
+            return new RedisRateLimiter(redisTemplate.getObject(), local);
+        }
+        return local;
+    }
+}
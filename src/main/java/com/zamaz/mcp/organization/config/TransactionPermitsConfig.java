@@ -0,0 +1,35 @@
+package com.zamaz.mcp.organization.config;
+
+import com.zamaz.mcp.organization.adapter.infrastructure.transaction.PermitTransactionManager;
+import com.zamaz.mcp.organization.adapter.infrastructure.transaction.TransactionPermits;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Wraps the application's transaction manager in a {@link PermitTransactionManager} when
+ * transaction permits are enabled, so every transaction, declarative or programmatic,
+ * waits for a permit before it borrows a connection.
+ */
+@Configuration
+public class TransactionPermitsConfig {
+
+    @Bean
+    static BeanPostProcessor transactionPermitsPostProcessor(ObjectProvider<TransactionPermits> transactionPermits) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof PlatformTransactionManager transactionManager
+                        && !(bean instanceof PermitTransactionManager)) {
+                    TransactionPermits permits = transactionPermits.getObject();
+                    if (permits.isEnabled()) {
+                        return new PermitTransactionManager(transactionManager, permits);
+                    }
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -1,15 +1,29 @@
 package com.zamaz.mcp.organization.controller;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.zamaz.mcp.organization.dto.McpToolResults.CallResult;
+import com.zamaz.mcp.organization.exception.InvalidToolArgumentsException;
+import com.zamaz.mcp.organization.infrastructure.error.McpErrorHandler;
+import com.zamaz.mcp.organization.infrastructure.error.McpErrorResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
 import reactor.core.publisher.Mono;
 
+import java.io.IOException;
+
 @Slf4j
 @RestController
 @RequestMapping("/mcp")
@@ -19,6 +33,8 @@ public class McpEndpointController {
 
     private final ObjectMapper objectMapper;
     private final McpToolsController mcpToolsController;
+    private final McpToolRegistry toolRegistry;
+    private final McpErrorHandler mcpErrorHandler;
 
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     public Mono<JsonNode> getServerInfo() {
@@ -34,62 +50,118 @@ public class McpEndpointController {
         return Mono.just(response);
     }
 
-    @PostMapping(value = "/list-tools", produces = MediaType.APPLICATION_JSON_VALUE)
-    public Mono<JsonNode> listTools() {
-        ObjectNode response = objectMapper.createObjectNode();
-        ArrayNode tools = response.putArray("tools");
-        
-        // Organization tools
-        ObjectNode createOrg = tools.addObject();
-        createOrg.put("name", "create_organization");
-        createOrg.put("description", "Create a new organization");
-        ObjectNode createOrgParams = createOrg.putObject("parameters");
-        createOrgParams.put("type", "object");
-        ObjectNode createOrgProps = createOrgParams.putObject("properties");
-        createOrgProps.putObject("name").put("type", "string").put("description", "Organization name");
-        createOrgProps.putObject("description").put("type", "string").put("description", "Organization description");
-        createOrgParams.putArray("required").add("name");
-        
-        // List organizations tool
-        ObjectNode listOrgs = tools.addObject();
-        listOrgs.put("name", "list_organizations");
-        listOrgs.put("description", "List all organizations");
-        listOrgs.putObject("parameters").put("type", "object");
-        
-        // Create user tool
-        ObjectNode createUser = tools.addObject();
-        createUser.put("name", "create_user");
-        createUser.put("description", "Create a new user");
-        ObjectNode createUserParams = createUser.putObject("parameters");
-        createUserParams.put("type", "object");
-        ObjectNode createUserProps = createUserParams.putObject("properties");
-        createUserProps.putObject("email").put("type", "string").put("description", "User email");
-        createUserProps.putObject("name").put("type", "string").put("description", "User name");
-        createUserProps.putObject("organizationId").put("type", "string").put("description", "Organization ID");
-        createUserParams.putArray("required").add("email").add("name").add("organizationId");
+    /**
+     * Serves the precomputed tool catalog. Answers 304 without a body when the client
+     * already holds the current version.
+     */
+    @RequestMapping(value = "/list-tools", method = {RequestMethod.GET, RequestMethod.POST},
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> listTools(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            HttpServletRequest request) {
+        // The catalog carries its own ETag; skip the filter's buffering and hashing
+        ShallowEtagHeaderFilter.disableContentCaching(request);
         
-        return Mono.just(response);
+        String etag = toolRegistry.getEtag();
+        if (matchesEtag(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok()
+            .eTag(etag)
+            .cacheControl(CacheControl.noCache())
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(toolRegistry.getCatalog());
     }
 
+    /**
+     * Calls a single tool, or a batch of tools when the body is an array. Arguments of a
+     * single call are bound from the request stream straight into the tool's argument
+     * record; they are buffered only when they precede the tool name.
+     *
+     * <p>A failed single call is answered with the status of its error: 400 for invalid
+     * arguments, 429 when rate limited, 503 when a dependency or the tool executor is
+     * saturated and 504 on timeout. A batch answers 200 with one result or error per call.
+     */
     @PostMapping(value = "/call-tool", produces = MediaType.APPLICATION_JSON_VALUE)
-    public Mono<JsonNode> callTool(@RequestBody JsonNode request) {
-        String toolName = request.get("name").asText();
-        JsonNode params = request.get("arguments");
-        
-        log.info("MCP tool call: {} with params: {}", toolName, params);
-        
-        // Delegate to the existing McpToolsController
-        return mcpToolsController.callTool(toolName, params)
-            .map(result -> {
-                ObjectNode response = objectMapper.createObjectNode();
-                response.set("result", result);
-                return (JsonNode) response;
-            })
-            .onErrorResume(error -> {
-                ObjectNode errorResponse = objectMapper.createObjectNode();
-                errorResponse.put("error", error.getMessage());
-                return Mono.just((JsonNode) errorResponse);
-            });
+    public Mono<ResponseEntity<Object>> callTool(@RequestBody byte[] request, Authentication authentication) {
+        Mono<ResponseEntity<Object>> response;
+        try (JsonParser parser = objectMapper.createParser(request)) {
+            response = parser.nextToken() == JsonToken.START_ARRAY
+                ? callTools(parser, authentication)
+                : callSingleTool(parser, authentication);
+        } catch (IOException | RuntimeException e) {
+            response = Mono.error(e);
+        }
+        return response.onErrorResume(error -> {
+            Exception exception = error instanceof Exception e ? e : new IllegalStateException(error);
+            ResponseEntity<McpErrorResponse> errorResponse = mcpErrorHandler.createErrorResponse(exception, "call-tool", null);
+            return Mono.just(ResponseEntity.status(errorResponse.getStatusCode())
+                .body(CallResult.failure(errorResponse.getBody())));
+        });
+    }
+
+    private Mono<ResponseEntity<Object>> callTools(JsonParser parser, Authentication authentication) throws IOException {
+        JsonNode calls = parser.readValueAsTree();
+        log.info("MCP batch tool call with {} calls", calls.size());
+        return mcpToolsController.callTools(calls, authentication).map(ResponseEntity::ok);
+    }
+
+    private Mono<ResponseEntity<Object>> callSingleTool(JsonParser parser, Authentication authentication) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            throw new InvalidToolArgumentsException("Expected a tool call object or an array of tool calls");
+        }
+
+        McpToolRegistry.Tool tool = null;
+        String toolName = null;
+        Record arguments = null;
+        JsonNode bufferedArguments = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("name".equals(field)) {
+                toolName = parser.getValueAsString();
+                tool = toolRegistry.find(toolName).orElse(null);
+            } else if ("arguments".equals(field) && tool != null) {
+                arguments = toolRegistry.decode(tool, parser);
+            } else if ("arguments".equals(field)) {
+                bufferedArguments = parser.readValueAsTree();
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (toolName == null) {
+            throw new InvalidToolArgumentsException("Missing tool name");
+        }
+        if (tool == null) {
+            throw new InvalidToolArgumentsException("Unknown tool: " + toolName);
+        }
+        if (arguments == null) {
+            arguments = toolRegistry.decode(tool, bufferedArguments);
+        }
+
+        log.info("MCP tool call: {}", toolName);
+        return mcpToolsController.callTool(tool, arguments, authentication)
+            .map(toolResponse -> ResponseEntity.status(toolResponse.getStatusCode())
+                .body(toolResponse.getBody() instanceof McpErrorResponse error
+                    ? CallResult.failure(error)
+                    : CallResult.success(toolResponse.getBody())));
+    }
+
+    private static boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @GetMapping("/health")
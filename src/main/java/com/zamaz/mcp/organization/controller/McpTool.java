@@ -0,0 +1,27 @@
+package com.zamaz.mcp.organization.controller;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Exposes a {@link McpToolsController} method as an MCP tool.
+ * Annotated methods are the single source for both tool dispatch and the advertised catalog.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface McpTool {
+    
+    /**
+     * Tool name used in {@code call-tool} requests.
+     */
+    String name();
+    
+    String description();
+    
+    /**
+     * Record describing the tool's arguments; its components become the input schema.
+     */
+    Class<? extends Record> arguments();
+}
@@ -0,0 +1,304 @@
+package com.zamaz.mcp.organization.controller;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.zamaz.mcp.organization.exception.InvalidToolArgumentsException;
+import com.zamaz.mcp.organization.infrastructure.resilience.McpRateLimit;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Registry of the MCP tools declared with {@link McpTool} on {@link McpToolsController}.
+ *
+ * <p>Built once at startup: it resolves a method handle per tool for dispatch and derives
+ * each tool's JSON Schema from its argument record. The catalog served by list-tools is
+ * serialized once into a byte array with a strong ETag derived from its content, so
+ * repeated requests cost no serialization and conditional ones are answered with 304.
+ *
+ * <p>Each tool also gets a precompiled reader for its argument record, so call-tool
+ * arguments are bound straight from the request's token stream and validated, without
+ * an intermediate tree or map.
+ */
+@Component
+public class McpToolRegistry {
+
+    private static final JsonNode NO_ARGUMENTS = JsonNodeFactory.instance.objectNode();
+
+    private final Map<String, Tool> tools;
+    private final Validator validator;
+    private final byte[] catalog;
+    private final String etag;
+
+    public McpToolRegistry(ObjectMapper objectMapper, Validator validator) {
+        this(McpToolsController.class, objectMapper, validator);
+    }
+
+    McpToolRegistry(Class<?> toolType, ObjectMapper objectMapper, Validator validator) {
+        this.tools = scan(toolType, objectMapper);
+        this.validator = validator;
+        this.catalog = serializeCatalog(tools.values(), objectMapper);
+        this.etag = '"' + HexFormat.of().formatHex(sha256(catalog), 0, 16) + '"';
+    }
+
+    public Optional<Tool> find(String name) {
+        return Optional.ofNullable(tools.get(name));
+    }
+
+    public Collection<Tool> getTools() {
+        return tools.values();
+    }
+
+    /**
+     * Serialized list-tools response; callers must not modify it.
+     */
+    public byte[] getCatalog() {
+        return catalog;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    /**
+     * Binds and validates a tool's arguments from a tree; a missing or null node binds as
+     * an empty object.
+     *
+     * @throws InvalidToolArgumentsException if the arguments do not match the tool's record
+     */
+    public Record decode(Tool tool, JsonNode arguments) {
+        try {
+            return validate(tool, tool.reader().readValue(arguments == null || arguments.isNull() ? NO_ARGUMENTS : arguments));
+        } catch (IOException e) {
+            throw invalidArguments(tool, e);
+        }
+    }
+
+    /**
+     * Binds and validates a tool's arguments from the parser's current value, leaving the
+     * parser on the value's last token.
+     *
+     * @throws InvalidToolArgumentsException if the arguments do not match the tool's record
+     */
+    public Record decode(Tool tool, JsonParser parser) {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return decode(tool, (JsonNode) null);
+        }
+        try {
+            return validate(tool, tool.reader().readValue(parser));
+        } catch (IOException e) {
+            throw invalidArguments(tool, e);
+        }
+    }
+
+    private Record validate(Tool tool, Record arguments) {
+        Set<ConstraintViolation<Record>> violations = validator.validate(arguments);
+        if (!violations.isEmpty()) {
+            throw new InvalidToolArgumentsException("Invalid arguments for tool " + tool.name() + ": " + violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", ")));
+        }
+        return arguments;
+    }
+
+    private static InvalidToolArgumentsException invalidArguments(Tool tool, IOException e) {
+        String reason = e instanceof JsonProcessingException processing ? processing.getOriginalMessage() : e.getMessage();
+        return new InvalidToolArgumentsException("Invalid arguments for tool " + tool.name() + ": " + reason, e);
+    }
+
+    /**
+     * A registered tool.
+     *
+     * @param readOnly whether the tool only reads, per its {@link McpRateLimit} operation type
+     * @param reader reader bound to the argument record
+     */
+    public record Tool(String name, String description, Class<? extends Record> arguments,
+                       Method method, MethodHandle handle, boolean readOnly, ObjectReader reader) {
+
+        /**
+         * Invokes the tool method on the given controller instance with decoded arguments.
+         */
+        public ResponseEntity<?> invoke(Object controller, Record arguments, Authentication authentication) {
+            try {
+                return (ResponseEntity<?>) handle.invoke(controller, arguments, authentication);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Tool " + name + " failed", e);
+            }
+        }
+    }
+
+    private static Map<String, Tool> scan(Class<?> toolType, ObjectMapper objectMapper) {
+        Map<String, Tool> tools = new LinkedHashMap<>();
+        Arrays.stream(toolType.getDeclaredMethods())
+            .filter(method -> method.isAnnotationPresent(McpTool.class))
+            .sorted(Comparator.comparing(method -> method.getAnnotation(McpTool.class).name()))
+            .forEach(method -> {
+                McpTool tool = method.getAnnotation(McpTool.class);
+                McpRateLimit rateLimit = method.getAnnotation(McpRateLimit.class);
+                boolean readOnly = rateLimit != null && rateLimit.operationType() == McpRateLimit.OperationType.READ;
+                ObjectReader reader = objectMapper.readerFor(tool.arguments())
+                    .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+                Tool previous = tools.put(tool.name(), new Tool(tool.name(), tool.description(), tool.arguments(),
+                    method, unreflect(method), readOnly, reader));
+                if (previous != null) {
+                    throw new IllegalStateException("Duplicate MCP tool name: " + tool.name());
+                }
+            });
+        return tools;
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        try {
+            return MethodHandles.publicLookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("MCP tool method must be public: " + method, e);
+        }
+    }
+
+    private static byte[] serializeCatalog(Collection<Tool> tools, ObjectMapper objectMapper) {
+        ObjectNode response = objectMapper.createObjectNode();
+        ArrayNode toolNodes = response.putArray("tools");
+        for (Tool tool : tools) {
+            ObjectNode toolNode = toolNodes.addObject();
+            toolNode.put("name", tool.name());
+            toolNode.put("description", tool.description());
+            toolNode.set("parameters", schemaOf(tool.arguments(), objectMapper));
+        }
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize MCP tool catalog", e);
+        }
+    }
+
+    /**
+     * JSON Schema of an argument record: one property per component, typed from the
+     * component type and constrained by its Bean Validation annotations.
+     */
+    static ObjectNode schemaOf(Class<? extends Record> arguments, ObjectMapper objectMapper) {
+        ObjectNode schema = objectMapper.createObjectNode();
+        schema.put("type", "object");
+        ObjectNode properties = schema.putObject("properties");
+        ArrayNode required = objectMapper.createArrayNode();
+
+        for (RecordComponent component : arguments.getRecordComponents()) {
+            Field field = field(arguments, component);
+            ObjectNode property = properties.putObject(component.getName());
+            describeType(property, component.getType());
+
+            Schema description = field.getAnnotation(Schema.class);
+            if (description != null) {
+                if (!description.description().isEmpty()) {
+                    property.put("description", description.description());
+                }
+                if (description.allowableValues().length > 0) {
+                    ArrayNode values = property.putArray("enum");
+                    Arrays.stream(description.allowableValues()).forEach(values::add);
+                }
+            }
+
+            Size size = field.getAnnotation(Size.class);
+            if (size != null) {
+                if (size.min() > 0) {
+                    property.put("minLength", size.min());
+                }
+                if (size.max() < Integer.MAX_VALUE) {
+                    property.put("maxLength", size.max());
+                }
+            }
+            Min min = field.getAnnotation(Min.class);
+            if (min != null) {
+                property.put("minimum", min.value());
+            }
+            Max max = field.getAnnotation(Max.class);
+            if (max != null) {
+                property.put("maximum", max.value());
+            }
+
+            if (field.isAnnotationPresent(NotNull.class) || field.isAnnotationPresent(NotBlank.class)
+                    || component.getType().isPrimitive()) {
+                required.add(component.getName());
+            }
+        }
+
+        if (!required.isEmpty()) {
+            schema.set("required", required);
+        }
+        return schema;
+    }
+
+    private static void describeType(ObjectNode property, Class<?> type) {
+        if (type == String.class) {
+            property.put("type", "string");
+        } else if (type == UUID.class) {
+            property.put("type", "string");
+            property.put("format", "uuid");
+        } else if (type == Boolean.class || type == boolean.class) {
+            property.put("type", "boolean");
+        } else if (type == Integer.class || type == int.class || type == Long.class || type == long.class) {
+            property.put("type", "integer");
+        } else if (Number.class.isAssignableFrom(type) || type == double.class || type == float.class) {
+            property.put("type", "number");
+        } else if (type.isEnum()) {
+            property.put("type", "string");
+            ArrayNode values = property.putArray("enum");
+            Arrays.stream(type.getEnumConstants()).forEach(value -> values.add(((Enum<?>) value).name()));
+        } else {
+            property.put("type", "object");
+        }
+    }
+
+    private static Field field(Class<?> arguments, RecordComponent component) {
+        try {
+            return arguments.getDeclaredField(component.getName());
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException("Record component without field: " + component, e);
+        }
+    }
+
+    private static byte[] sha256(byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
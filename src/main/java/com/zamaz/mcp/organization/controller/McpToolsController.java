@@ -1,24 +1,36 @@
 package com.zamaz.mcp.organization.controller;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.zamaz.mcp.organization.infrastructure.security.McpSecurityService;
 import com.zamaz.mcp.organization.infrastructure.error.McpErrorHandler;
 import com.zamaz.mcp.organization.infrastructure.error.McpErrorResponse;
+import com.zamaz.mcp.organization.infrastructure.execution.McpToolExecutor;
 import com.zamaz.mcp.organization.infrastructure.resilience.McpRateLimit;
+import com.zamaz.mcp.organization.infrastructure.resilience.McpRateLimitEnforcer;
+import com.zamaz.mcp.organization.dto.CursorPage;
+import com.zamaz.mcp.organization.dto.McpToolArguments;
+import com.zamaz.mcp.organization.dto.McpToolResults;
+import com.zamaz.mcp.organization.dto.McpToolResults.BatchItem;
 import com.zamaz.mcp.organization.dto.OrganizationDto;
+import com.zamaz.mcp.organization.exception.InvalidCursorException;
+import com.zamaz.mcp.organization.exception.InvalidToolArgumentsException;
 import com.zamaz.mcp.organization.service.OrganizationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,151 +43,156 @@ import java.util.UUID;
 @Tag(name = "MCP Tools", description = "MCP protocol tool endpoints")
 public class McpToolsController {
     
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_BATCH_SIZE = 20;
+    
     private final OrganizationService organizationService;
-    private final ObjectMapper objectMapper;
     private final McpSecurityService mcpSecurityService;
     private final McpErrorHandler mcpErrorHandler;
+    private final McpRateLimitEnforcer rateLimitEnforcer;
+    private final McpToolExecutor toolExecutor;
+    private final McpToolRegistry toolRegistry;
     
     @PostMapping("/create_organization")
+    @McpTool(name = "create_organization", description = "Create a new organization",
+            arguments = McpToolArguments.CreateOrganization.class)
     @Operation(summary = "Create organization (MCP Tool)")
     @PreAuthorize("hasRole('USER')")
     @McpRateLimit(operationType = McpRateLimit.OperationType.ADMIN, limitForPeriod = 3, limitRefreshPeriodSeconds = 3600)
-    public ResponseEntity<Map<String, Object>> createOrganization(
-            @RequestBody Map<String, Object> params,
+    public ResponseEntity<?> createOrganization(
+            @Valid @RequestBody McpToolArguments.CreateOrganization params,
             Authentication authentication) {
         try {
-            // Validate required parameters
-            mcpSecurityService.validateRequiredParameter(params.get("name"), "name");
-            
             OrganizationDto.CreateOrganizationRequest request = OrganizationDto.CreateOrganizationRequest.builder()
-                    .name((String) params.get("name"))
-                    .description((String) params.get("description"))
+                    .name(params.name())
+                    .description(params.description())
                     .build();
             
             OrganizationDto organization = organizationService.createOrganization(request);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("organization", organization);
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(McpToolResults.OrganizationResult.of(organization));
         } catch (Exception e) {
             return mcpErrorHandler.createErrorResponse(e, "create_organization", null);
         }
     }
     
     @PostMapping("/get_organization")
+    @McpTool(name = "get_organization", description = "Get the caller's organization",
+            arguments = McpToolArguments.GetOrganization.class)
     @Operation(summary = "Get organization by ID (MCP Tool)")
     @PreAuthorize("hasRole('USER')")
     @McpRateLimit(operationType = McpRateLimit.OperationType.READ)
-    public ResponseEntity<Map<String, Object>> getOrganization(
-            @RequestBody Map<String, Object> params,
+    public ResponseEntity<?> getOrganization(
+            @RequestBody(required = false) McpToolArguments.GetOrganization params,
             Authentication authentication) {
         try {
             // Extract organization ID from authenticated user context instead of trusting client
             UUID organizationId = mcpSecurityService.getAuthenticatedOrganizationId(authentication);
             
             OrganizationDto organization = organizationService.getOrganization(organizationId);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("organization", organization);
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(McpToolResults.OrganizationResult.of(organization));
         } catch (Exception e) {
             return mcpErrorHandler.createErrorResponse(e, "get_organization", null);
         }
     }
     
+    @PostMapping("/check_organization_name")
+    @McpTool(name = "check_organization_name",
+            description = "Check whether an organization name is available, with suggestions when it is taken",
+            arguments = McpToolArguments.CheckOrganizationName.class)
+    @Operation(summary = "Check organization name availability (MCP Tool)")
+    @PreAuthorize("hasRole('USER')")
+    @McpRateLimit(operationType = McpRateLimit.OperationType.READ)
+    public ResponseEntity<?> checkOrganizationName(
+            @Valid @RequestBody McpToolArguments.CheckOrganizationName params,
+            Authentication authentication) {
+        try {
+            OrganizationDto.NameAvailability availability = organizationService.checkOrganizationName(params.name());
+            return ResponseEntity.ok(McpToolResults.NameAvailabilityResult.of(availability));
+        } catch (Exception e) {
+            return mcpErrorHandler.createErrorResponse(e, "check_organization_name", null);
+        }
+    }
+    
     @PostMapping("/update_organization")
+    @McpTool(name = "update_organization", description = "Update the caller's organization",
+            arguments = McpToolArguments.UpdateOrganization.class)
     @Operation(summary = "Update organization (MCP Tool)")
     @PreAuthorize("hasRole('USER')")
     @McpRateLimit(operationType = McpRateLimit.OperationType.WRITE)
-    public ResponseEntity<Map<String, Object>> updateOrganization(
-            @RequestBody Map<String, Object> params,
+    public ResponseEntity<?> updateOrganization(
+            @Valid @RequestBody McpToolArguments.UpdateOrganization params,
             Authentication authentication) {
         try {
             // Extract organization ID from authenticated user context
             UUID organizationId = mcpSecurityService.getAuthenticatedOrganizationId(authentication);
             
             OrganizationDto.UpdateOrganizationRequest request = OrganizationDto.UpdateOrganizationRequest.builder()
-                    .name((String) params.get("name"))
-                    .description((String) params.get("description"))
-                    .isActive((Boolean) params.get("isActive"))
+                    .name(params.name())
+                    .description(params.description())
+                    .isActive(params.isActive())
                     .build();
             
             OrganizationDto organization = organizationService.updateOrganization(organizationId, request);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("organization", organization);
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(McpToolResults.OrganizationResult.of(organization));
         } catch (Exception e) {
             return mcpErrorHandler.createErrorResponse(e, "update_organization", null);
         }
     }
     
     @PostMapping("/delete_organization")
+    @McpTool(name = "delete_organization", description = "Delete the caller's organization",
+            arguments = McpToolArguments.DeleteOrganization.class)
     @Operation(summary = "Delete organization (MCP Tool)")
     @PreAuthorize("hasRole('ADMIN')")
     @McpRateLimit(operationType = McpRateLimit.OperationType.ADMIN, limitForPeriod = 1, limitRefreshPeriodSeconds = 3600)
-    public ResponseEntity<Map<String, Object>> deleteOrganization(
-            @RequestBody Map<String, Object> params,
+    public ResponseEntity<?> deleteOrganization(
+            @RequestBody(required = false) McpToolArguments.DeleteOrganization params,
             Authentication authentication) {
         try {
             // Extract organization ID from authenticated user context
             UUID organizationId = mcpSecurityService.getAuthenticatedOrganizationId(authentication);
             organizationService.deleteOrganization(organizationId);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Organization deleted successfully");
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(McpToolResults.MessageResult.of("Organization deleted successfully"));
         } catch (Exception e) {
             return mcpErrorHandler.createErrorResponse(e, "delete_organization", null);
         }
     }
     
     @PostMapping("/add_user_to_organization")
+    @McpTool(name = "add_user_to_organization", description = "Add a user to the caller's organization",
+            arguments = McpToolArguments.AddUserToOrganization.class)
     @Operation(summary = "Add user to organization (MCP Tool)")
     @PreAuthorize("hasRole('ADMIN')")
     @McpRateLimit(operationType = McpRateLimit.OperationType.WRITE, limitForPeriod = 10, limitRefreshPeriodSeconds = 60)
-    public ResponseEntity<Map<String, Object>> addUserToOrganization(
-            @RequestBody Map<String, Object> params,
+    public ResponseEntity<?> addUserToOrganization(
+            @Valid @RequestBody McpToolArguments.AddUserToOrganization params,
             Authentication authentication) {
         try {
             // Extract organization ID from authenticated user context
             UUID organizationId = mcpSecurityService.getAuthenticatedOrganizationId(authentication);
-            UUID userId = mcpSecurityService.validateUuidParameter(params.get("userId"), "userId");
-            String role = (String) params.getOrDefault("role", "member");
-            
-            organizationService.addUserToOrganization(organizationId, userId, role);
+            String role = params.role() != null ? params.role() : "member";
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "User added to organization successfully");
-            return ResponseEntity.ok(response);
+            organizationService.addUserToOrganization(organizationId, params.userId(), role);
+            return ResponseEntity.ok(McpToolResults.MessageResult.of("User added to organization successfully"));
         } catch (Exception e) {
             return mcpErrorHandler.createErrorResponse(e, "add_user_to_organization", null);
         }
     }
     
     @PostMapping("/remove_user_from_organization")
+    @McpTool(name = "remove_user_from_organization", description = "Remove a user from the caller's organization",
+            arguments = McpToolArguments.RemoveUserFromOrganization.class)
     @Operation(summary = "Remove user from organization (MCP Tool)")
     @PreAuthorize("hasRole('ADMIN')")
     @McpRateLimit(operationType = McpRateLimit.OperationType.WRITE, limitForPeriod = 10, limitRefreshPeriodSeconds = 60)
-    public ResponseEntity<Map<String, Object>> removeUserFromOrganization(
-            @RequestBody Map<String, Object> params,
+    public ResponseEntity<?> removeUserFromOrganization(
+            @Valid @RequestBody McpToolArguments.RemoveUserFromOrganization params,
             Authentication authentication) {
         try {
             // Extract organization ID from authenticated user context
             UUID organizationId = mcpSecurityService.getAuthenticatedOrganizationId(authentication);
-            UUID userId = mcpSecurityService.validateUuidParameter(params.get("userId"), "userId");
-            
-            organizationService.removeUserFromOrganization(organizationId, userId);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "User removed from organization successfully");
-            return ResponseEntity.ok(response);
+            organizationService.removeUserFromOrganization(organizationId, params.userId());
+            return ResponseEntity.ok(McpToolResults.MessageResult.of("User removed from organization successfully"));
         } catch (Exception e) {
             return mcpErrorHandler.createErrorResponse(e, "remove_user_from_organization", null);
         }
@@ -185,52 +202,169 @@ public class McpToolsController {
     @Operation(summary = "List organizations (MCP Resource)")
     @PreAuthorize("hasRole('USER')")
     @McpRateLimit(operationType = McpRateLimit.OperationType.READ)
-    public ResponseEntity<Map<String, Object>> listOrganizationsResource(Authentication authentication) {
+    public ResponseEntity<?> listOrganizationsResource(Authentication authentication) {
         try {
             // Only return the user's organization for security
             UUID organizationId = mcpSecurityService.getAuthenticatedOrganizationId(authentication);
             OrganizationDto organization = organizationService.getOrganization(organizationId);
+            return ResponseEntity.ok(new McpToolResults.OrganizationList(List.of(organization), 1));
+        } catch (Exception e) {
+            return mcpErrorHandler.createErrorResponse(e, "list_organizations", null);
+        }
+    }
+    
+    @PostMapping("/list_organizations")
+    @McpTool(name = "list_organizations", description = "List organizations, newest first, one cursor page at a time",
+            arguments = McpToolArguments.ListOrganizations.class)
+    @Operation(summary = "List organizations with cursor pagination (MCP Tool)")
+    @PreAuthorize("hasRole('USER')")
+    @McpRateLimit(operationType = McpRateLimit.OperationType.READ)
+    public ResponseEntity<?> listOrganizations(
+            @Valid @RequestBody McpToolArguments.ListOrganizations params,
+            Authentication authentication) {
+        // Only administrators may page through every organization; other users see their own
+        if (!isAdmin(authentication)) {
+            return listOrganizationsResource(authentication);
+        }
+        
+        try {
+            int limit = params.limit() != null ? params.limit() : DEFAULT_PAGE_SIZE;
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("organizations", List.of(organization));
-            response.put("count", 1);
-            return ResponseEntity.ok(response);
+            CursorPage<OrganizationDto> page = organizationService.listOrganizations(params.cursor(), limit);
+            return ResponseEntity.ok(new McpToolResults.OrganizationPage(
+                    page.getItems(), page.getSize(), page.isHasMore(), page.getNextCursor()));
+        } catch (InvalidCursorException e) {
+            return mcpErrorHandler.createErrorResponse(e, "list_organizations", HttpStatus.BAD_REQUEST);
         } catch (Exception e) {
             return mcpErrorHandler.createErrorResponse(e, "list_organizations", null);
         }
     }
     
     /**
-     * Generic tool call handler for MCP protocol
+     * Generic tool call handler for MCP protocol, returning the tool's response body.
+     * Binds the arguments to the tool's argument record, so malformed arguments fail
+     * with {@link InvalidToolArgumentsException} before the tool runs.
      */
-    public Mono<JsonNode> callTool(String toolName, JsonNode params, Authentication authentication) {
-        Map<String, Object> paramsMap = objectMapper.convertValue(params, Map.class);
+    public Mono<Object> callTool(String toolName, JsonNode arguments, Authentication authentication) {
+        try {
+            McpToolRegistry.Tool tool = findTool(toolName);
+            return callTool(tool, toolRegistry.decode(tool, arguments), authentication).map(ResponseEntity::getBody);
+        } catch (RuntimeException e) {
+            return Mono.error(e);
+        }
+    }
+    
+    /**
+     * Calls a tool with already decoded arguments and returns its response, which carries
+     * an error status when the tool failed.
+     * The rate limit is checked on the caller's thread; the tool itself runs on the
+     * tool executor, so a slow tool never blocks the request thread.
+     */
+    public Mono<ResponseEntity<?>> callTool(McpToolRegistry.Tool tool, Record arguments, Authentication authentication) {
+        return callTool(tool, arguments, authentication, SecurityContextHolder.getContext());
+    }
+    
+    private Mono<ResponseEntity<?>> callTool(McpToolRegistry.Tool tool, Record arguments,
+                                             Authentication authentication, SecurityContext securityContext) {
+        if (tool.method().isAnnotationPresent(McpRateLimit.class)) {
+            try {
+                rateLimitEnforcer.enforce(tool.method(), authentication);
+            } catch (RuntimeException e) {
+                return Mono.error(e);
+            }
+        }
         
-        ToolCommand command = getToolCommand(toolName);
-        ResponseEntity<Map<String, Object>> response = command.execute(paramsMap, authentication);
+        return toolExecutor.execute(tool.name(), () -> tool.invoke(this, arguments, authentication), securityContext);
+    }
+    
+    /**
+     * Executes a JSON-RPC style batch of tool calls and returns one result or error per call,
+     * in request order.
+     *
+     * <p>Consecutive read-only calls run in parallel, and identical read calls within such a
+     * run are executed once and share their result. A write waits for every earlier call and
+     * later calls wait for it, so each call observes the effects of the writes before it.
+     * A failing call does not stop the rest of the batch; its error is rendered by the
+     * {@link McpErrorHandler}, like the error of a single call.
+     *
+     * <p>Calls after a write are subscribed on the worker that ran it, so the caller's
+     * security context is captured here, on the request thread, and passed to every call.
+     */
+    public Mono<List<BatchItem>> callTools(JsonNode calls, Authentication authentication) {
+        if (calls.size() > MAX_BATCH_SIZE) {
+            return Mono.error(new InvalidToolArgumentsException("Batch exceeds " + MAX_BATCH_SIZE + " tool calls"));
+        }
         
-        return Mono.just(objectMapper.valueToTree(response.getBody()));
-    }
-    
-    private ToolCommand getToolCommand(String toolName) {
-        return switch (toolName) {
-            case "create_organization" -> this::createOrganization;
-            case "get_organization" -> this::getOrganization;
-            case "update_organization" -> this::updateOrganization;
-            case "delete_organization" -> this::deleteOrganization;
-            case "add_user_to_organization" -> this::addUserToOrganization;
-            case "remove_user_from_organization" -> this::removeUserFromOrganization;
-            case "list_organizations" -> (params, auth) -> listOrganizationsResource(auth);
-            default -> (params, auth) -> {
-                Map<String, Object> errorResponse = new HashMap<>();
-                errorResponse.put("error", "Unknown tool: " + toolName);
-                return ResponseEntity.badRequest().body(errorResponse);
-            };
-        };
-    }
-    
-    @FunctionalInterface
-    private interface ToolCommand {
-        ResponseEntity<Map<String, Object>> execute(Map<String, Object> params, Authentication authentication);
-    }
-}
\ No newline at end of file
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        
+        List<Mono<BatchItem>> items = new ArrayList<>(calls.size());
+        Map<ToolCall, Mono<ResponseEntity<?>>> sharedReads = new HashMap<>();
+        List<Mono<BatchItem>> sinceLastWrite = new ArrayList<>();
+        Mono<Void> lastWrite = Mono.empty();
+        
+        for (JsonNode call : calls) {
+            JsonNode id = call.get("id");
+            String toolName = call.path("name").asText(null);
+            if (toolName == null) {
+                items.add(Mono.just(failure(id, null, new InvalidToolArgumentsException("Missing tool name"))));
+                continue;
+            }
+            
+            ToolCall toolCall;
+            try {
+                McpToolRegistry.Tool tool = findTool(toolName);
+                toolCall = new ToolCall(tool, toolRegistry.decode(tool, call.get("arguments")));
+            } catch (RuntimeException e) {
+                items.add(Mono.just(failure(id, toolName, e)));
+                continue;
+            }
+            Mono<Void> previousWrite = lastWrite;
+            Mono<BatchItem> item;
+            
+            if (toolCall.tool().readOnly()) {
+                // Argument records compare by value, so identical reads share one call
+                Mono<ResponseEntity<?>> result = sharedReads.computeIfAbsent(toolCall, key -> previousWrite
+                    .then(Mono.defer(() -> callTool(key.tool(), key.arguments(), authentication, securityContext)))
+                    .cache());
+                item = batchItem(id, toolName, result).cache();
+            } else {
+                Mono<Void> earlierCalls = Mono.when(List.copyOf(sinceLastWrite)).then(previousWrite);
+                item = batchItem(id, toolName, earlierCalls.then(Mono.defer(() ->
+                    callTool(toolCall.tool(), toolCall.arguments(), authentication, securityContext)))).cache();
+                lastWrite = item.then();
+                sharedReads.clear();
+                sinceLastWrite.clear();
+            }
+            sinceLastWrite.add(item);
+            items.add(item);
+        }
+        
+        return Flux.mergeSequential(items).collectList();
+    }
+    
+    private McpToolRegistry.Tool findTool(String toolName) {
+        return toolRegistry.find(toolName)
+            .orElseThrow(() -> new InvalidToolArgumentsException("Unknown tool: " + toolName));
+    }
+    
+    private Mono<BatchItem> batchItem(JsonNode id, String toolName, Mono<ResponseEntity<?>> result) {
+        return result
+            .map(response -> response.getBody() instanceof McpErrorResponse error
+                ? BatchItem.failure(id, error)
+                : BatchItem.success(id, response.getBody()))
+            .onErrorResume(error -> Mono.just(failure(id, toolName, error)));
+    }
+    
+    private BatchItem failure(JsonNode id, String toolName, Throwable error) {
+        Exception exception = error instanceof Exception e ? e : new IllegalStateException(error);
+        return BatchItem.failure(id, mcpErrorHandler.createErrorResponse(exception, toolName, null).getBody());
+    }
+    
+    private boolean isAdmin(Authentication authentication) {
+        return authentication != null && authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+    }
+    
+    private record ToolCall(McpToolRegistry.Tool tool, Record arguments) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.zamaz.mcp.organization.controller;
 
+import com.zamaz.mcp.organization.dto.CursorPage;
 import com.zamaz.mcp.organization.dto.OrganizationDto;
 import com.zamaz.mcp.organization.service.OrganizationService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -49,6 +50,17 @@ public class OrganizationController {
         return ResponseEntity.ok(organizations);
     }
     
+    @GetMapping(params = "cursor")
+    @Operation(summary = "List organizations with keyset pagination",
+               description = "Newest first. Pass an empty cursor for the first page, then the returned nextCursor.")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CursorPage<OrganizationDto>> listOrganizationsByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        CursorPage<OrganizationDto> organizations = organizationService.listOrganizations(cursor, limit);
+        return ResponseEntity.ok(organizations);
+    }
+    
     @GetMapping("/my")
     @Operation(summary = "List current user's organizations")
     @PreAuthorize("hasRole('USER')")
@@ -75,6 +87,18 @@ public class OrganizationController {
         return ResponseEntity.noContent().build();
     }
     
+    @GetMapping("/{id}/users")
+    @Operation(summary = "List organization members with keyset pagination",
+               description = "Most recently joined first. Omit the cursor for the first page, then pass the returned nextCursor.")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CursorPage<OrganizationDto.Member>> listOrganizationMembers(
+            @PathVariable UUID id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        CursorPage<OrganizationDto.Member> members = organizationService.listOrganizationMembers(id, cursor, limit);
+        return ResponseEntity.ok(members);
+    }
+    
     @PostMapping("/{id}/users")
     @Operation(summary = "Add user to organization")
     @PreAuthorize("hasRole('ADMIN')")
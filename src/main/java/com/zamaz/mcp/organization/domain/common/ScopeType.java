@@ -1,9 +1,31 @@
 package com.zamaz.mcp.organization.domain.common;
 
+/**
+ * Enum representing where a resource lives in the organization hierarchy.
+ * Values match the scope_type database enum.
+ */
 public enum ScopeType {
-    PERSONAL,
-    TEAM,
+    /**
+     * Resource belongs to the organization as a whole.
+     */
     ORGANIZATION,
-    TENANT,
-    GLOBAL
-}
\ No newline at end of file
+    
+    /**
+     * Resource belongs to one application of the organization.
+     */
+    APPLICATION,
+    
+    /**
+     * Resource belongs to an application and is also listed at organization level.
+     */
+    BOTH;
+    
+    /**
+     * Checks if resources of this scope are tied to an application.
+     * 
+     * @return true if an application is required
+     */
+    public boolean requiresApplicationAccess() {
+        return this != ORGANIZATION;
+    }
+}
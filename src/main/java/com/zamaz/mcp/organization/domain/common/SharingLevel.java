@@ -1,8 +1,67 @@
 package com.zamaz.mcp.organization.domain.common;
 
+/**
+ * Enum representing who can see a resource.
+ * Values match the sharing_level database enum. Every level is confined to the
+ * resource's organization: non-members never see it.
+ */
 public enum SharingLevel {
-    PRIVATE,
-    TEAM,
+    /**
+     * Only the owner can see the resource.
+     */
+    ME_ONLY,
+    
+    /**
+     * Every member of the organization can see the resource.
+     */
     ORGANIZATION,
-    PUBLIC
-}
\ No newline at end of file
+    
+    /**
+     * Every user with access to the resource's application can see it.
+     */
+    APPLICATION_ALL,
+    
+    /**
+     * Members of the resource's team can see it.
+     */
+    APPLICATION_TEAM,
+    
+    /**
+     * Only the owner can see the resource, within its application.
+     */
+    APPLICATION_ME;
+    
+    /**
+     * Checks if this sharing level can be used for resources of the given scope.
+     * Application levels need an application scope; the organization level needs a
+     * scope listed at organization level.
+     * 
+     * @param scopeType the resource scope
+     * @return true if compatible
+     */
+    public boolean isCompatibleWith(ScopeType scopeType) {
+        return switch (this) {
+            case ME_ONLY -> true;
+            case ORGANIZATION -> scopeType != ScopeType.APPLICATION;
+            case APPLICATION_ALL, APPLICATION_TEAM, APPLICATION_ME -> scopeType.requiresApplicationAccess();
+        };
+    }
+    
+    /**
+     * Checks if this sharing level is defined by team membership.
+     * 
+     * @return true if a team is required
+     */
+    public boolean requiresTeamMembership() {
+        return this == APPLICATION_TEAM;
+    }
+    
+    /**
+     * Checks if only the owner can see resources shared at this level.
+     * 
+     * @return true for owner-only levels
+     */
+    public boolean isOwnerOnly() {
+        return this == ME_ONLY || this == APPLICATION_ME;
+    }
+}
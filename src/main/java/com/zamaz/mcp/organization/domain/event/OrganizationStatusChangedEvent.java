@@ -0,0 +1,26 @@
+package com.zamaz.mcp.organization.domain.event;
+
+import com.zamaz.mcp.organization.domain.event.common.AbstractDomainEvent;
+import java.util.UUID;
+
+/**
+ * Domain event raised when an organization is deactivated or reactivated.
+ */
+public class OrganizationStatusChangedEvent extends AbstractDomainEvent {
+    
+    private final boolean active;
+    
+    public OrganizationStatusChangedEvent(UUID organizationId, boolean active) {
+        super(organizationId.toString());
+        this.active = active;
+    }
+    
+    public boolean isActive() {
+        return active;
+    }
+    
+    @Override
+    public String getEventType() {
+        return "organization.statusChanged";
+    }
+}
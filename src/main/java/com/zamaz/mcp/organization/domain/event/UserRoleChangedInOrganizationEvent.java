@@ -0,0 +1,38 @@
+package com.zamaz.mcp.organization.domain.event;
+
+import com.zamaz.mcp.organization.domain.event.common.AbstractDomainEvent;
+import java.util.UUID;
+
+/**
+ * Domain event raised when a member's role in an organization changes.
+ */
+public class UserRoleChangedInOrganizationEvent extends AbstractDomainEvent {
+    
+    private final UUID userId;
+    private final String previousRole;
+    private final String newRole;
+    
+    public UserRoleChangedInOrganizationEvent(UUID organizationId, UUID userId, String previousRole, String newRole) {
+        super(organizationId.toString());
+        this.userId = userId;
+        this.previousRole = previousRole;
+        this.newRole = newRole;
+    }
+    
+    public UUID getUserId() {
+        return userId;
+    }
+    
+    public String getPreviousRole() {
+        return previousRole;
+    }
+    
+    public String getNewRole() {
+        return newRole;
+    }
+    
+    @Override
+    public String getEventType() {
+        return "organization.user.roleChanged";
+    }
+}
@@ -1,5 +1,11 @@
 package com.zamaz.mcp.organization.domain.event.common;
 
+import java.util.List;
+
 public interface DomainEventPublisher {
     void publish(DomainEvent event);
-}
\ No newline at end of file
+    
+    default void publishAll(List<DomainEvent> events) {
+        events.forEach(this::publish);
+    }
+}
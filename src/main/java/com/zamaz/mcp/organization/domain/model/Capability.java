@@ -0,0 +1,84 @@
+package com.zamaz.mcp.organization.domain.model;
+
+/**
+ * Something a user may do within an organization or its teams.
+ * Each capability is one bit of a {@code long}, so a user's capabilities are a single
+ * value and checking any set of them is a bitwise AND; see {@link PermissionMatrix}.
+ */
+public enum Capability {
+    
+    // Organization, from the organization role
+    VIEW_ORGANIZATION,
+    PARTICIPATE,
+    MANAGE_GUESTS,
+    MANAGE_MEMBERS,
+    MANAGE_ADMINS,
+    MANAGE_OWNERS,
+    
+    // Team, from the team role
+    PARTICIPATE_IN_TEAM,
+    INVITE_TEAM_MEMBERS,
+    REMOVE_TEAM_MEMBERS,
+    MODIFY_TEAM_SETTINGS,
+    MANAGE_TEAM_MEMBERS,
+    MANAGE_TEAM_LEADS,
+    MANAGE_TEAM_ADMINS;
+    
+    private final long bit = 1L << ordinal();
+    
+    /**
+     * Gets the bit of this capability.
+     * 
+     * @return a mask with only this capability set
+     */
+    public long bit() {
+        return bit;
+    }
+    
+    /**
+     * Checks if the capabilities include this one.
+     * 
+     * @param capabilities a capability mask
+     * @return true if this capability is set
+     */
+    public boolean isIn(long capabilities) {
+        return (capabilities & bit) != 0;
+    }
+    
+    /**
+     * Combines capabilities into a mask.
+     * 
+     * @param capabilities the capabilities
+     * @return a mask with each given capability set
+     */
+    public static long mask(Capability... capabilities) {
+        long mask = 0;
+        for (Capability capability : capabilities) {
+            mask |= capability.bit;
+        }
+        return mask;
+    }
+    
+    /**
+     * Gets the capability needed to manage users holding the given organization role.
+     */
+    public static Capability toManage(Role role) {
+        return switch (role) {
+            case OWNER -> MANAGE_OWNERS;
+            case ADMIN -> MANAGE_ADMINS;
+            case MEMBER -> MANAGE_MEMBERS;
+            case GUEST -> MANAGE_GUESTS;
+        };
+    }
+    
+    /**
+     * Gets the capability needed to manage team members holding the given team role.
+     */
+    public static Capability toManage(TeamRole role) {
+        return switch (role) {
+            case ADMIN -> MANAGE_TEAM_ADMINS;
+            case LEAD -> MANAGE_TEAM_LEADS;
+            case MEMBER -> MANAGE_TEAM_MEMBERS;
+        };
+    }
+}
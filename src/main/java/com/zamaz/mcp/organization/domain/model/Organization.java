@@ -4,9 +4,11 @@ import com.zamaz.mcp.organization.domain.common.AggregateRoot;
 import com.zamaz.mcp.common.domain.exception.DomainRuleViolationException;
 import com.zamaz.mcp.organization.domain.common.TenantId;
 import com.zamaz.mcp.organization.domain.event.OrganizationCreatedEvent;
+import com.zamaz.mcp.organization.domain.event.OrganizationStatusChangedEvent;
 import com.zamaz.mcp.organization.domain.event.OrganizationUpdatedEvent;
 import com.zamaz.mcp.organization.domain.event.UserAddedToOrganizationEvent;
 import com.zamaz.mcp.organization.domain.event.UserRemovedFromOrganizationEvent;
+import com.zamaz.mcp.organization.domain.event.UserRoleChangedInOrganizationEvent;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -144,6 +146,62 @@ public class Organization extends AggregateRoot<OrganizationId> {
         ));
     }
     
+    /**
+     * Adds several users with the same role.
+     * Every precondition is checked before the first member is added, so the aggregate
+     * is either updated for all users or left untouched.
+     *
+     * @return the added members, in the order given
+     */
+    public List<OrganizationMember> addUsers(Collection<UserId> userIds, Role role) {
+        if (!active) {
+            throw new DomainRuleViolationException(
+                "organization.inactive",
+                "Cannot add users to inactive organization"
+            );
+        }
+        
+        Set<UserId> distinctIds = new LinkedHashSet<>(userIds);
+        if (distinctIds.size() != userIds.size()) {
+            throw new DomainRuleViolationException(
+                "organization.user.duplicate",
+                "The same user cannot be added more than once"
+            );
+        }
+        
+        for (UserId userId : distinctIds) {
+            if (members.containsKey(userId)) {
+                throw new DomainRuleViolationException(
+                    "organization.user.alreadyMember",
+                    "User is already a member of this organization: " + userId
+                );
+            }
+        }
+        
+        Integer maxMembers = settings.getMaxMembers();
+        if (maxMembers != null && members.size() + distinctIds.size() > maxMembers) {
+            throw new DomainRuleViolationException(
+                "organization.members.limitExceeded",
+                "Organization has reached maximum member limit: " + maxMembers
+            );
+        }
+        
+        LocalDateTime joinedAt = LocalDateTime.now();
+        List<OrganizationMember> added = new ArrayList<>(distinctIds.size());
+        for (UserId userId : distinctIds) {
+            var member = new OrganizationMember(userId, role, joinedAt);
+            members.put(userId, member);
+            added.add(member);
+            registerEvent(new UserAddedToOrganizationEvent(
+                id.toTenantId(),
+                userId.value(),
+                role.name()
+            ));
+        }
+        markUpdated();
+        return added;
+    }
+    
     /**
      * Updates a user's role in the organization.
      */
@@ -176,8 +234,16 @@ public class Organization extends AggregateRoot<OrganizationId> {
             }
         }
         
+        Role previousRole = member.getRole();
         member.changeRole(newRole);
         markUpdated();
+        
+        registerEvent(new UserRoleChangedInOrganizationEvent(
+            id.value(),
+            userId.value(),
+            previousRole.name(),
+            newRole.name()
+        ));
     }
     
     /**
@@ -221,6 +287,57 @@ public class Organization extends AggregateRoot<OrganizationId> {
         ));
     }
     
+    /**
+     * Removes several users.
+     * Every user must be a member and at least one owner must remain; nothing is
+     * removed unless all removals are allowed.
+     */
+    public void removeUsers(Collection<UserId> userIds) {
+        if (!active) {
+            throw new DomainRuleViolationException(
+                "organization.inactive",
+                "Cannot remove users from inactive organization"
+            );
+        }
+        
+        Set<UserId> distinctIds = new LinkedHashSet<>(userIds);
+        long removedOwners = 0;
+        for (UserId userId : distinctIds) {
+            OrganizationMember member = members.get(userId);
+            if (member == null) {
+                throw new DomainRuleViolationException(
+                    "organization.user.notMember",
+                    "User is not a member of this organization: " + userId
+                );
+            }
+            if (member.getRole() == Role.OWNER) {
+                removedOwners++;
+            }
+        }
+        
+        // Ensure at least one owner remains
+        if (removedOwners > 0) {
+            long ownerCount = members.values().stream()
+                .filter(m -> m.getRole() == Role.OWNER)
+                .count();
+            if (ownerCount <= removedOwners) {
+                throw new DomainRuleViolationException(
+                    "organization.owner.lastOwner",
+                    "Cannot remove the last owner from organization"
+                );
+            }
+        }
+        
+        for (UserId userId : distinctIds) {
+            members.remove(userId);
+            registerEvent(new UserRemovedFromOrganizationEvent(
+                id.toTenantId(),
+                userId.value()
+            ));
+        }
+        markUpdated();
+    }
+    
     /**
      * Deactivates the organization.
      */
@@ -231,6 +348,8 @@ public class Organization extends AggregateRoot<OrganizationId> {
         
         this.active = false;
         markUpdated();
+        
+        registerEvent(new OrganizationStatusChangedEvent(id.value(), false));
     }
     
     /**
@@ -243,6 +362,8 @@ public class Organization extends AggregateRoot<OrganizationId> {
         
         this.active = true;
         markUpdated();
+        
+        registerEvent(new OrganizationStatusChangedEvent(id.value(), true));
     }
     
     /**
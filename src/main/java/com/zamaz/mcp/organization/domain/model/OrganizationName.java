@@ -2,7 +2,9 @@ package com.zamaz.mcp.organization.domain.model;
 
 import com.zamaz.mcp.organization.domain.common.ValueObject;
 import com.zamaz.mcp.common.domain.exception.DomainRuleViolationException;
+import java.util.Locale;
 import java.util.Objects;
+import java.util.regex.Pattern;
 
 /**
  * Value object representing an organization name.
@@ -13,6 +15,7 @@ public record OrganizationName(String value) implements ValueObject {
     private static final int MIN_LENGTH = 2;
     private static final int MAX_LENGTH = 100;
     private static final String VALID_PATTERN = "^[a-zA-Z0-9\\s\\-_.]+$";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
     
     public OrganizationName {
         Objects.requireNonNull(value, "Organization name cannot be null");
@@ -59,6 +62,26 @@ public record OrganizationName(String value) implements ValueObject {
         return new OrganizationName(value);
     }
     
+    /**
+     * Gets the form of this name that must be unique across organizations.
+     * 
+     * @return the normalized name
+     */
+    public String normalized() {
+        return normalize(value);
+    }
+    
+    /**
+     * Normalizes a name for uniqueness: trimmed, whitespace runs collapsed to one space,
+     * and lower-cased. Names that normalize alike are considered the same name.
+     * 
+     * @param name the name as entered
+     * @return the normalized name
+     */
+    public static String normalize(String name) {
+        return WHITESPACE.matcher(name).replaceAll(" ").strip().toLowerCase(Locale.ROOT);
+    }
+    
     @Override
     public String toString() {
         return value;
@@ -0,0 +1,53 @@
+package com.zamaz.mcp.organization.domain.model;
+
+import static com.zamaz.mcp.organization.domain.model.Capability.*;
+
+/**
+ * Precomputed capabilities of every organization role and team role.
+ *
+ * <p>The organization and team rows are the single definition of what each role may do;
+ * {@link Role} and {@link TeamRole} answer their checks from them, so resolving a role's
+ * capabilities is an array read and checking them is a bitwise AND.
+ */
+public final class PermissionMatrix {
+    
+    private static final long[] ROLE = new long[Role.values().length];
+    private static final long[] TEAM_ROLE = new long[TeamRole.values().length];
+    
+    static {
+        ROLE[Role.GUEST.ordinal()] = mask(VIEW_ORGANIZATION);
+        ROLE[Role.MEMBER.ordinal()] = ROLE[Role.GUEST.ordinal()] | mask(PARTICIPATE);
+        ROLE[Role.ADMIN.ordinal()] = ROLE[Role.MEMBER.ordinal()] | mask(MANAGE_GUESTS, MANAGE_MEMBERS);
+        ROLE[Role.OWNER.ordinal()] = ROLE[Role.ADMIN.ordinal()] | mask(MANAGE_ADMINS, MANAGE_OWNERS);
+        
+        TEAM_ROLE[TeamRole.MEMBER.ordinal()] = mask(PARTICIPATE_IN_TEAM);
+        TEAM_ROLE[TeamRole.LEAD.ordinal()] = TEAM_ROLE[TeamRole.MEMBER.ordinal()]
+            | mask(INVITE_TEAM_MEMBERS, REMOVE_TEAM_MEMBERS, MANAGE_TEAM_MEMBERS);
+        TEAM_ROLE[TeamRole.ADMIN.ordinal()] = TEAM_ROLE[TeamRole.LEAD.ordinal()]
+            | mask(MODIFY_TEAM_SETTINGS, MANAGE_TEAM_LEADS, MANAGE_TEAM_ADMINS);
+    }
+    
+    private PermissionMatrix() {
+    }
+    
+    /**
+     * Gets the capabilities of an organization role.
+     */
+    public static long of(Role role) {
+        return ROLE[role.ordinal()];
+    }
+    
+    /**
+     * Gets the capabilities of a team role.
+     */
+    public static long of(TeamRole teamRole) {
+        return TEAM_ROLE[teamRole.ordinal()];
+    }
+    
+    /**
+     * Checks if the capabilities include every required one.
+     */
+    public static boolean hasAll(long capabilities, long required) {
+        return (capabilities & required) == required;
+    }
+}
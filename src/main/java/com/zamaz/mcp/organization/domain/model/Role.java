@@ -52,16 +52,7 @@ public enum Role {
      * @return true if this role can manage the target role
      */
     public boolean canManage(Role targetRole) {
-        // Owners can manage everyone
-        if (this == OWNER) {
-            return true;
-        }
-        // Admins can manage members and guests
-        if (this == ADMIN) {
-            return targetRole.level < this.level;
-        }
-        // Others cannot manage anyone
-        return false;
+        return Capability.toManage(targetRole).isIn(PermissionMatrix.of(this));
     }
     
     /**
@@ -46,16 +46,7 @@ public enum TeamRole {
      * @return true if this role can manage the target role
      */
     public boolean canManage(TeamRole targetRole) {
-        // Admins can manage everyone
-        if (this == ADMIN) {
-            return true;
-        }
-        // Leads can manage members
-        if (this == LEAD) {
-            return targetRole == MEMBER;
-        }
-        // Members cannot manage anyone
-        return false;
+        return Capability.toManage(targetRole).isIn(PermissionMatrix.of(this));
     }
     
     /**
@@ -64,7 +55,7 @@ public enum TeamRole {
      * @return true if this role can invite members
      */
     public boolean canInviteMembers() {
-        return this == ADMIN || this == LEAD;
+        return Capability.INVITE_TEAM_MEMBERS.isIn(PermissionMatrix.of(this));
     }
     
     /**
@@ -73,7 +64,7 @@ public enum TeamRole {
      * @return true if this role can remove members
      */
     public boolean canRemoveMembers() {
-        return this == ADMIN || this == LEAD;
+        return Capability.REMOVE_TEAM_MEMBERS.isIn(PermissionMatrix.of(this));
     }
     
     /**
@@ -82,7 +73,7 @@ public enum TeamRole {
      * @return true if this role can modify settings
      */
     public boolean canModifySettings() {
-        return this == ADMIN;
+        return Capability.MODIFY_TEAM_SETTINGS.isIn(PermissionMatrix.of(this));
     }
     
     /**
@@ -4,6 +4,7 @@ import com.zamaz.mcp.organization.domain.service.common.DomainService;
 import com.zamaz.mcp.common.domain.exception.DomainRuleViolationException;
 import com.zamaz.mcp.organization.domain.model.*;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -31,6 +32,17 @@ public interface OrganizationDomainService extends DomainService {
      */
     void validateUserCanJoinOrganization(UserId userId, OrganizationId organizationId);
     
+    /**
+     * Validates that all given users can be added to an organization.
+     * Set-based counterpart of {@link #validateUserCanJoinOrganization} for bulk additions;
+     * the users must already be loaded.
+     * 
+     * @param users the users to validate
+     * @param organizationId the target organization
+     * @throws DomainRuleViolationException naming the offending users if any cannot be added
+     */
+    void validateUsersCanJoinOrganization(Collection<User> users, OrganizationId organizationId);
+    
     /**
      * Merges two organizations together.
      * Complex domain operation that affects multiple aggregates.
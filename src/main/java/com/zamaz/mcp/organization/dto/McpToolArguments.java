@@ -0,0 +1,80 @@
+package com.zamaz.mcp.organization.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.UUID;
+
+/**
+ * Arguments of the MCP tools, one record per tool.
+ * The tool catalog derives each tool's JSON Schema from these records.
+ */
+public final class McpToolArguments {
+    
+    private McpToolArguments() {
+    }
+    
+    public record CreateOrganization(
+            @NotBlank @Size(min = 2, max = 255)
+            @Schema(description = "Organization name")
+            String name,
+            
+            @Size(max = 1000)
+            @Schema(description = "Organization description")
+            String description) {
+    }
+    
+    public record GetOrganization() {
+    }
+    
+    public record CheckOrganizationName(
+            @NotBlank @Size(min = 2, max = 255)
+            @Schema(description = "Organization name to check, as typed")
+            String name) {
+    }
+    
+    public record UpdateOrganization(
+            @Size(min = 2, max = 255)
+            @Schema(description = "New organization name")
+            String name,
+            
+            @Size(max = 1000)
+            @Schema(description = "New organization description")
+            String description,
+            
+            @Schema(description = "Whether the organization is active")
+            Boolean isActive) {
+    }
+    
+    public record DeleteOrganization() {
+    }
+    
+    public record AddUserToOrganization(
+            @NotNull
+            @Schema(description = "ID of the user to add")
+            UUID userId,
+            
+            @Schema(description = "Role of the user in the organization (default member)",
+                    allowableValues = {"owner", "admin", "member", "guest"})
+            String role) {
+    }
+    
+    public record RemoveUserFromOrganization(
+            @NotNull
+            @Schema(description = "ID of the user to remove")
+            UUID userId) {
+    }
+    
+    public record ListOrganizations(
+            @Schema(description = "nextCursor from the previous page; omit for the first page")
+            String cursor,
+            
+            @Min(1) @Max(200)
+            @Schema(description = "Page size (default 50)")
+            Integer limit) {
+    }
+}
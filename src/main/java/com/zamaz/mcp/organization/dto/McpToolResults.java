@@ -0,0 +1,76 @@
+package com.zamaz.mcp.organization.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.zamaz.mcp.organization.infrastructure.error.McpErrorResponse;
+
+import java.util.List;
+
+/**
+ * Results of the MCP tools and the call-tool envelopes around them.
+ * Serialized directly to the response, without an intermediate map or tree.
+ */
+public final class McpToolResults {
+    
+    private McpToolResults() {
+    }
+    
+    public record OrganizationResult(boolean success, OrganizationDto organization) {
+        
+        public static OrganizationResult of(OrganizationDto organization) {
+            return new OrganizationResult(true, organization);
+        }
+    }
+    
+    public record NameAvailabilityResult(boolean success, OrganizationDto.NameAvailability availability) {
+        
+        public static NameAvailabilityResult of(OrganizationDto.NameAvailability availability) {
+            return new NameAvailabilityResult(true, availability);
+        }
+    }
+    
+    public record MessageResult(boolean success, String message) {
+        
+        public static MessageResult of(String message) {
+            return new MessageResult(true, message);
+        }
+    }
+    
+    public record OrganizationList(List<OrganizationDto> organizations, int count) {
+    }
+    
+    public record OrganizationPage(List<OrganizationDto> organizations, int count, boolean hasMore, String nextCursor) {
+    }
+    
+    /**
+     * Response of a single call-tool request: either the tool's result or the error body
+     * of the {@link com.zamaz.mcp.organization.infrastructure.error.McpErrorHandler}.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record CallResult(Object result, McpErrorResponse error) {
+        
+        public static CallResult success(Object result) {
+            return new CallResult(result, null);
+        }
+        
+        public static CallResult failure(McpErrorResponse error) {
+            return new CallResult(null, error);
+        }
+    }
+    
+    /**
+     * One entry of a batch call-tool response, echoing the request's {@code id}.
+     * Failures carry the same error body a single tool call returns.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record BatchItem(JsonNode id, Object result, McpErrorResponse error) {
+        
+        public static BatchItem success(JsonNode id, Object result) {
+            return new BatchItem(id, result, null);
+        }
+        
+        public static BatchItem failure(JsonNode id, McpErrorResponse error) {
+            return new BatchItem(id, null, error);
+        }
+    }
+}
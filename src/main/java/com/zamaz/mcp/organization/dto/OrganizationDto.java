@@ -9,6 +9,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Data
@@ -66,4 +67,34 @@ public class OrganizationDto {
         
         private Boolean isActive;
     }
-}
\ No newline at end of file
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Member {
+        private UUID userId;
+        
+        private String email;
+        
+        private String firstName;
+        
+        private String lastName;
+        
+        private String role;
+        
+        private LocalDateTime joinedAt;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class NameAvailability {
+        private String name;
+        
+        private boolean available;
+        
+        private List<String> suggestions;
+    }
+}
@@ -0,0 +1,43 @@
+package com.zamaz.mcp.organization.dto;
+
+import com.zamaz.mcp.organization.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position of the last row of a page: its sort timestamp and ID tie-breaker.
+ * Encoded as URL-safe Base64 so clients treat it as opaque.
+ */
+public record PageCursor(LocalDateTime timestamp, UUID id) {
+    
+    private static final char SEPARATOR = '|';
+    
+    public String encode() {
+        String raw = timestamp.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * Decodes a cursor produced by {@link #encode()}.
+     * 
+     * @return the cursor, or null for a blank value meaning the first page
+     * @throws InvalidCursorException if the value is not a valid cursor
+     */
+    public static PageCursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new PageCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("Invalid cursor: " + value);
+        }
+    }
+}
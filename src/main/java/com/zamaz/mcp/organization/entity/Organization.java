@@ -1,6 +1,7 @@
 package com.zamaz.mcp.organization.entity;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.zamaz.mcp.organization.domain.model.OrganizationName;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -29,6 +30,9 @@ public class Organization {
     @Column(nullable = false)
     private String name;
     
+    @Column(name = "normalized_name", nullable = false)
+    private String normalizedName;
+    
     @Column(columnDefinition = "TEXT")
     private String description;
     
@@ -54,10 +58,12 @@ public class Organization {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        normalizedName = OrganizationName.normalize(name);
     }
     
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        normalizedName = OrganizationName.normalize(name);
     }
 }
\ No newline at end of file
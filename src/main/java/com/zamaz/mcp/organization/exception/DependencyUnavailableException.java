@@ -0,0 +1,15 @@
+package com.zamaz.mcp.organization.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown without calling a dependency whose circuit breaker is open or whose bulkhead is full.
+ * Rejections are frequent while a dependency is down, so no stack trace is captured.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class DependencyUnavailableException extends RuntimeException {
+    public DependencyUnavailableException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,11 @@
+package com.zamaz.mcp.organization.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidSearchLimitException extends RuntimeException {
+    public InvalidSearchLimitException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package com.zamaz.mcp.organization.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidToolArgumentsException extends RuntimeException {
+    public InvalidToolArgumentsException(String message) {
+        super(message);
+    }
+    
+    public InvalidToolArgumentsException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,11 @@
+package com.zamaz.mcp.organization.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.GATEWAY_TIMEOUT)
+public class ToolCallTimeoutException extends RuntimeException {
+    public ToolCallTimeoutException(String message) {
+        super(message);
+    }
+}
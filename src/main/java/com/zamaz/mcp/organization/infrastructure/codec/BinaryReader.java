@@ -0,0 +1,155 @@
+package com.zamaz.mcp.organization.infrastructure.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Reader for the format written by {@link BinaryWriter}.
+ * Every read method throws {@link IllegalArgumentException} on truncated or malformed input.
+ */
+public final class BinaryReader {
+
+    private final byte[] buffer;
+    private int position;
+
+    public BinaryReader(byte[] buffer) {
+        this.buffer = buffer;
+    }
+
+    public int readByte() {
+        require(1);
+        return buffer[position++] & 0xFF;
+    }
+
+    public boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    public long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int next = readByte();
+            value |= (long) (next & 0x7F) << shift;
+            if ((next & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint at offset " + position);
+    }
+
+    public int readVarInt() {
+        long value = readVarLong();
+        if (value >>> 32 != 0) {
+            throw new IllegalArgumentException("Varint out of int range at offset " + position);
+        }
+        return (int) value;
+    }
+
+    public long readZigZagLong() {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public long readLong() {
+        require(8);
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (buffer[position++] & 0xFF);
+        }
+        return value;
+    }
+
+    public UUID readUuid() {
+        return new UUID(readLong(), readLong());
+    }
+
+    public String readString() {
+        int length = readVarInt();
+        if (length == 0) {
+            return null;
+        }
+        require(length - 1);
+        String value = new String(buffer, position, length - 1, StandardCharsets.UTF_8);
+        position += length - 1;
+        return value;
+    }
+
+    public LocalDateTime readTimestamp() {
+        if (!readBoolean()) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(readZigZagLong(), readVarInt(), ZoneOffset.UTC);
+    }
+
+    public Instant readInstant() {
+        if (!readBoolean()) {
+            return null;
+        }
+        return Instant.ofEpochSecond(readZigZagLong(), readVarInt());
+    }
+
+    /**
+     * Reads a value written by {@link BinaryWriter#writeValue(Object)}. Lists and maps are
+     * returned as mutable {@link ArrayList}s and {@link HashMap}s; enums come back as names.
+     */
+    public Object readValue() {
+        int tag = readByte();
+        return switch (tag) {
+            case ValueTag.NULL -> null;
+            case ValueTag.FALSE -> Boolean.FALSE;
+            case ValueTag.TRUE -> Boolean.TRUE;
+            case ValueTag.INT -> (int) readZigZagLong();
+            case ValueTag.LONG -> readZigZagLong();
+            case ValueTag.DOUBLE -> Double.longBitsToDouble(readLong());
+            case ValueTag.STRING -> readString();
+            case ValueTag.UUID -> readUuid();
+            case ValueTag.INSTANT -> readInstant();
+            case ValueTag.TIMESTAMP -> readTimestamp();
+            case ValueTag.LIST -> {
+                int size = readCount();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue());
+                }
+                yield list;
+            }
+            case ValueTag.MAP -> {
+                int size = readCount();
+                Map<String, Object> map = new HashMap<>(size * 2);
+                for (int i = 0; i < size; i++) {
+                    map.put(readString(), readValue());
+                }
+                yield map;
+            }
+            default -> throw new IllegalArgumentException("Unknown value tag " + tag + " at offset " + (position - 1));
+        };
+    }
+
+    /**
+     * Reads an element count, rejecting counts that cannot fit in the remaining input.
+     */
+    public int readCount() {
+        int count = readVarInt();
+        if (count > remaining()) {
+            throw new IllegalArgumentException("Count " + count + " exceeds remaining input at offset " + position);
+        }
+        return count;
+    }
+
+    public int remaining() {
+        return buffer.length - position;
+    }
+
+    private void require(int length) {
+        if (length < 0 || position + length > buffer.length) {
+            throw new IllegalArgumentException("Truncated input at offset " + position);
+        }
+    }
+}
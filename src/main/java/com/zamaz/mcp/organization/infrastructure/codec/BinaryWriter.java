@@ -0,0 +1,160 @@
+package com.zamaz.mcp.organization.infrastructure.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Append-only writer for the compact binary format read by {@link BinaryReader}.
+ *
+ * <p>Integers are written as LEB128 varints (zigzag for signed values), UUIDs as two
+ * big-endian longs, timestamps as varint seconds and nanoseconds, and strings as UTF-8
+ * prefixed with their length plus one, so zero can stand for null. Untyped values such
+ * as settings are written with a one-byte {@link ValueTag}.
+ *
+ * <p>Not thread-safe; use one writer per encoded value.
+ */
+public final class BinaryWriter {
+
+    private byte[] buffer;
+    private int position;
+
+    public BinaryWriter() {
+        this(256);
+    }
+
+    public BinaryWriter(int initialCapacity) {
+        this.buffer = new byte[Math.max(initialCapacity, 16)];
+    }
+
+    public BinaryWriter writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+        return this;
+    }
+
+    public BinaryWriter writeBoolean(boolean value) {
+        return writeByte(value ? 1 : 0);
+    }
+
+    public BinaryWriter writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return this;
+    }
+
+    public BinaryWriter writeVarInt(int value) {
+        return writeVarLong(value & 0xFFFFFFFFL);
+    }
+
+    public BinaryWriter writeZigZagLong(long value) {
+        return writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    public BinaryWriter writeLong(long value) {
+        ensureCapacity(8);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[position++] = (byte) (value >>> shift);
+        }
+        return this;
+    }
+
+    public BinaryWriter writeUuid(UUID value) {
+        return writeLong(value.getMostSignificantBits()).writeLong(value.getLeastSignificantBits());
+    }
+
+    /**
+     * Writes a nullable string.
+     */
+    public BinaryWriter writeString(String value) {
+        if (value == null) {
+            return writeVarInt(0);
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length + 1);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+        return this;
+    }
+
+    /**
+     * Writes a nullable wall-clock timestamp.
+     */
+    public BinaryWriter writeTimestamp(LocalDateTime value) {
+        if (value == null) {
+            return writeBoolean(false);
+        }
+        return writeBoolean(true)
+            .writeZigZagLong(value.toEpochSecond(ZoneOffset.UTC))
+            .writeVarInt(value.getNano());
+    }
+
+    /**
+     * Writes a nullable instant.
+     */
+    public BinaryWriter writeInstant(Instant value) {
+        if (value == null) {
+            return writeBoolean(false);
+        }
+        return writeBoolean(true)
+            .writeZigZagLong(value.getEpochSecond())
+            .writeVarInt(value.getNano());
+    }
+
+    /**
+     * Writes a tagged value: null, a boolean, a number, a string, a UUID, a timestamp, an
+     * enum (as its name), or a list or string-keyed map of such values.
+     *
+     * @throws IllegalArgumentException for any other type
+     */
+    public BinaryWriter writeValue(Object value) {
+        switch (value) {
+            case null -> writeByte(ValueTag.NULL);
+            case Boolean bool -> writeByte(bool ? ValueTag.TRUE : ValueTag.FALSE);
+            case Integer number -> writeByte(ValueTag.INT).writeZigZagLong(number);
+            case Long number -> writeByte(ValueTag.LONG).writeZigZagLong(number);
+            case Short number -> writeByte(ValueTag.INT).writeZigZagLong(number);
+            case Double number -> writeByte(ValueTag.DOUBLE).writeLong(Double.doubleToLongBits(number));
+            case Float number -> writeByte(ValueTag.DOUBLE).writeLong(Double.doubleToLongBits(number));
+            case String string -> writeByte(ValueTag.STRING).writeString(string);
+            case UUID uuid -> writeByte(ValueTag.UUID).writeUuid(uuid);
+            case Instant instant -> writeByte(ValueTag.INSTANT).writeInstant(instant);
+            case LocalDateTime timestamp -> writeByte(ValueTag.TIMESTAMP).writeTimestamp(timestamp);
+            case Enum<?> constant -> writeByte(ValueTag.STRING).writeString(constant.name());
+            case List<?> list -> {
+                writeByte(ValueTag.LIST).writeVarInt(list.size());
+                list.forEach(this::writeValue);
+            }
+            case Map<?, ?> map -> {
+                writeByte(ValueTag.MAP).writeVarInt(map.size());
+                map.forEach((key, entry) -> writeString(String.valueOf(key)).writeValue(entry));
+            }
+            default -> throw new IllegalArgumentException("Unsupported value type: " + value.getClass().getName());
+        }
+        return this;
+    }
+
+    public int size() {
+        return position;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    private void ensureCapacity(int additional) {
+        if (position + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+        }
+    }
+}
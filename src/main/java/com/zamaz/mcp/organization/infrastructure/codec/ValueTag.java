@@ -0,0 +1,24 @@
+package com.zamaz.mcp.organization.infrastructure.codec;
+
+/**
+ * Type tags of values written by {@link BinaryWriter#writeValue(Object)}.
+ * Tags are part of the persisted format: never renumber them, only append.
+ */
+final class ValueTag {
+
+    static final int NULL = 0;
+    static final int FALSE = 1;
+    static final int TRUE = 2;
+    static final int INT = 3;
+    static final int LONG = 4;
+    static final int DOUBLE = 5;
+    static final int STRING = 6;
+    static final int UUID = 7;
+    static final int INSTANT = 8;
+    static final int TIMESTAMP = 9;
+    static final int LIST = 10;
+    static final int MAP = 11;
+
+    private ValueTag() {
+    }
+}
@@ -1,8 +1,10 @@
 package com.zamaz.mcp.organization.infrastructure.error;
 
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.ResponseStatus;
 
 import java.time.Instant;
 
@@ -17,6 +19,10 @@ public class McpErrorHandler {
         // Error logging logic
     }
     
+    /**
+     * Renders the exception as an error response. Without an explicit status, the
+     * exception's {@link ResponseStatus} is used, or 500 when it has none.
+     */
     public ResponseEntity<McpErrorResponse> createErrorResponse(Exception e, String message, HttpStatus status) {
         McpErrorResponse errorResponse = new McpErrorResponse(
             e.getClass().getSimpleName(),
@@ -25,6 +31,11 @@ public class McpErrorHandler {
             Instant.now(),
             null
         );
-        return ResponseEntity.status(status != null ? status : HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        return ResponseEntity.status(status != null ? status : resolveStatus(e)).body(errorResponse);
+    }
+    
+    private static HttpStatus resolveStatus(Exception e) {
+        ResponseStatus responseStatus = AnnotatedElementUtils.findMergedAnnotation(e.getClass(), ResponseStatus.class);
+        return responseStatus != null ? responseStatus.code() : HttpStatus.INTERNAL_SERVER_ERROR;
     }
 }
\ No newline at end of file
@@ -0,0 +1,80 @@
+package com.zamaz.mcp.organization.infrastructure.execution;
+
+import com.zamaz.mcp.organization.exception.DependencyUnavailableException;
+import com.zamaz.mcp.organization.exception.ToolCallTimeoutException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextCallable;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Runs blocking MCP tool calls off the request thread.
+ *
+ * <p>Calls run on a bounded elastic scheduler, or on one virtual thread each when virtual
+ * threads are enabled. A call is admitted only while fewer than
+ * {@code max-concurrent-calls + max-queued-calls} are in flight; beyond that it fails
+ * immediately instead of queueing without bound. Each call gets the caller's security
+ * context and a timeout. Timing out or cancelling the returned {@link Mono} interrupts
+ * the worker, and the JPA query timeout stops any statement still running on the server.
+ */
+@Component
+public class McpToolExecutor implements DisposableBean {
+    
+    private final Scheduler scheduler;
+    private final Semaphore inFlight;
+    private final Duration callTimeout;
+    
+    public McpToolExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                           @Value("${mcp.tools.max-concurrent-calls:64}") int maxConcurrentCalls,
+                           @Value("${mcp.tools.max-queued-calls:256}") int maxQueuedCalls,
+                           @Value("${mcp.tools.call-timeout:10s}") Duration callTimeout) {
+        this.scheduler = virtualThreads
+            ? Schedulers.fromExecutorService(
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("mcp-tool-", 0).factory()), "mcp-tool")
+            : Schedulers.newBoundedElastic(maxConcurrentCalls, Math.max(maxQueuedCalls, 1), "mcp-tool");
+        this.inFlight = new Semaphore(maxConcurrentCalls + maxQueuedCalls);
+        this.callTimeout = callTimeout;
+    }
+    
+    /**
+     * Returns a {@link Mono} that runs the call when subscribed, with the caller's
+     * security context.
+     * Fails with {@link DependencyUnavailableException} when too many calls are in flight
+     * and with {@link ToolCallTimeoutException} when the call exceeds its timeout.
+     */
+    public <T> Mono<T> execute(String toolName, Callable<T> call) {
+        return execute(toolName, call, SecurityContextHolder.getContext());
+    }
+    
+    /**
+     * Returns a {@link Mono} that runs the call with the given security context, for calls
+     * assembled or subscribed away from the request thread.
+     */
+    public <T> Mono<T> execute(String toolName, Callable<T> call, SecurityContext securityContext) {
+        return Mono.defer(() -> {
+            if (!inFlight.tryAcquire()) {
+                return Mono.error(new DependencyUnavailableException("Too many concurrent tool calls"));
+            }
+            return Mono.fromCallable(new DelegatingSecurityContextCallable<>(call, securityContext))
+                .subscribeOn(scheduler)
+                .timeout(callTimeout, Mono.error(() ->
+                    new ToolCallTimeoutException("Tool " + toolName + " did not complete within " + callTimeout)))
+                .doFinally(signal -> inFlight.release());
+        });
+    }
+    
+    @Override
+    public void destroy() {
+        scheduler.dispose();
+    }
+}
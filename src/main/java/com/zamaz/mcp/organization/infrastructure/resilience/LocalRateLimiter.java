@@ -0,0 +1,75 @@
+package com.zamaz.mcp.organization.infrastructure.resilience;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+
+/**
+ * In-memory rate limiter for a single node.
+ *
+ * <p>Buckets live in a Caffeine cache, whose striped hash table serves lookups without
+ * locking, and are bucket4j lock-free buckets, so a check is a hash probe plus a CAS.
+ * A bucket expires after one full refill period without access: by then it would be
+ * full again, so evicting it never grants more than a fresh bucket would.
+ */
+public class LocalRateLimiter implements RateLimiter {
+    
+    private final Cache<String, Entry> buckets;
+    
+    public LocalRateLimiter(long maximumBuckets) {
+        this.buckets = Caffeine.newBuilder()
+            .maximumSize(maximumBuckets)
+            .expireAfter(new IdleForOnePeriod())
+            .build();
+    }
+    
+    @Override
+    public boolean tryConsume(String key, RateLimitPolicy policy) {
+        return buckets.get(key, k -> Entry.of(policy)).bucket().tryConsume(1);
+    }
+    
+    @Override
+    public String mode() {
+        return "local";
+    }
+    
+    /**
+     * Approximate number of live buckets.
+     */
+    public long bucketCount() {
+        return buckets.estimatedSize();
+    }
+    
+    private record Entry(Bucket bucket, long periodNanos) {
+        
+        static Entry of(RateLimitPolicy policy) {
+            Bucket bucket = Bucket.builder()
+                .addLimit(Bandwidth.builder()
+                    .capacity(policy.capacity())
+                    .refillGreedy(policy.capacity(), policy.period())
+                    .build())
+                .build();
+            return new Entry(bucket, policy.period().toNanos());
+        }
+    }
+    
+    private static final class IdleForOnePeriod implements Expiry<String, Entry> {
+        
+        @Override
+        public long expireAfterCreate(String key, Entry entry, long currentTime) {
+            return entry.periodNanos();
+        }
+        
+        @Override
+        public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+            return entry.periodNanos();
+        }
+        
+        @Override
+        public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+            return entry.periodNanos();
+        }
+    }
+}
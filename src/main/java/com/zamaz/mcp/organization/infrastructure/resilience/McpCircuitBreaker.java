@@ -1,25 +1,334 @@
 package com.zamaz.mcp.organization.infrastructure.resilience;
 
-import org.springframework.stereotype.Component;
+import com.zamaz.mcp.organization.exception.DependencyUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
 
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 
-@Component
+/**
+ * Circuit breaker and bulkhead for one dependency.
+ *
+ * <p>While {@code CLOSED}, outcomes are recorded in a count-based sliding window; once it
+ * holds enough calls and the failure or slow-call rate reaches its threshold, the breaker
+ * opens. {@code OPEN} rejects calls without touching the dependency until the wait has
+ * elapsed, then {@code HALF_OPEN} lets a fixed number of trial calls through and closes or
+ * re-opens depending on their outcome.
+ *
+ * <p>State is a single immutable snapshot swapped by compare-and-set. Each snapshot owns
+ * its window, so a transition resets the window by replacing it, and outcomes of calls
+ * admitted under an older snapshot are dropped. Recording an outcome is a few atomic
+ * increments; no call path takes a lock.
+ *
+ * <p>Independently of the breaker, a semaphore bulkhead caps concurrent calls so a slow
+ * dependency cannot absorb every request thread.
+ */
+@Slf4j
 public class McpCircuitBreaker {
-    
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * Breaker and bulkhead settings; rates are percentages.
+     */
+    public record Settings(int slidingWindowSize,
+                           int minimumNumberOfCalls,
+                           float failureRateThreshold,
+                           float slowCallRateThreshold,
+                           Duration slowCallDuration,
+                           Duration waitDurationInOpenState,
+                           int permittedCallsInHalfOpenState,
+                           int maxConcurrentCalls,
+                           Duration maxWaitDuration) {
+
+        public Settings {
+            if (slidingWindowSize <= 0 || permittedCallsInHalfOpenState <= 0 || maxConcurrentCalls <= 0) {
+                throw new IllegalArgumentException("Window size, half-open calls and concurrent calls must be positive");
+            }
+            minimumNumberOfCalls = Math.min(Math.max(minimumNumberOfCalls, 1), slidingWindowSize);
+        }
+
+        public static Settings defaults() {
+            return new Settings(100, 20, 50f, 80f, Duration.ofSeconds(2), Duration.ofSeconds(30), 5, 25, Duration.ZERO);
+        }
+    }
+
+    private final String name;
+    private final Settings settings;
+    private final LongSupplier nanoClock;
+    private final long slowCallNanos;
+    private final long waitInOpenNanos;
+    private final Semaphore bulkhead;
+    private final AtomicReference<Snapshot> snapshot;
+
+    private final Counter successfulCalls;
+    private final Counter failedCalls;
+    private final Counter notPermittedCalls;
+    private final Counter bulkheadFullCalls;
+    private final MeterRegistry meterRegistry;
+
+    public McpCircuitBreaker(String name, Settings settings, MeterRegistry meterRegistry) {
+        this(name, settings, meterRegistry, System::nanoTime);
+    }
+
+    McpCircuitBreaker(String name, Settings settings, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.name = name;
+        this.settings = settings;
+        this.nanoClock = nanoClock;
+        this.slowCallNanos = settings.slowCallDuration().toNanos();
+        this.waitInOpenNanos = settings.waitDurationInOpenState().toNanos();
+        this.bulkhead = new Semaphore(settings.maxConcurrentCalls());
+        this.snapshot = new AtomicReference<>(Snapshot.closed(nanoClock.getAsLong(), settings.slidingWindowSize()));
+        this.meterRegistry = meterRegistry;
+
+        this.successfulCalls = callCounter("success");
+        this.failedCalls = callCounter("failure");
+        this.notPermittedCalls = callCounter("not_permitted");
+        this.bulkheadFullCalls = callCounter("bulkhead_full");
+        Gauge.builder("mcp.circuit_breaker.state", snapshot, s -> s.get().state().ordinal())
+            .description("Circuit breaker state: 0 closed, 1 open, 2 half-open")
+            .tag("name", name)
+            .register(meterRegistry);
+        Gauge.builder("mcp.bulkhead.available_concurrent_calls", bulkhead, Semaphore::availablePermits)
+            .tag("name", name)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Runs the call through the breaker and bulkhead.
+     *
+     * @throws DependencyUnavailableException if the breaker is open or the bulkhead is full
+     */
+    public <T> T execute(Supplier<T> call) {
+        Snapshot admittedUnder = acquire();
+        long start = nanoClock.getAsLong();
+        try {
+            T result = call.get();
+            onResult(admittedUnder, nanoClock.getAsLong() - start, false);
+            return result;
+        } catch (RuntimeException | Error e) {
+            onResult(admittedUnder, nanoClock.getAsLong() - start, true);
+            throw e;
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    public void execute(Runnable action) {
+        execute(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs the call, returning the fallback's result if the call is rejected or fails.
+     */
     public <T> T executeWithFallback(Supplier<T> supplier, Supplier<T> fallback) {
         try {
-            return supplier.get();
-        } catch (Exception e) {
+            return execute(supplier);
+        } catch (RuntimeException e) {
             return fallback.get();
         }
     }
-    
-    public void execute(Runnable action) {
+
+    /**
+     * Whether a call made now could be admitted, without consuming a permit. Lets callers
+     * skip preparatory work, such as claiming queued items, while the breaker is open.
+     */
+    public boolean isCallPermitted() {
+        Snapshot current = snapshot.get();
+        return switch (current.state()) {
+            case CLOSED -> true;
+            case OPEN -> nanoClock.getAsLong() - current.since() >= waitInOpenNanos;
+            case HALF_OPEN -> current.halfOpenPermits().get() > 0;
+        };
+    }
+
+    public State getState() {
+        return snapshot.get().state();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private Snapshot acquire() {
+        // Reject from an open breaker before touching the bulkhead
+        if (!isCallPermitted()) {
+            notPermittedCalls.increment();
+            throw new DependencyUnavailableException("Circuit breaker '" + name + "' is open");
+        }
+        if (!acquireBulkhead()) {
+            bulkheadFullCalls.increment();
+            throw new DependencyUnavailableException("Bulkhead '" + name + "' is full");
+        }
+
+        Snapshot admittedUnder = acquirePermission();
+        if (admittedUnder == null) {
+            bulkhead.release();
+            notPermittedCalls.increment();
+            throw new DependencyUnavailableException("Circuit breaker '" + name + "' is open");
+        }
+        return admittedUnder;
+    }
+
+    private boolean acquireBulkhead() {
+        if (settings.maxWaitDuration().isZero()) {
+            return bulkhead.tryAcquire();
+        }
         try {
-            action.run();
-        } catch (Exception e) {
-            // Circuit breaker logic
+            return bulkhead.tryAcquire(settings.maxWaitDuration().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private Snapshot acquirePermission() {
+        while (true) {
+            Snapshot current = snapshot.get();
+            switch (current.state()) {
+                case CLOSED:
+                    return current;
+                case HALF_OPEN:
+                    return current.halfOpenPermits().getAndDecrement() > 0 ? current : null;
+                case OPEN:
+                    if (nanoClock.getAsLong() - current.since() < waitInOpenNanos) {
+                        return null;
+                    }
+                    transition(current, State.HALF_OPEN);
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown circuit breaker state: " + current.state());
+            }
+        }
+    }
+
+    private void onResult(Snapshot admittedUnder, long durationNanos, boolean failed) {
+        (failed ? failedCalls : successfulCalls).increment();
+        if (snapshot.get() != admittedUnder) {
+            return;
+        }
+
+        Window window = admittedUnder.window();
+        window.record(failed, durationNanos >= slowCallNanos);
+        int calls = window.calls();
+
+        if (admittedUnder.state() == State.CLOSED) {
+            if (calls >= settings.minimumNumberOfCalls() && exceedsThresholds(window, calls)) {
+                transition(admittedUnder, State.OPEN);
+            }
+        } else if (calls >= settings.permittedCallsInHalfOpenState()) {
+            transition(admittedUnder, exceedsThresholds(window, calls) ? State.OPEN : State.CLOSED);
+        }
+    }
+
+    private boolean exceedsThresholds(Window window, int calls) {
+        return window.failures() * 100f >= settings.failureRateThreshold() * calls
+            || window.slowCalls() * 100f >= settings.slowCallRateThreshold() * calls;
+    }
+
+    private void transition(Snapshot from, State to) {
+        long now = nanoClock.getAsLong();
+        Snapshot next = switch (to) {
+            case CLOSED -> Snapshot.closed(now, settings.slidingWindowSize());
+            case OPEN -> new Snapshot(State.OPEN, now, null, null);
+            case HALF_OPEN -> new Snapshot(State.HALF_OPEN, now, new Window(settings.permittedCallsInHalfOpenState()),
+                new AtomicInteger(settings.permittedCallsInHalfOpenState()));
+        };
+        if (!snapshot.compareAndSet(from, next)) {
+            return;
+        }
+
+        log.warn("Circuit breaker '{}' changed from {} to {}", name, from.state(), to);
+        Counter.builder("mcp.circuit_breaker.transitions")
+            .tag("name", name)
+            .tag("from", from.state().name().toLowerCase())
+            .tag("to", to.name().toLowerCase())
+            .register(meterRegistry)
+            .increment();
+    }
+
+    private Counter callCounter(String outcome) {
+        return Counter.builder("mcp.circuit_breaker.calls")
+            .description("Calls through the circuit breaker by outcome")
+            .tag("name", name)
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    private record Snapshot(State state, long since, Window window, AtomicInteger halfOpenPermits) {
+
+        static Snapshot closed(long since, int windowSize) {
+            return new Snapshot(State.CLOSED, since, new Window(windowSize), null);
+        }
+    }
+
+    /**
+     * Ring buffer of the last {@code size} outcomes with running totals. Writers claim a slot
+     * with one increment and swap their outcome in, adjusting totals by the difference, so
+     * totals are exact once concurrent writers finish and never off by more than their count.
+     */
+    private static final class Window {
+
+        private static final int RECORDED = 1;
+        private static final int FAILED = 2;
+        private static final int SLOW = 4;
+
+        private final AtomicIntegerArray outcomes;
+        private final AtomicLong cursor = new AtomicLong();
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+        private final AtomicInteger slowCalls = new AtomicInteger();
+
+        Window(int size) {
+            this.outcomes = new AtomicIntegerArray(size);
+        }
+
+        void record(boolean failed, boolean slow) {
+            int outcome = RECORDED | (failed ? FAILED : 0) | (slow ? SLOW : 0);
+            int index = (int) (cursor.getAndIncrement() % outcomes.length());
+            int evicted = outcomes.getAndSet(index, outcome);
+            adjust(evicted, -1);
+            adjust(outcome, 1);
+        }
+
+        private void adjust(int outcome, int delta) {
+            if ((outcome & RECORDED) == 0) {
+                return;
+            }
+            calls.addAndGet(delta);
+            if ((outcome & FAILED) != 0) {
+                failures.addAndGet(delta);
+            }
+            if ((outcome & SLOW) != 0) {
+                slowCalls.addAndGet(delta);
+            }
+        }
+
+        int calls() {
+            return calls.get();
+        }
+
+        int failures() {
+            return failures.get();
+        }
+
+        int slowCalls() {
+            return slowCalls.get();
         }
     }
-}
\ No newline at end of file
+}
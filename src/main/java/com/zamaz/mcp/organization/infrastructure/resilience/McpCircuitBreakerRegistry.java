@@ -0,0 +1,48 @@
+package com.zamaz.mcp.organization.infrastructure.resilience;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One {@link McpCircuitBreaker} per dependency name, configured from
+ * {@code mcp.resilience.<name>.*} with {@link McpCircuitBreaker.Settings#defaults()} as fallback.
+ */
+@Component
+public class McpCircuitBreakerRegistry {
+    
+    private static final String PREFIX = "mcp.resilience.";
+    
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, McpCircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+    
+    public McpCircuitBreakerRegistry(Environment environment, MeterRegistry meterRegistry) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+    }
+    
+    public McpCircuitBreaker circuitBreaker(String name) {
+        return circuitBreakers.computeIfAbsent(name,
+            key -> new McpCircuitBreaker(key, settings(key), meterRegistry));
+    }
+    
+    private McpCircuitBreaker.Settings settings(String name) {
+        var defaults = McpCircuitBreaker.Settings.defaults();
+        String prefix = PREFIX + name + '.';
+        return new McpCircuitBreaker.Settings(
+            environment.getProperty(prefix + "sliding-window-size", Integer.class, defaults.slidingWindowSize()),
+            environment.getProperty(prefix + "minimum-number-of-calls", Integer.class, defaults.minimumNumberOfCalls()),
+            environment.getProperty(prefix + "failure-rate-threshold", Float.class, defaults.failureRateThreshold()),
+            environment.getProperty(prefix + "slow-call-rate-threshold", Float.class, defaults.slowCallRateThreshold()),
+            environment.getProperty(prefix + "slow-call-duration", Duration.class, defaults.slowCallDuration()),
+            environment.getProperty(prefix + "wait-duration-in-open-state", Duration.class, defaults.waitDurationInOpenState()),
+            environment.getProperty(prefix + "permitted-calls-in-half-open-state", Integer.class, defaults.permittedCallsInHalfOpenState()),
+            environment.getProperty(prefix + "max-concurrent-calls", Integer.class, defaults.maxConcurrentCalls()),
+            environment.getProperty(prefix + "max-wait-duration", Duration.class, defaults.maxWaitDuration()));
+    }
+}
@@ -0,0 +1,22 @@
+package com.zamaz.mcp.organization.infrastructure.resilience;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an adapter, or a single method, as a call into the named dependency.
+ * Calls go through that dependency's {@link McpCircuitBreaker}, enforced by
+ * {@link McpDependencyAspect}; adapters naming the same dependency share one breaker
+ * and bulkhead.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface McpDependency {
+    
+    /**
+     * Dependency name, e.g. {@code postgres}; selects {@code mcp.resilience.<name>.*} settings.
+     */
+    String value();
+}
@@ -0,0 +1,69 @@
+package com.zamaz.mcp.organization.infrastructure.resilience;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Routes public methods of {@link McpDependency} adapters through the dependency's circuit breaker.
+ * Ordered just outside the transaction interceptor, so a rejected call never opens a transaction.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class McpDependencyAspect {
+    
+    private final McpCircuitBreakerRegistry registry;
+    private final Map<Method, McpCircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+    
+    public McpDependencyAspect(McpCircuitBreakerRegistry registry) {
+        this.registry = registry;
+    }
+    
+    @Around("execution(public * *(..)) && (@within(com.zamaz.mcp.organization.infrastructure.resilience.McpDependency)"
+        + " || @annotation(com.zamaz.mcp.organization.infrastructure.resilience.McpDependency))")
+    public Object guard(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        McpCircuitBreaker circuitBreaker = circuitBreakers.computeIfAbsent(method,
+            m -> registry.circuitBreaker(dependencyOf(m, AopUtils.getTargetClass(joinPoint.getTarget())).value()));
+        
+        try {
+            return circuitBreaker.execute(() -> {
+                try {
+                    return joinPoint.proceed();
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new CheckedFailure(e);
+                }
+            });
+        } catch (CheckedFailure e) {
+            throw e.getCause();
+        }
+    }
+    
+    private static McpDependency dependencyOf(Method method, Class<?> targetClass) {
+        McpDependency dependency = AnnotationUtils.findAnnotation(method, McpDependency.class);
+        return dependency != null ? dependency : AnnotationUtils.findAnnotation(targetClass, McpDependency.class);
+    }
+    
+    /**
+     * Carries a checked exception through the breaker's {@code Supplier}.
+     */
+    private static final class CheckedFailure extends RuntimeException {
+        
+        CheckedFailure(Throwable cause) {
+            super(cause);
+        }
+    }
+}
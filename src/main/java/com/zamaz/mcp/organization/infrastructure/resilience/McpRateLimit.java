@@ -5,9 +5,59 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+/**
+ * Limits how often the current principal may invoke the annotated method.
+ * Enforced by {@link McpRateLimitAspect}; each principal gets its own token bucket
+ * per limited method (or per {@link #key()} when set).
+ */
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface McpRateLimit {
-    int requestsPerMinute() default 60;
+    
+    /**
+     * Kind of operation; supplies the limit when none is given explicitly.
+     */
+    OperationType operationType() default OperationType.READ;
+    
+    /**
+     * Calls permitted per refresh period; non-positive uses the operation type default.
+     */
+    int limitForPeriod() default 0;
+    
+    /**
+     * Length of the refresh period in seconds; non-positive uses the operation type default.
+     */
+    int limitRefreshPeriodSeconds() default 0;
+    
+    /**
+     * Legacy per-minute limit, applied only when {@link #limitForPeriod()} is not set.
+     */
+    int requestsPerMinute() default 0;
+    
+    /**
+     * Bucket name shared by all methods with the same key; defaults to the method.
+     */
     String key() default "";
-}
\ No newline at end of file
+    
+    enum OperationType {
+        READ(120, 60),
+        WRITE(30, 60),
+        ADMIN(10, 3600);
+        
+        private final int defaultLimitForPeriod;
+        private final int defaultRefreshPeriodSeconds;
+        
+        OperationType(int defaultLimitForPeriod, int defaultRefreshPeriodSeconds) {
+            this.defaultLimitForPeriod = defaultLimitForPeriod;
+            this.defaultRefreshPeriodSeconds = defaultRefreshPeriodSeconds;
+        }
+        
+        public int getDefaultLimitForPeriod() {
+            return defaultLimitForPeriod;
+        }
+        
+        public int getDefaultRefreshPeriodSeconds() {
+            return defaultRefreshPeriodSeconds;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.zamaz.mcp.organization.infrastructure.resilience;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Enforces {@link McpRateLimit} on calls through Spring proxies, before the method body runs.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class McpRateLimitAspect {
+    
+    private final McpRateLimitEnforcer enforcer;
+    
+    @Around("@annotation(com.zamaz.mcp.organization.infrastructure.resilience.McpRateLimit)")
+    public Object enforceRateLimit(ProceedingJoinPoint joinPoint) throws Throwable {
+        var method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        enforcer.enforce(method, SecurityContextHolder.getContext().getAuthentication());
+        return joinPoint.proceed();
+    }
+}
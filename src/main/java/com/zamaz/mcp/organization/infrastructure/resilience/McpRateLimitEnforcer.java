@@ -0,0 +1,95 @@
+package com.zamaz.mcp.organization.infrastructure.resilience;
+
+import com.zamaz.mcp.organization.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Applies {@link McpRateLimit} limits to a principal.
+ *
+ * <p>Annotation lookup, policy resolution and meter registration happen once per method;
+ * a check then builds the bucket key, consumes a token and increments a cached counter.
+ */
+@Component
+public class McpRateLimitEnforcer {
+    
+    private static final String ANONYMOUS = "anonymous";
+    
+    private final RateLimiter rateLimiter;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Map<Method, LimitedOperation> operations = new ConcurrentHashMap<>();
+    
+    public McpRateLimitEnforcer(RateLimiter rateLimiter,
+                                MeterRegistry meterRegistry,
+                                @Value("${mcp.rate-limit.enabled:true}") boolean enabled) {
+        this.rateLimiter = rateLimiter;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+    }
+    
+    /**
+     * Consumes one call of the method's limit for the principal.
+     *
+     * @throws RateLimitExceededException if the principal has exhausted the limit
+     * @throws IllegalArgumentException if the method is not annotated with {@link McpRateLimit}
+     */
+    public void enforce(Method method, Authentication authentication) {
+        if (!enabled) {
+            return;
+        }
+        
+        LimitedOperation operation = operations.computeIfAbsent(method, this::resolve);
+        String key = operation.name() + ':' + principal(authentication);
+        
+        if (rateLimiter.tryConsume(key, operation.policy())) {
+            operation.allowed().increment();
+            return;
+        }
+        
+        operation.rejected().increment();
+        throw new RateLimitExceededException("Rate limit exceeded for " + operation.name() + ": "
+            + operation.policy().capacity() + " calls per " + operation.policy().period().toSeconds() + " seconds");
+    }
+    
+    private LimitedOperation resolve(Method method) {
+        McpRateLimit rateLimit = method.getAnnotation(McpRateLimit.class);
+        if (rateLimit == null) {
+            throw new IllegalArgumentException("Method is not rate limited: " + method);
+        }
+        
+        String name = rateLimit.key().isEmpty()
+            ? method.getDeclaringClass().getSimpleName() + '.' + method.getName()
+            : rateLimit.key();
+        return new LimitedOperation(name, RateLimitPolicy.of(rateLimit),
+            counter(name, "allowed"), counter(name, "rejected"));
+    }
+    
+    private Counter counter(String name, String outcome) {
+        return Counter.builder("mcp.rate_limit.requests")
+            .description("Rate-limited calls by outcome")
+            .tag("limiter", name)
+            .tag("outcome", outcome)
+            .tag("mode", rateLimiter.mode())
+            .register(meterRegistry);
+    }
+    
+    private static String principal(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return ANONYMOUS;
+        }
+        return authentication.getName();
+    }
+    
+    private record LimitedOperation(String name, RateLimitPolicy policy, Counter allowed, Counter rejected) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.zamaz.mcp.organization.infrastructure.resilience;
+
+import java.time.Duration;
+
+/**
+ * Resolved token-bucket parameters: {@code capacity} tokens, refilled evenly over {@code period}.
+ */
+public record RateLimitPolicy(long capacity, Duration period) {
+    
+    public RateLimitPolicy {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Rate limit capacity must be positive");
+        }
+        if (period.isZero() || period.isNegative()) {
+            throw new IllegalArgumentException("Rate limit period must be positive");
+        }
+    }
+    
+    /**
+     * Resolves the effective policy of an annotation, applying operation type defaults.
+     */
+    public static RateLimitPolicy of(McpRateLimit rateLimit) {
+        if (rateLimit.limitForPeriod() <= 0 && rateLimit.requestsPerMinute() > 0) {
+            return new RateLimitPolicy(rateLimit.requestsPerMinute(), Duration.ofMinutes(1));
+        }
+        
+        var type = rateLimit.operationType();
+        int limit = rateLimit.limitForPeriod() > 0
+            ? rateLimit.limitForPeriod()
+            : type.getDefaultLimitForPeriod();
+        int periodSeconds = rateLimit.limitRefreshPeriodSeconds() > 0
+            ? rateLimit.limitRefreshPeriodSeconds()
+            : type.getDefaultRefreshPeriodSeconds();
+        return new RateLimitPolicy(limit, Duration.ofSeconds(periodSeconds));
+    }
+}
@@ -0,0 +1,19 @@
+package com.zamaz.mcp.organization.infrastructure.resilience;
+
+/**
+ * Token-bucket rate limiter keyed by an arbitrary string.
+ */
+public interface RateLimiter {
+    
+    /**
+     * Takes one token from the key's bucket.
+     *
+     * @return true if a token was available, false if the call must be rejected
+     */
+    boolean tryConsume(String key, RateLimitPolicy policy);
+    
+    /**
+     * Name of the limiter mode, used as a metric tag.
+     */
+    String mode();
+}
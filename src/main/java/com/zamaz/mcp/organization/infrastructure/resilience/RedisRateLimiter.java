@@ -0,0 +1,93 @@
+package com.zamaz.mcp.organization.infrastructure.resilience;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Rate limiter shared by all replicas through Redis.
+ *
+ * <p>Each bucket is a small hash refilled and consumed by one Lua script, so the
+ * read-refill-decrement sequence is atomic on the Redis server and costs a single round
+ * trip. The script uses the server clock, so replica clock skew does not matter, and
+ * expires the hash after one idle refill period.
+ *
+ * <p>If Redis is unavailable the check falls back to the given local limiter rather than
+ * rejecting or admitting everything. Only the switch to and from the fallback is logged
+ * at WARN and INFO; failures while already degraded are logged at DEBUG, so an outage
+ * does not produce one warning per request.
+ */
+@Slf4j
+public class RedisRateLimiter implements RateLimiter {
+    
+    static final String KEY_PREFIX = "mcp:org:ratelimit:";
+    
+    private static final RedisScript<Long> CONSUME_SCRIPT = new DefaultRedisScript<>("""
+        local capacity = tonumber(ARGV[1])
+        local period_ms = tonumber(ARGV[2])
+        local time = redis.call('TIME')
+        local now_ms = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+        local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+        local tokens = tonumber(state[1])
+        local ts = tonumber(state[2])
+        if tokens == nil then
+            tokens = capacity
+            ts = now_ms
+        elseif now_ms > ts then
+            tokens = math.min(capacity, tokens + (now_ms - ts) * capacity / period_ms)
+            ts = now_ms
+        end
+        local allowed = 0
+        if tokens >= 1 then
+            tokens = tokens - 1
+            allowed = 1
+        end
+        redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', ts)
+        redis.call('PEXPIRE', KEYS[1], period_ms)
+        return allowed
+        """, Long.class);
+    
+    private final StringRedisTemplate redisTemplate;
+    private final RateLimiter fallback;
+    private final AtomicBoolean degraded = new AtomicBoolean();
+    
+    public RedisRateLimiter(StringRedisTemplate redisTemplate, RateLimiter fallback) {
+        this.redisTemplate = redisTemplate;
+        this.fallback = fallback;
+    }
+    
+    @Override
+    public boolean tryConsume(String key, RateLimitPolicy policy) {
+        try {
+            Long allowed = redisTemplate.execute(CONSUME_SCRIPT, List.of(KEY_PREFIX + key),
+                Long.toString(policy.capacity()), Long.toString(policy.period().toMillis()));
+            if (degraded.compareAndSet(true, false)) {
+                log.info("Redis rate limiter available again, using shared limits");
+            }
+            return allowed != null && allowed == 1L;
+        } catch (Exception e) {
+            if (degraded.compareAndSet(false, true)) {
+                log.warn("Redis rate limiter unavailable, using local limits until it recovers: {}", e.getMessage());
+            } else {
+                log.debug("Redis rate limiter still unavailable for key {}: {}", key, e.getMessage());
+            }
+            return fallback.tryConsume(key, policy);
+        }
+    }
+    
+    /**
+     * Whether the last check fell back to the local limiter.
+     */
+    boolean isDegraded() {
+        return degraded.get();
+    }
+    
+    @Override
+    public String mode() {
+        return "redis";
+    }
+}
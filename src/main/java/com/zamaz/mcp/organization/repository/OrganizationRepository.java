@@ -1,11 +1,16 @@
 package com.zamaz.mcp.organization.repository;
 
+import com.zamaz.mcp.organization.domain.model.OrganizationName;
 import com.zamaz.mcp.organization.entity.Organization;
+import com.zamaz.mcp.organization.entity.OrganizationUser;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -26,5 +31,57 @@ public interface OrganizationRepository extends JpaRepository<Organization, UUID
     @Query("SELECT COUNT(ou) FROM OrganizationUser ou WHERE ou.organization.id = :organizationId")
     Long countUsersByOrganizationId(@Param("organizationId") UUID organizationId);
     
-    boolean existsByNameIgnoreCase(String name);
+    // Member counts are resolved per row inside the same statement, so a page costs one
+    // round-trip and the count only touches the rows of the requested page.
+    @Query(value = "SELECT o AS organization, " +
+                   "(SELECT COUNT(m) FROM OrganizationUser m WHERE m.organization = o) AS userCount " +
+                   "FROM Organization o",
+           countQuery = "SELECT COUNT(o) FROM Organization o")
+    Page<OrganizationWithUserCount> findAllWithUserCount(Pageable pageable);
+    
+    @Query("SELECT o AS organization, " +
+           "(SELECT COUNT(m) FROM OrganizationUser m WHERE m.organization = o) AS userCount " +
+           "FROM Organization o JOIN o.organizationUsers ou " +
+           "WHERE ou.user.id = :userId AND o.isActive = true")
+    List<OrganizationWithUserCount> findActiveOrganizationsWithUserCountByUserId(@Param("userId") UUID userId);
+    
+    // Keyset pages seek on (created_at, id) newest first via idx_organizations_created_at_id,
+    // so the cost of a page does not depend on how deep it is.
+    @Query("SELECT o AS organization, " +
+           "(SELECT COUNT(m) FROM OrganizationUser m WHERE m.organization = o) AS userCount " +
+           "FROM Organization o " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrganizationWithUserCount> findFirstPageWithUserCount(Pageable pageable);
+    
+    @Query("SELECT o AS organization, " +
+           "(SELECT COUNT(m) FROM OrganizationUser m WHERE m.organization = o) AS userCount " +
+           "FROM Organization o " +
+           "WHERE o.createdAt <= :createdAt AND (o.createdAt < :createdAt OR o.id < :id) " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrganizationWithUserCount> findPageWithUserCountAfter(@Param("createdAt") LocalDateTime createdAt,
+                                                               @Param("id") UUID id,
+                                                               Pageable pageable);
+    
+    // Member pages seek on (joined_at, user_id) newest first via idx_org_users_org_joined_at.
+    @Query("SELECT ou FROM OrganizationUser ou JOIN FETCH ou.user " +
+           "WHERE ou.organization.id = :organizationId " +
+           "ORDER BY ou.joinedAt DESC, ou.user.id DESC")
+    List<OrganizationUser> findFirstMemberPage(@Param("organizationId") UUID organizationId, Pageable pageable);
+    
+    @Query("SELECT ou FROM OrganizationUser ou JOIN FETCH ou.user " +
+           "WHERE ou.organization.id = :organizationId " +
+           "AND ou.joinedAt <= :joinedAt AND (ou.joinedAt < :joinedAt OR ou.user.id < :userId) " +
+           "ORDER BY ou.joinedAt DESC, ou.user.id DESC")
+    List<OrganizationUser> findMemberPageAfter(@Param("organizationId") UUID organizationId,
+                                               @Param("joinedAt") LocalDateTime joinedAt,
+                                               @Param("userId") UUID userId,
+                                               Pageable pageable);
+    
+    boolean existsByNormalizedName(String normalizedName);
+    
+    // Names that differ only in case or whitespace are the same name; answered from
+    // idx_organizations_normalized_name.
+    default boolean existsByNameIgnoreCase(String name) {
+        return existsByNormalizedName(OrganizationName.normalize(name));
+    }
 }
\ No newline at end of file
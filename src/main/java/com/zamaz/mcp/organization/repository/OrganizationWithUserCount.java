@@ -0,0 +1,14 @@
+package com.zamaz.mcp.organization.repository;
+
+import com.zamaz.mcp.organization.entity.Organization;
+
+/**
+ * Read projection pairing an organization with its member count.
+ * Lets list endpoints fetch a page of organizations and their counts in a single query.
+ */
+public interface OrganizationWithUserCount {
+
+    Organization getOrganization();
+
+    Long getUserCount();
+}
@@ -1,24 +1,34 @@
 package com.zamaz.mcp.organization.service;
 
+import com.zamaz.mcp.organization.adapter.persistence.invalidation.OrganizationIndexInvalidator;
+import com.zamaz.mcp.organization.adapter.persistence.membership.MembershipIndex;
+import com.zamaz.mcp.organization.adapter.persistence.name.OrganizationNameIndex;
+import com.zamaz.mcp.organization.domain.model.OrganizationName;
+import com.zamaz.mcp.organization.dto.CursorPage;
 import com.zamaz.mcp.organization.dto.OrganizationDto;
+import com.zamaz.mcp.organization.dto.PageCursor;
 import com.zamaz.mcp.organization.entity.Organization;
 import com.zamaz.mcp.organization.entity.OrganizationUser;
 import com.zamaz.mcp.organization.entity.User;
 import com.zamaz.mcp.organization.exception.ResourceNotFoundException;
 import com.zamaz.mcp.organization.exception.DuplicateResourceException;
 import com.zamaz.mcp.organization.repository.OrganizationRepository;
+import com.zamaz.mcp.organization.repository.OrganizationWithUserCount;
 import com.zamaz.mcp.organization.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,8 +37,18 @@ import java.util.stream.Collectors;
 @Transactional
 public class OrganizationService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 200;
+    private static final int MAX_NAME_LENGTH = 255;
+    private static final int MAX_NAME_SUGGESTIONS = 5;
+    private static final List<String> NAME_SUFFIXES = List.of(" Team", " Group", " Labs", " HQ", " 2", " 3", " 4", " 5");
+    private static final int MAX_SUGGESTION_BASE_LENGTH =
+            MAX_NAME_LENGTH - NAME_SUFFIXES.stream().mapToInt(String::length).max().orElse(0);
+
     private final OrganizationRepository organizationRepository;
     private final UserRepository userRepository;
+    private final MembershipIndex membershipIndex;
+    private final OrganizationNameIndex organizationNameIndex;
+    private final OrganizationIndexInvalidator organizationIndexInvalidator;
 
     public OrganizationDto createOrganization(OrganizationDto.CreateOrganizationRequest request) {
         log.debug("Creating organization with name: {}", request.getName());
@@ -37,11 +57,28 @@ public class OrganizationService {
 
         Organization organization = mapCreateRequestToEntity(request);
         organization = organizationRepository.save(organization);
+        organizationNameIndex.add(organization.getName());
 
         log.info("Created organization with ID: {}", organization.getId());
         return mapEntityToDto(organization);
     }
 
+    /**
+     * Checks whether a name is free, ignoring case and whitespace, and suggests free
+     * variants when it is not. Meant for as-you-type checks: most names are answered from
+     * the in-memory name index, and suggestions cost at most one query.
+     */
+    @Transactional(readOnly = true)
+    public OrganizationDto.NameAvailability checkOrganizationName(String name) {
+        String trimmed = name.strip();
+        boolean available = !organizationNameIndex.isTaken(trimmed);
+        return OrganizationDto.NameAvailability.builder()
+                .name(trimmed)
+                .available(available)
+                .suggestions(available ? List.of() : suggestNames(trimmed))
+                .build();
+    }
+
     @Cacheable(value = "organizations", key = "#id")
     public OrganizationDto getOrganization(UUID id) {
         log.debug("Getting organization with ID: {}", id);
@@ -51,17 +88,49 @@ public class OrganizationService {
 
     public Page<OrganizationDto> listOrganizations(Pageable pageable) {
         log.debug("Listing organizations with pageable: {}", pageable);
-        return organizationRepository.findAll(pageable).map(this::mapEntityToDto);
+        return organizationRepository.findAllWithUserCount(pageable).map(this::mapProjectionToDto);
     }
 
     public List<OrganizationDto> listUserOrganizations(UUID userId) {
         log.debug("Listing organizations for user: {}", userId);
-        return organizationRepository.findActiveOrganizationsByUserId(userId)
+        return organizationRepository.findActiveOrganizationsWithUserCountByUserId(userId)
                 .stream()
-                .map(this::mapEntityToDto)
+                .map(this::mapProjectionToDto)
                 .collect(Collectors.toList());
     }
 
+    public CursorPage<OrganizationDto> listOrganizations(String cursor, int limit) {
+        log.debug("Listing organizations after cursor: {} limit: {}", cursor, limit);
+        PageCursor after = PageCursor.decode(cursor);
+        int pageSize = clampPageSize(limit);
+        Pageable probe = PageRequest.ofSize(pageSize + 1);
+
+        List<OrganizationWithUserCount> rows = after == null
+                ? organizationRepository.findFirstPageWithUserCount(probe)
+                : organizationRepository.findPageWithUserCountAfter(after.timestamp(), after.id(), probe);
+
+        return toCursorPage(rows, pageSize, this::mapProjectionToDto,
+                row -> new PageCursor(row.getOrganization().getCreatedAt(), row.getOrganization().getId()));
+    }
+
+    public CursorPage<OrganizationDto.Member> listOrganizationMembers(UUID organizationId, String cursor, int limit) {
+        log.debug("Listing members of organization {} after cursor: {} limit: {}", organizationId, cursor, limit);
+        if (!organizationRepository.existsById(organizationId)) {
+            throw new ResourceNotFoundException("Organization not found with ID: " + organizationId);
+        }
+
+        PageCursor after = PageCursor.decode(cursor);
+        int pageSize = clampPageSize(limit);
+        Pageable probe = PageRequest.ofSize(pageSize + 1);
+
+        List<OrganizationUser> rows = after == null
+                ? organizationRepository.findFirstMemberPage(organizationId, probe)
+                : organizationRepository.findMemberPageAfter(organizationId, after.timestamp(), after.id(), probe);
+
+        return toCursorPage(rows, pageSize, this::mapMemberToDto,
+                row -> new PageCursor(row.getJoinedAt(), row.getUser().getId()));
+    }
+
     @CacheEvict(value = "organizations", key = "#id")
     public OrganizationDto updateOrganization(UUID id, OrganizationDto.UpdateOrganizationRequest request) {
         log.debug("Updating organization with ID: {}", id);
@@ -70,6 +139,7 @@ public class OrganizationService {
         updateOrganizationFromRequest(organization, request);
 
         organization = organizationRepository.save(organization);
+        organizationIndexInvalidator.invalidateAfterCommit(id);
         log.info("Updated organization with ID: {}", organization.getId());
 
         return mapEntityToDto(organization);
@@ -84,6 +154,8 @@ public class OrganizationService {
         }
 
         organizationRepository.deleteById(id);
+        organizationIndexInvalidator.invalidateAfterCommit(id);
+        organizationIndexInvalidator.invalidateAllUsersAfterCommit();
         log.info("Deleted organization with ID: {}", id);
     }
 
@@ -101,6 +173,8 @@ public class OrganizationService {
 
         organization.getOrganizationUsers().add(organizationUser);
         organizationRepository.save(organization);
+        organizationIndexInvalidator.invalidateAfterCommit(organizationId);
+        organizationIndexInvalidator.invalidateUserAfterCommit(userId);
 
         log.info("Added user {} to organization {} with role {}", userId, organizationId, role);
     }
@@ -112,13 +186,22 @@ public class OrganizationService {
 
         organization.getOrganizationUsers().removeIf(ou -> ou.getUser().getId().equals(userId));
         organizationRepository.save(organization);
+        organizationIndexInvalidator.invalidateAfterCommit(organizationId);
+        organizationIndexInvalidator.invalidateUserAfterCommit(userId);
 
         log.info("Removed user {} from organization {}", userId, organizationId);
     }
 
     private OrganizationDto mapEntityToDto(Organization organization) {
         Long userCount = organizationRepository.countUsersByOrganizationId(organization.getId());
+        return mapEntityToDto(organization, userCount);
+    }
+
+    private OrganizationDto mapProjectionToDto(OrganizationWithUserCount projection) {
+        return mapEntityToDto(projection.getOrganization(), projection.getUserCount());
+    }
 
+    private OrganizationDto mapEntityToDto(Organization organization, Long userCount) {
         return OrganizationDto.builder()
                 .id(organization.getId())
                 .name(organization.getName())
@@ -127,24 +210,63 @@ public class OrganizationService {
                 .createdAt(organization.getCreatedAt())
                 .updatedAt(organization.getUpdatedAt())
                 .isActive(organization.getIsActive())
-                .userCount(userCount.intValue())
+                .userCount(userCount != null ? userCount.intValue() : 0)
+                .build();
+    }
+
+    private OrganizationDto.Member mapMemberToDto(OrganizationUser organizationUser) {
+        User user = organizationUser.getUser();
+        return OrganizationDto.Member.builder()
+                .userId(user.getId())
+                .email(user.getEmail())
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .role(organizationUser.getRole())
+                .joinedAt(organizationUser.getJoinedAt())
                 .build();
     }
 
+    /**
+     * Builds a cursor page from rows fetched with one extra row, which only signals
+     * that another page exists and is not returned.
+     */
+    private <R, T> CursorPage<T> toCursorPage(List<R> rows, int pageSize,
+            Function<R, T> mapper, Function<R, PageCursor> cursorOf) {
+        boolean hasMore = rows.size() > pageSize;
+        List<R> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        return CursorPage.<T>builder()
+                .items(page.stream().map(mapper).collect(Collectors.toList()))
+                .nextCursor(hasMore ? cursorOf.apply(page.get(page.size() - 1)).encode() : null)
+                .hasMore(hasMore)
+                .size(page.size())
+                .build();
+    }
+
+    private int clampPageSize(int limit) {
+        return Math.max(1, Math.min(limit, MAX_CURSOR_PAGE_SIZE));
+    }
+
     private void validateOrganizationNameUniqueness(String organizationName) {
         if (organizationRepository.existsByNameIgnoreCase(organizationName)) {
             throw new DuplicateResourceException("Organization with name '" + organizationName + "' already exists");
         }
     }
 
-    private boolean isOrganizationNameAvailable(String organizationName) {
-        return !organizationRepository.existsByNameIgnoreCase(organizationName);
+    private List<String> suggestNames(String name) {
+        String base = name.length() > MAX_SUGGESTION_BASE_LENGTH
+                ? name.substring(0, MAX_SUGGESTION_BASE_LENGTH).strip()
+                : name;
+        List<String> candidates = NAME_SUFFIXES.stream().map(suffix -> base + suffix).toList();
+        Set<String> taken = organizationNameIndex.findTaken(candidates);
+        return candidates.stream()
+                .filter(candidate -> !taken.contains(OrganizationName.normalize(candidate)))
+                .limit(MAX_NAME_SUGGESTIONS)
+                .toList();
     }
 
     private boolean hasUserAccessToOrganization(UUID userId, UUID organizationId) {
-        return organizationRepository.findActiveOrganizationsByUserId(userId)
-                .stream()
-                .anyMatch(org -> org.getId().equals(organizationId));
+        return membershipIndex.isActiveMember(userId, organizationId);
     }
 
     private Organization mapCreateRequestToEntity(OrganizationDto.CreateOrganizationRequest request) {
@@ -170,6 +292,7 @@ public class OrganizationService {
         if (request.getName() != null && !request.getName().equals(organization.getName())) {
             validateOrganizationNameUniqueness(request.getName());
             organization.setName(request.getName());
+            organizationNameIndex.add(request.getName());
         }
 
         if (request.getDescription() != null) {
@@ -0,0 +1,11 @@
+-- Constants and Common Patterns
+-- VARCHAR_DEFAULT: VARCHAR(255)
+-- TIMESTAMP_DEFAULT: TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP
+-- UUID_DEFAULT: UUID PRIMARY KEY DEFAULT gen_random_uuid()
+-- AUDIT_COLUMNS: created_at, updated_at, created_by, updated_by
+
+-- Sent and failed emails are purged after the retention period, oldest first;
+-- pending rows stay out of the index
+CREATE INDEX IF NOT EXISTS idx_email_outbox_completed_created 
+ON email_outbox(created_at) 
+WHERE status <> 'PENDING';
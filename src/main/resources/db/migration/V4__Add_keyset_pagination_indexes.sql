@@ -0,0 +1,30 @@
+-- Constants and Common Patterns
+-- VARCHAR_DEFAULT: VARCHAR(255)
+-- TIMESTAMP_DEFAULT: TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP
+-- UUID_DEFAULT: UUID PRIMARY KEY DEFAULT gen_random_uuid()
+-- AUDIT_COLUMNS: created_at, updated_at, created_by, updated_by
+
+-- Keyset pagination indexes
+-- Cursor pages seek on (sort column, id) so every page is a bounded index range scan
+
+-- ============================================================================
+-- Organization listing ordered by (created_at, id)
+-- ============================================================================
+
+-- Covers the id tie-breaker so pages with equal timestamps need no extra sort
+CREATE INDEX IF NOT EXISTS idx_organizations_created_at_id 
+ON organizations(created_at DESC, id DESC);
+
+-- Superseded by the composite above (same leading column)
+DROP INDEX IF EXISTS idx_organizations_created_at;
+
+-- ============================================================================
+-- Member listing of one organization ordered by (joined_at, user_id)
+-- ============================================================================
+
+-- idx_org_users_joined_at is global; member pages need the organization as leading column
+CREATE INDEX IF NOT EXISTS idx_org_users_org_joined_at 
+ON organization_users(organization_id, joined_at DESC, user_id DESC);
+
+ANALYZE organizations;
+ANALYZE organization_users;
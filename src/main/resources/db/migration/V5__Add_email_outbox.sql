@@ -0,0 +1,33 @@
+-- Constants and Common Patterns
+-- VARCHAR_DEFAULT: VARCHAR(255)
+-- TIMESTAMP_DEFAULT: TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP
+-- UUID_DEFAULT: UUID PRIMARY KEY DEFAULT gen_random_uuid()
+-- AUDIT_COLUMNS: created_at, updated_at, created_by, updated_by
+
+-- Transactional email outbox
+-- Notifications are written in the business transaction and delivered by a background dispatcher
+
+CREATE TABLE IF NOT EXISTS email_outbox (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    recipient VARCHAR(254) NOT NULL,
+    template_name VARCHAR(100) NOT NULL,
+    subject TEXT NOT NULL,
+    text_content TEXT NOT NULL,
+    html_content TEXT,
+    variables JSONB DEFAULT '{}',
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error TEXT,
+    created_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    sent_at TIMESTAMP(6),
+    CONSTRAINT chk_email_outbox_status CHECK (status IN ('PENDING', 'SENT', 'FAILED'))
+);
+
+-- Dispatcher polls only due pending rows; delivered and dead rows stay out of the index
+CREATE INDEX IF NOT EXISTS idx_email_outbox_pending_due 
+ON email_outbox(next_attempt_at) 
+WHERE status = 'PENDING';
+
+COMMENT ON TABLE email_outbox IS 'Outgoing notification emails awaiting or past delivery';
+COMMENT ON COLUMN email_outbox.next_attempt_at IS 'Earliest delivery attempt; also serves as the claim lease while a batch is in flight';
@@ -0,0 +1,32 @@
+-- Constants and Common Patterns
+-- VARCHAR_DEFAULT: VARCHAR(255)
+-- TIMESTAMP_DEFAULT: TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP
+-- UUID_DEFAULT: UUID PRIMARY KEY DEFAULT gen_random_uuid()
+-- AUDIT_COLUMNS: created_at, updated_at, created_by, updated_by
+
+-- Transactional domain event outbox
+-- Events are written in the use-case transaction and relayed to listeners and the broker in id order
+
+CREATE TABLE IF NOT EXISTS domain_event_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    event_id UUID NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    aggregate_id VARCHAR(255) NOT NULL,
+    payload JSONB NOT NULL,
+    occurred_at TIMESTAMP(6) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error TEXT,
+    created_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    published_at TIMESTAMP(6),
+    CONSTRAINT uk_domain_event_outbox_event_id UNIQUE (event_id),
+    CONSTRAINT chk_domain_event_outbox_status CHECK (status IN ('PENDING', 'PUBLISHED', 'FAILED'))
+);
+
+-- Relay reads pending events in commit order; published and dead events stay out of the index
+CREATE INDEX IF NOT EXISTS idx_domain_event_outbox_pending 
+ON domain_event_outbox(id) 
+WHERE status = 'PENDING';
+
+COMMENT ON TABLE domain_event_outbox IS 'Domain events awaiting or past relay to listeners and the message broker';
+COMMENT ON COLUMN domain_event_outbox.id IS 'Insertion order; events of one aggregate are relayed in this order';
@@ -0,0 +1,22 @@
+-- Constants and Common Patterns
+-- VARCHAR_DEFAULT: VARCHAR(255)
+-- TIMESTAMP_DEFAULT: TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP
+-- UUID_DEFAULT: UUID PRIMARY KEY DEFAULT gen_random_uuid()
+-- AUDIT_COLUMNS: created_at, updated_at, created_by, updated_by
+
+-- Domain event payloads move from JSON to the compact, versioned binary event format.
+-- Expand only: new rows fill payload_bin, while rows written as JSON keep payload and are
+-- re-encoded by the relay. The payload column is dropped in a later release, once no
+-- pending row still depends on it.
+
+ALTER TABLE domain_event_outbox
+ADD COLUMN IF NOT EXISTS payload_bin BYTEA;
+
+ALTER TABLE domain_event_outbox
+ALTER COLUMN payload DROP NOT NULL;
+
+ALTER TABLE domain_event_outbox
+ADD CONSTRAINT chk_domain_event_outbox_payload CHECK (payload IS NOT NULL OR payload_bin IS NOT NULL);
+
+COMMENT ON COLUMN domain_event_outbox.payload IS 'Deprecated: event serialized as JSON by releases before the binary event format';
+COMMENT ON COLUMN domain_event_outbox.payload_bin IS 'Event properties in the binary event format; the first byte is the format version';
@@ -0,0 +1,34 @@
+-- Constants and Common Patterns
+-- VARCHAR_DEFAULT: VARCHAR(255)
+-- TIMESTAMP_DEFAULT: TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP
+-- UUID_DEFAULT: UUID PRIMARY KEY DEFAULT gen_random_uuid()
+-- AUDIT_COLUMNS: created_at, updated_at, created_by, updated_by
+
+-- Organization names are unique ignoring case and surrounding or repeated whitespace.
+-- The application writes normalized_name with OrganizationName.normalize; this backfill
+-- applies the same rule to existing rows.
+
+ALTER TABLE organizations ADD COLUMN normalized_name VARCHAR(255);
+
+UPDATE organizations
+SET normalized_name = LOWER(BTRIM(REGEXP_REPLACE(name, '\s+', ' ', 'g')));
+
+-- Existing duplicates keep their display name; all but the oldest get a suffix so the
+-- unique index can be built. Their owners should rename them.
+WITH duplicates AS (
+    SELECT id, ROW_NUMBER() OVER (PARTITION BY normalized_name ORDER BY created_at, id) AS position
+    FROM organizations
+)
+UPDATE organizations o
+SET normalized_name = LEFT(o.normalized_name, 246) || ' ' || LEFT(o.id::text, 8)
+FROM duplicates d
+WHERE o.id = d.id AND d.position > 1;
+
+ALTER TABLE organizations ALTER COLUMN normalized_name SET NOT NULL;
+
+CREATE UNIQUE INDEX idx_organizations_normalized_name ON organizations(normalized_name);
+
+-- Superseded by the unique index for name lookups
+DROP INDEX IF EXISTS idx_organizations_name_lower;
+
+COMMENT ON COLUMN organizations.normalized_name IS 'Trimmed, lower-cased name with whitespace runs collapsed; unique';
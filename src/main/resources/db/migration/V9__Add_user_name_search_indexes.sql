@@ -0,0 +1,29 @@
+-- Constants and Common Patterns
+-- VARCHAR_DEFAULT: VARCHAR(255)
+-- TIMESTAMP_DEFAULT: TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP
+-- UUID_DEFAULT: UUID PRIMARY KEY DEFAULT gen_random_uuid()
+-- AUDIT_COLUMNS: created_at, updated_at, created_by, updated_by
+
+-- User name search: substring matches through a trigram index, prefix matches through a
+-- btree range scan. Both are read in index order with a LIMIT, so a search touches a
+-- bounded number of rows whatever the size of the users table.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Same normalization as SearchText.of: whitespace runs collapse to one space, then trim
+ALTER TABLE users ADD COLUMN search_name TEXT
+    GENERATED ALWAYS AS (LOWER(BTRIM(REGEXP_REPLACE(
+        COALESCE(first_name, '') || ' ' || COALESCE(last_name, ''), '\s+', ' ', 'g')))) STORED;
+
+-- GiST rather than GIN: it also serves ORDER BY search_name <-> :query, the nearest
+-- trigram matches first, which lets the substring branch stop early
+CREATE INDEX idx_users_search_name_trgm ON users USING GIST (search_name gist_trgm_ops);
+
+-- C collation: byte order serves both the LIKE prefix range and ORDER BY search_name
+-- COLLATE "C", which text_pattern_ops cannot sort for
+CREATE INDEX idx_users_search_name_prefix ON users(search_name COLLATE "C");
+
+-- Only served the former LOWER(...) LIKE search, which could not use it
+DROP INDEX IF EXISTS idx_users_name_lower;
+
+COMMENT ON COLUMN users.search_name IS 'Lower-cased "first last" name for search; generated';
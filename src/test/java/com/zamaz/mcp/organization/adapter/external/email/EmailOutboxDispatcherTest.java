@@ -0,0 +1,139 @@
+package com.zamaz.mcp.organization.adapter.external.email;
+
+import com.zamaz.mcp.organization.adapter.persistence.entity.EmailOutboxEntity;
+import com.zamaz.mcp.organization.adapter.persistence.repository.SpringDataEmailOutboxRepository;
+import com.zamaz.mcp.organization.application.service.TransactionManager;
+import com.zamaz.mcp.organization.infrastructure.logging.DomainLogger;
+import com.zamaz.mcp.organization.infrastructure.logging.DomainLoggerFactory;
+import com.zamaz.mcp.organization.infrastructure.resilience.McpCircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Email outbox dispatcher")
+class EmailOutboxDispatcherTest {
+
+    @Mock
+    private SpringDataEmailOutboxRepository outboxRepository;
+
+    @Mock
+    private SecureEmailService emailService;
+
+    @Mock
+    private TransactionManager transactionManager;
+
+    @Mock
+    private DomainLoggerFactory loggerFactory;
+
+    private EmailOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        when(loggerFactory.getLogger(EmailOutboxDispatcher.class)).thenReturn(mock(DomainLogger.class));
+        var circuitBreakers = new McpCircuitBreakerRegistry(new MockEnvironment(), new SimpleMeterRegistry());
+        dispatcher = new EmailOutboxDispatcher(outboxRepository, emailService, circuitBreakers,
+            transactionManager, loggerFactory,
+            10, 3, Duration.ofMinutes(5), Duration.ofSeconds(30), Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("Should mark delivered emails as sent")
+    void shouldMarkDeliveredEmailsAsSent() {
+        // Given
+        var entity = pending(0);
+        givenClaimed(entity);
+        when(emailService.sendEmails(anyMap())).thenReturn(Map.of());
+
+        // When
+        int claimed = dispatcher.dispatchBatch();
+
+        // Then
+        assertThat(claimed).isEqualTo(1);
+        assertThat(entity.getStatus()).isEqualTo(EmailOutboxEntity.Status.SENT);
+        assertThat(entity.getAttempts()).isEqualTo(1);
+        assertThat(entity.getSentAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should reschedule failed emails with backoff")
+    void shouldRescheduleFailedEmailsWithBackoff() {
+        // Given
+        var entity = pending(0);
+        givenClaimed(entity);
+        when(emailService.sendEmails(anyMap())).thenReturn(Map.of(entity.getId(), new RuntimeException("421 try later")));
+
+        // When
+        dispatcher.dispatchBatch();
+
+        // Then
+        assertThat(entity.getStatus()).isEqualTo(EmailOutboxEntity.Status.PENDING);
+        assertThat(entity.getLastError()).isEqualTo("421 try later");
+        assertThat(entity.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(20));
+    }
+
+    @Test
+    @DisplayName("Should give up after the maximum number of attempts")
+    void shouldGiveUpAfterMaxAttempts() {
+        // Given
+        var entity = pending(2);
+        givenClaimed(entity);
+        when(emailService.sendEmails(anyMap())).thenReturn(Map.of(entity.getId(), new RuntimeException("550 no such user")));
+
+        // When
+        dispatcher.dispatchBatch();
+
+        // Then
+        assertThat(entity.getStatus()).isEqualTo(EmailOutboxEntity.Status.FAILED);
+        assertThat(entity.getAttempts()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should double the backoff up to the maximum")
+    void shouldDoubleBackoffUpToMaximum() {
+        assertThat(dispatcher.backoff(1)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(dispatcher.backoff(2)).isEqualTo(Duration.ofSeconds(60));
+        assertThat(dispatcher.backoff(3)).isEqualTo(Duration.ofSeconds(120));
+        assertThat(dispatcher.backoff(10)).isEqualTo(Duration.ofMinutes(10));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenClaimed(EmailOutboxEntity entity) {
+        when(transactionManager.executeInTransaction(any(Supplier.class)))
+            .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(transactionManager).executeInTransaction(any(Runnable.class));
+        when(outboxRepository.lockDueBatch(any(LocalDateTime.class), eq(10))).thenReturn(List.of(entity));
+        when(outboxRepository.findAllById(anyIterable())).thenReturn(List.of(entity));
+    }
+
+    private static EmailOutboxEntity pending(int attempts) {
+        return EmailOutboxEntity.builder()
+            .id(UUID.randomUUID())
+            .recipient("ada@example.com")
+            .templateName("user-added")
+            .subject("You've been added to Acme")
+            .textContent("Dear Ada")
+            .attempts(attempts)
+            .nextAttemptAt(LocalDateTime.now())
+            .build();
+    }
+}
@@ -0,0 +1,64 @@
+package com.zamaz.mcp.organization.adapter.external.email;
+
+import com.zamaz.mcp.organization.adapter.persistence.repository.SpringDataEmailOutboxRepository;
+import com.zamaz.mcp.organization.application.service.TransactionManager;
+import com.zamaz.mcp.organization.infrastructure.logging.DomainLogger;
+import com.zamaz.mcp.organization.infrastructure.logging.DomainLoggerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Email outbox retention")
+class EmailOutboxRetentionTest {
+
+    @Mock
+    private SpringDataEmailOutboxRepository outboxRepository;
+
+    @Mock
+    private TransactionManager transactionManager;
+
+    @Mock
+    private DomainLoggerFactory loggerFactory;
+
+    private EmailOutboxRetention retention;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(loggerFactory.getLogger(EmailOutboxRetention.class)).thenReturn(mock(DomainLogger.class));
+        when(transactionManager.executeInTransaction(any(Supplier.class)))
+            .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+        retention = new EmailOutboxRetention(outboxRepository, transactionManager, loggerFactory, Duration.ofDays(7), 100);
+    }
+
+    @Test
+    @DisplayName("Should delete in batches until a batch comes back short")
+    void shouldDeleteInBatches() {
+        // Given
+        when(outboxRepository.deleteCompletedBefore(any(LocalDateTime.class), eq(100))).thenReturn(100, 100, 42);
+
+        // When
+        long deleted = retention.purge();
+
+        // Then
+        assertThat(deleted).isEqualTo(242);
+        var cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(outboxRepository, times(3)).deleteCompletedBefore(cutoff.capture(), eq(100));
+        assertThat(cutoff.getValue()).isCloseTo(LocalDateTime.now().minusDays(7), within(1, ChronoUnit.MINUTES));
+    }
+}
@@ -0,0 +1,82 @@
+package com.zamaz.mcp.organization.adapter.external.email;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Email template engine")
+class EmailTemplateEngineTest {
+
+    private final EmailTemplateEngine engine = new EmailTemplateEngine("https://app.example.com");
+
+    @Test
+    @DisplayName("Should substitute variables and the base URL")
+    void shouldSubstituteVariablesAndBaseUrl() {
+        // Given
+        var template = EmailTemplate.userAddedToOrganization("Acme", "Ada", "ADMIN", "Grace");
+
+        // When
+        var rendered = engine.render(template);
+
+        // Then
+        assertThat(rendered.subject()).isEqualTo("You've been added to Acme");
+        assertThat(rendered.textContent())
+            .contains("Dear Ada,")
+            .contains("\"Acme\" with the role of ADMIN by Grace.")
+            .contains("https://app.example.com/dashboard")
+            .doesNotContain("${");
+    }
+
+    @Test
+    @DisplayName("Should escape values in HTML content only")
+    void shouldEscapeValuesInHtmlContentOnly() {
+        // Given
+        var template = EmailTemplate.userRemovedFromOrganization("R&D <Labs>", "Ada");
+
+        // When
+        var rendered = engine.render(template);
+
+        // Then
+        assertThat(rendered.textContent()).contains("\"R&D <Labs>\"");
+        assertThat(rendered.htmlContent()).contains("<strong>R&amp;D &lt;Labs&gt;</strong>");
+    }
+
+    @Test
+    @DisplayName("Should leave unknown placeholders untouched")
+    void shouldLeaveUnknownPlaceholdersUntouched() {
+        // Given
+        var template = EmailTemplate.builder()
+            .templateName("custom")
+            .subject("Hello ${name}")
+            .textContent("Missing ${unknown} and unterminated ${tail")
+            .variables(Map.of("name", "Ada"))
+            .build();
+
+        // When
+        var rendered = engine.render(template);
+
+        // Then
+        assertThat(rendered.subject()).isEqualTo("Hello Ada");
+        assertThat(rendered.textContent()).isEqualTo("Missing ${unknown} and unterminated ${tail");
+        assertThat(rendered.htmlContent()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should recompile when a template name is reused with different content")
+    void shouldRecompileWhenContentChanges() {
+        // Given
+        var first = EmailTemplate.builder().templateName("custom").subject("A ${x}").textContent("a").build();
+        var second = EmailTemplate.builder().templateName("custom").subject("B ${x}").textContent("b").build();
+        engine.render(first);
+
+        // When
+        var rendered = engine.render(second);
+
+        // Then
+        assertThat(rendered.subject()).isEqualTo("B ${x}");
+        assertThat(rendered.textContent()).isEqualTo("b");
+    }
+}
@@ -0,0 +1,97 @@
+package com.zamaz.mcp.organization.adapter.infrastructure.event;
+
+import com.zamaz.mcp.organization.domain.event.OrganizationCreatedEvent;
+import com.zamaz.mcp.organization.domain.event.UserPreferencesUpdatedEvent;
+import com.zamaz.mcp.organization.domain.event.UserRoleChangedInOrganizationEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+@DisplayName("Domain event codec")
+class DomainEventCodecTest {
+
+    private final DomainEventCodec codec = new DomainEventCodec();
+
+    @Test
+    @DisplayName("Should round-trip event properties, keeping UUIDs typed and nulls present")
+    void shouldRoundTripPreferencesEvent() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        UUID organizationId = UUID.randomUUID();
+        var event = new UserPreferencesUpdatedEvent(userId, "ORGANIZATION", "TEAM", organizationId, null, null);
+
+        // When
+        Map<String, Object> properties = codec.decode(codec.encode(event));
+
+        // Then
+        assertThat(properties).containsOnly(
+            entry("userId", userId),
+            entry("defaultScopeType", "ORGANIZATION"),
+            entry("defaultSharingLevel", "TEAM"),
+            entry("defaultOrganizationId", organizationId),
+            entry("defaultApplicationId", null),
+            entry("defaultTeamId", null));
+    }
+
+    @Test
+    @DisplayName("Should leave the envelope out of the payload")
+    void shouldOmitEnvelope() {
+        // Given
+        var event = new OrganizationCreatedEvent(UUID.randomUUID(), "Acme", null, UUID.randomUUID());
+
+        // When
+        Map<String, Object> properties = codec.decode(codec.encode(event));
+
+        // Then
+        assertThat(properties).containsOnlyKeys("name", "description", "creatorUserId");
+        assertThat(properties.get("description")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should encode a legacy JSON event into the same format as the event itself")
+    void shouldEncodeLegacyJsonLikeTheEvent() {
+        // Given
+        UUID organizationId = UUID.randomUUID();
+        var event = new UserRoleChangedInOrganizationEvent(organizationId, UUID.randomUUID(), "MEMBER", "ADMIN");
+        Map<String, Object> json = Map.of(
+            "eventId", event.getEventId(),
+            "aggregateId", organizationId.toString(),
+            "eventType", event.getEventType(),
+            "occurredOn", event.getOccurredOn().toString(),
+            "userId", event.getUserId().toString(),
+            "previousRole", "MEMBER",
+            "newRole", "ADMIN",
+            "tags", List.of("a", "b"));
+
+        // When
+        Map<String, Object> properties = codec.decode(codec.encode(json));
+
+        // Then
+        assertThat(properties).containsOnly(
+            entry("userId", event.getUserId().toString()),
+            entry("previousRole", "MEMBER"),
+            entry("newRole", "ADMIN"),
+            entry("tags", List.of("a", "b")));
+        assertThat(codec.decode(codec.encode(event))).containsOnlyKeys("userId", "previousRole", "newRole");
+    }
+
+    @Test
+    @DisplayName("Should reject payloads of an unknown format version")
+    void shouldRejectUnknownVersion() {
+        // Given
+        byte[] payload = codec.encode(new OrganizationCreatedEvent(UUID.randomUUID(), "Acme", "", UUID.randomUUID()));
+        payload[0] = (byte) (DomainEventCodec.VERSION + 1);
+
+        // When / Then
+        assertThatThrownBy(() -> codec.decode(payload))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("version");
+    }
+}
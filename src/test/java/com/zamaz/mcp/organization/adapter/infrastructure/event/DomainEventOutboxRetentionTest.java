@@ -0,0 +1,80 @@
+package com.zamaz.mcp.organization.adapter.infrastructure.event;
+
+import com.zamaz.mcp.organization.adapter.persistence.repository.SpringDataDomainEventOutboxRepository;
+import com.zamaz.mcp.organization.application.service.TransactionManager;
+import com.zamaz.mcp.organization.infrastructure.logging.DomainLogger;
+import com.zamaz.mcp.organization.infrastructure.logging.DomainLoggerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Domain event outbox retention")
+class DomainEventOutboxRetentionTest {
+
+    @Mock
+    private SpringDataDomainEventOutboxRepository outboxRepository;
+
+    @Mock
+    private TransactionManager transactionManager;
+
+    @Mock
+    private DomainLoggerFactory loggerFactory;
+
+    private DomainEventOutboxRetention retention;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(loggerFactory.getLogger(DomainEventOutboxRetention.class)).thenReturn(mock(DomainLogger.class));
+        when(transactionManager.executeInTransaction(any(Supplier.class)))
+            .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+        retention = new DomainEventOutboxRetention(outboxRepository, transactionManager, loggerFactory,
+            Duration.ofDays(3), 500);
+    }
+
+    @Test
+    @DisplayName("Should delete published events in batches until a batch comes back short")
+    void shouldDeleteInBatches() {
+        // Given
+        when(outboxRepository.deletePublishedBefore(any(LocalDateTime.class), eq(500))).thenReturn(500, 7);
+
+        // When
+        long deleted = retention.purge();
+
+        // Then
+        assertThat(deleted).isEqualTo(507);
+        var cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(outboxRepository, times(2)).deletePublishedBefore(cutoff.capture(), eq(500));
+        assertThat(cutoff.getValue()).isCloseTo(LocalDateTime.now().minusDays(3), within(1, ChronoUnit.MINUTES));
+        verify(transactionManager, times(2)).executeInTransaction(any(Supplier.class));
+    }
+
+    @Test
+    @DisplayName("Should stop after one query when nothing is old enough")
+    void shouldStopWhenNothingToPurge() {
+        // Given
+        when(outboxRepository.deletePublishedBefore(any(LocalDateTime.class), eq(500))).thenReturn(0);
+
+        // When
+        long deleted = retention.purge();
+
+        // Then
+        assertThat(deleted).isZero();
+        verify(outboxRepository, times(1)).deletePublishedBefore(any(LocalDateTime.class), eq(500));
+    }
+}
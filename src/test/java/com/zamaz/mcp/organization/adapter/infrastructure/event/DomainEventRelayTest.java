@@ -0,0 +1,205 @@
+package com.zamaz.mcp.organization.adapter.infrastructure.event;
+
+import com.zamaz.mcp.organization.adapter.persistence.entity.DomainEventOutboxEntity;
+import com.zamaz.mcp.organization.adapter.persistence.repository.SpringDataDomainEventOutboxRepository;
+import com.zamaz.mcp.organization.application.port.outbound.DomainEventBroker;
+import com.zamaz.mcp.organization.application.port.outbound.DomainEventMessage;
+import com.zamaz.mcp.organization.application.service.TransactionManager;
+import com.zamaz.mcp.organization.infrastructure.logging.DomainLogger;
+import com.zamaz.mcp.organization.infrastructure.logging.DomainLoggerFactory;
+import com.zamaz.mcp.organization.infrastructure.resilience.McpCircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Domain event relay")
+class DomainEventRelayTest {
+
+    @Mock
+    private SpringDataDomainEventOutboxRepository outboxRepository;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Mock
+    private TransactionManager transactionManager;
+
+    @Mock
+    private DomainLoggerFactory loggerFactory;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private InMemoryDomainEventBroker broker;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        when(loggerFactory.getLogger(DomainEventRelay.class)).thenReturn(mock(DomainLogger.class));
+        broker = new InMemoryDomainEventBroker(100);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Should deliver a batch in order to the broker and listeners")
+    void shouldDeliverBatchInOrder() {
+        // Given
+        var first = pending("org-1", 0);
+        var second = pending("org-2", 0);
+        var third = pending("org-1", 0);
+        givenLocked(first, second, third);
+
+        // When
+        int published = relay(broker).relayBatch();
+
+        // Then
+        assertThat(published).isEqualTo(3);
+        assertThat(broker.getMessages()).extracting(DomainEventMessage::sequence)
+            .containsExactly(first.getId(), second.getId(), third.getId());
+        assertThat(List.of(first, second, third)).allSatisfy(entity -> {
+            assertThat(entity.getStatus()).isEqualTo(DomainEventOutboxEntity.Status.PUBLISHED);
+            assertThat(entity.getPublishedAt()).isNotNull();
+        });
+        verify(applicationEventPublisher, times(3)).publishEvent(any(DomainEventMessage.class));
+        assertThat(meterRegistry.get("mcp.domain_events.relayed").tag("outcome", "published").counter().count())
+            .isEqualTo(3);
+        assertThat(meterRegistry.get("mcp.domain_events.delivery_lag").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should hold back later events of a failing aggregate only")
+    void shouldHoldBackFailingAggregateOnly() {
+        // Given
+        var failing = pending("org-1", 0);
+        var other = pending("org-2", 0);
+        var later = pending("org-1", 0);
+        givenLocked(failing, other, later);
+        DomainEventBroker flakyBroker = messages -> {
+            if (messages.stream().anyMatch(message -> message.sequence() == failing.getId())) {
+                throw new IllegalStateException("partition unavailable");
+            }
+            broker.publish(messages);
+        };
+
+        // When
+        int published = relay(flakyBroker).relayBatch();
+
+        // Then
+        assertThat(published).isEqualTo(1);
+        assertThat(broker.getMessages()).extracting(DomainEventMessage::aggregateId).containsExactly("org-2");
+        assertThat(failing.getStatus()).isEqualTo(DomainEventOutboxEntity.Status.PENDING);
+        assertThat(failing.getAttempts()).isEqualTo(1);
+        assertThat(failing.getLastError()).isEqualTo("partition unavailable");
+        assertThat(later.getStatus()).isEqualTo(DomainEventOutboxEntity.Status.PENDING);
+        assertThat(later.getAttempts()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should notify listeners only of events the broker accepted")
+    void shouldNotifyListenersOnlyAfterBrokerAccepts() {
+        // Given
+        var rejected = pending("org-1", 0);
+        var accepted = pending("org-2", 0);
+        givenLocked(rejected, accepted);
+        DomainEventBroker flakyBroker = messages -> {
+            if (messages.stream().anyMatch(message -> message.sequence() == rejected.getId())) {
+                throw new IllegalStateException("partition unavailable");
+            }
+            broker.publish(messages);
+        };
+
+        // When
+        relay(flakyBroker).relayBatch();
+
+        // Then
+        var delivered = ArgumentCaptor.forClass(DomainEventMessage.class);
+        verify(applicationEventPublisher).publishEvent(delivered.capture());
+        assertThat(delivered.getValue().sequence()).isEqualTo(accepted.getId());
+        assertThat(rejected.getStatus()).isEqualTo(DomainEventOutboxEntity.Status.PENDING);
+    }
+
+    @Test
+    @DisplayName("Should re-encode events written as JSON before the binary format")
+    void shouldReencodeLegacyJsonPayload() {
+        // Given
+        var legacy = pending("org-1", 0);
+        legacy.setPayload(null);
+        legacy.setLegacyPayload(Map.of("eventId", legacy.getEventId().toString(), "name", "Acme"));
+        givenLocked(legacy);
+
+        // When
+        int published = relay(broker).relayBatch();
+
+        // Then
+        assertThat(published).isEqualTo(1);
+        byte[] payload = broker.getMessages().get(0).payload();
+        assertThat(new DomainEventCodec().decode(payload)).containsExactly(Map.entry("name", "Acme"));
+    }
+
+    @Test
+    @DisplayName("Should abandon an event after the maximum number of attempts")
+    void shouldAbandonAfterMaxAttempts() {
+        // Given
+        var poison = pending("org-1", 2);
+        var next = pending("org-1", 0);
+        givenLocked(poison, next);
+        DomainEventBroker rejectingBroker = messages -> {
+            if (messages.stream().anyMatch(message -> message.sequence() == poison.getId())) {
+                throw new IllegalArgumentException("payload rejected");
+            }
+            broker.publish(messages);
+        };
+
+        // When
+        relay(rejectingBroker).relayBatch();
+
+        // Then
+        assertThat(poison.getStatus()).isEqualTo(DomainEventOutboxEntity.Status.FAILED);
+        assertThat(poison.getAttempts()).isEqualTo(3);
+        assertThat(next.getStatus()).isEqualTo(DomainEventOutboxEntity.Status.PUBLISHED);
+    }
+
+    private DomainEventRelay relay(DomainEventBroker target) {
+        var circuitBreakers = new McpCircuitBreakerRegistry(new MockEnvironment(), meterRegistry);
+        return new DomainEventRelay(outboxRepository, target, new DomainEventCodec(), circuitBreakers,
+            applicationEventPublisher, transactionManager, loggerFactory, meterRegistry, 10, 3);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenLocked(DomainEventOutboxEntity... entities) {
+        when(transactionManager.executeInTransaction(any(Supplier.class)))
+            .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+        when(outboxRepository.lockBatch(eq(DomainEventOutboxEntity.Status.PENDING), any(Pageable.class)))
+            .thenReturn(List.of(entities));
+    }
+
+    private DomainEventOutboxEntity pending(String aggregateId, int attempts) {
+        return DomainEventOutboxEntity.builder()
+            .id(sequence.incrementAndGet())
+            .eventId(UUID.randomUUID())
+            .eventType("organization.updated")
+            .aggregateId(aggregateId)
+            .payload(new byte[] {1, 0})
+            .occurredAt(LocalDateTime.now().minusSeconds(1))
+            .attempts(attempts)
+            .build();
+    }
+}
@@ -0,0 +1,162 @@
+package com.zamaz.mcp.organization.adapter.infrastructure.transaction;
+
+import com.zamaz.mcp.organization.exception.DependencyUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Permit transaction manager")
+class PermitTransactionManagerTest {
+
+    @Mock
+    private PlatformTransactionManager delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PermitTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        var permits = new TransactionPermits(true, 1, Duration.ofMillis(20), meterRegistry);
+        transactionManager = new PermitTransactionManager(delegate, permits);
+        lenient().when(delegate.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    @DisplayName("Should hold a permit from begin until commit")
+    void shouldHoldPermitUntilCommit() {
+        // When
+        var status = transactionManager.getTransaction(required());
+
+        // Then
+        assertThat(available()).isZero();
+        transactionManager.commit(status);
+        assertThat(available()).isEqualTo(1);
+        verify(delegate).commit(status);
+    }
+
+    @Test
+    @DisplayName("Should return the permit on rollback")
+    void shouldReleaseOnRollback() {
+        // Given
+        var status = transactionManager.getTransaction(required());
+
+        // When
+        transactionManager.rollback(status);
+
+        // Then
+        assertThat(available()).isEqualTo(1);
+        verify(delegate).rollback(status);
+    }
+
+    @Test
+    @DisplayName("Should return the permit when the commit fails")
+    void shouldReleaseWhenCommitFails() {
+        // Given
+        var status = transactionManager.getTransaction(required());
+        doThrow(new TransactionSystemException("commit failed")).when(delegate).commit(status);
+
+        // When / Then
+        assertThatThrownBy(() -> transactionManager.commit(status)).isInstanceOf(TransactionSystemException.class);
+        assertThat(available()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should return the permit when no transaction could be started")
+    void shouldReleaseWhenBeginFails() {
+        // Given
+        when(delegate.getTransaction(any())).thenThrow(new CannotCreateTransactionException("pool exhausted"));
+
+        // When / Then
+        assertThatThrownBy(() -> transactionManager.getTransaction(required()))
+            .isInstanceOf(CannotCreateTransactionException.class);
+        assertThat(available()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject a new transaction without touching the delegate when no permit frees up")
+    void shouldRejectWhenNoPermitIsAvailable() {
+        // Given
+        transactionManager.getTransaction(required());
+        clearInvocations(delegate);
+
+        // When / Then
+        assertThatThrownBy(() -> transactionManager.getTransaction(required()))
+            .isInstanceOf(DependencyUnavailableException.class);
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    @DisplayName("Should take no permit when joining an active transaction")
+    void shouldNotTakePermitWhenJoining() {
+        // Given
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // When
+        var status = transactionManager.getTransaction(required());
+
+        // Then
+        assertThat(available()).isEqualTo(1);
+        transactionManager.commit(status);
+        assertThat(available()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should take a permit for a new transaction inside an active one")
+    void shouldTakePermitForRequiresNew() {
+        // Given
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // When
+        var status = transactionManager.getTransaction(
+            new DefaultTransactionDefinition(TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+
+        // Then
+        assertThat(available()).isZero();
+        transactionManager.commit(status);
+        assertThat(available()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should take no permit for non-transactional execution")
+    void shouldNotTakePermitWithoutTransaction() {
+        // When
+        transactionManager.getTransaction(new DefaultTransactionDefinition(TransactionDefinition.PROPAGATION_SUPPORTS));
+
+        // Then
+        assertThat(available()).isEqualTo(1);
+    }
+
+    private static TransactionDefinition required() {
+        return new DefaultTransactionDefinition(TransactionDefinition.PROPAGATION_REQUIRED);
+    }
+
+    private double available() {
+        return meterRegistry.get("mcp.transaction_permits.available").gauge().value();
+    }
+}
@@ -0,0 +1,107 @@
+package com.zamaz.mcp.organization.adapter.infrastructure.transaction;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Spring transaction manager")
+class SpringTransactionManagerTest {
+
+    @Mock
+    private PlatformTransactionManager platformTransactionManager;
+
+    private SpringTransactionManager transactionManager;
+    private TransactionStatus status;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = new SpringTransactionManager(platformTransactionManager);
+        status = new SimpleTransactionStatus();
+        when(platformTransactionManager.getTransaction(any())).thenReturn(status);
+    }
+
+    @Test
+    @DisplayName("Should run the work in a required transaction and commit it")
+    void shouldCommitRequiredTransaction() {
+        // When
+        var result = transactionManager.executeInTransaction(() -> "done");
+
+        // Then
+        assertThat(result).isEqualTo("done");
+        var definition = definition();
+        assertThat(definition.getPropagationBehavior()).isEqualTo(TransactionDefinition.PROPAGATION_REQUIRED);
+        assertThat(definition.isReadOnly()).isFalse();
+        verify(platformTransactionManager).commit(status);
+    }
+
+    @Test
+    @DisplayName("Should roll back when the work fails")
+    void shouldRollBackOnFailure() {
+        // When / Then
+        assertThatThrownBy(() -> transactionManager.executeInTransaction(() -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+        verify(platformTransactionManager).rollback(status);
+        verify(platformTransactionManager, never()).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should request a new transaction for executeInNewTransaction")
+    void shouldRequestNewTransaction() {
+        // When
+        transactionManager.executeInNewTransaction(() -> 1);
+
+        // Then
+        assertThat(definition().getPropagationBehavior()).isEqualTo(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Test
+    @DisplayName("Should request a read-only transaction for executeInReadOnlyTransaction")
+    void shouldRequestReadOnlyTransaction() {
+        // When
+        transactionManager.executeInReadOnlyTransaction(() -> 1);
+
+        // Then
+        assertThat(definition().isReadOnly()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should take transaction permits through a wrapping transaction manager")
+    void shouldTakePermitsThroughWrappedManager() {
+        // Given
+        var meterRegistry = new SimpleMeterRegistry();
+        var permits = new TransactionPermits(true, 1, Duration.ofMillis(20), meterRegistry);
+        var permitted = new SpringTransactionManager(new PermitTransactionManager(platformTransactionManager, permits));
+
+        // When
+        double availableInside = permitted.executeInTransaction(() ->
+            meterRegistry.get("mcp.transaction_permits.available").gauge().value());
+
+        // Then
+        assertThat(availableInside).isZero();
+        assertThat(meterRegistry.get("mcp.transaction_permits.available").gauge().value()).isEqualTo(1);
+    }
+
+    private TransactionDefinition definition() {
+        var captor = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(platformTransactionManager).getTransaction(captor.capture());
+        return captor.getValue();
+    }
+}
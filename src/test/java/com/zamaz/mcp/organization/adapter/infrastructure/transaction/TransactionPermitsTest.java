@@ -0,0 +1,78 @@
+package com.zamaz.mcp.organization.adapter.infrastructure.transaction;
+
+import com.zamaz.mcp.organization.exception.DependencyUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Transaction permits")
+class TransactionPermitsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Should reject a caller once every permit is held and admit it after a release")
+    void shouldCapConcurrentTransactions() {
+        // Given
+        var permits = new TransactionPermits(true, 1, Duration.ofMillis(20), meterRegistry);
+        permits.acquire();
+
+        // When / Then
+        assertThat(available()).isZero();
+        assertThatThrownBy(permits::acquire)
+            .isInstanceOf(DependencyUnavailableException.class)
+            .hasMessageContaining("No database connection");
+
+        permits.release();
+        assertThat(available()).isEqualTo(1);
+        permits.acquire();
+        assertThat(available()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should return the permit when the work fails")
+    void shouldReleaseWhenWorkFails() {
+        // Given
+        var permits = new TransactionPermits(true, 1, Duration.ofMillis(20), meterRegistry);
+
+        // When
+        assertThatThrownBy(() -> permits.withPermit(() -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // Then
+        assertThat(available()).isEqualTo(1);
+        assertThat(permits.withPermit(() -> "done")).isEqualTo("done");
+    }
+
+    @Test
+    @DisplayName("Should not limit anything when disabled")
+    void shouldDoNothingWhenDisabled() {
+        // Given
+        var permits = new TransactionPermits(false, 1, Duration.ofMillis(20), meterRegistry);
+
+        // When
+        permits.acquire();
+        permits.acquire();
+
+        // Then
+        assertThat(permits.isEnabled()).isFalse();
+        assertThat(permits.withPermit(() -> "done")).isEqualTo("done");
+        assertThat(meterRegistry.find("mcp.transaction_permits.available").gauge()).isNull();
+    }
+
+    private double available() {
+        return meterRegistry.get("mcp.transaction_permits.available").gauge().value();
+    }
+}
@@ -0,0 +1,94 @@
+package com.zamaz.mcp.organization.adapter.persistence.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.zamaz.mcp.organization.domain.model.Organization;
+import com.zamaz.mcp.organization.domain.model.OrganizationDescription;
+import com.zamaz.mcp.organization.domain.model.OrganizationId;
+import com.zamaz.mcp.organization.domain.model.OrganizationName;
+import com.zamaz.mcp.organization.domain.model.OrganizationSettings;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Binary organization snapshot codec")
+class BinaryOrganizationSnapshotCodecTest {
+
+    private final BinaryOrganizationSnapshotCodec codec = new BinaryOrganizationSnapshotCodec();
+
+    @Test
+    @DisplayName("Should round-trip a snapshot with members and nested settings")
+    void shouldRoundTripSnapshot() {
+        // Given
+        var joinedAt = LocalDateTime.of(2024, 1, 2, 3, 4, 5, 123_456_000);
+        var snapshot = new OrganizationSnapshot(
+            UUID.randomUUID(),
+            "Acme",
+            null,
+            Map.of("maxMembers", 500, "quota", 5_000_000_000L, "ratio", 0.75,
+                "features", List.of("debates", "exports"), "limits", Map.of("teams", 10)),
+            true,
+            List.of(new OrganizationSnapshot.Member(UUID.randomUUID(), "OWNER", joinedAt),
+                new OrganizationSnapshot.Member(UUID.randomUUID(), "GUEST", joinedAt.minusYears(60))),
+            joinedAt,
+            null);
+
+        // When
+        var decoded = codec.decode(codec.encode(snapshot));
+
+        // Then
+        assertThat(decoded).isEqualTo(snapshot);
+        assertThat(decoded.settings().get("maxMembers")).isInstanceOf(Integer.class);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("codecs")
+    @DisplayName("Should keep null settings when caching an organization")
+    void shouldKeepNullSettings(String name, CacheCodec<OrganizationSnapshot> snapshotCodec) {
+        // Given
+        Map<String, Object> settings = new HashMap<>();
+        settings.put("theme", null);
+        settings.put("maxMembers", 10);
+        var organization = new Organization(OrganizationId.generate(), OrganizationName.from("Acme"),
+            OrganizationDescription.from("Test"), OrganizationSettings.from(settings), true, Map.of(),
+            LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 1, 2, 0, 0));
+
+        // When
+        var decoded = snapshotCodec.decode(snapshotCodec.encode(OrganizationSnapshot.from(organization)));
+
+        // Then
+        assertThat(decoded.settings()).containsEntry("theme", null).containsEntry("maxMembers", 10);
+        assertThat(decoded.toDomain().getSettings().toMap()).containsEntry("theme", null);
+    }
+
+    static Stream<Arguments> codecs() {
+        var objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        return Stream.of(
+            Arguments.of("binary", new BinaryOrganizationSnapshotCodec()),
+            Arguments.of("json", new JsonCacheCodec<>(objectMapper, OrganizationSnapshot.class)));
+    }
+
+    @Test
+    @DisplayName("Should reject values written in another format")
+    void shouldRejectOtherFormats() {
+        // Given
+        byte[] json = "{\"id\":\"6f1c2a4e-0000-4000-8000-000000000001\"}".getBytes();
+
+        // When & Then
+        assertThatThrownBy(() -> codec.decode(json))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("version");
+    }
+}
@@ -0,0 +1,83 @@
+package com.zamaz.mcp.organization.adapter.persistence.cache;
+
+import com.zamaz.mcp.organization.adapter.persistence.repository.JpaOrganizationRepository;
+import com.zamaz.mcp.organization.domain.model.Organization;
+import com.zamaz.mcp.organization.domain.model.OrganizationDescription;
+import com.zamaz.mcp.organization.domain.model.OrganizationId;
+import com.zamaz.mcp.organization.domain.model.OrganizationName;
+import com.zamaz.mcp.organization.domain.model.UserId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Caching organization repository")
+class CachingOrganizationRepositoryTest {
+
+    @Mock
+    private JpaOrganizationRepository delegate;
+
+    @Mock
+    private TwoTierCache<OrganizationSnapshot> organizationCache;
+
+    private CachingOrganizationRepository repository;
+    private Organization organization;
+
+    @BeforeEach
+    void setUp() {
+        repository = new CachingOrganizationRepository(delegate, organizationCache);
+        organization = new Organization(OrganizationId.generate(), OrganizationName.from("Acme"),
+            OrganizationDescription.from("Test"), UserId.generate());
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("Should load from the database inside a read-write transaction")
+    void shouldBypassCacheInReadWriteTransaction() {
+        // Given
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        when(delegate.findById(organization.getId())).thenReturn(Optional.of(organization));
+
+        // When
+        var found = repository.findById(organization.getId());
+
+        // Then
+        assertThat(found).containsSame(organization);
+        verifyNoInteractions(organizationCache);
+    }
+
+    @Test
+    @DisplayName("Should serve reads from the cache in a read-only transaction")
+    @SuppressWarnings("unchecked")
+    void shouldUseCacheInReadOnlyTransaction() {
+        // Given
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(organizationCache.get(eq(organization.getId().value().toString()), any(Supplier.class)))
+            .thenReturn(OrganizationSnapshot.from(organization));
+
+        // When
+        var found = repository.findById(organization.getId());
+
+        // Then
+        assertThat(found).get().extracting(Organization::getId).isEqualTo(organization.getId());
+        verify(delegate, never()).findById(any());
+    }
+}
@@ -0,0 +1,180 @@
+package com.zamaz.mcp.organization.adapter.persistence.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.types.Expiration;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Two-tier cache")
+class TwoTierCacheTest {
+
+    private static final CacheCodec<String> CODEC = new CacheCodec<>() {
+        @Override
+        public byte[] encode(String value) {
+            return value.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String decode(byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    @Mock
+    private RedisTemplate<String, byte[]> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, byte[]> valueOperations;
+
+    private TwoTierCache<String> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TwoTierCache<>("test", 100, Duration.ofMinutes(1), redisTemplate, CODEC, Duration.ofMinutes(10),
+            Duration.ofSeconds(15));
+    }
+
+    @Test
+    @DisplayName("Should serve repeated reads from the near cache")
+    void shouldServeRepeatedReadsFromNearCache() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        var loads = new AtomicInteger();
+
+        // When
+        cache.get("org-1", () -> "value-" + loads.incrementAndGet());
+        var second = cache.get("org-1", () -> "value-" + loads.incrementAndGet());
+
+        // Then
+        assertThat(second).isEqualTo("value-1");
+        assertThat(loads).hasValue(1);
+        verify(valueOperations, times(1)).get(anyString());
+    }
+
+    @Test
+    @DisplayName("Should use the Redis tier before the loader")
+    void shouldUseRedisTierBeforeLoader() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("mcp:org:cache:test:org-1")).thenReturn(CODEC.encode("from-redis"));
+
+        // When
+        var value = cache.get("org-1", () -> "from-db");
+
+        // Then
+        assertThat(value).isEqualTo("from-redis");
+    }
+
+    @Test
+    @DisplayName("Should fall back to the loader when Redis is unavailable")
+    void shouldFallBackToLoaderWhenRedisUnavailable() {
+        // Given
+        when(redisTemplate.opsForValue()).thenThrow(new RedisConnectionFailureException("down"));
+
+        // When
+        var value = cache.get("org-1", () -> "from-db");
+
+        // Then
+        assertThat(value).isEqualTo("from-db");
+    }
+
+    @Test
+    @DisplayName("Should load only keys missing from both tiers in one call")
+    void shouldLoadOnlyMissingKeysInOneCall() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(anyList())).thenAnswer(invocation -> {
+            List<String> keys = invocation.getArgument(0);
+            return keys.stream()
+                .map(key -> key.endsWith(":a") ? CODEC.encode("redis-a") : null)
+                .collect(Collectors.toList());
+        });
+        var loaderCalls = new AtomicInteger();
+
+        // When
+        Map<String, String> values = cache.getAll(List.of("a", "b", "c"), missing -> {
+            loaderCalls.incrementAndGet();
+            assertThat(missing).isEqualTo(Set.of("b", "c"));
+            return Map.of("b", "db-b");
+        });
+
+        // Then
+        assertThat(values).containsExactlyInAnyOrderEntriesOf(Map.of("a", "redis-a", "b", "db-b"));
+        assertThat(loaderCalls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should tombstone the Redis entry and broadcast evictions")
+    void shouldTombstoneAndBroadcastEvictions() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        cache.get("org-1", () -> "stale");
+
+        // When
+        cache.evict("org-1");
+        var reloaded = cache.get("org-1", () -> "fresh");
+
+        // Then
+        assertThat(reloaded).isEqualTo("fresh");
+        verify(valueOperations).set(eq("mcp:org:cache:test:org-1"), argThat(bytes -> bytes.length == 0),
+            eq(Duration.ofSeconds(15)));
+        verify(redisTemplate).convertAndSend(eq("mcp:org:cache:invalidate:test"), any());
+    }
+
+    @Test
+    @DisplayName("Should treat a tombstone as a miss")
+    void shouldTreatTombstoneAsMiss() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("mcp:org:cache:test:org-1")).thenReturn(new byte[0]);
+
+        // When
+        var value = cache.get("org-1", () -> "from-db");
+
+        // Then
+        assertThat(value).isEqualTo("from-db");
+    }
+
+    @Test
+    @DisplayName("Should write loaded values to Redis only if the key is absent")
+    void shouldNotOverwriteTombstones() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        var connection = mock(RedisConnection.class);
+        var stringCommands = mock(RedisStringCommands.class);
+        when(connection.stringCommands()).thenReturn(stringCommands);
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection);
+            return List.of();
+        });
+
+        // When
+        cache.get("org-1", () -> "stale");
+
+        // Then
+        verify(stringCommands).set(any(byte[].class), any(byte[].class), any(Expiration.class),
+            eq(RedisStringCommands.SetOption.ifAbsent()));
+    }
+}
@@ -0,0 +1,158 @@
+package com.zamaz.mcp.organization.adapter.persistence.invalidation;
+
+import com.zamaz.mcp.organization.adapter.persistence.membership.MembershipIndex;
+import com.zamaz.mcp.organization.adapter.persistence.search.MemberNameIndex;
+import com.zamaz.mcp.organization.adapter.persistence.visibility.UserAccessIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Organization index invalidator")
+class OrganizationIndexInvalidatorTest {
+
+    @Mock
+    private MembershipIndex membershipIndex;
+
+    @Mock
+    private MemberNameIndex memberNameIndex;
+
+    @Mock
+    private UserAccessIndex userAccessIndex;
+
+    @Mock
+    private ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private final UUID organizationId = UUID.randomUUID();
+    private OrganizationIndexInvalidator invalidator;
+
+    @BeforeEach
+    void setUp() {
+        invalidator = new OrganizationIndexInvalidator(membershipIndex, memberNameIndex, userAccessIndex, redisTemplateProvider, true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(invalidator);
+    }
+
+    @Test
+    @DisplayName("Should evict locally and broadcast when no transaction is active")
+    void shouldInvalidateImmediatelyWithoutTransaction() {
+        // Given
+        when(redisTemplateProvider.getObject()).thenReturn(redisTemplate);
+
+        // When
+        invalidator.invalidateAfterCommit(organizationId);
+
+        // Then
+        verify(membershipIndex).evictOrganization(organizationId);
+        verify(memberNameIndex).evictOrganization(organizationId);
+        verify(redisTemplate).convertAndSend(OrganizationIndexInvalidator.CHANNEL, organizationId.toString());
+    }
+
+    @Test
+    @DisplayName("Should invalidate each organization once after the transaction completes")
+    void shouldCollectInvalidationsPerTransaction() {
+        // Given
+        when(redisTemplateProvider.getObject()).thenReturn(redisTemplate);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        for (int i = 0; i < 1000; i++) {
+            invalidator.invalidateAfterCommit(organizationId);
+        }
+        verifyNoInteractions(membershipIndex, redisTemplate);
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // Then
+        verify(membershipIndex, times(1)).evictOrganization(organizationId);
+        verify(redisTemplate, times(1)).convertAndSend(OrganizationIndexInvalidator.CHANNEL, organizationId.toString());
+    }
+
+    @Test
+    @DisplayName("Should evict a user's access set and broadcast it after the transaction completes")
+    void shouldInvalidateUserAfterCommit() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        when(redisTemplateProvider.getObject()).thenReturn(redisTemplate);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        invalidator.invalidateUserAfterCommit(userId);
+        verifyNoInteractions(userAccessIndex, redisTemplate);
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // Then
+        verify(userAccessIndex).evictUser(userId);
+        verify(redisTemplate).convertAndSend(OrganizationIndexInvalidator.CHANNEL, "user:" + userId);
+        verifyNoInteractions(membershipIndex, memberNameIndex);
+    }
+
+    @Test
+    @DisplayName("Should apply user and all-users messages broadcast by other nodes")
+    void shouldEvictUsersFromBroadcastMessages() {
+        // Given
+        UUID userId = UUID.randomUUID();
+
+        // When
+        invalidator.evictLocal("user:" + userId);
+        invalidator.evictLocal(OrganizationIndexInvalidator.ALL_USERS);
+        invalidator.evictLocal(organizationId.toString());
+
+        // Then
+        verify(userAccessIndex).evictUser(userId);
+        verify(userAccessIndex).evictAll();
+        verify(membershipIndex).evictOrganization(organizationId);
+        verifyNoInteractions(redisTemplateProvider);
+    }
+
+    @Test
+    @DisplayName("Should still evict locally when Redis is unavailable")
+    void shouldEvictLocallyWhenRedisUnavailable() {
+        // Given
+        when(redisTemplateProvider.getObject()).thenReturn(redisTemplate);
+        when(redisTemplate.convertAndSend(anyString(), anyString())).thenThrow(new RedisConnectionFailureException("down"));
+
+        // When / Then
+        assertThatCode(() -> invalidator.invalidateAfterCommit(organizationId)).doesNotThrowAnyException();
+        verify(membershipIndex).evictOrganization(organizationId);
+    }
+
+    @Test
+    @DisplayName("Should not broadcast when broadcasting is disabled")
+    void shouldNotBroadcastWhenDisabled() {
+        // Given
+        var singleNode = new OrganizationIndexInvalidator(membershipIndex, memberNameIndex, userAccessIndex, redisTemplateProvider, false);
+
+        // When
+        singleNode.invalidateAfterCommit(organizationId);
+
+        // Then
+        verify(memberNameIndex).evictOrganization(organizationId);
+        verifyNoInteractions(redisTemplateProvider);
+    }
+}
@@ -0,0 +1,136 @@
+package com.zamaz.mcp.organization.adapter.persistence.membership;
+
+import com.zamaz.mcp.organization.adapter.persistence.repository.SpringDataOrganizationRepository;
+import com.zamaz.mcp.organization.adapter.persistence.repository.SpringDataOrganizationRepository.MembershipRow;
+import com.zamaz.mcp.organization.domain.model.Capability;
+import com.zamaz.mcp.organization.domain.model.PermissionMatrix;
+import com.zamaz.mcp.organization.domain.model.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Membership index")
+class MembershipIndexTest {
+
+    @Mock
+    private SpringDataOrganizationRepository organizationRepository;
+
+    private MembershipIndex membershipIndex;
+    private UUID userId;
+    private UUID organizationId;
+
+    @BeforeEach
+    void setUp() {
+        membershipIndex = new MembershipIndex(organizationRepository, 100, 100, Duration.ofMinutes(10));
+        userId = UUID.randomUUID();
+        organizationId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should answer repeated checks with a single row lookup")
+    void shouldAnswerRepeatedChecksWithSingleRowLookup() {
+        // Given
+        when(organizationRepository.findMembership(userId, organizationId))
+            .thenReturn(Optional.of(row("ADMIN", true)));
+
+        // When
+        boolean canAdminister = membershipIndex.hasRole(userId, organizationId, Role.ADMIN);
+        boolean canOwn = membershipIndex.hasRole(userId, organizationId, Role.OWNER);
+        var role = membershipIndex.findRole(userId, organizationId);
+
+        // Then
+        assertThat(canAdminister).isTrue();
+        assertThat(canOwn).isFalse();
+        assertThat(role).contains(Role.ADMIN);
+        verify(organizationRepository, times(1)).findMembership(userId, organizationId);
+    }
+
+    @Test
+    @DisplayName("Should check roles against the member's capability mask")
+    void shouldCheckRolesAgainstCapabilities() {
+        // Given
+        when(organizationRepository.findMembership(userId, organizationId))
+            .thenReturn(Optional.of(row("MEMBER", true)));
+
+        // When
+        long capabilities = membershipIndex.findCapabilities(userId, organizationId);
+
+        // Then
+        assertThat(capabilities).isEqualTo(PermissionMatrix.of(Role.MEMBER));
+        assertThat(Capability.MANAGE_MEMBERS.isIn(capabilities)).isFalse();
+        assertThat(membershipIndex.hasRole(userId, organizationId, Role.GUEST)).isTrue();
+        assertThat(membershipIndex.hasRole(userId, organizationId, Role.MEMBER)).isTrue();
+        assertThat(membershipIndex.hasRole(userId, organizationId, Role.ADMIN)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should remember non-membership")
+    void shouldRememberNonMembership() {
+        // Given
+        when(organizationRepository.findMembership(userId, organizationId)).thenReturn(Optional.empty());
+
+        // When
+        boolean guest = membershipIndex.hasRole(userId, organizationId, Role.GUEST);
+        boolean member = membershipIndex.isActiveMember(userId, organizationId);
+
+        // Then
+        assertThat(guest).isFalse();
+        assertThat(member).isFalse();
+        assertThat(membershipIndex.findCapabilities(userId, organizationId)).isZero();
+        verify(organizationRepository, times(1)).findMembership(userId, organizationId);
+    }
+
+    @Test
+    @DisplayName("Should not treat members of inactive organizations as active members")
+    void shouldNotTreatMembersOfInactiveOrganizationsAsActive() {
+        // Given
+        when(organizationRepository.findMembership(userId, organizationId))
+            .thenReturn(Optional.of(row("OWNER", false)));
+
+        // When & Then
+        assertThat(membershipIndex.isActiveMember(userId, organizationId)).isFalse();
+        assertThat(membershipIndex.findRole(userId, organizationId)).contains(Role.OWNER);
+    }
+
+    @Test
+    @DisplayName("Should reload after the organization is evicted")
+    void shouldReloadAfterEviction() {
+        // Given
+        when(organizationRepository.findMembership(userId, organizationId))
+            .thenReturn(Optional.of(row("MEMBER", true)))
+            .thenReturn(Optional.empty());
+        membershipIndex.findRole(userId, organizationId);
+
+        // When
+        membershipIndex.evictOrganization(organizationId);
+
+        // Then
+        assertThat(membershipIndex.findRole(userId, organizationId)).isEmpty();
+        verify(organizationRepository, times(2)).findMembership(userId, organizationId);
+    }
+
+    private static MembershipRow row(String role, boolean organizationActive) {
+        return new MembershipRow() {
+            @Override
+            public String getRole() {
+                return role;
+            }
+
+            @Override
+            public Boolean getOrganizationActive() {
+                return organizationActive;
+            }
+        };
+    }
+}
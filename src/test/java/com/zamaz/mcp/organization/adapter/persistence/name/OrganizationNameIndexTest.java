@@ -0,0 +1,103 @@
+package com.zamaz.mcp.organization.adapter.persistence.name;
+
+import com.zamaz.mcp.organization.adapter.persistence.repository.SpringDataOrganizationRepository;
+import com.zamaz.mcp.organization.infrastructure.logging.DomainLogger;
+import com.zamaz.mcp.organization.infrastructure.logging.DomainLoggerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Organization name index")
+class OrganizationNameIndexTest {
+
+    @Mock
+    private SpringDataOrganizationRepository organizationRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private DomainLoggerFactory loggerFactory;
+
+    private OrganizationNameIndex nameIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(loggerFactory.getLogger(OrganizationNameIndex.class)).thenReturn(mock(DomainLogger.class));
+        nameIndex = new OrganizationNameIndex(organizationRepository, jdbcTemplate, loggerFactory, 1000, 0.001);
+    }
+
+    @Test
+    @DisplayName("Should check every name against the database until the filter is built")
+    void shouldQueryBeforeBuild() {
+        // Given
+        when(organizationRepository.findTakenNormalizedNames(List.of("acme corp"))).thenReturn(List.of("acme corp"));
+
+        // When
+        boolean taken = nameIndex.isTaken("  ACME   Corp ");
+
+        // Then
+        assertThat(taken).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should answer unseen names without a query and confirm possible hits")
+    void shouldAnswerUnseenNamesFromFilter() throws Exception {
+        // Given
+        givenTable("acme corp", "globex");
+        nameIndex.rebuild();
+        when(organizationRepository.findTakenNormalizedNames(List.of("globex"))).thenReturn(List.of("globex"));
+
+        // When
+        boolean initech = nameIndex.isTaken("Initech");
+        boolean globex = nameIndex.isTaken("GLOBEX");
+
+        // Then
+        assertThat(initech).isFalse();
+        assertThat(globex).isTrue();
+        verify(organizationRepository, times(1)).findTakenNormalizedNames(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should include names added after the build")
+    void shouldIncludeAddedNames() throws Exception {
+        // Given
+        givenTable("acme corp");
+        nameIndex.rebuild();
+        nameIndex.add("Umbrella  Corp");
+        when(organizationRepository.findTakenNormalizedNames(anyCollection())).thenReturn(List.of("umbrella corp"));
+
+        // When
+        var taken = nameIndex.findTaken(List.of("umbrella corp", "Umbrella Labs", "Hooli"));
+
+        // Then
+        assertThat(taken).containsExactly("umbrella corp");
+        verify(organizationRepository).findTakenNormalizedNames(List.of("umbrella corp"));
+    }
+
+    private void givenTable(String... normalizedNames) throws Exception {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn((long) normalizedNames.length);
+        ResultSet row = mock(ResultSet.class);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (String name : normalizedNames) {
+                when(row.getString(1)).thenReturn(name);
+                handler.processRow(row);
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+    }
+}
@@ -0,0 +1,141 @@
+package com.zamaz.mcp.organization.adapter.persistence.repository;
+
+import com.zamaz.mcp.organization.domain.model.OrganizationMember;
+import com.zamaz.mcp.organization.domain.model.Role;
+import com.zamaz.mcp.organization.domain.model.UserId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JDBC organization member writer")
+class JdbcOrganizationMemberWriterTest {
+
+    private static final UUID ORGANIZATION_ID = UUID.randomUUID();
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should fall back to batches when COPY is unavailable")
+    @SuppressWarnings("unchecked")
+    void shouldFallBackToBatchesWithoutCopy() {
+        // Given
+        var writer = new JdbcOrganizationMemberWriter(jdbcTemplate, meterRegistry, 100);
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn(false);
+
+        // When
+        writer.insertMembers(ORGANIZATION_ID, members(2_500));
+
+        // Then
+        verify(jdbcTemplate).batchUpdate(anyString(), any(Collection.class), eq(JdbcOrganizationMemberWriter.BATCH_SIZE),
+            any(ParameterizedPreparedStatementSetter.class));
+        assertThat(meterRegistry.get("mcp.organization_users.rows_written").tag("mode", "batch").counter().count())
+            .isEqualTo(2_500);
+        var statements = meterRegistry.get("mcp.organization_users.statements_per_transaction").summary();
+        assertThat(statements.count()).isEqualTo(2);
+        assertThat(statements.totalAmount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should record round trips once per transaction")
+    void shouldRecordRoundTripsPerTransaction() {
+        // Given
+        var writer = new JdbcOrganizationMemberWriter(jdbcTemplate, meterRegistry, 0);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        writer.insertMembers(ORGANIZATION_ID, members(1_500));
+        writer.deleteMembers(ORGANIZATION_ID, List.of(UUID.randomUUID()));
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // Then
+        verify(jdbcTemplate, never()).execute(any(ConnectionCallback.class));
+        var statements = meterRegistry.get("mcp.organization_users.statements_per_transaction").summary();
+        assertThat(statements.count()).isEqualTo(1);
+        assertThat(statements.totalAmount()).isEqualTo(5);
+        assertThat(TransactionSynchronizationManager.hasResource(writer)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should write a COPY row with a microsecond timestamp and no time zone")
+    void shouldFormatCopyRow() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        var member = new OrganizationMember(new UserId(userId), Role.ADMIN, LocalDateTime.of(2024, 3, 5, 7, 0));
+        var buffer = new StringBuilder();
+
+        // When
+        JdbcOrganizationMemberWriter.appendCopyRow(buffer, ORGANIZATION_ID.toString(), member);
+
+        // Then
+        assertThat(buffer).hasToString(
+            ORGANIZATION_ID + "," + userId + ",ADMIN,2024-03-05 07:00:00.000000\n");
+    }
+
+    @Test
+    @DisplayName("Should keep sub-second join times to the microsecond")
+    void shouldKeepMicroseconds() {
+        // Given
+        var member = new OrganizationMember(new UserId(UUID.randomUUID()), Role.MEMBER,
+            LocalDateTime.of(2024, 12, 31, 23, 59, 59, 123_456_789));
+        var buffer = new StringBuilder();
+
+        // When
+        JdbcOrganizationMemberWriter.appendCopyRow(buffer, ORGANIZATION_ID.toString(), member);
+
+        // Then
+        assertThat(buffer.toString()).endsWith(",MEMBER,2024-12-31 23:59:59.123456\n");
+    }
+
+    @Test
+    @DisplayName("Should quote CSV fields containing delimiters, quotes or line breaks")
+    void shouldEscapeCsvFields() {
+        assertThat(csvField("plain")).isEqualTo("plain");
+        assertThat(csvField("a,b")).isEqualTo("\"a,b\"");
+        assertThat(csvField("say \"hi\"")).isEqualTo("\"say \"\"hi\"\"\"");
+        assertThat(csvField("line\nbreak")).isEqualTo("\"line\nbreak\"");
+        assertThat(csvField("carriage\rreturn")).isEqualTo("\"carriage\rreturn\"");
+        assertThat(csvField("")).isEqualTo("\"\"");
+        assertThat(csvField(null)).isEmpty();
+    }
+
+    private static String csvField(String value) {
+        return JdbcOrganizationMemberWriter.appendCsvField(new StringBuilder(), value).toString();
+    }
+
+    private static List<OrganizationMember> members(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> new OrganizationMember(new UserId(UUID.randomUUID()), Role.MEMBER, LocalDateTime.now()))
+            .toList();
+    }
+}
@@ -0,0 +1,160 @@
+package com.zamaz.mcp.organization.adapter.persistence.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zamaz.mcp.organization.adapter.persistence.entity.OrganizationEntity;
+import com.zamaz.mcp.organization.adapter.persistence.entity.OrganizationUserEntity;
+import com.zamaz.mcp.organization.adapter.persistence.entity.UserEntity;
+import com.zamaz.mcp.organization.adapter.persistence.mapper.OrganizationPersistenceMapper;
+import com.zamaz.mcp.organization.adapter.persistence.mapper.UserPersistenceMapper;
+import com.zamaz.mcp.organization.domain.model.Organization;
+import com.zamaz.mcp.organization.domain.model.OrganizationId;
+import com.zamaz.mcp.organization.domain.model.Role;
+import com.zamaz.mcp.organization.domain.model.UserId;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bulk membership writes against a real schema with 10,000 new members.
+ * The rows go through the JDBC writer in fixed-size batches, so the number of round
+ * trips depends on the batch size and not on one statement per member.
+ */
+@Slf4j
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({
+    JpaOrganizationRepository.class,
+    JdbcOrganizationMemberWriter.class,
+    OrganizationPersistenceMapper.class,
+    UserPersistenceMapper.class,
+    JacksonAutoConfiguration.class,
+    SimpleMeterRegistry.class
+})
+@DisplayName("Organization bulk membership writes")
+class JpaOrganizationRepositoryBulkMembershipTest {
+
+    private static final int MEMBER_COUNT = 10_000;
+
+    @Autowired
+    private JpaOrganizationRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Should add and remove 10,000 members with batched statements")
+    void shouldAddAndRemoveTenThousandMembers() {
+        // Given
+        var organizationId = persistOrganizationWithOwner();
+        var userIds = persistUsers(MEMBER_COUNT);
+        var organization = loadDetached(organizationId);
+        var added = organization.addUsers(userIds, Role.MEMBER);
+        double batchedBefore = rowsWritten("batch");
+
+        // When
+        long addStart = System.nanoTime();
+        repository.addMembers(organization.getId(), added);
+        long addNanos = System.nanoTime() - addStart;
+
+        // Then
+        assertThat(countMembers(organizationId)).isEqualTo(MEMBER_COUNT + 1);
+        assertThat(rowsWritten("batch") - batchedBefore).isEqualTo(MEMBER_COUNT);
+        assertThat(loadDetached(organizationId).getMemberCount()).isEqualTo(MEMBER_COUNT + 1);
+
+        // When
+        long removeStart = System.nanoTime();
+        repository.removeMembers(organization.getId(), userIds);
+        long removeNanos = System.nanoTime() - removeStart;
+
+        // Then
+        log.info("bulk membership: members={} addMillis={} removeMillis={} batchSize={}",
+            MEMBER_COUNT, addNanos / 1_000_000, removeNanos / 1_000_000, JdbcOrganizationMemberWriter.BATCH_SIZE);
+        assertThat(countMembers(organizationId)).isEqualTo(1);
+        assertThat(rowsWritten("batch") - batchedBefore).isEqualTo(2 * MEMBER_COUNT);
+    }
+
+    private long countMembers(UUID organizationId) {
+        return jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM organization_users WHERE organization_id = ?", Long.class, organizationId);
+    }
+
+    private double rowsWritten(String mode) {
+        return meterRegistry.get("mcp.organization_users.rows_written").tag("mode", mode).counter().count();
+    }
+
+    private Organization loadDetached(UUID organizationId) {
+        entityManager.clear();
+        var organization = repository.findById(new OrganizationId(organizationId)).orElseThrow();
+        entityManager.clear();
+        return organization;
+    }
+
+    private UUID persistOrganizationWithOwner() {
+        var organization = entityManager.persist(OrganizationEntity.builder()
+            .name("Bulk Org " + UUID.randomUUID())
+            .description("Bulk membership benchmark")
+            .settings(objectMapper.createObjectNode())
+            .build());
+        organization.addUser(OrganizationUserEntity.builder()
+            .organization(organization)
+            .user(persistUser())
+            .role(Role.OWNER.name())
+            .joinedAt(LocalDateTime.now())
+            .build());
+        entityManager.flush();
+        entityManager.clear();
+        return organization.getId();
+    }
+
+    private List<UserId> persistUsers(int count) {
+        List<UserId> userIds = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            userIds.add(new UserId(persistUser().getId()));
+            if (i % 1_000 == 999) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return userIds;
+    }
+
+    private UserEntity persistUser() {
+        var suffix = UUID.randomUUID().toString();
+        return entityManager.persist(UserEntity.builder()
+            .email("user-" + suffix + "@example.com")
+            .firstName("Bulk")
+            .lastName(suffix)
+            .status("ACTIVE")
+            .emailVerified(true)
+            .build());
+    }
+}
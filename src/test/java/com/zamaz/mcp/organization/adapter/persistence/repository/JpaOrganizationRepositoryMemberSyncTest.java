@@ -0,0 +1,196 @@
+package com.zamaz.mcp.organization.adapter.persistence.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zamaz.mcp.organization.adapter.persistence.entity.OrganizationEntity;
+import com.zamaz.mcp.organization.adapter.persistence.entity.OrganizationUserEntity;
+import com.zamaz.mcp.organization.adapter.persistence.entity.UserEntity;
+import com.zamaz.mcp.organization.adapter.persistence.mapper.OrganizationPersistenceMapper;
+import com.zamaz.mcp.organization.adapter.persistence.mapper.UserPersistenceMapper;
+import com.zamaz.mcp.organization.domain.model.Organization;
+import com.zamaz.mcp.organization.domain.model.OrganizationId;
+import com.zamaz.mcp.organization.domain.model.Role;
+import com.zamaz.mcp.organization.domain.model.UserId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures the cost of saving an organization after a single membership change.
+ * The number of SQL statements must stay constant as the organization grows,
+ * proving that member sync is proportional to the change and not to the org size.
+ */
+@Slf4j
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({
+    JpaOrganizationRepository.class,
+    JdbcOrganizationMemberWriter.class,
+    OrganizationPersistenceMapper.class,
+    UserPersistenceMapper.class,
+    JacksonAutoConfiguration.class,
+    SimpleMeterRegistry.class
+})
+@DisplayName("Organization member sync cost")
+class JpaOrganizationRepositoryMemberSyncTest {
+
+    /**
+     * Select of the aggregate with its membership rows, the organization row update
+     * and the single membership insert, delete or update.
+     */
+    private static final long MAX_STATEMENTS_PER_CHANGE = 3;
+
+    @Autowired
+    private JpaOrganizationRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ParameterizedTest(name = "{0} existing members")
+    @ValueSource(ints = {10, 100, 1_000, 5_000})
+    @DisplayName("Adding one member costs the same regardless of organization size")
+    void addingOneMemberIsIndependentOfOrganizationSize(int memberCount) {
+        // Given
+        var organizationId = persistOrganizationWithMembers(memberCount);
+        var newUser = persistUser();
+        var organization = loadDetached(organizationId);
+        organization.addUser(UserId.from(newUser.getId().toString()), Role.MEMBER);
+
+        // When
+        long elapsedNanos = measureSave(organization);
+
+        // Then
+        log.info("add member: members={} statements={} elapsedMicros={}",
+            memberCount, statistics.getPrepareStatementCount(), elapsedNanos / 1_000);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS_PER_CHANGE);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+        assertThat(statistics.getEntityDeleteCount()).isZero();
+        assertThat(statistics.getEntityStatistics(UserEntity.class.getName()).getLoadCount()).isZero();
+    }
+
+    @ParameterizedTest(name = "{0} existing members")
+    @ValueSource(ints = {10, 100, 1_000, 5_000})
+    @DisplayName("Removing one member costs the same regardless of organization size")
+    void removingOneMemberIsIndependentOfOrganizationSize(int memberCount) {
+        // Given
+        var organizationId = persistOrganizationWithMembers(memberCount);
+        var organization = loadDetached(organizationId);
+        var memberToRemove = organization.getMembers().stream()
+            .filter(member -> member.getRole() != Role.OWNER)
+            .findFirst()
+            .orElseThrow();
+        organization.removeUser(memberToRemove.getUserId());
+
+        // When
+        long elapsedNanos = measureSave(organization);
+
+        // Then
+        log.info("remove member: members={} statements={} elapsedMicros={}",
+            memberCount, statistics.getPrepareStatementCount(), elapsedNanos / 1_000);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS_PER_CHANGE);
+        assertThat(statistics.getEntityInsertCount()).isZero();
+        assertThat(statistics.getEntityDeleteCount()).isEqualTo(1);
+    }
+
+    @ParameterizedTest(name = "{0} existing members")
+    @ValueSource(ints = {10, 1_000})
+    @DisplayName("Changing one role updates a single membership row")
+    void changingOneRoleUpdatesSingleRow(int memberCount) {
+        // Given
+        var organizationId = persistOrganizationWithMembers(memberCount);
+        var organization = loadDetached(organizationId);
+        var memberToPromote = organization.getMembers().stream()
+            .filter(member -> member.getRole() == Role.MEMBER)
+            .findFirst()
+            .orElseThrow();
+        organization.updateUserRole(memberToPromote.getUserId(), Role.ADMIN);
+
+        // When
+        measureSave(organization);
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS_PER_CHANGE);
+        assertThat(statistics.getEntityInsertCount()).isZero();
+        assertThat(statistics.getEntityDeleteCount()).isZero();
+        assertThat(statistics.getEntityUpdateCount()).isLessThanOrEqualTo(2);
+    }
+
+    private long measureSave(Organization organization) {
+        statistics.clear();
+        long start = System.nanoTime();
+        repository.save(organization);
+        entityManager.flush();
+        return System.nanoTime() - start;
+    }
+
+    private Organization loadDetached(UUID organizationId) {
+        entityManager.clear();
+        var organization = repository.findById(new OrganizationId(organizationId)).orElseThrow();
+        entityManager.clear();
+        return organization;
+    }
+
+    private UUID persistOrganizationWithMembers(int memberCount) {
+        var organization = entityManager.persist(OrganizationEntity.builder()
+            .name("Benchmark Org " + UUID.randomUUID())
+            .description("Member sync benchmark")
+            .settings(objectMapper.createObjectNode())
+            .build());
+
+        for (int i = 0; i < memberCount; i++) {
+            var user = persistUser();
+            organization.addUser(OrganizationUserEntity.builder()
+                .organization(organization)
+                .user(user)
+                .role(i == 0 ? Role.OWNER.name() : Role.MEMBER.name())
+                .joinedAt(LocalDateTime.now())
+                .build());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        return organization.getId();
+    }
+
+    private UserEntity persistUser() {
+        var suffix = UUID.randomUUID().toString();
+        return entityManager.persist(UserEntity.builder()
+            .email("user-" + suffix + "@example.com")
+            .firstName("Bench")
+            .lastName(suffix)
+            .status("ACTIVE")
+            .emailVerified(true)
+            .build());
+    }
+}
@@ -0,0 +1,177 @@
+package com.zamaz.mcp.organization.adapter.persistence.repository;
+
+import com.zamaz.mcp.organization.adapter.persistence.entity.ApplicationEntity;
+import com.zamaz.mcp.organization.adapter.persistence.entity.TeamEntity;
+import com.zamaz.mcp.organization.adapter.persistence.entity.TeamMemberEntity;
+import com.zamaz.mcp.organization.adapter.persistence.mapper.TeamPersistenceMapper;
+import com.zamaz.mcp.organization.domain.common.ApplicationId;
+import com.zamaz.mcp.organization.domain.common.TeamId;
+import com.zamaz.mcp.organization.domain.model.Team;
+import com.zamaz.mcp.organization.domain.model.TeamMember;
+import com.zamaz.mcp.organization.domain.model.TeamRole;
+import com.zamaz.mcp.organization.domain.model.UserId;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({JpaTeamRepository.class, TeamPersistenceMapper.class})
+@DisplayName("JPA team repository")
+class JpaTeamRepositoryTest {
+
+    private static final int MEMBERS_PER_TEAM = 3;
+
+    @Autowired
+    private JpaTeamRepository repository;
+
+    @Autowired
+    private SpringDataTeamRepository teamRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ParameterizedTest(name = "{0} teams")
+    @ValueSource(ints = {5, 500})
+    @DisplayName("Should load an application's teams and members in one query")
+    void shouldLoadApplicationTeamsInOneQuery(int teamCount) {
+        // Given
+        var organizationId = UUID.randomUUID();
+        var applicationId = UUID.randomUUID();
+        for (int i = 0; i < teamCount; i++) {
+            persistTeam(organizationId, applicationId, "Team " + i, true);
+        }
+        persistTeam(organizationId, applicationId, "Archived", false);
+        persistTeam(organizationId, UUID.randomUUID(), "Other application", true);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        // When
+        var teams = repository.findActiveByApplicationId(new ApplicationId(applicationId.toString()));
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(teams).hasSize(teamCount)
+            .allSatisfy(team -> assertThat(team.getMemberCount()).isEqualTo(MEMBERS_PER_TEAM));
+    }
+
+    @Test
+    @DisplayName("Should write only the membership rows that changed")
+    void shouldWriteOnlyChangedMembershipRows() {
+        // Given
+        var teamId = persistTeam(UUID.randomUUID(), null, "Core", true);
+        entityManager.flush();
+        entityManager.clear();
+        Team team = repository.findById(new TeamId(teamId.toString())).orElseThrow();
+        entityManager.clear();
+        var lead = team.getMembers().stream()
+            .filter(member -> member.getRole() == TeamRole.MEMBER)
+            .map(TeamMember::getUserId)
+            .findFirst()
+            .orElseThrow();
+        team.updateUserRole(lead, TeamRole.LEAD);
+        team.addUser(new UserId(UUID.randomUUID()), TeamRole.MEMBER);
+        statistics.clear();
+
+        // When
+        repository.save(team);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+        assertThat(statistics.getEntityDeleteCount()).isZero();
+        var reloaded = repository.findById(new TeamId(teamId.toString())).orElseThrow();
+        assertThat(reloaded.getMemberCount()).isEqualTo(MEMBERS_PER_TEAM + 1);
+        assertThat(reloaded.getUserRole(lead)).contains(TeamRole.LEAD);
+    }
+
+    @Test
+    @DisplayName("Should leave out teams of inactive applications when resolving a user's teams")
+    void shouldSkipTeamsOfInactiveApplications() {
+        // Given
+        var organizationId = UUID.randomUUID();
+        var userId = UUID.randomUUID();
+        var activeApplication = persistApplication(organizationId, true);
+        var inactiveApplication = persistApplication(organizationId, false);
+        var organizationTeam = persistTeamWithMember(organizationId, null, userId);
+        var applicationTeam = persistTeamWithMember(organizationId, activeApplication, userId);
+        persistTeamWithMember(organizationId, inactiveApplication, userId);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        var rows = teamRepository.findActiveTeamsByUserId(userId);
+
+        // Then
+        assertThat(rows).extracting(SpringDataTeamRepository.ApplicationTeamRow::getTeamId)
+            .containsExactlyInAnyOrder(organizationTeam, applicationTeam);
+        assertThat(rows).extracting(SpringDataTeamRepository.ApplicationTeamRow::getApplicationId)
+            .containsExactlyInAnyOrder(null, activeApplication);
+    }
+
+    private UUID persistApplication(UUID organizationId, boolean active) {
+        return entityManager.persist(ApplicationEntity.builder()
+            .name("Application " + UUID.randomUUID())
+            .organizationId(organizationId)
+            .active(active)
+            .build()).getId();
+    }
+
+    private UUID persistTeamWithMember(UUID organizationId, UUID applicationId, UUID userId) {
+        var teamId = persistTeam(organizationId, applicationId, "Team " + UUID.randomUUID(), true);
+        var team = entityManager.find(TeamEntity.class, teamId);
+        team.addMember(TeamMemberEntity.builder()
+            .team(team)
+            .userId(userId)
+            .role(TeamRole.MEMBER)
+            .joinedAt(LocalDateTime.now())
+            .build());
+        return teamId;
+    }
+
+    private UUID persistTeam(UUID organizationId, UUID applicationId, String name, boolean active) {
+        var team = entityManager.persist(TeamEntity.builder()
+            .name(name)
+            .organizationId(organizationId)
+            .applicationId(applicationId)
+            .active(active)
+            .build());
+
+        for (int i = 0; i < MEMBERS_PER_TEAM; i++) {
+            team.addMember(TeamMemberEntity.builder()
+                .team(team)
+                .userId(UUID.randomUUID())
+                .role(i == 0 ? TeamRole.ADMIN : TeamRole.MEMBER)
+                .joinedAt(LocalDateTime.now())
+                .build());
+        }
+        return team.getId();
+    }
+}
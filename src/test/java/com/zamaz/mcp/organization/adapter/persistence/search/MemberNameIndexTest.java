@@ -0,0 +1,161 @@
+package com.zamaz.mcp.organization.adapter.persistence.search;
+
+import com.zamaz.mcp.organization.adapter.persistence.entity.UserEntity;
+import com.zamaz.mcp.organization.adapter.persistence.repository.SpringDataOrganizationRepository;
+import com.zamaz.mcp.organization.adapter.persistence.repository.SpringDataUserRepository;
+import com.zamaz.mcp.organization.application.query.MemberMatch;
+import com.zamaz.mcp.organization.domain.model.OrganizationId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Member name index")
+class MemberNameIndexTest {
+
+    @Mock
+    private SpringDataOrganizationRepository organizationRepository;
+
+    @Mock
+    private SpringDataUserRepository userRepository;
+
+    private final UUID organizationId = UUID.randomUUID();
+    private MemberNameIndex nameIndex;
+
+    @BeforeEach
+    void setUp() {
+        nameIndex = new MemberNameIndex(organizationRepository, userRepository, true, 10_000, 3, Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("Should rank name prefixes, then word prefixes, then other matches")
+    void shouldRankMatches() {
+        // Given
+        givenMembers(row("Mark", "Adams"), row("Anna", "Marsh"), row("Lamar", "Jones"));
+
+        // When
+        List<MemberMatch> matches = search("mar", 10);
+
+        // Then
+        assertThat(matches).extracting(MemberMatch::getFullName)
+            .containsExactly("Mark Adams", "Anna Marsh", "Lamar Jones");
+    }
+
+    @Test
+    @DisplayName("Should match text longer than a trigram anywhere in the full name")
+    void shouldMatchLongText() {
+        // Given
+        givenMembers(row("Mark", "Adams"), row("Anna", "Marsh"), row("Lamar", "Jones"));
+
+        // When
+        List<MemberMatch> across = search("  K  ADA", 10);
+        List<MemberMatch> missing = search("marko", 10);
+
+        // Then
+        assertThat(across).extracting(MemberMatch::getFullName).containsExactly("Mark Adams");
+        assertThat(missing).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should load an organization once and honour the limit")
+    void shouldLoadOnceAndLimit() {
+        // Given
+        givenMembers(row("Ann", "Zed"), row("Anna", "Marsh"), row("Joanne", "Ng"));
+
+        // When
+        List<MemberMatch> first = search("an", 2);
+        List<MemberMatch> second = search("a", 1);
+
+        // Then
+        assertThat(first).extracting(MemberMatch::getFullName).containsExactly("Ann Zed", "Anna Marsh");
+        assertThat(second).extracting(MemberMatch::getFullName).containsExactly("Ann Zed");
+        verify(organizationRepository, times(1)).findMemberNames(eq(organizationId), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Should order names by code point, as the database's C collation does")
+    void shouldOrderNamesByCodePoint() {
+        // Given
+        givenMembers(row("a\uD83D\uDE00", "Ng"), row("a\uFF21", "Ng"));
+
+        // When
+        List<MemberMatch> matches = search("a", 10);
+
+        // Then
+        assertThat(matches).extracting(MemberMatch::getFullName)
+            .containsExactly("a\uFF21 Ng", "a\uD83D\uDE00 Ng");
+    }
+
+    @Test
+    @DisplayName("Should search large organizations in the database")
+    void shouldFallBackForLargeOrganizations() {
+        // Given
+        givenMembers(row("A", "One"), row("B", "Two"), row("C", "Three"), row("D", "Four"));
+        UserEntity user = mock(UserEntity.class);
+        when(user.getFirstName()).thenReturn("C");
+        when(user.getLastName()).thenReturn("Three");
+        when(userRepository.searchMembersByName(organizationId, "thr%", "% thr%", "%thr%", 5))
+            .thenReturn(List.of(user));
+
+        // When
+        List<MemberMatch> matches = search("Thr", 5);
+
+        // Then
+        assertThat(matches).extracting(MemberMatch::getFullName).containsExactly("C Three");
+    }
+
+    @Test
+    @DisplayName("Should reload an evicted organization")
+    void shouldReloadAfterEviction() {
+        // Given
+        givenMembers(row("Mark", "Adams"));
+        search("mark", 10);
+
+        // When
+        nameIndex.evictOrganization(organizationId);
+        search("mark", 10);
+
+        // Then
+        verify(organizationRepository, times(2)).findMemberNames(eq(organizationId), any(Pageable.class));
+    }
+
+    private List<MemberMatch> search(String text, int limit) {
+        return nameIndex.search(new OrganizationId(organizationId), text, limit);
+    }
+
+    private void givenMembers(SpringDataOrganizationRepository.MemberNameRow... rows) {
+        when(organizationRepository.findMemberNames(eq(organizationId), any(Pageable.class))).thenReturn(List.of(rows));
+    }
+
+    private static SpringDataOrganizationRepository.MemberNameRow row(String firstName, String lastName) {
+        UUID userId = UUID.randomUUID();
+        return new SpringDataOrganizationRepository.MemberNameRow() {
+            @Override
+            public UUID getUserId() {
+                return userId;
+            }
+
+            @Override
+            public String getFirstName() {
+                return firstName;
+            }
+
+            @Override
+            public String getLastName() {
+                return lastName;
+            }
+        };
+    }
+}
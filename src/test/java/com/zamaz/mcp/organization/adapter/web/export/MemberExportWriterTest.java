@@ -0,0 +1,92 @@
+package com.zamaz.mcp.organization.adapter.web.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zamaz.mcp.organization.application.query.OrganizationView;
+import com.zamaz.mcp.organization.exception.UnsupportedExportFormatException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Member export writers")
+class MemberExportWriterTest {
+
+    private static final UUID USER_ID = UUID.fromString("6f1c2a4e-0000-4000-8000-000000000001");
+    private static final LocalDateTime JOINED_AT = LocalDateTime.of(2024, 1, 2, 3, 4, 5);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should reject unknown formats as a bad request")
+    void shouldRejectUnknownFormat() {
+        assertThat(MemberExportFormat.fromString("CSV")).isEqualTo(MemberExportFormat.CSV);
+        assertThatThrownBy(() -> MemberExportFormat.fromString("xlsx"))
+            .isInstanceOf(UnsupportedExportFormatException.class)
+            .hasMessage("Unsupported export format: xlsx");
+        assertThat(UnsupportedExportFormatException.class.getAnnotation(ResponseStatus.class).value())
+            .isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    @DisplayName("Should write one JSON object per line")
+    void shouldWriteOneJsonObjectPerLine() throws Exception {
+        // Given
+        var output = new ByteArrayOutputStream();
+        var writer = MemberExportFormat.NDJSON.newWriter(output, objectMapper);
+
+        // When
+        writer.accept(member("ada@example.com", "Ada", "Lovelace"));
+        writer.accept(member("alan@example.com", "Alan", "Turing"));
+        writer.finish();
+
+        // Then
+        var lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("email").asText()).isEqualTo("ada@example.com");
+        assertThat(objectMapper.readTree(lines[1]).get("joinedAt").asText()).isEqualTo("2024-01-02T03:04:05");
+    }
+
+    @Test
+    @DisplayName("Should write CSV with header and escaped values")
+    void shouldWriteCsvWithHeaderAndEscapedValues() {
+        // Given
+        var output = new ByteArrayOutputStream();
+        var writer = MemberExportFormat.CSV.newWriter(output, objectMapper);
+
+        // When
+        writer.accept(member("grace@example.com", "Grace \"Amazing\"", "Hopper, RDML"));
+        writer.finish();
+
+        // Then
+        assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(
+            "user_id,email,first_name,last_name,role,joined_at\r\n" +
+            USER_ID + ",grace@example.com,\"Grace \"\"Amazing\"\"\",\"Hopper, RDML\",MEMBER,2024-01-02T03:04:05\r\n");
+    }
+
+    @Test
+    @DisplayName("Should neutralize spreadsheet formulas in CSV")
+    void shouldNeutralizeSpreadsheetFormulas() {
+        // Given
+        var output = new ByteArrayOutputStream();
+        var writer = MemberExportFormat.CSV.newWriter(output, objectMapper);
+
+        // When
+        writer.accept(member("evil@example.com", "=HYPERLINK(\"x\")", "User"));
+        writer.finish();
+
+        // Then
+        assertThat(output.toString(StandardCharsets.UTF_8)).contains(",\"'=HYPERLINK(\"\"x\"\")\",");
+    }
+
+    private static OrganizationView.MemberView member(String email, String firstName, String lastName) {
+        return new OrganizationView.MemberView(USER_ID, email, firstName, lastName, "MEMBER", JOINED_AT);
+    }
+}
@@ -0,0 +1,92 @@
+package com.zamaz.mcp.organization.application.query;
+
+import com.zamaz.mcp.organization.domain.common.ScopeType;
+import com.zamaz.mcp.organization.domain.common.SharingLevel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("User access")
+class UserAccessTest {
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID organizationId = UUID.randomUUID();
+    private final UUID applicationId = UUID.randomUUID();
+    private final UUID teamId = UUID.randomUUID();
+    private final UUID otherUserId = UUID.randomUUID();
+
+    private final UserAccess access = UserAccess.of(userId,
+        List.of(organizationId), List.of(applicationId), List.of(teamId));
+
+    @Test
+    @DisplayName("Should resolve each sharing level within the user's organization")
+    void shouldResolveSharingLevels() {
+        // Given
+        UUID otherApplication = UUID.randomUUID();
+        UUID otherTeam = UUID.randomUUID();
+
+        // When / Then
+        assertThat(access.canSee(check(null, null, otherUserId, ScopeType.ORGANIZATION, SharingLevel.ORGANIZATION)))
+            .isTrue();
+        assertThat(access.canSee(check(null, null, otherUserId, ScopeType.ORGANIZATION, SharingLevel.ME_ONLY)))
+            .isFalse();
+        assertThat(access.canSee(check(null, null, userId, ScopeType.ORGANIZATION, SharingLevel.ME_ONLY)))
+            .isTrue();
+        assertThat(access.canSee(check(applicationId, null, otherUserId, ScopeType.APPLICATION, SharingLevel.APPLICATION_ALL)))
+            .isTrue();
+        assertThat(access.canSee(check(otherApplication, null, otherUserId, ScopeType.APPLICATION, SharingLevel.APPLICATION_ALL)))
+            .isFalse();
+        assertThat(access.canSee(check(applicationId, teamId, otherUserId, ScopeType.BOTH, SharingLevel.APPLICATION_TEAM)))
+            .isTrue();
+        assertThat(access.canSee(check(applicationId, otherTeam, otherUserId, ScopeType.BOTH, SharingLevel.APPLICATION_TEAM)))
+            .isFalse();
+        assertThat(access.canSee(check(applicationId, null, otherUserId, ScopeType.APPLICATION, SharingLevel.APPLICATION_ME)))
+            .isFalse();
+    }
+
+    @Test
+    @DisplayName("Should hide resources with a sharing level incompatible with their scope")
+    void shouldHideIncompatibleSharingLevel() {
+        // When / Then
+        assertThat(access.canSee(check(null, null, userId, ScopeType.ORGANIZATION, SharingLevel.APPLICATION_ALL)))
+            .isFalse();
+        assertThat(access.canSee(check(applicationId, null, userId, ScopeType.APPLICATION, SharingLevel.ORGANIZATION)))
+            .isFalse();
+    }
+
+    @Test
+    @DisplayName("Should hide resources of other organizations, even from their owner")
+    void shouldConfineToOrganization() {
+        // Given
+        UUID otherOrganization = UUID.randomUUID();
+        var resource = new VisibilityCheck(otherOrganization, null, null, userId,
+            ScopeType.ORGANIZATION, SharingLevel.ORGANIZATION);
+
+        // When / Then
+        assertThat(access.canSee(resource)).isFalse();
+        assertThat(UserAccess.none(userId).canSee(check(null, null, userId, ScopeType.ORGANIZATION, SharingLevel.ME_ONLY)))
+            .isFalse();
+    }
+
+    @Test
+    @DisplayName("Should find every member of a large set")
+    void shouldFindMembersOfLargeSet() {
+        // Given
+        List<UUID> teams = IntStream.range(0, 500).mapToObj(i -> UUID.randomUUID()).toList();
+        var large = UserAccess.of(userId, List.of(organizationId), List.of(), teams);
+
+        // When / Then
+        assertThat(teams).allMatch(large::isTeamMember);
+        assertThat(large.isTeamMember(UUID.randomUUID())).isFalse();
+        assertThat(large.isTeamMember(null)).isFalse();
+    }
+
+    private VisibilityCheck check(UUID application, UUID team, UUID owner, ScopeType scope, SharingLevel sharingLevel) {
+        return new VisibilityCheck(organizationId, application, team, owner, scope, sharingLevel);
+    }
+}
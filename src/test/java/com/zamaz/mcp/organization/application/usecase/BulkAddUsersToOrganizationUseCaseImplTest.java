@@ -0,0 +1,250 @@
+package com.zamaz.mcp.organization.application.usecase;
+
+import com.zamaz.mcp.common.domain.exception.DomainRuleViolationException;
+import com.zamaz.mcp.organization.application.command.BulkAddUsersToOrganizationCommand;
+import com.zamaz.mcp.organization.application.exception.common.ResourceNotFoundException;
+import com.zamaz.mcp.organization.application.exception.common.UseCaseException;
+import com.zamaz.mcp.organization.application.port.outbound.NotificationService;
+import com.zamaz.mcp.organization.application.port.outbound.OrganizationRepository;
+import com.zamaz.mcp.organization.application.port.outbound.UserRepository;
+import com.zamaz.mcp.organization.application.service.TransactionManager;
+import com.zamaz.mcp.organization.application.service.ValidationService;
+import com.zamaz.mcp.organization.domain.common.Email;
+import com.zamaz.mcp.organization.domain.common.Name;
+import com.zamaz.mcp.organization.domain.event.UserAddedToOrganizationEvent;
+import com.zamaz.mcp.organization.domain.event.common.DomainEvent;
+import com.zamaz.mcp.organization.domain.event.common.DomainEventPublisher;
+import com.zamaz.mcp.organization.domain.model.Organization;
+import com.zamaz.mcp.organization.domain.model.OrganizationDescription;
+import com.zamaz.mcp.organization.domain.model.OrganizationId;
+import com.zamaz.mcp.organization.domain.model.OrganizationMember;
+import com.zamaz.mcp.organization.domain.model.OrganizationName;
+import com.zamaz.mcp.organization.domain.model.Role;
+import com.zamaz.mcp.organization.domain.model.User;
+import com.zamaz.mcp.organization.domain.model.UserId;
+import com.zamaz.mcp.organization.domain.service.OrganizationDomainService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Bulk add users to organization")
+class BulkAddUsersToOrganizationUseCaseImplTest {
+
+    @Mock
+    private OrganizationRepository organizationRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private OrganizationDomainService domainService;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionManager transactionManager;
+
+    @Mock
+    private ValidationService validationService;
+
+    @Captor
+    private ArgumentCaptor<Collection<OrganizationMember>> membersCaptor;
+
+    @Captor
+    private ArgumentCaptor<List<DomainEvent>> eventsCaptor;
+
+    @Captor
+    private ArgumentCaptor<Collection<User>> usersCaptor;
+
+    private BulkAddUsersToOrganizationUseCaseImpl useCase;
+    private Organization organization;
+    private UserId ownerId;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        useCase = new BulkAddUsersToOrganizationUseCaseImpl(organizationRepository, userRepository,
+            domainService, notificationService, eventPublisher, transactionManager, validationService);
+
+        ownerId = UserId.generate();
+        organization = new Organization(OrganizationId.generate(), new OrganizationName("Bulk Org"),
+            OrganizationDescription.empty(), ownerId);
+        organization.markEventsAsCommitted();
+
+        lenient().when(transactionManager.executeInTransaction(any(Supplier.class)))
+            .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+        lenient().when(organizationRepository.findById(organization.getId())).thenReturn(Optional.of(organization));
+    }
+
+    @Test
+    @DisplayName("Should write all new members in one batch and report existing members as skipped")
+    void shouldAddNewMembersAndReportSkipped() {
+        // Given
+        var existing = UserId.generate();
+        organization.addUser(existing, Role.MEMBER);
+        organization.markEventsAsCommitted();
+        var newUsers = users(3);
+        var requested = new ArrayList<UserId>(ids(newUsers));
+        requested.add(1, existing);
+        when(userRepository.findByIds(ids(newUsers))).thenReturn(newUsers);
+
+        // When
+        var result = useCase.execute(command(requested, Role.MEMBER));
+
+        // Then
+        assertThat(result.applied()).containsExactlyElementsOf(ids(newUsers));
+        assertThat(result.skipped()).containsExactly(existing);
+        verify(organizationRepository).addMembers(eq(organization.getId()), membersCaptor.capture());
+        assertThat(membersCaptor.getValue()).extracting(OrganizationMember::getUserId)
+            .containsExactlyElementsOf(ids(newUsers));
+        verify(organizationRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should publish one membership event per added user so indexes are invalidated")
+    void shouldPublishEventsForAddedUsers() {
+        // Given
+        var newUsers = users(2);
+        when(userRepository.findByIds(ids(newUsers))).thenReturn(newUsers);
+
+        // When
+        useCase.execute(command(ids(newUsers), Role.MEMBER));
+
+        // Then
+        verify(eventPublisher).publishAll(eventsCaptor.capture());
+        assertThat(eventsCaptor.getValue())
+            .hasSize(2)
+            .allMatch(UserAddedToOrganizationEvent.class::isInstance);
+        assertThat(organization.getUncommittedEvents()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should queue all notifications with one batched call")
+    void shouldBatchNotifications() {
+        // Given
+        var newUsers = users(3);
+        when(userRepository.findByIds(ids(newUsers))).thenReturn(newUsers);
+
+        // When
+        useCase.execute(command(ids(newUsers), Role.ADMIN));
+
+        // Then
+        verify(notificationService).sendUserAddedToOrganizationNotifications(
+            eq(organization), usersCaptor.capture(), eq(Role.ADMIN));
+        assertThat(usersCaptor.getValue()).containsExactlyElementsOf(newUsers);
+        verify(notificationService, never()).sendUserAddedToOrganizationNotification(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should write nothing when every user is already a member")
+    void shouldSkipWhenAllAreMembers() {
+        // When
+        var result = useCase.execute(command(List.of(ownerId), Role.MEMBER));
+
+        // Then
+        assertThat(result.applied()).isEmpty();
+        assertThat(result.skipped()).containsExactly(ownerId);
+        verifyNoInteractions(userRepository, domainService, notificationService, eventPublisher);
+        verify(organizationRepository, never()).addMembers(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject unknown users before changing the organization")
+    void shouldRejectUnknownUsers() {
+        // Given
+        var known = users(1);
+        var unknown = UserId.generate();
+        var requested = List.of(known.get(0).getId(), unknown);
+        when(userRepository.findByIds(requested)).thenReturn(known);
+
+        // When / Then
+        assertThatThrownBy(() -> useCase.execute(command(requested, Role.MEMBER)))
+            .isInstanceOf(ResourceNotFoundException.class)
+            .hasMessageContaining(unknown.toString());
+        assertThat(organization.getMemberCount()).isEqualTo(1);
+        verify(organizationRepository, never()).addMembers(any(), any());
+        verifyNoInteractions(eventPublisher, notificationService);
+    }
+
+    @Test
+    @DisplayName("Should reject the whole batch when any user is ineligible")
+    void shouldRejectIneligibleUsers() {
+        // Given
+        var newUsers = users(2);
+        when(userRepository.findByIds(ids(newUsers))).thenReturn(newUsers);
+        doThrow(new DomainRuleViolationException("user.organizationLimit", "limit"))
+            .when(domainService).validateUsersCanJoinOrganization(anyCollection(), eq(organization.getId()));
+
+        // When / Then
+        assertThatThrownBy(() -> useCase.execute(command(ids(newUsers), Role.MEMBER)))
+            .isInstanceOf(DomainRuleViolationException.class);
+        assertThat(organization.getMemberCount()).isEqualTo(1);
+        verify(organizationRepository, never()).addMembers(any(), any());
+        verifyNoInteractions(eventPublisher, notificationService);
+    }
+
+    @Test
+    @DisplayName("Should reject callers below admin")
+    void shouldRejectNonAdmins() {
+        // Given
+        var member = UserId.generate();
+        organization.addUser(member, Role.MEMBER);
+
+        // When / Then
+        assertThatThrownBy(() -> useCase.execute(new BulkAddUsersToOrganizationCommand(
+                organization.getId(), List.of(UserId.generate()), Role.MEMBER, member)))
+            .isInstanceOf(UseCaseException.class);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject assigning a role the caller cannot manage")
+    void shouldRejectUnmanageableRole() {
+        // Given
+        var admin = UserId.generate();
+        organization.addUser(admin, Role.ADMIN);
+
+        // When / Then
+        assertThatThrownBy(() -> useCase.execute(new BulkAddUsersToOrganizationCommand(
+                organization.getId(), List.of(UserId.generate()), Role.OWNER, admin)))
+            .isInstanceOf(UseCaseException.class);
+        verifyNoInteractions(userRepository);
+    }
+
+    private BulkAddUsersToOrganizationCommand command(List<UserId> userIds, Role role) {
+        return new BulkAddUsersToOrganizationCommand(organization.getId(), userIds, role, ownerId);
+    }
+
+    private static List<User> users(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> new User(UserId.generate(), new Email("bulk-" + i + "@example.com"),
+                new Name("Bulk"), new Name("User " + i)))
+            .toList();
+    }
+
+    private static List<UserId> ids(List<User> users) {
+        return users.stream().map(User::getId).toList();
+    }
+}
@@ -0,0 +1,207 @@
+package com.zamaz.mcp.organization.application.usecase;
+
+import com.zamaz.mcp.common.domain.exception.DomainRuleViolationException;
+import com.zamaz.mcp.organization.application.command.BulkRemoveUsersFromOrganizationCommand;
+import com.zamaz.mcp.organization.application.exception.common.UseCaseException;
+import com.zamaz.mcp.organization.application.port.outbound.NotificationService;
+import com.zamaz.mcp.organization.application.port.outbound.OrganizationRepository;
+import com.zamaz.mcp.organization.application.port.outbound.UserRepository;
+import com.zamaz.mcp.organization.application.service.TransactionManager;
+import com.zamaz.mcp.organization.application.service.ValidationService;
+import com.zamaz.mcp.organization.domain.common.Email;
+import com.zamaz.mcp.organization.domain.common.Name;
+import com.zamaz.mcp.organization.domain.event.UserRemovedFromOrganizationEvent;
+import com.zamaz.mcp.organization.domain.event.common.DomainEvent;
+import com.zamaz.mcp.organization.domain.event.common.DomainEventPublisher;
+import com.zamaz.mcp.organization.domain.model.Organization;
+import com.zamaz.mcp.organization.domain.model.OrganizationDescription;
+import com.zamaz.mcp.organization.domain.model.OrganizationId;
+import com.zamaz.mcp.organization.domain.model.OrganizationName;
+import com.zamaz.mcp.organization.domain.model.Role;
+import com.zamaz.mcp.organization.domain.model.User;
+import com.zamaz.mcp.organization.domain.model.UserId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Bulk remove users from organization")
+class BulkRemoveUsersFromOrganizationUseCaseImplTest {
+
+    @Mock
+    private OrganizationRepository organizationRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionManager transactionManager;
+
+    @Mock
+    private ValidationService validationService;
+
+    @Captor
+    private ArgumentCaptor<List<DomainEvent>> eventsCaptor;
+
+    private BulkRemoveUsersFromOrganizationUseCaseImpl useCase;
+    private Organization organization;
+    private UserId ownerId;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        useCase = new BulkRemoveUsersFromOrganizationUseCaseImpl(organizationRepository, userRepository,
+            notificationService, eventPublisher, transactionManager, validationService);
+
+        ownerId = UserId.generate();
+        organization = new Organization(OrganizationId.generate(), new OrganizationName("Bulk Org"),
+            OrganizationDescription.empty(), ownerId);
+        organization.markEventsAsCommitted();
+
+        lenient().when(transactionManager.executeInTransaction(any(Supplier.class)))
+            .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+        lenient().when(organizationRepository.findById(organization.getId())).thenReturn(Optional.of(organization));
+    }
+
+    @Test
+    @DisplayName("Should delete members in one batch, report non-members as skipped and batch notifications")
+    void shouldRemoveMembersAndReportSkipped() {
+        // Given
+        var members = givenMembers(3, Role.MEMBER);
+        var nonMember = UserId.generate();
+        var requested = List.of(ids(members).get(0), nonMember, ids(members).get(1), ids(members).get(2));
+        when(userRepository.findByIds(ids(members))).thenReturn(members);
+
+        // When
+        var result = useCase.execute(new BulkRemoveUsersFromOrganizationCommand(
+            organization.getId(), requested, ownerId));
+
+        // Then
+        assertThat(result.applied()).containsExactlyElementsOf(ids(members));
+        assertThat(result.skipped()).containsExactly(nonMember);
+        assertThat(organization.getMemberCount()).isEqualTo(1);
+        verify(organizationRepository).removeMembers(organization.getId(), ids(members));
+        verify(notificationService).sendUserRemovedFromOrganizationNotifications(organization, members);
+        verify(notificationService, never()).sendUserRemovedFromOrganizationNotification(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should publish one membership event per removed user so indexes are invalidated")
+    void shouldPublishEventsForRemovedUsers() {
+        // Given
+        var members = givenMembers(2, Role.MEMBER);
+        when(userRepository.findByIds(ids(members))).thenReturn(members);
+
+        // When
+        useCase.execute(new BulkRemoveUsersFromOrganizationCommand(organization.getId(), ids(members), ownerId));
+
+        // Then
+        verify(eventPublisher).publishAll(eventsCaptor.capture());
+        assertThat(eventsCaptor.getValue())
+            .hasSize(2)
+            .allMatch(UserRemovedFromOrganizationEvent.class::isInstance);
+    }
+
+    @Test
+    @DisplayName("Should write nothing when no requested user is a member")
+    void shouldSkipWhenNoneAreMembers() {
+        // Given
+        var nonMember = UserId.generate();
+
+        // When
+        var result = useCase.execute(new BulkRemoveUsersFromOrganizationCommand(
+            organization.getId(), List.of(nonMember), ownerId));
+
+        // Then
+        assertThat(result.applied()).isEmpty();
+        assertThat(result.skipped()).containsExactly(nonMember);
+        verifyNoInteractions(userRepository, notificationService, eventPublisher);
+        verify(organizationRepository, never()).removeMembers(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject the whole batch when one user outranks the caller")
+    void shouldRejectUnmanageableMember() {
+        // Given
+        var admin = UserId.generate();
+        var members = givenMembers(2, Role.MEMBER);
+        organization.addUser(admin, Role.ADMIN);
+        var otherAdmin = UserId.generate();
+        organization.addUser(otherAdmin, Role.ADMIN);
+
+        // When / Then
+        assertThatThrownBy(() -> useCase.execute(new BulkRemoveUsersFromOrganizationCommand(
+                organization.getId(), List.of(ids(members).get(0), otherAdmin, ids(members).get(1)), admin)))
+            .isInstanceOf(UseCaseException.class)
+            .hasMessageContaining(otherAdmin.toString());
+        assertThat(organization.getMemberCount()).isEqualTo(5);
+        verify(organizationRepository, never()).removeMembers(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should let a member remove themselves")
+    void shouldAllowSelfRemoval() {
+        // Given
+        var member = givenMembers(1, Role.MEMBER).get(0);
+        when(userRepository.findByIds(List.of(member.getId()))).thenReturn(List.of(member));
+
+        // When
+        var result = useCase.execute(new BulkRemoveUsersFromOrganizationCommand(
+            organization.getId(), List.of(member.getId()), member.getId()));
+
+        // Then
+        assertThat(result.applied()).containsExactly(member.getId());
+        assertThat(organization.isMember(member.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should not remove the last owner")
+    void shouldKeepLastOwner() {
+        // Given
+        var members = givenMembers(1, Role.MEMBER);
+        when(userRepository.findByIds(anyList())).thenReturn(members);
+
+        // When / Then
+        assertThatThrownBy(() -> useCase.execute(new BulkRemoveUsersFromOrganizationCommand(
+                organization.getId(), List.of(ids(members).get(0), ownerId), ownerId)))
+            .isInstanceOf(DomainRuleViolationException.class);
+        assertThat(organization.getMemberCount()).isEqualTo(2);
+        verify(organizationRepository, never()).removeMembers(any(), any());
+        verifyNoInteractions(eventPublisher, notificationService);
+    }
+
+    private List<User> givenMembers(int count, Role role) {
+        var users = IntStream.range(0, count)
+            .mapToObj(i -> new User(UserId.generate(), new Email("member-" + i + "@example.com"),
+                new Name("Bulk"), new Name("Member " + i)))
+            .toList();
+        organization.addUsers(ids(users), role);
+        organization.markEventsAsCommitted();
+        return users;
+    }
+
+    private static List<UserId> ids(List<User> users) {
+        return users.stream().map(User::getId).toList();
+    }
+}
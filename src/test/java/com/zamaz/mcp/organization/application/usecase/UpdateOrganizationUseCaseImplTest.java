@@ -0,0 +1,101 @@
+package com.zamaz.mcp.organization.application.usecase;
+
+import com.zamaz.mcp.organization.application.command.UpdateOrganizationCommand;
+import com.zamaz.mcp.organization.application.exception.common.UseCaseException;
+import com.zamaz.mcp.organization.application.port.outbound.OrganizationRepository;
+import com.zamaz.mcp.organization.application.service.TransactionManager;
+import com.zamaz.mcp.organization.application.service.ValidationService;
+import com.zamaz.mcp.organization.domain.event.common.DomainEventPublisher;
+import com.zamaz.mcp.organization.domain.model.Organization;
+import com.zamaz.mcp.organization.domain.model.OrganizationDescription;
+import com.zamaz.mcp.organization.domain.model.OrganizationId;
+import com.zamaz.mcp.organization.domain.model.OrganizationName;
+import com.zamaz.mcp.organization.domain.model.UserId;
+import com.zamaz.mcp.organization.domain.service.OrganizationDomainService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Update organization")
+class UpdateOrganizationUseCaseImplTest {
+
+    @Mock
+    private OrganizationRepository organizationRepository;
+
+    @Mock
+    private OrganizationDomainService domainService;
+
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionManager transactionManager;
+
+    @Mock
+    private ValidationService validationService;
+
+    private UpdateOrganizationUseCaseImpl useCase;
+    private Organization organization;
+    private UserId ownerId;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new UpdateOrganizationUseCaseImpl(organizationRepository, domainService, eventPublisher,
+            transactionManager, validationService);
+
+        ownerId = UserId.generate();
+        organization = new Organization(OrganizationId.generate(), new OrganizationName("Acme Labs"),
+            OrganizationDescription.empty(), ownerId);
+        organization.markEventsAsCommitted();
+
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(transactionManager).executeInTransaction(any(Runnable.class));
+        when(organizationRepository.findById(organization.getId())).thenReturn(Optional.of(organization));
+    }
+
+    @ParameterizedTest(name = "\"{0}\"")
+    @ValueSource(strings = {"ACME LABS", "acme  labs", "Acme Labs"})
+    @DisplayName("Should rename to another case or spacing of the current name without a name check")
+    void shouldAllowRespellingOwnName(String newName) {
+        // When
+        useCase.execute(command(newName));
+
+        // Then
+        verify(domainService, never()).isOrganizationNameAvailable(any());
+        assertThat(organization.getName().value()).isEqualTo(newName);
+        verify(organizationRepository).save(organization);
+    }
+
+    @Test
+    @DisplayName("Should reject a rename to a name another organization holds")
+    void shouldRejectTakenName() {
+        // Given
+        when(domainService.isOrganizationNameAvailable(new OrganizationName("Globex"))).thenReturn(false);
+
+        // When / Then
+        assertThatThrownBy(() -> useCase.execute(command("Globex")))
+            .isInstanceOf(UseCaseException.class);
+        verify(organizationRepository, never()).save(any());
+    }
+
+    private UpdateOrganizationCommand command(String name) {
+        return new UpdateOrganizationCommand.Builder(organization.getId().value().toString(), ownerId.value().toString())
+            .withName(name)
+            .build();
+    }
+}
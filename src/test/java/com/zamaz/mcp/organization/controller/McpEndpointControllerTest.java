@@ -0,0 +1,158 @@
+package com.zamaz.mcp.organization.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zamaz.mcp.organization.dto.McpToolResults.CallResult;
+import com.zamaz.mcp.organization.dto.OrganizationDto;
+import com.zamaz.mcp.organization.exception.DependencyUnavailableException;
+import com.zamaz.mcp.organization.infrastructure.error.McpErrorHandler;
+import com.zamaz.mcp.organization.infrastructure.execution.McpToolExecutor;
+import com.zamaz.mcp.organization.infrastructure.resilience.McpRateLimitEnforcer;
+import com.zamaz.mcp.organization.infrastructure.resilience.RateLimiter;
+import com.zamaz.mcp.organization.infrastructure.security.McpSecurityService;
+import com.zamaz.mcp.organization.service.OrganizationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MCP call-tool endpoint")
+class McpEndpointControllerTest {
+
+    private static final String NAME_CHECK = """
+        {"name": "check_organization_name", "arguments": {"name": "Acme"}}
+        """;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Authentication authentication = new UsernamePasswordAuthenticationToken("tester", null,
+        List.of(new SimpleGrantedAuthority("ROLE_USER")));
+
+    @Mock
+    private OrganizationService organizationService;
+
+    @Mock
+    private RateLimiter rateLimiter;
+
+    private McpToolExecutor toolExecutor;
+
+    @AfterEach
+    void tearDown() {
+        toolExecutor.destroy();
+    }
+
+    @Test
+    @DisplayName("Should answer 200 with the tool's result")
+    void shouldAnswerOkOnSuccess() {
+        // Given
+        var controller = controller(Duration.ofSeconds(5), false);
+        when(organizationService.checkOrganizationName("Acme"))
+            .thenReturn(OrganizationDto.NameAvailability.builder().name("Acme").available(true).build());
+
+        // When
+        var response = call(controller, NAME_CHECK);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(((CallResult) response.getBody()).error()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should answer 400 for an unknown tool or invalid arguments")
+    void shouldAnswerBadRequestForInvalidArguments() {
+        // Given
+        var controller = controller(Duration.ofSeconds(5), false);
+
+        // When
+        var unknownTool = call(controller, """
+            {"name": "no_such_tool", "arguments": {}}
+            """);
+        var invalidArguments = call(controller, """
+            {"name": "check_organization_name", "arguments": {"name": ""}}
+            """);
+
+        // Then
+        assertThat(unknownTool.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(((CallResult) unknownTool.getBody()).error().getErrorCode()).isEqualTo("InvalidToolArgumentsException");
+        assertThat(invalidArguments.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        verifyNoInteractions(organizationService);
+    }
+
+    @Test
+    @DisplayName("Should answer 429 when the caller is rate limited")
+    void shouldAnswerTooManyRequestsWhenRateLimited() {
+        // Given
+        var controller = controller(Duration.ofSeconds(5), true);
+        when(rateLimiter.tryConsume(anyString(), any())).thenReturn(false);
+
+        // When
+        var response = call(controller, NAME_CHECK);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        verifyNoInteractions(organizationService);
+    }
+
+    @Test
+    @DisplayName("Should answer 503 when a dependency's circuit breaker or bulkhead rejects the call")
+    void shouldAnswerServiceUnavailableWhenDependencyRejects() {
+        // Given
+        var controller = controller(Duration.ofSeconds(5), false);
+        when(organizationService.checkOrganizationName("Acme"))
+            .thenThrow(new DependencyUnavailableException("Circuit breaker open"));
+
+        // When
+        var response = call(controller, NAME_CHECK);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(((CallResult) response.getBody()).error().getErrorCode()).isEqualTo("DependencyUnavailableException");
+    }
+
+    @Test
+    @DisplayName("Should answer 504 when the tool call times out")
+    void shouldAnswerGatewayTimeoutOnTimeout() {
+        // Given
+        var controller = controller(Duration.ofMillis(50), false);
+        when(organizationService.checkOrganizationName("Acme")).thenAnswer(invocation -> {
+            Thread.sleep(1000);
+            return null;
+        });
+
+        // When
+        var response = call(controller, NAME_CHECK);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.GATEWAY_TIMEOUT);
+        assertThat(((CallResult) response.getBody()).error().getErrorCode()).isEqualTo("ToolCallTimeoutException");
+    }
+
+    private McpEndpointController controller(Duration callTimeout, boolean rateLimited) {
+        toolExecutor = new McpToolExecutor(false, 8, 16, callTimeout);
+        var errorHandler = new McpErrorHandler();
+        var toolRegistry = new McpToolRegistry(objectMapper, Validation.buildDefaultValidatorFactory().getValidator());
+        var toolsController = new McpToolsController(organizationService, new McpSecurityService(), errorHandler,
+            new McpRateLimitEnforcer(rateLimiter, new SimpleMeterRegistry(), rateLimited), toolExecutor, toolRegistry);
+        return new McpEndpointController(objectMapper, toolsController, toolRegistry, errorHandler);
+    }
+
+    private ResponseEntity<Object> call(McpEndpointController controller, String json) {
+        return controller.callTool(json.getBytes(StandardCharsets.UTF_8), authentication).block(Duration.ofSeconds(5));
+    }
+}
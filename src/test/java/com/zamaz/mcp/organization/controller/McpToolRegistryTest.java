@@ -0,0 +1,129 @@
+package com.zamaz.mcp.organization.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zamaz.mcp.organization.dto.McpToolArguments;
+import com.zamaz.mcp.organization.exception.InvalidToolArgumentsException;
+import com.zamaz.mcp.organization.infrastructure.resilience.McpRateLimit;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MCP tool registry")
+class McpToolRegistryTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Test
+    @DisplayName("Should advertise every annotated tool with a generated schema")
+    void shouldAdvertiseAnnotatedToolsWithSchema() throws Exception {
+        // Given
+        var registry = new McpToolRegistry(SampleTools.class, objectMapper, validator);
+
+        // When
+        JsonNode catalog = objectMapper.readTree(registry.getCatalog());
+
+        // Then
+        assertThat(catalog.get("tools")).hasSize(2);
+        JsonNode create = catalog.get("tools").get(0);
+        assertThat(create.get("name").asText()).isEqualTo("create_organization");
+        assertThat(create.at("/parameters/properties/name/type").asText()).isEqualTo("string");
+        assertThat(create.at("/parameters/properties/name/maxLength").asInt()).isEqualTo(255);
+        assertThat(create.at("/parameters/required/0").asText()).isEqualTo("name");
+        JsonNode list = catalog.get("tools").get(1);
+        assertThat(list.at("/parameters/properties/limit/type").asText()).isEqualTo("integer");
+        assertThat(list.at("/parameters/properties/limit/maximum").asInt()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("Should derive a stable strong ETag from the catalog")
+    void shouldDeriveStableStrongEtag() {
+        // When
+        var first = new McpToolRegistry(SampleTools.class, objectMapper, validator);
+        var second = new McpToolRegistry(SampleTools.class, objectMapper, validator);
+
+        // Then
+        assertThat(first.getEtag()).isEqualTo(second.getEtag()).startsWith("\"").doesNotStartWith("W/");
+    }
+
+    @Test
+    @DisplayName("Should dispatch to the tool method and flag read-only tools")
+    void shouldDispatchAndFlagReadOnlyTools() {
+        // Given
+        var registry = new McpToolRegistry(SampleTools.class, objectMapper, validator);
+
+        // When
+        var tool = registry.find("list_organizations").orElseThrow();
+        var response = tool.invoke(new SampleTools(), new McpToolArguments.ListOrganizations(null, null), null);
+
+        // Then
+        assertThat(tool.readOnly()).isTrue();
+        assertThat(registry.find("create_organization").orElseThrow().readOnly()).isFalse();
+        assertThat(response.getBody()).isEqualTo(Map.of("tool", "list"));
+    }
+
+    @Test
+    @DisplayName("Should bind arguments from the token stream into the tool's record")
+    void shouldBindArgumentsIntoRecord() throws Exception {
+        // Given
+        var registry = new McpToolRegistry(SampleTools.class, objectMapper, validator);
+        var tool = registry.find("list_organizations").orElseThrow();
+
+        // When
+        Record arguments;
+        try (var parser = objectMapper.createParser("{\"cursor\":\"abc\",\"limit\":25,\"extra\":true}")) {
+            parser.nextToken();
+            arguments = registry.decode(tool, parser);
+        }
+
+        // Then
+        assertThat(arguments).isEqualTo(new McpToolArguments.ListOrganizations("abc", 25));
+        assertThat(registry.decode(tool, (JsonNode) null)).isEqualTo(new McpToolArguments.ListOrganizations(null, null));
+    }
+
+    @Test
+    @DisplayName("Should reject mistyped and constraint-violating arguments")
+    void shouldRejectInvalidArguments() {
+        // Given
+        var registry = new McpToolRegistry(SampleTools.class, objectMapper, validator);
+        var list = registry.find("list_organizations").orElseThrow();
+        var create = registry.find("create_organization").orElseThrow();
+
+        // When & Then
+        assertThatThrownBy(() -> registry.decode(list, objectMapper.readTree("{\"limit\":\"many\"}")))
+            .isInstanceOf(InvalidToolArgumentsException.class)
+            .hasMessageStartingWith("Invalid arguments for tool list_organizations");
+        assertThatThrownBy(() -> registry.decode(list, objectMapper.readTree("{\"limit\":500}")))
+            .isInstanceOf(InvalidToolArgumentsException.class)
+            .hasMessageContaining("limit");
+        assertThatThrownBy(() -> registry.decode(create, objectMapper.createObjectNode()))
+            .isInstanceOf(InvalidToolArgumentsException.class)
+            .hasMessageContaining("name");
+    }
+
+    public static class SampleTools {
+
+        @McpTool(name = "list_organizations", description = "List", arguments = McpToolArguments.ListOrganizations.class)
+        @McpRateLimit(operationType = McpRateLimit.OperationType.READ)
+        public ResponseEntity<Map<String, Object>> list(McpToolArguments.ListOrganizations params,
+                                                        Authentication authentication) {
+            return ResponseEntity.ok(Map.of("tool", "list"));
+        }
+
+        @McpTool(name = "create_organization", description = "Create", arguments = McpToolArguments.CreateOrganization.class)
+        @McpRateLimit(operationType = McpRateLimit.OperationType.WRITE)
+        public ResponseEntity<Map<String, Object>> create(McpToolArguments.CreateOrganization params,
+                                                          Authentication authentication) {
+            return ResponseEntity.ok(Map.of("tool", "create"));
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.zamaz.mcp.organization.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zamaz.mcp.organization.dto.McpToolResults;
+import com.zamaz.mcp.organization.dto.McpToolResults.BatchItem;
+import com.zamaz.mcp.organization.dto.OrganizationDto;
+import com.zamaz.mcp.organization.infrastructure.error.McpErrorHandler;
+import com.zamaz.mcp.organization.infrastructure.execution.McpToolExecutor;
+import com.zamaz.mcp.organization.infrastructure.resilience.LocalRateLimiter;
+import com.zamaz.mcp.organization.infrastructure.resilience.McpRateLimitEnforcer;
+import com.zamaz.mcp.organization.infrastructure.security.McpSecurityService;
+import com.zamaz.mcp.organization.service.OrganizationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MCP batch tool calls")
+class McpToolsControllerBatchTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private OrganizationService organizationService;
+
+    private McpToolExecutor toolExecutor;
+    private McpToolsController controller;
+    private Authentication authentication;
+    private List<String> invocations;
+
+    @BeforeEach
+    void setUp() {
+        toolExecutor = new McpToolExecutor(false, 8, 16, Duration.ofSeconds(5));
+        controller = new McpToolsController(organizationService, new McpSecurityService(), new McpErrorHandler(),
+            new McpRateLimitEnforcer(new LocalRateLimiter(1), new SimpleMeterRegistry(), false), toolExecutor,
+            new McpToolRegistry(objectMapper, Validation.buildDefaultValidatorFactory().getValidator()));
+        authentication = new UsernamePasswordAuthenticationToken("tester", null,
+            List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        invocations = Collections.synchronizedList(new ArrayList<>());
+    }
+
+    @AfterEach
+    void tearDown() {
+        toolExecutor.destroy();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should execute identical reads once and give every caller the shared result")
+    void shouldDeduplicateIdenticalReads() throws Exception {
+        // Given
+        givenNameCheck();
+
+        // When
+        var items = callTools("""
+            [{"id": 1, "name": "check_organization_name", "arguments": {"name": "Acme"}},
+             {"id": 2, "name": "check_organization_name", "arguments": {"name": "Acme"}},
+             {"id": 3, "name": "check_organization_name", "arguments": {"name": "Other"}}]
+            """);
+
+        // Then
+        verify(organizationService, times(1)).checkOrganizationName("Acme");
+        verify(organizationService, times(1)).checkOrganizationName("Other");
+        assertThat(items).extracting(item -> item.id().asInt()).containsExactly(1, 2, 3);
+        assertThat(items.get(0).result()).isSameAs(items.get(1).result());
+        assertThat(availability(items.get(2)).getName()).isEqualTo("Other");
+    }
+
+    @Test
+    @DisplayName("Should run a write after every earlier call and before every later one")
+    void shouldOrderCallsAroundWrites() throws Exception {
+        // Given
+        givenNameCheck(50);
+        when(organizationService.updateOrganization(any(), any())).thenAnswer(invocation -> {
+            invocations.add("update");
+            return OrganizationDto.builder().name("Renamed").build();
+        });
+
+        // When
+        var items = callTools("""
+            [{"id": "a", "name": "check_organization_name", "arguments": {"name": "Acme"}},
+             {"id": "b", "name": "update_organization", "arguments": {"name": "Renamed"}},
+             {"id": "c", "name": "check_organization_name", "arguments": {"name": "Acme"}}]
+            """);
+
+        // Then
+        assertThat(invocations).containsExactly("check:Acme", "update", "check:Acme");
+        verify(organizationService, times(2)).checkOrganizationName("Acme");
+        assertThat(items).extracting(item -> item.id().asText()).containsExactly("a", "b", "c");
+        assertThat(items).allMatch(item -> item.error() == null);
+    }
+
+    @Test
+    @DisplayName("Should run every call, including those after a write, with the caller's security context")
+    void shouldPropagateSecurityContextPastWrites() throws Exception {
+        // Given
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        List<Authentication> seen = Collections.synchronizedList(new ArrayList<>());
+        when(organizationService.checkOrganizationName(anyString())).thenAnswer(invocation -> {
+            seen.add(SecurityContextHolder.getContext().getAuthentication());
+            return OrganizationDto.NameAvailability.builder().name(invocation.getArgument(0)).available(true).build();
+        });
+        when(organizationService.updateOrganization(any(), any())).thenAnswer(invocation -> {
+            seen.add(SecurityContextHolder.getContext().getAuthentication());
+            return OrganizationDto.builder().name("Renamed").build();
+        });
+
+        // When
+        var items = callTools("""
+            [{"id": 1, "name": "check_organization_name", "arguments": {"name": "Acme"}},
+             {"id": 2, "name": "update_organization", "arguments": {"name": "Renamed"}},
+             {"id": 3, "name": "check_organization_name", "arguments": {"name": "Acme"}},
+             {"id": 4, "name": "update_organization", "arguments": {"name": "Again"}}]
+            """);
+
+        // Then
+        assertThat(items).allMatch(item -> item.error() == null);
+        assertThat(seen).hasSize(4).containsOnly(authentication);
+    }
+
+    @Test
+    @DisplayName("Should report a failing call through the error handler without affecting the others")
+    void shouldIsolateFailures() throws Exception {
+        // Given
+        givenNameCheck();
+
+        // When
+        var items = callTools("""
+            [{"id": 1, "name": "no_such_tool"},
+             {"id": 2, "arguments": {}},
+             {"id": 3, "name": "check_organization_name", "arguments": {"name": ""}},
+             {"id": 4, "name": "check_organization_name", "arguments": {"name": "Acme"}}]
+            """);
+
+        // Then
+        assertThat(items).extracting(item -> item.id().asInt()).containsExactly(1, 2, 3, 4);
+        assertThat(items.get(0).error().getErrorCode()).isEqualTo("InvalidToolArgumentsException");
+        assertThat(items.get(0).error().getMessage()).isEqualTo("no_such_tool");
+        assertThat(items.get(0).error().getDetails()).contains("Unknown tool");
+        assertThat(items.get(1).error().getDetails()).contains("Missing tool name");
+        assertThat(items.get(2).error()).isNotNull();
+        assertThat(items.get(2).error().getMessage()).isEqualTo("check_organization_name");
+        assertThat(items.get(3).error()).isNull();
+        assertThat(availability(items.get(3)).getName()).isEqualTo("Acme");
+    }
+
+    @Test
+    @DisplayName("Should answer in request order even when earlier calls finish last")
+    void shouldKeepRequestOrder() throws Exception {
+        // Given
+        when(organizationService.checkOrganizationName(anyString())).thenAnswer(invocation -> {
+            String name = invocation.getArgument(0);
+            if (name.equals("Slow")) {
+                Thread.sleep(100);
+            }
+            invocations.add("check:" + name);
+            return OrganizationDto.NameAvailability.builder().name(name).available(true).build();
+        });
+
+        // When
+        var items = callTools("""
+            [{"id": 1, "name": "check_organization_name", "arguments": {"name": "Slow"}},
+             {"id": 2, "name": "check_organization_name", "arguments": {"name": "Fast"}}]
+            """);
+
+        // Then
+        assertThat(invocations).containsExactly("check:Fast", "check:Slow");
+        assertThat(items).extracting(item -> availability(item).getName()).containsExactly("Slow", "Fast");
+    }
+
+    private void givenNameCheck() {
+        givenNameCheck(0);
+    }
+
+    private void givenNameCheck(long delayMillis) {
+        when(organizationService.checkOrganizationName(anyString())).thenAnswer(invocation -> {
+            String name = invocation.getArgument(0);
+            Thread.sleep(delayMillis);
+            invocations.add("check:" + name);
+            return OrganizationDto.NameAvailability.builder().name(name).available(true).build();
+        });
+    }
+
+    private List<BatchItem> callTools(String json) throws Exception {
+        JsonNode calls = objectMapper.readTree(json);
+        return controller.callTools(calls, authentication).block(Duration.ofSeconds(5));
+    }
+
+    private static OrganizationDto.NameAvailability availability(BatchItem item) {
+        return ((McpToolResults.NameAvailabilityResult) item.result()).availability();
+    }
+}
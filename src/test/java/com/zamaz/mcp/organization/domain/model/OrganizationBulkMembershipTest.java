@@ -0,0 +1,198 @@
+package com.zamaz.mcp.organization.domain.model;
+
+import com.zamaz.mcp.common.domain.exception.DomainRuleViolationException;
+import com.zamaz.mcp.organization.domain.event.UserAddedToOrganizationEvent;
+import com.zamaz.mcp.organization.domain.event.UserRemovedFromOrganizationEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Organization bulk membership")
+class OrganizationBulkMembershipTest {
+
+    private UserId ownerId;
+    private Organization organization;
+
+    @BeforeEach
+    void setUp() {
+        ownerId = UserId.generate();
+        organization = new Organization(
+            OrganizationId.generate(),
+            new OrganizationName("Bulk Org"),
+            OrganizationDescription.empty(),
+            ownerId
+        );
+        organization.markEventsAsCommitted();
+    }
+
+    @Nested
+    @DisplayName("Adding users")
+    class AddUsers {
+
+        @Test
+        @DisplayName("Should add every user in order and raise one event per user")
+        void shouldAddAllUsers() {
+            // Given
+            var userIds = newUserIds(3);
+
+            // When
+            var added = organization.addUsers(userIds, Role.MEMBER);
+
+            // Then
+            assertThat(added).extracting(OrganizationMember::getUserId).containsExactlyElementsOf(userIds);
+            assertThat(added).extracting(OrganizationMember::getRole).containsOnly(Role.MEMBER);
+            assertThat(organization.getMemberCount()).isEqualTo(4);
+            assertThat(organization.getUncommittedEvents())
+                .hasSize(3)
+                .allMatch(UserAddedToOrganizationEvent.class::isInstance);
+        }
+
+        @Test
+        @DisplayName("Should reject duplicate user IDs without adding anyone")
+        void shouldRejectDuplicates() {
+            // Given
+            var userId = UserId.generate();
+
+            // When / Then
+            assertThatThrownBy(() -> organization.addUsers(List.of(userId, UserId.generate(), userId), Role.MEMBER))
+                .isInstanceOf(DomainRuleViolationException.class)
+                .hasMessageContaining("more than once");
+            assertUnchanged();
+        }
+
+        @Test
+        @DisplayName("Should reject existing members without adding anyone")
+        void shouldRejectExistingMembers() {
+            // When / Then
+            assertThatThrownBy(() -> organization.addUsers(List.of(UserId.generate(), ownerId), Role.MEMBER))
+                .isInstanceOf(DomainRuleViolationException.class)
+                .hasMessageContaining("already a member");
+            assertUnchanged();
+        }
+
+        @Test
+        @DisplayName("Should reject a batch that would exceed the member limit without adding anyone")
+        void shouldEnforceMemberLimit() {
+            // Given
+            organization.updateSettings(organization.getSettings().with(OrganizationSettings.MAX_MEMBERS, 3));
+
+            // When / Then
+            assertThatThrownBy(() -> organization.addUsers(newUserIds(3), Role.MEMBER))
+                .isInstanceOf(DomainRuleViolationException.class)
+                .hasMessageContaining("maximum member limit");
+            assertUnchanged();
+        }
+
+        @Test
+        @DisplayName("Should accept a batch that fills the organization exactly to its limit")
+        void shouldAcceptBatchUpToLimit() {
+            // Given
+            organization.updateSettings(organization.getSettings().with(OrganizationSettings.MAX_MEMBERS, 3));
+
+            // When
+            organization.addUsers(newUserIds(2), Role.MEMBER);
+
+            // Then
+            assertThat(organization.getMemberCount()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should reject adding users to an inactive organization")
+        void shouldRejectInactiveOrganization() {
+            // Given
+            organization.deactivate();
+            organization.markEventsAsCommitted();
+
+            // When / Then
+            assertThatThrownBy(() -> organization.addUsers(newUserIds(1), Role.MEMBER))
+                .isInstanceOf(DomainRuleViolationException.class);
+            assertUnchanged();
+        }
+    }
+
+    @Nested
+    @DisplayName("Removing users")
+    class RemoveUsers {
+
+        @Test
+        @DisplayName("Should remove every user and raise one event per user")
+        void shouldRemoveAllUsers() {
+            // Given
+            var userIds = newUserIds(3);
+            organization.addUsers(userIds, Role.MEMBER);
+            organization.markEventsAsCommitted();
+
+            // When
+            organization.removeUsers(userIds);
+
+            // Then
+            assertThat(organization.getMemberCount()).isEqualTo(1);
+            assertThat(organization.getUncommittedEvents())
+                .hasSize(3)
+                .allMatch(UserRemovedFromOrganizationEvent.class::isInstance);
+        }
+
+        @Test
+        @DisplayName("Should reject non-members without removing anyone")
+        void shouldRejectNonMembers() {
+            // Given
+            var member = UserId.generate();
+            organization.addUsers(List.of(member), Role.MEMBER);
+            organization.markEventsAsCommitted();
+
+            // When / Then
+            assertThatThrownBy(() -> organization.removeUsers(List.of(member, UserId.generate())))
+                .isInstanceOf(DomainRuleViolationException.class)
+                .hasMessageContaining("not a member");
+            assertThat(organization.isMember(member)).isTrue();
+            assertThat(organization.getUncommittedEvents()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should reject removing the last owner without removing anyone")
+        void shouldKeepLastOwner() {
+            // Given
+            var member = UserId.generate();
+            organization.addUsers(List.of(member), Role.MEMBER);
+            organization.markEventsAsCommitted();
+
+            // When / Then
+            assertThatThrownBy(() -> organization.removeUsers(List.of(member, ownerId)))
+                .isInstanceOf(DomainRuleViolationException.class)
+                .hasMessageContaining("last owner");
+            assertThat(organization.isMember(member)).isTrue();
+            assertThat(organization.isMember(ownerId)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should remove an owner when another owner remains")
+        void shouldRemoveOwnerWhenAnotherRemains() {
+            // Given
+            var secondOwner = UserId.generate();
+            organization.addUsers(List.of(secondOwner), Role.OWNER);
+
+            // When
+            organization.removeUsers(List.of(ownerId));
+
+            // Then
+            assertThat(organization.isMember(ownerId)).isFalse();
+            assertThat(organization.hasRole(secondOwner, Role.OWNER)).isTrue();
+        }
+    }
+
+    private void assertUnchanged() {
+        assertThat(organization.getMemberCount()).isEqualTo(1);
+        assertThat(organization.getUncommittedEvents()).isEmpty();
+    }
+
+    private static List<UserId> newUserIds(int count) {
+        return IntStream.range(0, count).mapToObj(i -> UserId.generate()).toList();
+    }
+}
@@ -0,0 +1,69 @@
+package com.zamaz.mcp.organization.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Permission matrix")
+class PermissionMatrixTest {
+
+    @Test
+    @DisplayName("Should let owners manage everyone and admins manage members and guests")
+    void shouldResolveOrganizationManagement() {
+        // When / Then
+        for (Role target : Role.values()) {
+            assertThat(Role.OWNER.canManage(target)).isTrue();
+            assertThat(Role.ADMIN.canManage(target)).isEqualTo(target.getLevel() < Role.ADMIN.getLevel());
+            assertThat(Role.MEMBER.canManage(target)).isFalse();
+            assertThat(Role.GUEST.canManage(target)).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("Should let team admins manage everyone and leads manage members")
+    void shouldResolveTeamManagement() {
+        // When / Then
+        for (TeamRole target : TeamRole.values()) {
+            assertThat(TeamRole.ADMIN.canManage(target)).isTrue();
+            assertThat(TeamRole.LEAD.canManage(target)).isEqualTo(target == TeamRole.MEMBER);
+            assertThat(TeamRole.MEMBER.canManage(target)).isFalse();
+        }
+        assertThat(TeamRole.LEAD.canInviteMembers()).isTrue();
+        assertThat(TeamRole.LEAD.canRemoveMembers()).isTrue();
+        assertThat(TeamRole.LEAD.canModifySettings()).isFalse();
+        assertThat(TeamRole.ADMIN.canModifySettings()).isTrue();
+        assertThat(TeamRole.MEMBER.canInviteMembers()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should grant each role every capability of the roles below it")
+    void shouldNestRoleCapabilities() {
+        // When / Then
+        for (Role role : Role.values()) {
+            for (Role required : Role.values()) {
+                assertThat(PermissionMatrix.hasAll(PermissionMatrix.of(role), PermissionMatrix.of(required)))
+                    .isEqualTo(role.hasPermission(required));
+            }
+        }
+        assertThat(PermissionMatrix.hasAll(0, PermissionMatrix.of(Role.GUEST))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should combine organization and team capabilities")
+    void shouldCombineCapabilities() {
+        // Given
+        long required = Capability.mask(Capability.PARTICIPATE, Capability.INVITE_TEAM_MEMBERS);
+
+        // When
+        long member = PermissionMatrix.of(Role.MEMBER) | PermissionMatrix.of(TeamRole.MEMBER);
+        long lead = PermissionMatrix.of(Role.MEMBER) | PermissionMatrix.of(TeamRole.LEAD);
+        long guest = PermissionMatrix.of(Role.GUEST);
+
+        // Then
+        assertThat(PermissionMatrix.hasAll(member, required)).isFalse();
+        assertThat(PermissionMatrix.hasAll(lead, required)).isTrue();
+        assertThat(Capability.VIEW_ORGANIZATION.isIn(guest)).isTrue();
+        assertThat(Capability.PARTICIPATE.isIn(guest)).isFalse();
+    }
+}
@@ -0,0 +1,77 @@
+package com.zamaz.mcp.organization.infrastructure.execution;
+
+import com.zamaz.mcp.organization.exception.DependencyUnavailableException;
+import com.zamaz.mcp.organization.exception.ToolCallTimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MCP tool executor")
+class McpToolExecutorTest {
+
+    private McpToolExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.destroy();
+    }
+
+    @Test
+    @DisplayName("Should run the call off the calling thread")
+    void shouldRunCallOffCallingThread() {
+        // Given
+        executor = new McpToolExecutor(false, 2, 2, Duration.ofSeconds(5));
+        Thread caller = Thread.currentThread();
+
+        // When
+        Thread worker = executor.execute("get_organization", Thread::currentThread).block();
+
+        // Then
+        assertThat(worker).isNotSameAs(caller);
+        assertThat(worker.getName()).startsWith("mcp-tool");
+    }
+
+    @Test
+    @DisplayName("Should time out and interrupt slow calls")
+    void shouldTimeOutAndInterruptSlowCalls() throws Exception {
+        // Given
+        executor = new McpToolExecutor(false, 2, 2, Duration.ofMillis(50));
+        var interrupted = new CountDownLatch(1);
+
+        // When & Then
+        assertThatThrownBy(() -> executor.execute("slow_tool", () -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return "late";
+        }).block()).isInstanceOf(ToolCallTimeoutException.class);
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject calls beyond the in-flight limit")
+    void shouldRejectCallsBeyondInFlightLimit() {
+        // Given
+        executor = new McpToolExecutor(false, 1, 0, Duration.ofSeconds(5));
+        var release = new CountDownLatch(1);
+        var running = executor.execute("blocking_tool", () -> release.await(5, TimeUnit.SECONDS)).subscribe();
+
+        try {
+            // When & Then
+            assertThatThrownBy(() -> executor.execute("get_organization", () -> "ok").block())
+                .isInstanceOf(DependencyUnavailableException.class);
+        } finally {
+            release.countDown();
+            running.dispose();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.zamaz.mcp.organization.infrastructure.resilience;
+
+import com.zamaz.mcp.organization.exception.DependencyUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Circuit breaker")
+class McpCircuitBreakerTest {
+
+    private static final McpCircuitBreaker.Settings SETTINGS = new McpCircuitBreaker.Settings(
+        10, 4, 50f, 100f, Duration.ofMillis(500), Duration.ofSeconds(30), 2, 2, Duration.ZERO);
+
+    private AtomicLong clock;
+    private McpCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong();
+        circuitBreaker = new McpCircuitBreaker("test", SETTINGS, new SimpleMeterRegistry(), clock::get);
+    }
+
+    @Test
+    @DisplayName("Should open once the failure rate reaches the threshold")
+    void shouldOpenWhenFailureRateReachesThreshold() {
+        // Given
+        succeed();
+        succeed();
+        fail();
+
+        // When
+        fail();
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(McpCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("Should reject calls without invoking the dependency while open")
+    void shouldRejectCallsWhileOpen() {
+        // Given
+        open();
+        var invocations = new AtomicInteger();
+
+        // When & Then
+        assertThatThrownBy(() -> circuitBreaker.execute(invocations::incrementAndGet))
+            .isInstanceOf(DependencyUnavailableException.class);
+        assertThat(invocations).hasValue(0);
+        assertThat(circuitBreaker.isCallPermitted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should close after successful trial calls in half-open state")
+    void shouldCloseAfterSuccessfulTrialCalls() {
+        // Given
+        open();
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        // When
+        succeed();
+        assertThat(circuitBreaker.getState()).isEqualTo(McpCircuitBreaker.State.HALF_OPEN);
+        succeed();
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(McpCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Should reopen when trial calls fail")
+    void shouldReopenWhenTrialCallsFail() {
+        // Given
+        open();
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        // When
+        fail();
+        fail();
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(McpCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("Should open when every call is slow")
+    void shouldOpenWhenCallsAreSlow() {
+        // When
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.execute(() -> clock.addAndGet(Duration.ofSeconds(1).toNanos()));
+        }
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(McpCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("Should reject calls beyond the bulkhead limit")
+    void shouldRejectCallsBeyondBulkheadLimit() {
+        // When & Then
+        assertThatThrownBy(() -> circuitBreaker.execute(() ->
+                circuitBreaker.execute(() ->
+                    circuitBreaker.execute(() -> "third"))))
+            .isInstanceOf(DependencyUnavailableException.class)
+            .hasMessageContaining("Bulkhead");
+        assertThat(circuitBreaker.getState()).isEqualTo(McpCircuitBreaker.State.CLOSED);
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) {
+            fail();
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(McpCircuitBreaker.State.OPEN);
+    }
+
+    private void succeed() {
+        circuitBreaker.execute(() -> "ok");
+    }
+
+    private void fail() {
+        assertThatThrownBy(() -> circuitBreaker.execute(() -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,94 @@
+package com.zamaz.mcp.organization.infrastructure.resilience;
+
+import com.zamaz.mcp.organization.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Rate limit enforcer")
+class McpRateLimitEnforcerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private McpRateLimitEnforcer enforcer;
+    private Method limitedMethod;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        enforcer = new McpRateLimitEnforcer(new LocalRateLimiter(100), meterRegistry, true);
+        limitedMethod = LimitedOperations.class.getDeclaredMethod("createThing");
+    }
+
+    @Test
+    @DisplayName("Should reject calls beyond the limit and count both outcomes")
+    void shouldRejectCallsBeyondLimit() {
+        // Given
+        Authentication alice = user("alice");
+        enforcer.enforce(limitedMethod, alice);
+        enforcer.enforce(limitedMethod, alice);
+
+        // When & Then
+        assertThatThrownBy(() -> enforcer.enforce(limitedMethod, alice))
+            .isInstanceOf(RateLimitExceededException.class)
+            .hasMessageContaining("things");
+        assertThat(count("allowed")).isEqualTo(2);
+        assertThat(count("rejected")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep a separate bucket per principal")
+    void shouldKeepSeparateBucketPerPrincipal() {
+        // Given
+        enforcer.enforce(limitedMethod, user("alice"));
+        enforcer.enforce(limitedMethod, user("alice"));
+
+        // When & Then
+        enforcer.enforce(limitedMethod, user("bob"));
+        assertThat(count("rejected")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not limit anything when disabled")
+    void shouldNotLimitWhenDisabled() {
+        // Given
+        var disabled = new McpRateLimitEnforcer(new LocalRateLimiter(100), meterRegistry, false);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            disabled.enforce(limitedMethod, user("alice"));
+        }
+
+        // Then
+        assertThat(meterRegistry.find("mcp.rate_limit.requests").counters()).isEmpty();
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.get("mcp.rate_limit.requests")
+            .tag("limiter", "things")
+            .tag("outcome", outcome)
+            .counter()
+            .count();
+    }
+
+    private static Authentication user(String name) {
+        return new UsernamePasswordAuthenticationToken(name, null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+
+    static class LimitedOperations {
+
+        @McpRateLimit(operationType = McpRateLimit.OperationType.WRITE, limitForPeriod = 2,
+            limitRefreshPeriodSeconds = 3600, key = "things")
+        void createThing() {
+        }
+    }
+}
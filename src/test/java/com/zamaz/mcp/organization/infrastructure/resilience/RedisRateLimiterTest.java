@@ -0,0 +1,72 @@
+package com.zamaz.mcp.organization.infrastructure.resilience;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Redis rate limiter")
+class RedisRateLimiterTest {
+
+    private static final RateLimitPolicy POLICY = new RateLimitPolicy(10, Duration.ofMinutes(1));
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RateLimiter fallback;
+
+    private RedisRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new RedisRateLimiter(redisTemplate, fallback);
+    }
+
+    @Test
+    @DisplayName("Should use the local limiter while Redis is down and switch back once it recovers")
+    @SuppressWarnings("unchecked")
+    void shouldFallBackAndRecover() {
+        // Given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString()))
+            .thenThrow(new RedisConnectionFailureException("down"))
+            .thenThrow(new RedisConnectionFailureException("down"))
+            .thenReturn(1L);
+        when(fallback.tryConsume("alice", POLICY)).thenReturn(true);
+
+        // When / Then
+        assertThat(limiter.tryConsume("alice", POLICY)).isTrue();
+        assertThat(limiter.isDegraded()).isTrue();
+        assertThat(limiter.tryConsume("alice", POLICY)).isTrue();
+        assertThat(limiter.isDegraded()).isTrue();
+        verify(fallback, times(2)).tryConsume("alice", POLICY);
+
+        assertThat(limiter.tryConsume("alice", POLICY)).isTrue();
+        assertThat(limiter.isDegraded()).isFalse();
+        verifyNoMoreInteractions(fallback);
+    }
+
+    @Test
+    @DisplayName("Should reject when the shared bucket is empty")
+    @SuppressWarnings("unchecked")
+    void shouldRejectWhenSharedBucketIsEmpty() {
+        // Given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString())).thenReturn(0L);
+
+        // When / Then
+        assertThat(limiter.tryConsume("alice", POLICY)).isFalse();
+        verifyNoInteractions(fallback);
+    }
+}
@@ -1,12 +1,19 @@
 package com.zamaz.mcp.organization.service;
 
+import com.zamaz.mcp.organization.adapter.persistence.invalidation.OrganizationIndexInvalidator;
+import com.zamaz.mcp.organization.adapter.persistence.membership.MembershipIndex;
+import com.zamaz.mcp.organization.adapter.persistence.name.OrganizationNameIndex;
+import com.zamaz.mcp.organization.dto.CursorPage;
 import com.zamaz.mcp.organization.dto.OrganizationDto;
+import com.zamaz.mcp.organization.dto.PageCursor;
 import com.zamaz.mcp.organization.entity.Organization;
 import com.zamaz.mcp.organization.entity.OrganizationUser;
 import com.zamaz.mcp.organization.entity.User;
 import com.zamaz.mcp.organization.exception.DuplicateResourceException;
+import com.zamaz.mcp.organization.exception.InvalidCursorException;
 import com.zamaz.mcp.organization.exception.ResourceNotFoundException;
 import com.zamaz.mcp.organization.repository.OrganizationRepository;
+import com.zamaz.mcp.organization.repository.OrganizationWithUserCount;
 import com.zamaz.mcp.organization.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -40,6 +47,15 @@ class OrganizationServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private MembershipIndex membershipIndex;
+
+    @Mock
+    private OrganizationNameIndex organizationNameIndex;
+
+    @Mock
+    private OrganizationIndexInvalidator organizationIndexInvalidator;
+
     @InjectMocks
     private OrganizationService organizationService;
 
@@ -222,12 +238,11 @@ class OrganizationServiceTest {
         @DisplayName("Should list organizations with pagination")
         void shouldListOrganizationsWithPagination() {
             // Given
-            List<Organization> organizations = Arrays.asList(testOrganization);
-            Page<Organization> organizationPage = new PageImpl<>(organizations);
+            Page<OrganizationWithUserCount> organizationPage =
+                    new PageImpl<>(List.of(withUserCount(testOrganization, 3L)));
             Pageable pageable = mock(Pageable.class);
 
-            when(organizationRepository.findAll(pageable)).thenReturn(organizationPage);
-            when(organizationRepository.countUsersByOrganizationId(testOrgId)).thenReturn(3L);
+            when(organizationRepository.findAllWithUserCount(pageable)).thenReturn(organizationPage);
 
             // When
             Page<OrganizationDto> result = organizationService.listOrganizations(pageable);
@@ -238,16 +253,16 @@ class OrganizationServiceTest {
             assertThat(result.getContent().get(0).getId()).isEqualTo(testOrgId);
             assertThat(result.getContent().get(0).getUserCount()).isEqualTo(3);
 
-            verify(organizationRepository).findAll(pageable);
+            verify(organizationRepository).findAllWithUserCount(pageable);
+            verify(organizationRepository, never()).countUsersByOrganizationId(any());
         }
 
         @Test
         @DisplayName("Should list user organizations")
         void shouldListUserOrganizations() {
             // Given
-            List<Organization> userOrganizations = Arrays.asList(testOrganization);
-            when(organizationRepository.findActiveOrganizationsByUserId(testUserId)).thenReturn(userOrganizations);
-            when(organizationRepository.countUsersByOrganizationId(testOrgId)).thenReturn(2L);
+            when(organizationRepository.findActiveOrganizationsWithUserCountByUserId(testUserId))
+                    .thenReturn(List.of(withUserCount(testOrganization, 2L)));
 
             // When
             List<OrganizationDto> result = organizationService.listUserOrganizations(testUserId);
@@ -258,14 +273,16 @@ class OrganizationServiceTest {
             assertThat(result.get(0).getId()).isEqualTo(testOrgId);
             assertThat(result.get(0).getUserCount()).isEqualTo(2);
 
-            verify(organizationRepository).findActiveOrganizationsByUserId(testUserId);
+            verify(organizationRepository).findActiveOrganizationsWithUserCountByUserId(testUserId);
+            verify(organizationRepository, never()).countUsersByOrganizationId(any());
         }
 
         @Test
         @DisplayName("Should return empty list when user has no organizations")
         void shouldReturnEmptyListWhenUserHasNoOrganizations() {
             // Given
-            when(organizationRepository.findActiveOrganizationsByUserId(testUserId)).thenReturn(Collections.emptyList());
+            when(organizationRepository.findActiveOrganizationsWithUserCountByUserId(testUserId))
+                    .thenReturn(Collections.emptyList());
 
             // When
             List<OrganizationDto> result = organizationService.listUserOrganizations(testUserId);
@@ -274,7 +291,7 @@ class OrganizationServiceTest {
             assertThat(result).isNotNull();
             assertThat(result).isEmpty();
 
-            verify(organizationRepository).findActiveOrganizationsByUserId(testUserId);
+            verify(organizationRepository).findActiveOrganizationsWithUserCountByUserId(testUserId);
         }
     }
 
@@ -396,6 +413,7 @@ class OrganizationServiceTest {
             // Then
             verify(organizationRepository).existsById(testOrgId);
             verify(organizationRepository).deleteById(testOrgId);
+            verify(organizationIndexInvalidator).invalidateAllUsersAfterCommit();
         }
 
         @Test
@@ -439,6 +457,7 @@ class OrganizationServiceTest {
                         .anyMatch(ou -> ou.getUser().getId().equals(testUserId) && 
                                        ou.getRole().equals(role));
             }));
+            verify(organizationIndexInvalidator).invalidateAfterCommit(testOrgId);
         }
 
         @Test
@@ -498,6 +517,7 @@ class OrganizationServiceTest {
                 org.getOrganizationUsers().stream()
                     .noneMatch(ou -> ou.getUser().getId().equals(testUserId))
             ));
+            verify(organizationIndexInvalidator).invalidateAfterCommit(testOrgId);
         }
 
         @Test
@@ -674,4 +694,98 @@ class OrganizationServiceTest {
             ));
         }
     }
+
+    @Nested
+    @DisplayName("Cursor Pagination Tests")
+    class CursorPaginationTests {
+
+        @Test
+        @DisplayName("Should return first page with a cursor to the next one")
+        void shouldReturnFirstPageWithNextCursor() {
+            // Given
+            Organization second = Organization.builder()
+                    .id(UUID.randomUUID())
+                    .name("Second Organization")
+                    .createdAt(testOrganization.getCreatedAt().minusMinutes(1))
+                    .build();
+            when(organizationRepository.findFirstPageWithUserCount(any(Pageable.class)))
+                    .thenReturn(List.of(withUserCount(testOrganization, 2L), withUserCount(second, 1L)));
+
+            // When
+            CursorPage<OrganizationDto> page = organizationService.listOrganizations(null, 1);
+
+            // Then
+            assertThat(page.getItems()).extracting(OrganizationDto::getId).containsExactly(testOrgId);
+            assertThat(page.isHasMore()).isTrue();
+            assertThat(PageCursor.decode(page.getNextCursor()))
+                    .isEqualTo(new PageCursor(testOrganization.getCreatedAt(), testOrgId));
+            verify(organizationRepository).findFirstPageWithUserCount(argThat(pageable ->
+                    pageable.getPageSize() == 2 && pageable.getOffset() == 0));
+        }
+
+        @Test
+        @DisplayName("Should seek past the cursor instead of using an offset")
+        void shouldSeekPastCursor() {
+            // Given
+            PageCursor cursor = new PageCursor(LocalDateTime.now(), UUID.randomUUID());
+            when(organizationRepository.findPageWithUserCountAfter(eq(cursor.timestamp()), eq(cursor.id()), any(Pageable.class)))
+                    .thenReturn(List.of(withUserCount(testOrganization, 2L)));
+
+            // When
+            CursorPage<OrganizationDto> page = organizationService.listOrganizations(cursor.encode(), 50);
+
+            // Then
+            assertThat(page.getItems()).hasSize(1);
+            assertThat(page.isHasMore()).isFalse();
+            assertThat(page.getNextCursor()).isNull();
+            verify(organizationRepository, never()).findAllWithUserCount(any());
+        }
+
+        @Test
+        @DisplayName("Should reject malformed cursors")
+        void shouldRejectMalformedCursors() {
+            assertThatThrownBy(() -> organizationService.listOrganizations("not-a-cursor", 10))
+                    .isInstanceOf(InvalidCursorException.class);
+        }
+
+        @Test
+        @DisplayName("Should page members by join time")
+        void shouldPageMembersByJoinTime() {
+            // Given
+            OrganizationUser membership = OrganizationUser.builder()
+                    .organization(testOrganization)
+                    .user(testUser)
+                    .role("MEMBER")
+                    .joinedAt(LocalDateTime.now())
+                    .build();
+            when(organizationRepository.existsById(testOrgId)).thenReturn(true);
+            when(organizationRepository.findFirstMemberPage(eq(testOrgId), any(Pageable.class)))
+                    .thenReturn(List.of(membership));
+
+            // When
+            CursorPage<OrganizationDto.Member> page = organizationService.listOrganizationMembers(testOrgId, null, 20);
+
+            // Then
+            assertThat(page.getItems()).singleElement()
+                    .satisfies(member -> {
+                        assertThat(member.getUserId()).isEqualTo(testUserId);
+                        assertThat(member.getRole()).isEqualTo("MEMBER");
+                    });
+            assertThat(page.getNextCursor()).isNull();
+        }
+    }
+
+    private static OrganizationWithUserCount withUserCount(Organization organization, long userCount) {
+        return new OrganizationWithUserCount() {
+            @Override
+            public Organization getOrganization() {
+                return organization;
+            }
+
+            @Override
+            public Long getUserCount() {
+                return userCount;
+            }
+        };
+    }
 }
\ No newline at end of file